@@ -14,6 +14,8 @@
  */
 package fr.kazejiyu.generic.datatable.core;
 
+import fr.kazejiyu.generic.datatable.core.impl.ColumnStatistics;
+
 /**
  * A column that belongs to a {@link Table}. <br>
  * <br>
@@ -77,4 +79,17 @@ public interface Column <T> extends Iterable <T> {
 	 * @throws IndexOutOfBoundsException if isEmpty || row &lt; 0 || size &lt;= row
 	 */
 	void set(int row, T element);
+	
+	/**
+	 * Returns the statistics of the column: number of elements and of {@code null}s,
+	 * extrema, estimated number of distinct elements and equi-depth histogram. <br>
+	 * <br>
+	 * By default, the statistics are computed on each call. Implementations may
+	 * cache them as long as the column is not modified.
+	 * 
+	 * @return the statistics of the column.
+	 */
+	default ColumnStatistics<T> statistics() {
+		return ColumnStatistics.of(this, ColumnStatistics.DEFAULT_BUCKETS);
+	}
 }
@@ -15,12 +15,15 @@
 package fr.kazejiyu.generic.datatable.core;
 
 import static java.util.Arrays.asList;
+import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import fr.kazejiyu.generic.datatable.exceptions.InconsistentRowSizeException;
+import fr.kazejiyu.generic.datatable.exceptions.RowIdNotFoundException;
 
 /**
  * An ordered collection of {@link Row}s that belongs to a {@link Table}. <br>
@@ -78,6 +81,28 @@ public interface Rows extends Iterable <Row> {
 	 */
 	Row get(int index);
 	
+	/**
+	 * Returns the row identified by {@code id}. <br>
+	 * <br>
+	 * Unlike its position, the id of a row does not change when other rows are removed.
+	 * The default implementation looks for the row in linear time.
+	 * 
+	 * @param id
+	 * 			The id of the row.
+	 * 
+	 * @return the row identified by {@code id}.
+	 * 
+	 * @throws RowIdNotFoundException if no row is identified by {@code id}.
+	 * 
+	 * @see Row#id()
+	 */
+	default Row getById(int id) {
+		return stream()
+				.filter(row -> row.id() == id)
+				.findFirst()
+				.orElseThrow(() -> new RowIdNotFoundException("There is no row with id " + id));
+	}
+	
 	/** @return a Stream of all the rows of the table. */
 	Stream<Row> stream();
 	
@@ -170,6 +195,28 @@ public interface Rows extends Iterable <Row> {
 	 */
 	Rows remove(int index);
 	
+	/**
+	 * Removes all the rows matching {@code filter}. <br>
+	 * <br>
+	 * The default implementation removes the matching rows one by one, starting from the last one.
+	 * 
+	 * @param filter
+	 * 			Returns {@code true} for the rows to remove. Must not be {@code null}.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws NullPointerException if {@code filter} is {@code null}.
+	 */
+	default Rows removeIf(Predicate<? super Row> filter) {
+		requireNonNull(filter, "The filter must not be null");
+		
+		for( int i = size() - 1 ; i >= 0 ; --i )
+			if( filter.test(get(i)) )
+				remove(i);
+		
+		return this;
+	}
+	
 	/**
 	 * Removes all the rows.
 	 * 
@@ -14,7 +14,9 @@
  */
 package fr.kazejiyu.generic.datatable.core;
 
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 
 import ca.odell.glazedlists.matchers.Matcher;
 import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
@@ -58,6 +60,43 @@ public interface Table {
 	 */
 	Table clear();
 
+	/**
+	 * Sorts the rows of the table in ascending order of the specified columns. <br>
+	 * <br>
+	 * Rows are compared according to the first column, then to the second one
+	 * when they are equal, and so on. {@code null} elements come first. The sort
+	 * is stable and rows keep their id. <br>
+	 * <br>
+	 * Once sorted, the table remembers its {@link #sortOrder() sort order} until
+	 * its next modification.
+	 * 
+	 * @param ids
+	 * 			The ids of the columns to sort by. Must not be {@code null}.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws NullPointerException if {@code ids} is {@code null}.
+	 * @throws ColumnIdNotFoundException if one of the given ids does not match any column
+	 * @throws ClassCastException if the elements of one of the columns are not {@link Comparable}
+	 */
+	Table sortBy(ColumnId<?>... ids);
+	
+	/**
+	 * Returns the ids of the columns the rows are known to be sorted by. <br>
+	 * <br>
+	 * When the returned list is not empty, the rows are sorted in ascending order of
+	 * its first column, then of its second one, and so on, {@code null} elements
+	 * coming first. Operators such as joins rely on this information to avoid
+	 * unnecessary work. <br>
+	 * <br>
+	 * An empty list means that the order of the rows is unknown.
+	 * 
+	 * @return the ids of the columns the rows are known to be sorted by.
+	 */
+	default List<ColumnId<?>> sortOrder() {
+		return Collections.emptyList();
+	}
+	
 	/**
 	 * Filters the table. <br>
 	 * <br>
@@ -0,0 +1,88 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.core;
+
+import java.util.List;
+
+/**
+ * Notified of the modifications of a {@link Table}. <br>
+ * <br>
+ * Each method is called once the modification has been made. Rows and columns are
+ * identified by their position at the time of the modification, so that replaying
+ * the notifications in order on a copy of the table yields the same content. <br>
+ * <br>
+ * All the methods do nothing by default.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public interface TableListener {
+
+	/**
+	 * Called when a row has been appended to the table.
+	 * 
+	 * @param elements
+	 * 			The elements of the new row.
+	 */
+	default void rowCreated(List<Object> elements) {}
+
+	/**
+	 * Called when rows have been removed from the table.
+	 * 
+	 * @param indexes
+	 * 			The positions the removed rows had, in ascending order.
+	 */
+	default void rowsRemoved(int... indexes) {}
+
+	/**
+	 * Called when all the rows have been removed from the table.
+	 */
+	default void rowsCleared() {}
+
+	/**
+	 * Called when the rows of the table have been sorted.
+	 * 
+	 * @param columns
+	 * 			The indexes of the columns the rows have been sorted by.
+	 */
+	default void rowsSorted(int... columns) {}
+
+	/**
+	 * Called when an element of the table has been replaced.
+	 * 
+	 * @param row
+	 * 			The position of the row of the element.
+	 * @param column
+	 * 			The index of the column of the element.
+	 * @param element
+	 * 			The new element.
+	 */
+	default void elementSet(int row, int column, Object element) {}
+
+	/**
+	 * Called when a column has been appended to the table.
+	 * 
+	 * @param column
+	 * 			The new column.
+	 */
+	default void columnCreated(Column<?> column) {}
+
+	/**
+	 * Called when a column has been removed from the table.
+	 * 
+	 * @param index
+	 * 			The index the removed column had.
+	 */
+	default void columnRemoved(int index) {}
+}
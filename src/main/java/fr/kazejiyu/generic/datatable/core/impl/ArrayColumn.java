@@ -0,0 +1,72 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.core.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+
+/**
+ * A read-only {@link Column} which elements are stored in an array. <br>
+ * <br>
+ * Used to expose computed values, such as the result of a window function,
+ * next to the columns of a {@link TableView}.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <T> The type of the elements in the column.
+ */
+public class ArrayColumn <T> extends ReadOnlyColumn <T> {
+
+	/** The elements of the column. */
+	private final Object[] elements;
+
+	/**
+	 * Creates a new column holding {@code elements}. <br>
+	 * <br>
+	 * The array is not copied and must not be modified afterwards.
+	 * 
+	 * @param header
+	 * 			The header of the column. Must not be {@code null}.
+	 * @param type
+	 * 			The type of the elements in the column. Must not be {@code null}.
+	 * @param elements
+	 * 			The elements of the column. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * @throws ClassCastException if an element is not an instance of {@code type}.
+	 */
+	public ArrayColumn(final String header, final Class<T> type, final Object[] elements) {
+		super(header, type);
+		this.elements = requireNonNull(elements, "The elements of the column must not be null");
+
+		for( Object element : elements )
+			if( ! accepts(element) )
+				throw new ClassCastException("The element " + element + " cannot be put in the column " + header + " of type " + type);
+	}
+
+	@Override
+	public int size() {
+		return elements.length;
+	}
+
+	@Override
+	public T get(final int row) {
+		if( row < 0 || elements.length <= row )
+			throw new IndexOutOfBoundsException("There is no row at index " + row);
+
+		return type().cast(elements[row]);
+	}
+}
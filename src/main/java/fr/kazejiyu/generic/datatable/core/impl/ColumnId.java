@@ -53,6 +53,26 @@ public final class ColumnId<T> {
 		return this.header;
 	}
 	
+	/**
+	 * Returns a key to sort rows in ascending order of the column identified by this id.
+	 * {@code null} elements come first.
+	 * 
+	 * @return a key to sort rows in ascending order of the column
+	 */
+	public SortKey<T> asc() {
+		return new SortKey<>(this, true);
+	}
+	
+	/**
+	 * Returns a key to sort rows in descending order of the column identified by this id.
+	 * {@code null} elements come last.
+	 * 
+	 * @return a key to sort rows in descending order of the column
+	 */
+	public SortKey<T> desc() {
+		return new SortKey<>(this, false);
+	}
+	
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -0,0 +1,211 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.core.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.util.HyperLogLog;
+
+/**
+ * Summarizes the content of a {@link Column}. <br>
+ * <br>
+ * Statistics are computed in a single pass over the column, plus a sort of its
+ * non-{@code null} elements when they are {@link Comparable}. They describe
+ * the column at the time they are computed and are immutable.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <T> The type of the elements in the column.
+ * 
+ * @see Column#statistics()
+ */
+public final class ColumnStatistics <T> {
+
+	/** The default number of buckets of the histogram. */
+	public static final int DEFAULT_BUCKETS = 10;
+
+	/** The precision of the sketch estimating the number of distinct elements. */
+	private static final int PRECISION = 14;
+
+	private final int size;
+
+	private final int nullCount;
+
+	private final long distinctCount;
+
+	private final T min;
+
+	private final T max;
+
+	private final List<Bucket<T>> histogram;
+
+	private ColumnStatistics(int size, int nullCount, long distinctCount, T min, T max, List<Bucket<T>> histogram) {
+		this.size = size;
+		this.nullCount = nullCount;
+		this.distinctCount = distinctCount;
+		this.min = min;
+		this.max = max;
+		this.histogram = Collections.unmodifiableList(histogram);
+	}
+
+	/**
+	 * Computes the statistics of {@code column}.
+	 * 
+	 * @param column
+	 * 			The column to summarize. Must not be {@code null}.
+	 * @param buckets
+	 * 			The maximum number of buckets of the histogram. Must be positive.
+	 * 
+	 * @return the statistics of {@code column}.
+	 * 
+	 * @param <T> The type of the elements in the column.
+	 * 
+	 * @throws NullPointerException if {@code column} is {@code null}.
+	 * @throws IllegalArgumentException if {@code buckets} is not positive.
+	 */
+	public static <T> ColumnStatistics<T> of(Column<T> column, int buckets) {
+		requireNonNull(column, "The column must not be null");
+
+		if( buckets <= 0 )
+			throw new IllegalArgumentException("The number of buckets must be positive (got: " + buckets + ")");
+
+		HyperLogLog distinct = new HyperLogLog(PRECISION);
+		Object[] elements = new Object[column.size()];
+		int size = 0;
+		int nullCount = 0;
+
+		for( T element : column ) {
+			if( element == null ) {
+				++nullCount;
+				continue;
+			}
+			distinct.add(element);
+			elements[size++] = element;
+		}
+
+		if( ! Comparable.class.isAssignableFrom(column.type()) || size == 0 )
+			return new ColumnStatistics<>(size + nullCount, nullCount, distinct.estimate(), null, null, new ArrayList<>());
+
+		Arrays.sort(elements, 0, size, RowSorter::compare);
+		return new ColumnStatistics<>(size + nullCount, nullCount, distinct.estimate(),
+				column.type().cast(elements[0]), column.type().cast(elements[size - 1]),
+				histogram(column.type(), elements, size, buckets));
+	}
+
+	/** @return the equi-depth histogram of the {@code size} first elements, sorted */
+	private static <T> List<Bucket<T>> histogram(Class<T> type, Object[] sorted, int size, int buckets) {
+		List<Bucket<T>> histogram = new ArrayList<>(Math.min(size, buckets));
+
+		for( int bucket = 0 ; bucket < buckets ; ++bucket ) {
+			int from = (int) ((long) bucket * size / buckets);
+			int to = (int) ((long) (bucket + 1) * size / buckets);
+
+			if( from < to )
+				histogram.add(new Bucket<>(type.cast(sorted[from]), type.cast(sorted[to - 1]), to - from));
+		}
+		return histogram;
+	}
+
+	/** @return the number of elements in the column, including {@code null} */
+	public int size() {
+		return size;
+	}
+
+	/** @return the number of {@code null} elements in the column */
+	public int nullCount() {
+		return nullCount;
+	}
+
+	/** @return an estimation of the number of distinct non-{@code null} elements in the column */
+	public long distinctCount() {
+		return distinctCount;
+	}
+
+	/** @return the smallest non-{@code null} element, {@code null} if there is none or if the elements are not {@link Comparable} */
+	public T min() {
+		return min;
+	}
+
+	/** @return the greatest non-{@code null} element, {@code null} if there is none or if the elements are not {@link Comparable} */
+	public T max() {
+		return max;
+	}
+
+	/**
+	 * Returns the equi-depth histogram of the non-{@code null} elements. <br>
+	 * <br>
+	 * The buckets are sorted and hold the same number of elements, give or take one.
+	 * The histogram is empty when the elements are not {@link Comparable}.
+	 * 
+	 * @return the equi-depth histogram of the non-{@code null} elements.
+	 */
+	public List<Bucket<T>> histogram() {
+		return histogram;
+	}
+
+	@Override
+	public String toString() {
+		return "ColumnStatistics [size=" + size + ", nullCount=" + nullCount + ", distinctCount=" + distinctCount
+			 + ", min=" + min + ", max=" + max + ", histogram=" + histogram + "]";
+	}
+
+	/**
+	 * A bucket of an equi-depth histogram.
+	 * 
+	 * @author Emmanuel CHEBBI
+	 * 
+	 * @param <T> The type of the elements in the bucket.
+	 */
+	public static final class Bucket <T> {
+
+		private final T lower;
+
+		private final T upper;
+
+		private final int count;
+
+		Bucket(final T lower, final T upper, final int count) {
+			this.lower = lower;
+			this.upper = upper;
+			this.count = count;
+		}
+
+		/** @return the smallest element of the bucket */
+		public T lower() {
+			return lower;
+		}
+
+		/** @return the greatest element of the bucket */
+		public T upper() {
+			return upper;
+		}
+
+		/** @return the number of elements in the bucket */
+		public int count() {
+			return count;
+		}
+
+		@Override
+		public String toString() {
+			return "[" + lower + ", " + upper + "]: " + count;
+		}
+	}
+}
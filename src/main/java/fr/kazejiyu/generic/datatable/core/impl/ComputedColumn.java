@@ -0,0 +1,95 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.core.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Rows;
+import fr.kazejiyu.generic.datatable.core.Table;
+
+/**
+ * A read-only {@link Column} which elements are computed from some rows of another table. <br>
+ * <br>
+ * The rows are identified by their position in the original table. Elements are
+ * computed each time they are accessed and never stored. A negative position stands
+ * for a {@code null} element.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <T> The type of the elements in the column.
+ */
+public class ComputedColumn <T> extends ReadOnlyColumn <T> {
+
+	/** The rows of the table the elements are computed from. */
+	private final Rows rows;
+
+	/** The positions of the rows the elements are computed from. */
+	private final int[] positions;
+
+	/** The number of elements exposed. */
+	private final int size;
+
+	/** Computes an element from a row of the original table. */
+	private final Function<Row, ? extends T> function;
+
+	/**
+	 * Creates a new column computing its elements from some rows of another table.
+	 * 
+	 * @param header
+	 * 			The header of the column. Must not be {@code null}.
+	 * @param type
+	 * 			The type of the elements in the column. Must not be {@code null}.
+	 * @param table
+	 * 			The table the elements are computed from. Must not be {@code null}.
+	 * @param positions
+	 * 			The positions of the rows the elements are computed from. Must not be {@code null}.
+	 * 			A negative position stands for a {@code null} element.
+	 * @param size
+	 * 			The number of positions to consider.
+	 * @param function
+	 * 			Computes an element from a row of {@code table}. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * @throws IndexOutOfBoundsException if {@code positions.length < size}.
+	 */
+	public ComputedColumn(final String header, final Class<T> type, final Table table, final int[] positions, final int size, final Function<Row, ? extends T> function) {
+		super(header, type);
+		this.rows = requireNonNull(table, "The table must not be null").rows();
+		this.positions = requireNonNull(positions, "The positions must not be null");
+		this.size = size;
+		this.function = requireNonNull(function, "The function computing the elements must not be null");
+
+		if( positions.length < size )
+			throw new IndexOutOfBoundsException("Only " + positions.length + " positions are available, expected " + size);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public T get(final int row) {
+		if( row < 0 || size <= row )
+			throw new IndexOutOfBoundsException("There is no row at index " + row);
+
+		int position = positions[row];
+		return position < 0 ? null : type().cast(function.apply(rows.get(position)));
+	}
+}
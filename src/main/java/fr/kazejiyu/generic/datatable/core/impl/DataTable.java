@@ -18,16 +18,20 @@ import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
-import ca.odell.glazedlists.FilterList;
 import ca.odell.glazedlists.matchers.Matcher;
+import fr.kazejiyu.generic.datatable.core.Column;
 import fr.kazejiyu.generic.datatable.core.Columns;
 import fr.kazejiyu.generic.datatable.core.Row;
 import fr.kazejiyu.generic.datatable.core.Rows;
 import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.TableListener;
 
 /**
  * A simple implementation of {@link Table} that relies on {@code GlazedLists}.
@@ -45,6 +49,21 @@ public class DataTable implements Table {
 	/** Checks methods' preconditions. */
 	private final TablePreconditions preconditions;
 	
+	/** Incremented each time the table is modified. */
+	private int version = 0;
+	
+	/** The ids of the columns the rows are sorted by. */
+	private List<ColumnId<?>> sortOrder = Collections.emptyList();
+	
+	/** The version of the table when {@link #sortOrder} has been set. */
+	private int sortedVersion = 0;
+	
+	/** Notified of the modifications of the table. */
+	private final List<TableListener> listeners = new ArrayList<>();
+	
+	/** Strictly positive while the listeners must not be notified. */
+	private int muted = 0;
+	
 	/**
 	 * Creates a new table.
 	 */
@@ -76,6 +95,191 @@ public class DataTable implements Table {
 		return this;
 	}
 	
+	/** Notifies the table that its content has been modified. */
+	void modified() {
+		++version;
+	}
+	
+	/**
+	 * Creates a new table holding a copy of {@code table}, which rows are given the specified ids.
+	 * 
+	 * @param table
+	 * 			The table to copy. Must not be {@code null}.
+	 * @param ids
+	 * 			The ids of the rows of the new table, in order. Must not be {@code null}.
+	 * 
+	 * @return a new table holding a copy of {@code table}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * @throws IllegalArgumentException if there are not as many ids as rows, or if several ids are equal.
+	 */
+	public static DataTable copyOf(Table table, Iterable<Integer> ids) {
+		requireNonNull(table, "The table to copy must not be null");
+		requireNonNull(ids, "The ids of the rows must not be null");
+		
+		DataTable copy = new DataTable();
+		Iterator<?>[] columns = new Iterator<?>[table.columns().size()];
+		Iterator<Integer> id = ids.iterator();
+		
+		for( int i = 0 ; i < columns.length ; ++i ) {
+			Column<?> column = table.columns().get(i);
+			copy.columns().create(column.header(), column.type());
+			columns[i] = column.iterator();
+		}
+		for( int row = 0 ; row < table.rows().size() ; ++row ) {
+			if( ! id.hasNext() )
+				throw new IllegalArgumentException("Expected " + table.rows().size() + " ids, got " + row);
+			
+			List<Object> elements = new ArrayList<>(columns.length);
+			
+			for( Iterator<?> column : columns )
+				elements.add(column.next());
+			
+			copy.rows.restore(id.next(), elements);
+		}
+		if( id.hasNext() )
+			throw new IllegalArgumentException("Expected " + table.rows().size() + " ids, got more");
+		
+		return copy;
+	}
+	
+	/**
+	 * Registers a listener notified of each modification of the table.
+	 * 
+	 * @param listener
+	 * 			The listener to notify. Must not be {@code null}.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws NullPointerException if {@code listener} is {@code null}.
+	 */
+	public DataTable addListener(TableListener listener) {
+		listeners.add(requireNonNull(listener, "The listener must not be null"));
+		return this;
+	}
+	
+	/**
+	 * Stops notifying a listener of the modifications of the table.
+	 * 
+	 * @param listener
+	 * 			The listener to stop notifying.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 */
+	public DataTable removeListener(TableListener listener) {
+		listeners.remove(listener);
+		return this;
+	}
+	
+	/** @return whether a modification must be notified to listeners */
+	boolean isListened() {
+		return muted == 0 && ! listeners.isEmpty();
+	}
+	
+	/** Notifies the listeners of a modification. */
+	void fire(Consumer<TableListener> event) {
+		if( isListened() )
+			listeners.forEach(event);
+	}
+	
+	/** Stops notifying the listeners until {@link #unmute()} is called. */
+	void mute() {
+		++muted;
+	}
+	
+	/** Notifies the listeners again. */
+	void unmute() {
+		--muted;
+	}
+	
+	/** @return the position of {@code row} in the table, -1 if it does not belong to the table */
+	int indexOf(Row row) {
+		return rows.indexOf(row);
+	}
+	
+	/**
+	 * Returns a number that changes each time the table is modified. <br>
+	 * <br>
+	 * Any modification made through the rows, the columns or a row of the table
+	 * changes the version, so that data derived from the table can be cached as
+	 * long as the version does not change.
+	 * 
+	 * @return a number that changes each time the table is modified
+	 */
+	public int version() {
+		return version;
+	}
+	
+	/**
+	 * Discards the tombstones left by removed rows. <br>
+	 * <br>
+	 * Removing a row leaves a tombstone in its slot so that the following rows are not
+	 * shifted; compacting moves the remaining rows in a single pass. Compaction does not
+	 * change the content of the table, the position of the rows nor their ids.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @see #compactionThreshold(double)
+	 */
+	public DataTable compact() {
+		rows.compact();
+		return this;
+	}
+	
+	/**
+	 * Sets the proportion of tombstones above which the table is automatically compacted. <br>
+	 * <br>
+	 * Defaults to 0.5. A higher threshold makes removals cheaper at the expense of memory
+	 * and positional accesses, a threshold of 1 leaves compaction to {@link #compact()}.
+	 * 
+	 * @param threshold
+	 * 			The proportion of tombstones among the slots of the rows, in ]0, 1].
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws IllegalArgumentException if {@code threshold} is not in ]0, 1].
+	 */
+	public DataTable compactionThreshold(double threshold) {
+		rows.compactionThreshold(threshold);
+		return this;
+	}
+	
+	@Override
+	public DataTable sortBy(ColumnId<?>... ids) {
+		requireNonNull(ids, "The ids of the columns to sort by must not be null");
+		
+		int[] indexes = new int[ids.length];
+		
+		for( int i = 0 ; i < ids.length ; ++i )
+			indexes[i] = columns.indexOf(ids[i]);
+		
+		rows.reorder(RowSorter.sortedPositions(this, indexes));
+		sortedBy(canonicalIds(indexes));
+		fire(listener -> listener.rowsSorted(indexes));
+		return this;
+	}
+	
+	/** @return the ids of the columns at {@code indexes}, as defined by the table */
+	private List<ColumnId<?>> canonicalIds(int[] indexes) {
+		List<ColumnId<?>> ids = new ArrayList<>(indexes.length);
+		
+		for( int index : indexes )
+			ids.add(ColumnId.id(columns.get(index).header(), columns.get(index).type()));
+		
+		return ids;
+	}
+	
+	/** Records that the rows are currently sorted according to {@code ids}. */
+	void sortedBy(List<ColumnId<?>> ids) {
+		sortOrder = Collections.unmodifiableList(TableView.retainedSortOrder(ids, columns));
+		sortedVersion = version;
+	}
+	
+	@Override
+	public List<ColumnId<?>> sortOrder() {
+		return sortedVersion == version ? sortOrder : Collections.emptyList();
+	}
+	
 	@Override
 	public DataTable filter(LinkedHashSet<String> columnsToKeep, Matcher<Row> matcher) {
 		requireNonNull(columnsToKeep, "The columns to keep must not be null");
@@ -109,15 +313,16 @@ public class DataTable implements Table {
 	private DataTable filter(List<Integer> indexesOfColumnsToKeep, Matcher<Row> matcher) {
 		requireNonNull(matcher, "The matcher must not be null");
 		
-		FilterList <Row> filtered = new FilterList<>(rows.internal(), matcher);
 		DataTable filteredTable = emptyTable(indexesOfColumnsToKeep);
 		
-		for( Row row : filtered ) {
-			List<Object> filteredRow = pickElementsAtIndexes(row, indexesOfColumnsToKeep);
-			filteredTable.rows.create(filteredRow);
+		for( Row row : rows ) {
+			if( matcher.matches(row) ) {
+				List<Object> filteredRow = pickElementsAtIndexes(row, indexesOfColumnsToKeep);
+				filteredTable.rows.create(filteredRow);
+			}
 		}
 		
-		filtered.dispose(); // avoid possible memory leaks
+		filteredTable.sortedBy(sortOrder());
 		return filteredTable;
 	}
 	
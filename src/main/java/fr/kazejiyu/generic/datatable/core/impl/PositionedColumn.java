@@ -0,0 +1,89 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.core.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.core.Rows;
+import fr.kazejiyu.generic.datatable.core.Table;
+
+/**
+ * A read-only {@link Column} exposing some elements of a column of another table. <br>
+ * <br>
+ * The exposed elements are identified by their position in the original table:
+ * no element is copied. A negative position stands for a {@code null} element.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <T> The type of the elements in the column.
+ */
+public class PositionedColumn <T> extends ReadOnlyColumn <T> {
+
+	/** The rows of the table that owns the elements. */
+	private final Rows rows;
+
+	/** The index of the original column. */
+	private final int column;
+
+	/** The positions of the exposed elements in the original table. */
+	private final int[] positions;
+
+	/** The number of elements exposed. */
+	private final int size;
+
+	/**
+	 * Creates a new column exposing some elements of another table.
+	 * 
+	 * @param table
+	 * 			The table that owns the elements. Must not be {@code null}.
+	 * @param column
+	 * 			The index of the column that owns the elements.
+	 * @param positions
+	 * 			The positions of the exposed elements in {@code table}. Must not be {@code null}.
+	 * 			A negative position stands for a {@code null} element.
+	 * @param size
+	 * 			The number of positions to consider.
+	 * 
+	 * @throws NullPointerException if {@code table} or {@code positions} is {@code null}.
+	 * @throws IndexOutOfBoundsException if {@code column} does not identify a column of {@code table}
+	 * 									 or if {@code positions.length < size}.
+	 */
+	@SuppressWarnings("unchecked")
+	public PositionedColumn(final Table table, final int column, final int[] positions, final int size) {
+		super(table.columns().get(column).header(), (Class<T>) table.columns().get(column).type());
+		this.rows = table.rows();
+		this.column = column;
+		this.positions = requireNonNull(positions, "The positions must not be null");
+		this.size = size;
+
+		if( positions.length < size )
+			throw new IndexOutOfBoundsException("Only " + positions.length + " positions are available, expected " + size);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public T get(final int row) {
+		if( row < 0 || size <= row )
+			throw new IndexOutOfBoundsException("There is no row at index " + row);
+
+		int position = positions[row];
+		return position < 0 ? null : type().cast(rows.get(position).get(column));
+	}
+}
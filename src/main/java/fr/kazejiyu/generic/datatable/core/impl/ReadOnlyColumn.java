@@ -0,0 +1,105 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.core.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+
+/**
+ * Skeletal implementation of a {@link Column} that cannot be modified. <br>
+ * <br>
+ * Used to compose the columns of a {@link TableView}.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <T> The type of the elements in the column.
+ */
+public abstract class ReadOnlyColumn <T> implements Column <T> {
+
+	/** The header of the column. */
+	private final String header;
+
+	/** The type of the elements in the column. */
+	private final Class<T> type;
+
+	/**
+	 * Creates a new read-only column.
+	 * 
+	 * @param header
+	 * 			The header of the column. Must not be {@code null}.
+	 * @param type
+	 * 			The type of the elements in the column. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 */
+	protected ReadOnlyColumn(final String header, final Class<T> type) {
+		this.header = requireNonNull(header, "The header of the column must not be null");
+		this.type = requireNonNull(type, "The type of the column must not be null");
+	}
+
+	@Override
+	public String header() {
+		return header;
+	}
+
+	@Override
+	public Class<T> type() {
+		return type;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public boolean accepts(final Object object) {
+		return object == null || type.isInstance(object);
+	}
+
+	/**
+	 * Always throws since the column cannot be modified.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void set(final int row, final T element) {
+		throw new UnsupportedOperationException("The column " + header + " is read-only");
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private int next = 0;
+
+			@Override
+			public boolean hasNext() {
+				return next < size();
+			}
+
+			@Override
+			public T next() {
+				if( ! hasNext() )
+					throw new NoSuchElementException();
+
+				return get(next++);
+			}
+		};
+	}
+}
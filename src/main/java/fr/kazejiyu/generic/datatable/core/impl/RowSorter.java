@@ -0,0 +1,378 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.core.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.core.Rows;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.util.PrimitiveSorts;
+import fr.kazejiyu.generic.datatable.util.ValueDictionary;
+
+/**
+ * Computes the order of the rows of a table without moving them. <br>
+ * <br>
+ * Rows are identified by their position and sorted one key at a time, starting
+ * from the least significant one; since every pass is stable, the result is
+ * ordered by all the keys. Each pass reads the elements of its column once,
+ * then picks an algorithm according to the type of the column:
+ * <ul>
+ * 	<li>keys that fit in an {@code int} ({@code Integer}, {@code Short}, {@code Byte},
+ * 		{@code Character}, {@code Boolean} and enums) are packed along with their
+ * 		index in a {@code long[]} sorted by {@link Arrays#sort(long[])},</li>
+ * 	<li>{@code String}s are encoded by a {@link ValueDictionary}, then sorted as
+ * 		the rank of their code,</li>
+ * 	<li>{@code Long}, {@code Double} and {@code Float} are sorted by a radix sort,</li>
+ * 	<li>other {@link Comparable}s are sorted by a merge sort comparing them.</li>
+ * </ul>
+ * Hence, no object is allocated per row.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public final class RowSorter {
+
+	private RowSorter() {
+		// utility class
+	}
+
+	/**
+	 * Returns the positions of the rows of {@code table} in ascending order of the given columns.
+	 * 
+	 * @param table
+	 * 			The table which rows are sorted. Must not be {@code null}.
+	 * @param columns
+	 * 			The indexes of the columns to sort by. Must not be {@code null}.
+	 * 
+	 * @return the positions of the rows, sorted.
+	 * 
+	 * @throws ClassCastException if the elements of one of the columns are not {@link Comparable}
+	 */
+	public static int[] sortedPositions(Table table, int[] columns) {
+		int[] positions = new int[table.rows().size()];
+		boolean[] ascending = new boolean[columns.length];
+		
+		for( int i = 0 ; i < positions.length ; ++i )
+			positions[i] = i;
+		
+		Arrays.fill(ascending, true);
+		sort(table, positions, columns, ascending);
+		return positions;
+	}
+
+	/**
+	 * Sorts the positions of some rows of {@code table} according to {@code keys}. <br>
+	 * <br>
+	 * The sort is stable: rows which elements are equal keep their relative order.
+	 * 
+	 * @param table
+	 * 			The table which rows are sorted. Must not be {@code null}.
+	 * @param positions
+	 * 			The positions of the rows to sort. Must not be {@code null}.
+	 * @param keys
+	 * 			Specify how to sort the rows. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * @throws fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException if the id of a key does not match any column
+	 * @throws ClassCastException if the elements of one of the columns are not {@link Comparable}
+	 */
+	public static void sort(Table table, int[] positions, List<SortKey<?>> keys) {
+		requireNonNull(positions, "The positions to sort must not be null");
+		requireNonNull(keys, "The keys to sort by must not be null");
+		
+		int[] columns = new int[keys.size()];
+		boolean[] ascending = new boolean[keys.size()];
+		
+		for( int i = 0 ; i < columns.length ; ++i ) {
+			SortKey<?> key = requireNonNull(keys.get(i), "A key to sort by must not be null");
+			columns[i] = table.columns().indexOf(key.id());
+			ascending[i] = key.isAscending();
+		}
+		sort(table, positions, columns, ascending);
+	}
+	
+	private static void sort(Table table, int[] positions, int[] columns, boolean[] ascending) {
+		for( int column : columns )
+			assertIsSortable(table.columns().get(column));
+		
+		for( int key = columns.length - 1 ; key >= 0 ; --key )
+			sortBy(table, positions, columns[key], ascending[key]);
+	}
+	
+	/** @throws ClassCastException if the elements of {@code column} are not {@link Comparable} */
+	private static void assertIsSortable(Column<?> column) {
+		if( ! Comparable.class.isAssignableFrom(column.type()) )
+			throw new ClassCastException("The column " + column.header() + " cannot be sorted: " + column.type() + " is not Comparable");
+	}
+	
+	/** Stably sorts {@code positions} according to a single column. */
+	private static void sortBy(Table table, int[] positions, int column, boolean ascending) {
+		Rows rows = table.rows();
+		Object[] values = new Object[positions.length];
+		
+		for( int i = 0 ; i < positions.length ; ++i )
+			values[i] = rows.get(positions[i]).get(column);
+		
+		int[] order = order(values, table.columns().get(column).type(), ascending);
+		int[] sorted = new int[positions.length];
+		
+		for( int i = 0 ; i < positions.length ; ++i )
+			sorted[i] = positions[order[i]];
+		
+		System.arraycopy(sorted, 0, positions, 0, positions.length);
+	}
+	
+	/** @return the indexes of {@code values}, stably sorted */
+	private static int[] order(Object[] values, Class<?> type, boolean ascending) {
+		if( ! isInt(type) && ! isLong(type) && type != String.class )
+			return comparatorOrder(values, ascending);
+		
+		int[] present = new int[values.length];
+		int[] absent = new int[values.length];
+		int presents = 0;
+		int absents = 0;
+		
+		for( int i = 0 ; i < values.length ; ++i ) {
+			if( values[i] == null )
+				absent[absents++] = i;
+			else
+				present[presents++] = i;
+		}
+		present = Arrays.copyOf(present, presents);
+		
+		int[] sorted = isLong(type) ? radixOrder(values, present, ascending) 
+									: packedOrder(values, present, type, ascending);
+		
+		// null first in ascending order, last in descending order
+		int[] order = new int[values.length];
+		System.arraycopy(absent, 0, order, ascending ? 0 : presents, absents);
+		System.arraycopy(sorted, 0, order, ascending ? absents : 0, presents);
+		return order;
+	}
+	
+	/**
+	 * Returns whether the elements of a column of type {@code type} can be
+	 * compared through their {@link #primitiveKey(Object) primitive key}.
+	 * 
+	 * @param type
+	 * 			The type of the elements of a column.
+	 * 
+	 * @return whether the elements can be compared through their primitive key.
+	 */
+	public static boolean hasPrimitiveKeys(Class<?> type) {
+		return isInt(type) || isLong(type);
+	}
+	
+	/**
+	 * Returns a {@code long} which signed order matches the natural order of {@code value}. <br>
+	 * <br>
+	 * Only defined for the elements of a column for which {@link #hasPrimitiveKeys(Class)}
+	 * returns {@code true}.
+	 * 
+	 * @param value
+	 * 			The value to convert. Must not be {@code null}.
+	 * 
+	 * @return a {@code long} which signed order matches the natural order of {@code value}.
+	 */
+	public static long primitiveKey(Object value) {
+		if( value instanceof Long )
+			return (Long) value;
+		
+		if( value instanceof Double || value instanceof Float ) {
+			long bits = Double.doubleToLongBits(((Number) value).doubleValue());
+			return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+		}
+		return intKey(value);
+	}
+	
+	private static boolean isInt(Class<?> type) {
+		return type == Integer.class || type == Short.class || type == Byte.class
+			|| type == Character.class || type == Boolean.class || type.isEnum();
+	}
+	
+	private static boolean isLong(Class<?> type) {
+		return type == Long.class || type == Double.class || type == Float.class;
+	}
+	
+	/** @return the indexes of {@code values}, stably sorted by comparing the values */
+	private static int[] comparatorOrder(Object[] values, boolean ascending) {
+		int[] order = new int[values.length];
+		
+		for( int i = 0 ; i < order.length ; ++i )
+			order[i] = i;
+		
+		if( ascending )
+			PrimitiveSorts.stableSort(order, (a, b) -> compare(values[a], values[b]));
+		else
+			PrimitiveSorts.stableSort(order, (a, b) -> compare(values[b], values[a]));
+		
+		return order;
+	}
+	
+	/** 
+	 * Sorts the non-null values which keys fit in an {@code int}. <br>
+	 * <br>
+	 * Each key is packed with the index of its value in a {@code long}: the key
+	 * in the high bits makes the order, the index in the low bits breaks ties
+	 * so that the sort is stable. 
+	 * 
+	 * @return the elements of {@code present}, stably sorted
+	 */
+	private static int[] packedOrder(Object[] values, int[] present, Class<?> type, boolean ascending) {
+		int[] keys = type == String.class ? ranks(values, present) : intKeys(values, present);
+		long[] packed = new long[present.length];
+		
+		for( int i = 0 ; i < present.length ; ++i ) {
+			int key = ascending ? keys[i] : ~keys[i];
+			packed[i] = ((long) key << 32) | i;
+		}
+		Arrays.sort(packed);
+		
+		int[] sorted = new int[present.length];
+		
+		for( int i = 0 ; i < present.length ; ++i )
+			sorted[i] = present[(int) packed[i]];
+		
+		return sorted;
+	}
+	
+	/** @return the keys of the values at {@code present}, which order matches the one of the values */
+	private static int[] intKeys(Object[] values, int[] present) {
+		int[] keys = new int[present.length];
+		
+		for( int i = 0 ; i < present.length ; ++i )
+			keys[i] = intKey(values[present[i]]);
+		
+		return keys;
+	}
+	
+	private static int intKey(Object value) {
+		if( value instanceof Number )
+			return ((Number) value).intValue();
+		if( value instanceof Character )
+			return (Character) value;
+		if( value instanceof Boolean )
+			return (Boolean) value ? 1 : 0;
+		return ((Enum<?>) value).ordinal();
+	}
+	
+	/** @return the ranks of the Strings at {@code present} among the distinct Strings */
+	private static int[] ranks(Object[] values, int[] present) {
+		ValueDictionary dictionary = new ValueDictionary();
+		int[] codes = new int[present.length];
+		
+		for( int i = 0 ; i < present.length ; ++i )
+			codes[i] = dictionary.encode(values[present[i]]);
+		
+		int[] byValue = new int[dictionary.size()];
+		
+		for( int code = 0 ; code < byValue.length ; ++code )
+			byValue[code] = code;
+		
+		PrimitiveSorts.stableSort(byValue, (a, b) -> compare(dictionary.decode(a), dictionary.decode(b)));
+		
+		int[] rankOfCode = new int[byValue.length];
+		
+		for( int rank = 0 ; rank < byValue.length ; ++rank )
+			rankOfCode[byValue[rank]] = rank;
+		
+		for( int i = 0 ; i < codes.length ; ++i )
+			codes[i] = rankOfCode[codes[i]];
+		
+		return codes;
+	}
+	
+	/** 
+	 * Sorts the non-null values which keys fit in a {@code long} with a LSD radix sort. <br>
+	 * <br>
+	 * Passes for which all the values share the same byte are skipped.
+	 * 
+	 * @return the elements of {@code present}, stably sorted
+	 */
+	private static int[] radixOrder(Object[] values, int[] present, boolean ascending) {
+		int size = present.length;
+		long[] keys = new long[size];
+		int[] indexes = new int[size];
+		
+		for( int i = 0 ; i < size ; ++i ) {
+			long key = primitiveKey(values[present[i]]);
+			keys[i] = (ascending ? key : ~key) ^ Long.MIN_VALUE; // signed to unsigned order
+			indexes[i] = i;
+		}
+		
+		long[] keyBuffer = new long[size];
+		int[] indexBuffer = new int[size];
+		int[] counts = new int[257];
+		
+		for( int shift = 0 ; shift < Long.SIZE ; shift += 8 ) {
+			Arrays.fill(counts, 0);
+			
+			for( int i = 0 ; i < size ; ++i )
+				++counts[(int) ((keys[i] >>> shift) & 0xFF) + 1];
+			
+			if( size == 0 || counts[(int) ((keys[0] >>> shift) & 0xFF) + 1] == size )
+				continue;
+			
+			for( int digit = 0 ; digit < 256 ; ++digit )
+				counts[digit + 1] += counts[digit];
+			
+			for( int i = 0 ; i < size ; ++i ) {
+				int destination = counts[(int) ((keys[i] >>> shift) & 0xFF)]++;
+				keyBuffer[destination] = keys[i];
+				indexBuffer[destination] = indexes[i];
+			}
+			
+			long[] swappedKeys = keys;
+			keys = keyBuffer;
+			keyBuffer = swappedKeys;
+			
+			int[] swappedIndexes = indexes;
+			indexes = indexBuffer;
+			indexBuffer = swappedIndexes;
+		}
+		
+		int[] sorted = new int[size];
+		
+		for( int i = 0 ; i < size ; ++i )
+			sorted[i] = present[indexes[i]];
+		
+		return sorted;
+	}
+	
+	/**
+	 * Compares two elements of a same column, {@code null} coming first.
+	 * 
+	 * @param a
+	 * 			The first element to compare. Must be {@code null} or {@link Comparable}.
+	 * @param b
+	 * 			The second element to compare. Must be {@code null} or {@link Comparable}.
+	 * 
+	 * @return a negative integer, zero, or a positive integer as {@code a}
+	 * 		   is less than, equal to, or greater than {@code b}.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static int compare(Object a, Object b) {
+		if( a == b )
+			return 0;
+		if( a == null )
+			return -1;
+		if( b == null )
+			return 1;
+		return ((Comparable) a).compareTo(b);
+	}
+}
@@ -19,7 +19,6 @@ import static java.util.Objects.requireNonNull;
 import java.util.Iterator;
 
 import fr.kazejiyu.generic.datatable.core.Column;
-import fr.kazejiyu.generic.datatable.core.Table;
 
 /**
  * A simple implementation of {@link Column}.
@@ -31,11 +30,17 @@ import fr.kazejiyu.generic.datatable.core.Table;
 class SimpleColumn <T> implements Column <T> {
 
 	/** The table that owns the column. */
-	private final Table table;
+	private final DataTable table;
 	
 	/** Identifies uniquely the column by providing its type and its header. */
 	private final ColumnId<T> id;
 	
+	/** The last statistics computed, {@code null} if none. */
+	private ColumnStatistics<T> statistics;
+	
+	/** The version of the table when {@link #statistics} have been computed. */
+	private int statisticsVersion;
+	
 	/**
 	 * Creates a new column.
 	 * @param id
@@ -45,7 +50,7 @@ class SimpleColumn <T> implements Column <T> {
 	 * 
 	 * @throws NullPointerException if at least one of the arguments is {@code null}.
 	 */
-	SimpleColumn(final ColumnId<T> id, final Table table) {
+	SimpleColumn(final ColumnId<T> id, final DataTable table) {
 		this.id = requireNonNull(id, "The id of the column must not be null");
 		this.table = requireNonNull(table, "The table that owns the column must not be null");
 	}
@@ -91,4 +96,18 @@ class SimpleColumn <T> implements Column <T> {
 	public void set(final int row, final T element) {
 		table.rows().get(row).set(id, element);
 	}
+
+	/** 
+	 * {@inheritDoc} <br>
+	 * <br>
+	 * The statistics are cached until the table is modified.
+	 */
+	@Override
+	public ColumnStatistics<T> statistics() {
+		if( statistics == null || statisticsVersion != table.version() ) {
+			statistics = ColumnStatistics.of(this, ColumnStatistics.DEFAULT_BUCKETS);
+			statisticsVersion = table.version();
+		}
+		return statistics;
+	}
 }
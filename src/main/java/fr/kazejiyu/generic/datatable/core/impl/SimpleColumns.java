@@ -18,10 +18,10 @@ import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
 import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -33,7 +33,6 @@ import com.google.common.collect.HashBiMap;
 import fr.kazejiyu.generic.datatable.core.Column;
 import fr.kazejiyu.generic.datatable.core.Columns;
 import fr.kazejiyu.generic.datatable.core.Row;
-import fr.kazejiyu.generic.datatable.core.Table;
 
 /**
  * An implementation of {@link Columns}.
@@ -43,7 +42,7 @@ import fr.kazejiyu.generic.datatable.core.Table;
 class SimpleColumns implements Columns {
 	
 	/** The table that owns the columns. */
-	private final Table table;
+	private final DataTable table;
 	
 	/** The columns that compose the table. */
 	private final List <Column<?>> elements;
@@ -63,9 +62,9 @@ class SimpleColumns implements Columns {
 	 * @param table
 	 * 			The table that owns the columns.
 	 */
-	SimpleColumns(final Table table) {
+	SimpleColumns(final DataTable table) {
 		this.table = table;
-		this.elements = new LinkedList<>();
+		this.elements = new ArrayList<>();
 		this.idToIndex = new HashMap<>();
 		this.headerToIndex = HashBiMap.create();
 		this.preconditions = new ColumnsPreconditions(table, this);
@@ -125,18 +124,37 @@ class SimpleColumns implements Columns {
 		return header.toLowerCase();
 	}
 
+	/**
+	 * {@inheritDoc} <br>
+	 * <br>
+	 * Removes the element of each live row in a single pass; the rows removed
+	 * from the table are not visited.
+	 */
 	@Override
 	public Columns remove(final int index) {
 		preconditions.assertIsAValidIndex(index);
-			
-		elements.remove(index);
-		headerToIndex.inverse().remove(index);
 		
 		for( Row row : table.rows() )
 			((ModifiableRow) row).remove(index);
 		
+		elements.remove(index);
+		reindex();
+		table.modified();
+		table.fire(listener -> listener.columnRemoved(index));
 		return this;
 	}
+	
+	/** Maps the headers and the ids of the columns to their current index. */
+	private void reindex() {
+		idToIndex.clear();
+		headerToIndex.clear();
+		
+		for( int i = 0 ; i < elements.size() ; ++i ) {
+			Column<?> column = elements.get(i);
+			idToIndex.put(id(normalize(column.header()), column.type()), i);
+			headerToIndex.put(normalize(column.header()), i);
+		}
+	}
 
 	@Override
 	public int indexOf(final String header) {
@@ -157,8 +175,15 @@ class SimpleColumns implements Columns {
 		Iterator<N> itElement = column.iterator();
 
 		if( table.rows().isEmpty() ) {
-			while( itElement.hasNext() )
-				table.rows().create(asList(itElement.next()));
+			table.mute();
+			
+			try {
+				while( itElement.hasNext() )
+					table.rows().create(asList(itElement.next()));
+			}
+			finally {
+				table.unmute();
+			}
 		}
 		else {
 			for(Row row : table.rows())
@@ -166,6 +191,8 @@ class SimpleColumns implements Columns {
 		}
 		
 		createLastColumn(id(header, type));
+		table.modified();
+		table.fire(listener -> listener.columnCreated(elements.get(elements.size() - 1)));
 		return this;
 	}
 	
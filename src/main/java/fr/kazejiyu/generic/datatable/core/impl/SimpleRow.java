@@ -14,25 +14,24 @@
  */
 package fr.kazejiyu.generic.datatable.core.impl;
 
-import static ca.odell.glazedlists.GlazedLists.eventList;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
 import fr.kazejiyu.generic.datatable.core.Row;
-import fr.kazejiyu.generic.datatable.core.Table;
 
 /**
- * An implementation of {@link Row} that internally uses GlazedLists.
+ * A simple implementation of {@link Row}.
  * 
  * @author Emmanuel CHEBBI
  */
 class SimpleRow extends ModifiableRow {
 	
 	/** The table that owns the row. */
-	private final Table table;
+	private final DataTable table;
 	
 	/** The id of the row. */
 	private final int id;
@@ -53,7 +52,7 @@ class SimpleRow extends ModifiableRow {
 	 * 
 	 * @throws NullPointerException if at least one of the arguments if {@code null}.
 	 */
-	SimpleRow(final Table table, final int id) {
+	SimpleRow(final DataTable table, final int id) {
 		this(table, id, Collections.emptyList());
 	}
 	
@@ -69,10 +68,10 @@ class SimpleRow extends ModifiableRow {
 	 * 
 	 * @throws NullPointerException if at least one of the arguments is {@code null}.
 	 */
-	SimpleRow(final Table table, final int id, final List <Object> elements) {
+	SimpleRow(final DataTable table, final int id, final List <Object> elements) {
 		this.id = id;
 		this.table = requireNonNull(table, "The table that owns the row must not be null");
-		this.elements = eventList(requireNonNull(elements, "The elements of the row must not be null"));
+		this.elements = new ArrayList<>(requireNonNull(elements, "The elements of the row must not be null"));
 		this.preconditions = new ColumnsPreconditions(table, table.columns());
 	}
 
@@ -118,6 +117,14 @@ class SimpleRow extends ModifiableRow {
 		preconditions.assertIsAValidIndex(column);
 		preconditions.assertIsAValidElementForIndex(column, element);
 		this.elements.set(column, element);
+		table.modified();
+		
+		if( table.isListened() ) {
+			int row = table.indexOf(this);
+			
+			if( row >= 0 )
+				table.fire(listener -> listener.elementSet(row, column, element));
+		}
 	}
 	
 	@Override
@@ -16,31 +16,60 @@ package fr.kazejiyu.generic.datatable.core.impl;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
-import ca.odell.glazedlists.BasicEventList;
-import ca.odell.glazedlists.EventList;
 import fr.kazejiyu.generic.datatable.core.Row;
 import fr.kazejiyu.generic.datatable.core.Rows;
-import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.TableListener;
+import fr.kazejiyu.generic.datatable.exceptions.RowIdNotFoundException;
+import fr.kazejiyu.generic.datatable.util.LongIntHashMap;
+import fr.kazejiyu.generic.datatable.util.PrimitiveArrays;
 
 /**
- * An implementation of {@link Rows}.
+ * An implementation of {@link Rows}. <br>
+ * <br>
+ * The rows are stored in an array of slots. Removing a row leaves a tombstone in
+ * its slot instead of shifting the following rows; the tombstones are discarded
+ * in a single pass, either explicitly or once their proportion exceeds a threshold. <br>
+ * <br>
+ * The slot of each row is indexed by the id of the row, so that a row can be
+ * retrieved from its id in constant time.
  * 
  * @author Emmanuel CHEBBI
  */
 class SimpleRows implements Rows {
 	
 	/** The table that owns the rows. */
-	private final Table table;
+	private final DataTable table;
 	
 	/** Checks methods' preconditions. */
 	private final RowsPreconditions preconditions;
 	
-	/** The content of the rows. */
-	private final EventList <Row> elements = new BasicEventList<>();
+	/** The rows, indexed by slot. A {@code null} slot is a tombstone left by a removed row. */
+	private Row[] slots = new Row[16];
+	
+	/** The number of slots used, tombstones included. */
+	private int end = 0;
+	
+	/** The tombstones among the slots, {@code null} if there is none. */
+	private Tombstones tombstones = null;
+	
+	/** Maps the id of each row to its slot. */
+	private final LongIntHashMap slotOfId = new LongIntHashMap();
+	
+	/** The id of the next row to create. */
+	private int nextId = 0;
+	
+	/** The proportion of tombstones among the slots above which the rows are compacted. */
+	private double compactionThreshold = 0.5;
 	
 	/**
 	 * Creates the rows of {@code table}.
@@ -50,54 +79,143 @@ class SimpleRows implements Rows {
 	 * 
 	 * @throws NullPointerException if {@code table} is {@code null}.
 	 */
-	SimpleRows(final Table table) {
+	SimpleRows(final DataTable table) {
 		this.table = requireNonNull(table, "The table that owns the columns must not be null");
 		this.preconditions = new RowsPreconditions(table);
 	}
-	
-	/** @return the {@code EventList} used internally */
-	EventList <Row> internal() {
-		return elements;
-	}
 
 	@Override
 	public Iterator<Row> iterator() {
-		return elements.iterator();
+		return new Iterator<Row>() {
+			private int slot = nextLiveSlot(0);
+			
+			@Override
+			public boolean hasNext() {
+				return slot < end;
+			}
+			
+			@Override
+			public Row next() {
+				if( ! hasNext() )
+					throw new NoSuchElementException();
+				
+				Row row = slots[slot];
+				slot = nextLiveSlot(slot + 1);
+				return row;
+			}
+		};
+	}
+	
+	/** @return the first slot from {@code slot} that is not a tombstone, {@code end} if there is none */
+	private int nextLiveSlot(int slot) {
+		while( slot < end && slots[slot] == null )
+			++slot;
+		
+		return slot;
 	}
 	
 	@Override
 	public boolean isEmpty() {
-		return elements.isEmpty();
+		return size() == 0;
 	}
 
 	@Override
 	public int size() {
-		return elements.size();
+		return tombstones == null ? end : end - tombstones.count();
 	}
 
 	@Override
 	public Row get(int index) {
-		return elements.get(index);
+		return slots[slotOf(index)];
+	}
+	
+	/** @throws IndexOutOfBoundsException if index &lt; 0 || size() &lt;= index */
+	private int slotOf(int index) {
+		if( index < 0 || size() <= index )
+			throw new IndexOutOfBoundsException("There is no row at index " + index);
+		
+		return tombstones == null ? index : tombstones.slotOf(index);
 	}
 	
+	/**
+	 * {@inheritDoc} <br>
+	 * <br>
+	 * Takes constant time.
+	 */
 	@Override
-	public Stream<Row> stream() {
-		return elements.stream();
+	public Row getById(int id) {
+		int slot = slotOfId.get(id);
+		
+		if( slot == LongIntHashMap.NO_VALUE )
+			throw new RowIdNotFoundException("There is no row with id " + id);
+		
+		return slots[slot];
 	}
 	
-	private int nextId() {
-		return isEmpty() ? 0 : last().id() + 1;
+	/** @return the position of {@code row}, -1 if it is not one of the rows */
+	int indexOf(final Row row) {
+		int slot = slotOfId.get(row.id());
+		
+		if( slot == LongIntHashMap.NO_VALUE || slots[slot] != row )
+			return -1;
+		
+		return tombstones == null ? slot : tombstones.positionOf(slot);
+	}
+	
+	@Override
+	public Stream<Row> stream() {
+		Stream<Row> rows = Arrays.stream(slots, 0, end);
+		return tombstones == null ? rows : rows.filter(Objects::nonNull);
 	}
 	
 	@Override
 	public Rows create(final List <Object> elements) {
 		preconditions.assertIsAValidNewRow(elements);
-		return add(new SimpleRow(table, nextId(), elements));
+		return add(new SimpleRow(table, nextId, elements));
 	}
 
+	/**
+	 * Appends a new row identified by {@code id}.
+	 * 
+	 * @param id
+	 * 			The id of the new row.
+	 * @param elements
+	 * 			The elements of the new row.
+	 * 
+	 * @throws IllegalArgumentException if a row is already identified by {@code id}.
+	 */
+	void restore(final int id, final List<Object> elements) {
+		if( slotOfId.get(id) != LongIntHashMap.NO_VALUE )
+			throw new IllegalArgumentException("Several rows have the id " + id);
+		
+		add(new SimpleRow(table, id, elements));
+	}
+
+	/**
+	 * {@inheritDoc} <br>
+	 * <br>
+	 * The rows created afterwards are given ids greater than the one of {@code row}.
+	 */
 	@Override
 	public Rows add(final Row row) {
-		elements.add(requireNonNull(row, "The row to add must not be null"));
+		requireNonNull(row, "The row to add must not be null");
+		
+		slots = PrimitiveArrays.grow(slots, end + 1);
+		slots[end] = row;
+		slotOfId.put(row.id(), end);
+		nextId = Math.max(nextId, row.id() + 1);
+		
+		if( tombstones != null )
+			tombstones.append();
+		
+		++end;
+		table.modified();
+		
+		if( table.isListened() ) {
+			List<Object> elements = new ArrayList<>(row.size());
+			row.forEach(elements::add);
+			table.fire(listener -> listener.rowCreated(elements));
+		}
 		return this;
 	}
 
@@ -107,23 +225,190 @@ class SimpleRows implements Rows {
 //		return this;
 //	}
 
+	/**
+	 * {@inheritDoc} <br>
+	 * <br>
+	 * The following rows are not shifted: the slot of the removed row becomes a
+	 * tombstone, and the ids of the remaining rows are preserved.
+	 */
 	@Override
 	public Rows remove(final int index) {
-		elements.remove(index);
+		int slot = slotOf(index);
+		Row removed = slots[slot];
+		
+		slots[slot] = null;
+		
+		if( slotOfId.get(removed.id()) == slot )
+			slotOfId.remove(removed.id());
+		
+		if( tombstones != null )
+			tombstones.bury(slot);
+		
+		else if( slot < end - 1 )
+			tombstones = new Tombstones(slots, end);
+		
+		trimTrailingTombstones();
+		compactIfNeeded();
+		table.modified();
+		table.fire(listener -> listener.rowsRemoved(index));
+		return this;
+	}
+	
+	/**
+	 * {@inheritDoc} <br>
+	 * <br>
+	 * The rows to remove are first marked in a bitmap, then turned into tombstones
+	 * in a single pass. The following rows are not shifted, and the ids of the
+	 * remaining rows are preserved.
+	 */
+	@Override
+	public Rows removeIf(final Predicate<? super Row> filter) {
+		requireNonNull(filter, "The filter must not be null");
+		
+		BitSet removed = new BitSet(end);
+		
+		for( int slot = 0 ; slot < end ; ++slot )
+			if( slots[slot] != null && filter.test(slots[slot]) )
+				removed.set(slot);
+		
+		if( removed.isEmpty() )
+			return this;
+		
+		int[] indexes = table.isListened() ? indexesOf(removed) : null;
+		
+		for( int slot = removed.nextSetBit(0) ; slot >= 0 ; slot = removed.nextSetBit(slot + 1) ) {
+			if( slotOfId.get(slots[slot].id()) == slot )
+				slotOfId.remove(slots[slot].id());
+			
+			slots[slot] = null;
+		}
+		
+		tombstones = new Tombstones(slots, end);
+		trimTrailingTombstones();
+		compactIfNeeded();
+		table.modified();
+		table.fire(listener -> listener.rowsRemoved(indexes));
 		return this;
 	}
+	
+	/** @return the positions of the rows located in the {@code slots} */
+	private int[] indexesOf(final BitSet slots) {
+		int[] indexes = new int[slots.cardinality()];
+		int position = 0;
+		int next = 0;
+		
+		for( int slot = 0 ; slot < end ; ++slot ) {
+			if( this.slots[slot] == null )
+				continue;
+			
+			if( slots.get(slot) )
+				indexes[next++] = position;
+			
+			++position;
+		}
+		return indexes;
+	}
+	
+	/** Releases the tombstones located after the last live row. */
+	private void trimTrailingTombstones() {
+		while( end > 0 && slots[end - 1] == null ) {
+			--end;
+			
+			if( tombstones != null )
+				tombstones.dropLast();
+		}
+		if( tombstones != null && tombstones.count() == 0 )
+			tombstones = null;
+	}
+	
+	/** Compacts the rows if the proportion of tombstones exceeds the threshold. */
+	private void compactIfNeeded() {
+		if( tombstones != null && tombstones.count() > end * compactionThreshold )
+			compact();
+	}
+	
+	/**
+	 * Sets the proportion of tombstones among the slots above which the rows are compacted.
+	 * 
+	 * @param threshold
+	 * 			The proportion of tombstones, in ]0, 1]. 1 disables automatic compaction.
+	 * 
+	 * @throws IllegalArgumentException if {@code threshold} is not in ]0, 1].
+	 */
+	void compactionThreshold(final double threshold) {
+		if( ! (0 < threshold && threshold <= 1) )
+			throw new IllegalArgumentException("The compaction threshold must be in ]0, 1] (got: " + threshold + ")");
+		
+		this.compactionThreshold = threshold;
+		compactIfNeeded();
+	}
+	
+	/** Moves the live rows to the first slots, discarding the tombstones. */
+	void compact() {
+		if( tombstones == null )
+			return;
+		
+		int live = 0;
+		
+		for( int slot = 0 ; slot < end ; ++slot ) {
+			Row row = slots[slot];
+			
+			if( row != null ) {
+				if( slotOfId.get(row.id()) == slot )
+					slotOfId.put(row.id(), live);
+				
+				slots[live++] = row;
+			}
+		}
+		Arrays.fill(slots, live, end, null);
+		end = live;
+		tombstones = null;
+	}
 
 	@Override
 	public Rows clear() {
-		elements.clear();
+		slots = new Row[16];
+		end = 0;
+		tombstones = null;
+		slotOfId.clear();
+		table.modified();
+		table.fire(TableListener::rowsCleared);
 		return this;
 	}
+	
+	/**
+	 * Reorders the rows.
+	 * 
+	 * @param positions
+	 * 			The current positions of the rows, in their new order.
+	 */
+	void reorder(final int[] positions) {
+		Row[] reordered = new Row[Math.max(16, positions.length)];
+		
+		for( int i = 0 ; i < positions.length ; ++i )
+			reordered[i] = get(positions[i]);
+		
+		slots = reordered;
+		end = positions.length;
+		tombstones = null;
+		slotOfId.clear();
+		
+		for( int slot = 0 ; slot < end ; ++slot )
+			slotOfId.put(slots[slot].id(), slot);
+		
+		table.modified();
+	}
 
 	@Override
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + elements.hashCode();
+		int hash = 1;
+		
+		for( Row row : this )
+			hash = prime * hash + row.hashCode();
+		
+		result = prime * result + hash;
 		return result;
 	}
 
@@ -136,6 +421,16 @@ class SimpleRows implements Rows {
 		if (!(obj instanceof SimpleRows))
 			return false;
 		SimpleRows other = (SimpleRows) obj;
-		return elements.equals(other.elements);
+		
+		if( size() != other.size() )
+			return false;
+		
+		Iterator<Row> otherRows = other.iterator();
+		
+		for( Row row : this )
+			if( ! row.equals(otherRows.next()) )
+				return false;
+		
+		return true;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.core.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+
+/**
+ * Specifies how to sort rows according to the elements of a {@link Column}. <br>
+ * <br>
+ * Instances are built from a {@link ColumnId}:
+ * <pre>
+ *AGE.desc()
+ *NAME.asc()</pre>
+ * In ascending order {@code null} elements come first, while they come last in
+ * descending order. <br>
+ * <br>
+ * Instances of this class are strictly immutable and hence, once built,
+ * are unconditionally <em>thread-safe</em>.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <T> The type of column's elements.
+ */
+public final class SortKey<T> {
+	
+	/** Identifies the column to sort by. */
+	private final ColumnId<T> id;
+	
+	/** Whether the rows are sorted in ascending order. */
+	private final boolean ascending;
+	
+	/**
+	 * Creates a new key.
+	 * 
+	 * @param id
+	 * 			Identifies the column to sort by. Must not be {@code null}.
+	 * @param ascending
+	 * 			Whether the rows are sorted in ascending order.
+	 * 
+	 * @throws NullPointerException if {@code id} is {@code null}.
+	 */
+	SortKey(final ColumnId<T> id, final boolean ascending) {
+		this.id = requireNonNull(id, "The id of a SortKey must not be null");
+		this.ascending = ascending;
+	}
+	
+	/** @return the id of the column to sort by */
+	public ColumnId<T> id() {
+		return id;
+	}
+	
+	/** @return whether the rows are sorted in ascending order */
+	public boolean isAscending() {
+		return ascending;
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * id.hashCode() + (ascending ? 1 : 0);
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if( this == obj )
+			return true;
+		if( ! (obj instanceof SortKey) )
+			return false;
+		SortKey<?> other = (SortKey<?>) obj;
+		return ascending == other.ascending && id.equals(other.id);
+	}
+	
+	@Override
+	public String toString() {
+		return id.header() + (ascending ? " ASC" : " DESC");
+	}
+}
@@ -10,7 +10,7 @@ public class TablePreconditions {
 
 	private final Table table;
 
-	public TablePreconditions(DataTable table) {
+	public TablePreconditions(Table table) {
 		this.table = table;
 	}
 
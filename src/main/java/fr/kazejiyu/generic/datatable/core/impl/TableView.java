@@ -0,0 +1,226 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.core.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import ca.odell.glazedlists.matchers.Matcher;
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.core.Columns;
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Rows;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.exceptions.InconsistentColumnSizeException;
+import fr.kazejiyu.generic.datatable.exceptions.UndistinctHeadersException;
+
+/**
+ * A read-only {@link Table} made of existing columns. <br>
+ * <br>
+ * A view does not copy its content: each element is read from the underlying
+ * columns when it is accessed. As a consequence, a view can be built in constant
+ * time from the result of a query, and only the columns actually read are ever
+ * accessed. <br>
+ * <br>
+ * The content of a view cannot be modified; however, filtering a view creates a
+ * new {@link DataTable}. <br>
+ * <br>
+ * A view can be told the order of its rows when it is built, so that subsequent
+ * operators can rely on it; the order is not checked.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class TableView implements Table {
+
+	/** The rows of the view. */
+	private final ViewRows rows;
+
+	/** The columns of the view. */
+	private final ViewColumns columns;
+
+	/** Checks methods' preconditions. */
+	private final TablePreconditions preconditions;
+
+	/** The ids of the columns the rows are sorted by. */
+	private final List<ColumnId<?>> sortOrder;
+
+	/**
+	 * Creates a new view made of {@code columns}.
+	 * 
+	 * @param columns
+	 * 			The columns of the view. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if {@code columns} is {@code null}.
+	 * @throws UndistinctHeadersException if two columns have the same header.
+	 * @throws InconsistentColumnSizeException if the columns do not have the same size.
+	 */
+	public TableView(final List<? extends Column<?>> columns) {
+		this(columns, Collections.emptyList());
+	}
+
+	/**
+	 * Creates a new view made of {@code columns} which rows are sorted according to {@code sortOrder}.
+	 *
+	 * @param columns
+	 * 			The columns of the view. Must not be {@code null}.
+	 * @param sortOrder
+	 * 			The ids of the columns the rows are sorted by. Must not be {@code null}.
+	 * 			Only the longest prefix of ids matching columns of the view is retained.
+	 *
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * @throws UndistinctHeadersException if two columns have the same header.
+	 * @throws InconsistentColumnSizeException if the columns do not have the same size.
+	 *
+	 * @see Table#sortOrder()
+	 */
+	public TableView(final List<? extends Column<?>> columns, final List<ColumnId<?>> sortOrder) {
+		requireNonNull(columns, "The columns of the view must not be null");
+		requireNonNull(sortOrder, "The sort order of the view must not be null");
+		assertHeadersAreDistinct(columns);
+		assertSizesAreConsistent(columns);
+
+		this.columns = new ViewColumns(this, columns);
+		this.rows = new ViewRows(this, columns.isEmpty() ? 0 : columns.get(0).size());
+		this.preconditions = new TablePreconditions(this);
+		this.sortOrder = Collections.unmodifiableList(retainedSortOrder(sortOrder, this.columns));
+	}
+
+	/** @return the longest prefix of {@code sortOrder} which ids match a column of {@code columns} */
+	static List<ColumnId<?>> retainedSortOrder(List<ColumnId<?>> sortOrder, Columns columns) {
+		List<ColumnId<?>> retained = new ArrayList<>();
+
+		for( ColumnId<?> id : sortOrder ) {
+			if( ! columns.contains(id) )
+				break;
+
+			retained.add(id);
+		}
+		return retained;
+	}
+
+	/** @throws UndistinctHeadersException if two columns have the same header */
+	private static void assertHeadersAreDistinct(List<? extends Column<?>> columns) {
+		Set<String> headers = new HashSet<>();
+
+		for( Column<?> column : columns )
+			if( ! headers.add(column.header().toLowerCase()) )
+				throw new UndistinctHeadersException("The header " + column.header() + " is used by several columns of the view");
+	}
+
+	/** @throws InconsistentColumnSizeException if the columns do not have the same size */
+	private static void assertSizesAreConsistent(List<? extends Column<?>> columns) {
+		for( Column<?> column : columns )
+			if( column.size() != columns.get(0).size() )
+				throw new InconsistentColumnSizeException(
+						"The column " + column.header() + " does not have the expected size "
+					  + "(got: " + column.size() + ", expected: " + columns.get(0).size() + ")");
+	}
+
+	@Override
+	public Rows rows() {
+		return rows;
+	}
+
+	@Override
+	public Columns columns() {
+		return columns;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return rows.isEmpty() || columns.isEmpty();
+	}
+
+	/**
+	 * Always throws since a view cannot be modified.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public Table clear() {
+		throw new UnsupportedOperationException("A view cannot be cleared");
+	}
+
+	/**
+	 * Always throws since a view cannot be modified.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public Table sortBy(ColumnId<?>... ids) {
+		throw new UnsupportedOperationException("A view cannot be sorted in place");
+	}
+
+	@Override
+	public List<ColumnId<?>> sortOrder() {
+		return sortOrder;
+	}
+
+	@Override
+	public DataTable filter(LinkedHashSet<String> columnsToKeep, Matcher<Row> matcher) {
+		requireNonNull(columnsToKeep, "The columns to keep must not be null");
+		preconditions.assertAreExistingHeaders(columnsToKeep);
+
+		List<Integer> indexes = new ArrayList<>();
+
+		for( String header : columnsToKeep )
+			indexes.add(columns.indexOf(header));
+
+		return filter(indexes, matcher);
+	}
+
+	@Override
+	public DataTable filterById(LinkedHashSet<ColumnId<?>> idsOfColumnsToKeep, Matcher<Row> matcher) {
+		requireNonNull(idsOfColumnsToKeep, "The ids of the columns to keep must not be null");
+		preconditions.assertAreExistingIds(idsOfColumnsToKeep);
+
+		List<Integer> indexes = new ArrayList<>();
+
+		for( ColumnId<?> id : idsOfColumnsToKeep )
+			indexes.add(columns.indexOf(id));
+
+		return filter(indexes, matcher);
+	}
+
+	/** @return a new table containing the columns at {@code indexes} of the rows matching {@code matcher} */
+	private DataTable filter(List<Integer> indexes, Matcher<Row> matcher) {
+		requireNonNull(matcher, "The matcher must not be null");
+
+		DataTable filtered = new DataTable();
+
+		for( int index : indexes )
+			filtered.columns().create(columns.get(index).header(), columns.get(index).type());
+
+		for( Row row : rows ) {
+			if( ! matcher.matches(row) )
+				continue;
+
+			List<Object> elements = new ArrayList<>(indexes.size());
+
+			for( int index : indexes )
+				elements.add(row.get(index));
+
+			filtered.rows().create(elements);
+		}
+		filtered.sortedBy(sortOrder);
+		return filtered;
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.core.impl;
+
+import fr.kazejiyu.generic.datatable.util.PrimitiveArrays;
+
+/**
+ * Keeps track of the slots left empty by removed rows. <br>
+ * <br>
+ * Removing a row leaves a tombstone in its slot instead of shifting the following
+ * rows, so the position of a row no longer matches its slot. The tombstones are
+ * stored in a Fenwick tree counting the live slots, so that both removing a row
+ * and finding the slot of a given position take O(log n).
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class Tombstones {
+
+	/** Fenwick tree counting live slots; {@code tree[i]} covers the slots ]i - lowbit(i), i]. */
+	private int[] tree;
+
+	/** The number of slots tracked. */
+	private int slots;
+
+	/** The number of tombstones. */
+	private int count;
+
+	/**
+	 * Creates the tombstones of {@code rows}.
+	 * 
+	 * @param rows
+	 * 			The rows, indexed by slot. A {@code null} slot is a tombstone.
+	 * @param slots
+	 * 			The number of slots used in {@code rows}.
+	 */
+	Tombstones(final Object[] rows, final int slots) {
+		this.tree = new int[rows.length + 1];
+		this.slots = slots;
+
+		for( int i = 1 ; i <= slots ; ++i ) {
+			if( rows[i - 1] == null )
+				++count;
+			else
+				++tree[i];
+
+			int parent = i + (i & -i);
+
+			if( parent <= slots )
+				tree[parent] += tree[i];
+		}
+	}
+
+	/** @return the number of tombstones */
+	int count() {
+		return count;
+	}
+
+	/** Tracks a new live slot, appended after the existing ones. */
+	void append() {
+		int i = ++slots;
+		tree = PrimitiveArrays.grow(tree, i + 1);
+		tree[i] = 1;
+
+		for( int child = 1 ; child < (i & -i) ; child <<= 1 )
+			tree[i] += tree[i - child];
+	}
+
+	/**
+	 * Records that {@code slot} is now a tombstone.
+	 * 
+	 * @param slot
+	 * 			A live slot.
+	 */
+	void bury(final int slot) {
+		for( int i = slot + 1 ; i <= slots ; i += i & -i )
+			--tree[i];
+
+		++count;
+	}
+
+	/**
+	 * Stops tracking the last slot, which must be a tombstone.
+	 */
+	void dropLast() {
+		--slots;
+		--count;
+	}
+
+	/**
+	 * Returns the position of the row located in {@code slot}.
+	 * 
+	 * @param slot
+	 * 			A live slot.
+	 * 
+	 * @return the position of the row located in {@code slot}, tombstones excluded.
+	 */
+	int positionOf(final int slot) {
+		int live = 0;
+
+		for( int i = slot ; i > 0 ; i -= i & -i )
+			live += tree[i];
+
+		return live;
+	}
+
+	/**
+	 * Returns the slot of the row located at {@code position}.
+	 * 
+	 * @param position
+	 * 			The position of a live row, tombstones excluded.
+	 * 
+	 * @return the slot of the row located at {@code position}.
+	 */
+	int slotOf(final int position) {
+		int slot = 0;
+		int remaining = position + 1;
+
+		for( int step = Integer.highestOneBit(Math.max(slots, 1)) ; step > 0 ; step >>= 1 ) {
+			if( slot + step <= slots && tree[slot + step] < remaining ) {
+				slot += step;
+				remaining -= tree[slot];
+			}
+		}
+		return slot;
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.core.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.core.Columns;
+import fr.kazejiyu.generic.datatable.core.Table;
+
+/**
+ * The read-only {@link Columns} of a {@link TableView}.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+class ViewColumns implements Columns {
+
+	/** The columns of the view. */
+	private final List <Column<?>> elements;
+
+	/** Maps the header in a case-insensitive way to their index. */
+	private final Map <String,Integer> headerToIndex;
+
+	/** Checks methods' preconditions. */
+	private final ColumnsPreconditions preconditions;
+
+	/**
+	 * Creates the columns of {@code view}.
+	 * 
+	 * @param view
+	 * 			The view that owns the columns.
+	 * @param columns
+	 * 			The columns of the view.
+	 */
+	ViewColumns(final Table view, final List<? extends Column<?>> columns) {
+		this.elements = Collections.unmodifiableList(new ArrayList<>(columns));
+		this.headerToIndex = new HashMap<>();
+		this.preconditions = new ColumnsPreconditions(view, this);
+
+		for( int i = 0 ; i < elements.size() ; ++i )
+			headerToIndex.put(normalize(elements.get(i).header()), i);
+	}
+
+	private String normalize(final String header) {
+		return header.toLowerCase();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return elements.isEmpty();
+	}
+
+	@Override
+	public int size() {
+		return elements.size();
+	}
+
+	@Override
+	public LinkedHashSet<String> headers() {
+		LinkedHashSet <String> headers = new LinkedHashSet<>();
+
+		for( Column <?> column : elements )
+			headers.add(column.header());
+
+		return headers;
+	}
+
+	@Override
+	public boolean contains(final String header) {
+		return header != null && headerToIndex.containsKey(normalize(header));
+	}
+
+	@Override
+	public Iterator<Column<?>> iterator() {
+		return elements.iterator();
+	}
+
+	@Override
+	public Column<?> get(final int index) {
+		return elements.get(index);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> Column<T> get(final ColumnId<T> id) {
+		return (Column<T>) get(indexOf(id));
+	}
+
+	@Override
+	public Stream<Column<?>> stream() {
+		return elements.stream();
+	}
+
+	@Override
+	public int indexOf(final String header) {
+		preconditions.assertHeaderExist(header);
+		return headerToIndex.get(normalize(header));
+	}
+
+	@Override
+	public int indexOf(final ColumnId<?> id) {
+		preconditions.assertIsAValidColumnId(id);
+		return headerToIndex.get(normalize(id.header()));
+	}
+
+	/**
+	 * Always throws since a view cannot be modified.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public <N> Columns create(final String header, final Class<N> type, final Iterable<N> column) {
+		throw new UnsupportedOperationException("Cannot create a column in a view");
+	}
+
+	/**
+	 * Always throws since a view cannot be modified.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public Columns remove(final int index) {
+		throw new UnsupportedOperationException("Cannot remove a column from a view");
+	}
+
+	/**
+	 * Always throws since a view cannot be modified.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public Columns clear() {
+		throw new UnsupportedOperationException("Cannot clear the columns of a view");
+	}
+}
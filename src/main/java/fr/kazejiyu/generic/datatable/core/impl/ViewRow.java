@@ -0,0 +1,130 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.core.impl;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Table;
+
+/**
+ * A read-only {@link Row} of a {@link TableView}. <br>
+ * <br>
+ * The id of the row is its position in the view.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+class ViewRow implements Row {
+
+	/** The view that owns the row. */
+	private final Table view;
+
+	/** The position of the row in the view. */
+	private final int position;
+
+	/**
+	 * Creates a new row.
+	 * 
+	 * @param view
+	 * 			The view that owns the row.
+	 * @param position
+	 * 			The position of the row in the view.
+	 */
+	ViewRow(final Table view, final int position) {
+		this.view = view;
+		this.position = position;
+	}
+
+	@Override
+	public int id() {
+		return position;
+	}
+
+	@Override
+	public int size() {
+		return view.columns().size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public Object get(final int column) {
+		return view.columns().get(column).get(position);
+	}
+
+	@Override
+	public <T> T get(final ColumnId<T> id) {
+		return id.type().cast(get(view.columns().indexOf(id)));
+	}
+
+	@Override
+	public Object get(final String header) {
+		return get(view.columns().indexOf(header));
+	}
+
+	/**
+	 * Always throws since a view cannot be modified.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void set(final int column, final Object element) {
+		throw new UnsupportedOperationException("Cannot modify the row of a view");
+	}
+
+	/**
+	 * Always throws since a view cannot be modified.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public <T> void set(final ColumnId<T> id, final T element) {
+		throw new UnsupportedOperationException("Cannot modify the row of a view");
+	}
+
+	/**
+	 * Always throws since a view cannot be modified.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public void set(final String header, final Object element) {
+		throw new UnsupportedOperationException("Cannot modify the row of a view");
+	}
+
+	@Override
+	public Iterator<Object> iterator() {
+		return new Iterator<Object>() {
+			private int next = 0;
+
+			@Override
+			public boolean hasNext() {
+				return next < size();
+			}
+
+			@Override
+			public Object next() {
+				if( ! hasNext() )
+					throw new NoSuchElementException();
+
+				return get(next++);
+			}
+		};
+	}
+}
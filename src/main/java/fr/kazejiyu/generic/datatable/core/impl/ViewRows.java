@@ -0,0 +1,148 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.core.impl;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Rows;
+import fr.kazejiyu.generic.datatable.core.Table;
+
+/**
+ * The read-only {@link Rows} of a {@link TableView}. <br>
+ * <br>
+ * Rows are created on demand and read their elements from the columns of the view.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+class ViewRows implements Rows {
+
+	/** The view that owns the rows. */
+	private final Table view;
+
+	/** The number of rows in the view. */
+	private final int size;
+
+	/**
+	 * Creates the rows of {@code view}.
+	 * 
+	 * @param view
+	 * 			The view that owns the rows.
+	 * @param size
+	 * 			The number of rows in the view.
+	 */
+	ViewRows(final Table view, final int size) {
+		this.view = view;
+		this.size = size;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public Row get(final int index) {
+		if( index < 0 || size <= index )
+			throw new IndexOutOfBoundsException("There is no row at index " + index);
+
+		return new ViewRow(view, index);
+	}
+
+	@Override
+	public Stream<Row> stream() {
+		return IntStream.range(0, size).mapToObj(this::get);
+	}
+
+	@Override
+	public Iterator<Row> iterator() {
+		return new Iterator<Row>() {
+			private int next = 0;
+
+			@Override
+			public boolean hasNext() {
+				return next < size;
+			}
+
+			@Override
+			public Row next() {
+				if( ! hasNext() )
+					throw new NoSuchElementException();
+
+				return new ViewRow(view, next++);
+			}
+		};
+	}
+
+	/**
+	 * Always throws since a view cannot be modified.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public Rows create(final List<Object> row) {
+		throw new UnsupportedOperationException("Cannot create a row in a view");
+	}
+
+	/**
+	 * Always throws since a view cannot be modified.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public Rows add(final Row row) {
+		throw new UnsupportedOperationException("Cannot add a row to a view");
+	}
+
+	/**
+	 * Always throws since a view cannot be modified.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public Rows remove(final int index) {
+		throw new UnsupportedOperationException("Cannot remove a row from a view");
+	}
+
+	/**
+	 * Always throws since a view cannot be modified.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public Rows removeIf(final Predicate<? super Row> filter) {
+		throw new UnsupportedOperationException("Cannot remove rows from a view");
+	}
+
+	/**
+	 * Always throws since a view cannot be modified.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public Rows clear() {
+		throw new UnsupportedOperationException("Cannot clear the rows of a view");
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.exceptions;
+
+/**
+ * Thrown when a record read from a file does not match the expected format or schema. 
+ */
+public class MalformedRecordException extends RuntimeException {
+
+	/**
+	 * Generated serial id
+	 */
+	private static final long serialVersionUID = 5120937542815368194L;
+
+	public MalformedRecordException() {
+		super();
+	}
+
+	public MalformedRecordException(String arg0, Throwable arg1) {
+		super(arg0, arg1);
+	}
+
+	public MalformedRecordException(String arg0) {
+		super(arg0);
+	}
+
+	public MalformedRecordException(Throwable arg0) {
+		super(arg0);
+	}
+
+}
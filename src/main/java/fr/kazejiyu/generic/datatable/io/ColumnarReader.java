@@ -0,0 +1,82 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io;
+
+import java.io.IOException;
+
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+
+/**
+ * Reads a {@link fr.kazejiyu.generic.datatable.core.Table Table} from a columnar file
+ * written by a {@link ColumnarWriter}. <br>
+ * <br>
+ * The file can either be copied into a {@link DataTable} or memory-mapped, in which case
+ * only the schema is read upfront.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public interface ColumnarReader extends TableReader {
+
+	/**
+	 * Reads the whole file into a new table.
+	 * 
+	 * @return a new table holding the content of the file.
+	 * 
+	 * @throws IOException if the file cannot be read.
+	 * @throws MalformedRecordException if the file is not a valid columnar file.
+	 */
+	@Override
+	DataTable read() throws IOException;
+
+	/**
+	 * Memory-maps the file. <br>
+	 * <br>
+	 * Only the schema of the file is read by this method; the elements are mapped
+	 * and decoded lazily, block by block, when they are accessed.
+	 * 
+	 * @return a read-only table backed by the file, which must be closed once no longer needed.
+	 * 
+	 * @throws IOException if the file cannot be read.
+	 * @throws MalformedRecordException if the file is not a valid columnar file.
+	 */
+	MappedTable map() throws IOException;
+
+	/**
+	 * Specifies that the file must be deleted once read. <br>
+	 * <br>
+	 * The file is deleted when {@link #read()} returns or when the table returned by
+	 * {@link #map()} is closed. Useful to read temporary files.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 */
+	ColumnarReader deleteOnClose();
+
+	/**
+	 * Bounds the memory taken by the blocks decoded by the table returned by {@link #map()}. <br>
+	 * <br>
+	 * Once the estimated size of the decoded blocks exceeds {@code bytes}, the least recently
+	 * used ones are evicted; they are decoded again the next time they are accessed. By default,
+	 * the blocks are only evicted when the heap runs short.
+	 * 
+	 * @param bytes
+	 * 			The number of bytes the decoded blocks may take. Must be positive.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws IllegalArgumentException if {@code bytes} is not positive.
+	 */
+	ColumnarReader cacheBudget(long bytes);
+}
@@ -0,0 +1,77 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io;
+
+import java.util.function.Consumer;
+
+/**
+ * Writes a {@link fr.kazejiyu.generic.datatable.core.Table Table} in a binary columnar format. <br>
+ * <br>
+ * The elements of each column are split in blocks of a fixed number of rows. A block
+ * records its {@code null} elements in a bitmap and stores its elements in binary, so that
+ * the file can be mapped in memory and read without being parsed. The schema of the table
+ * is written at the end of the file. <br>
+ * <br>
+ * Each block is compressed with the lightest encoding that fits its content: strings are
+ * stored in a dictionary of distinct values, booleans as bits, and other elements either
+ * as is, as runs of equal values or, for integral numbers, as bit-packed differences to
+ * the previous element or to the smallest one. <br>
+ * <br>
+ * The following types are supported: {@code String}, {@code Boolean}, {@code Character},
+ * {@code Byte}, {@code Short}, {@code Integer}, {@code Long}, {@code Float} and {@code Double};
+ * writing a table with a column of another type throws an {@link IllegalArgumentException}. <br>
+ * <br>
+ * A writer reuses its buffer from one table to another, hence must not be used by
+ * several threads at once.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @see ColumnarReader
+ */
+public interface ColumnarWriter extends TableWriter {
+
+	/**
+	 * Sets the number of rows per block. Defaults to 65536.
+	 * 
+	 * @param rows
+	 * 			The number of rows per block.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws IllegalArgumentException if {@code rows} is not strictly positive or exceeds 2<sup>24</sup>.
+	 */
+	ColumnarWriter blockRows(int rows);
+
+	/**
+	 * Specifies that the id of each row must be written, so that reading the file
+	 * into a {@link fr.kazejiyu.generic.datatable.core.impl.DataTable DataTable}
+	 * restores them. By default, the rows of the table read get new ids.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 */
+	ColumnarWriter withRowIds();
+
+	/**
+	 * Sets the listener notified of the throughput of the writer each time a table is written.
+	 * 
+	 * @param listener
+	 * 			The listener to notify. Must not be {@code null}.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws NullPointerException if {@code listener} is {@code null}.
+	 */
+	ColumnarWriter reportTo(Consumer<? super Throughput> listener);
+}
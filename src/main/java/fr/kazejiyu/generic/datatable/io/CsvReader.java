@@ -0,0 +1,84 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io;
+
+import java.util.function.Consumer;
+
+import fr.kazejiyu.generic.datatable.exceptions.HeaderNotFoundException;
+
+/**
+ * Reads a {@link fr.kazejiyu.generic.datatable.core.Table Table} from a CSV file. <br>
+ * <br>
+ * Fields may be quoted with double quotes, in which case they can contain the delimiter,
+ * line breaks or escaped quotes ({@code ""}). An empty quoted field is read as an empty
+ * string while an empty unquoted field is read as {@code null}.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public interface CsvReader extends TableReader {
+
+	/**
+	 * Sets the character separating the fields of a record. Defaults to {@code ','}.
+	 * 
+	 * @param delimiter
+	 * 			The character separating the fields. Must be an ASCII character.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws IllegalArgumentException if {@code delimiter} is not an ASCII character,
+	 * 									or is a double quote or a line break.
+	 */
+	CsvReader delimiter(char delimiter);
+
+	/**
+	 * Specifies that the first line of the file holds the headers of the columns. <br>
+	 * <br>
+	 * The fields are then matched to the schema by header, ignoring case. The columns
+	 * of the file that do not belong to the schema are ignored.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws HeaderNotFoundException when reading, if a column of the schema is not in the file.
+	 */
+	CsvReader withHeader();
+
+	/**
+	 * Sets the number of threads used to parse the file. Defaults to 1. <br>
+	 * <br>
+	 * Large files are split at line boundaries, and each split is parsed by its own thread.
+	 * Since a split may start within a quoted field, the records must not contain line breaks
+	 * when several threads are used.
+	 * 
+	 * @param threads
+	 * 			The number of threads used to parse the file.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws IllegalArgumentException if {@code threads} &lt; 1
+	 */
+	CsvReader threads(int threads);
+
+	/**
+	 * Sets the listener notified of the throughput of the reader once the file has been read.
+	 * 
+	 * @param listener
+	 * 			The listener to notify. Must not be {@code null}.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws NullPointerException if {@code listener} is {@code null}.
+	 */
+	CsvReader reportTo(Consumer<? super Throughput> listener);
+}
@@ -0,0 +1,76 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io;
+
+import java.util.function.Consumer;
+
+/**
+ * Writes a {@link fr.kazejiyu.generic.datatable.core.Table Table} as delimiter-separated values. <br>
+ * <br>
+ * The first line holds the headers of the columns. {@code null} elements are written as
+ * empty fields, while fields that are empty or contain the delimiter, a double quote or a
+ * line break are quoted, so that the output can be read back by a {@link CsvReader}. <br>
+ * <br>
+ * A writer reuses its buffer from one table to another, hence must not be used by
+ * several threads at once.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public interface CsvWriter extends TableWriter {
+
+	/**
+	 * Sets the character separating the fields of a record.
+	 * 
+	 * @param delimiter
+	 * 			The character separating the fields. Must be an ASCII character.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws IllegalArgumentException if {@code delimiter} is not an ASCII character,
+	 * 									or is a double quote or a line break.
+	 */
+	CsvWriter delimiter(char delimiter);
+
+	/**
+	 * Specifies that the headers of the columns must not be written.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 */
+	CsvWriter withoutHeader();
+
+	/**
+	 * Sets the size of the buffer used to write the table. Defaults to 64 KiB.
+	 * 
+	 * @param size
+	 * 			The size of the buffer, in bytes.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws IllegalArgumentException if {@code size} &lt; 64
+	 */
+	CsvWriter bufferSize(int size);
+
+	/**
+	 * Sets the listener notified of the throughput of the writer each time a table is written.
+	 * 
+	 * @param listener
+	 * 			The listener to notify. Must not be {@code null}.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws NullPointerException if {@code listener} is {@code null}.
+	 */
+	CsvWriter reportTo(Consumer<? super Throughput> listener);
+}
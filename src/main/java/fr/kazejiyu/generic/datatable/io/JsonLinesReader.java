@@ -0,0 +1,73 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+
+/**
+ * Reads a {@link fr.kazejiyu.generic.datatable.core.Table Table} from a JSON Lines file. <br>
+ * <br>
+ * Each non-blank line of the file must hold a single JSON object, which members are
+ * matched to the columns by key, ignoring case. Missing members and {@code null} values
+ * are read as {@code null}, while the members that do not match any column are ignored.
+ * Nested objects and arrays can only be read into {@code String} columns, as raw JSON. <br>
+ * <br>
+ * When no schema is given, it is inferred from the first records of the file: each key
+ * becomes a column, in order of first appearance, which type is {@code Boolean} if all its
+ * values are booleans, {@code Long} if they are all integral numbers, {@code Double} if they
+ * are all numbers, and {@code String} otherwise.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public interface JsonLinesReader extends TableReader {
+
+	/**
+	 * Sets the number of records used to infer the schema when none has been given. Defaults to 1000.
+	 * 
+	 * @param records
+	 * 			The number of records to sample.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws IllegalArgumentException if {@code records} &lt; 1
+	 */
+	JsonLinesReader sampleSize(int records);
+
+	/**
+	 * Returns the ids of the columns read, inferring them from the file if no schema has been given.
+	 * 
+	 * @return the ids of the columns read.
+	 * 
+	 * @throws IOException if the file cannot be read.
+	 * @throws fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException if a sampled record is not a JSON object.
+	 */
+	List<ColumnId<?>> schema() throws IOException;
+
+	/**
+	 * Sets the listener notified of the throughput of the reader once the file has been read.
+	 * 
+	 * @param listener
+	 * 			The listener to notify. Must not be {@code null}.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws NullPointerException if {@code listener} is {@code null}.
+	 */
+	JsonLinesReader reportTo(Consumer<? super Throughput> listener);
+}
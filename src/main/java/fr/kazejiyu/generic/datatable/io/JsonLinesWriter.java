@@ -0,0 +1,65 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io;
+
+import java.util.function.Consumer;
+
+/**
+ * Writes a {@link fr.kazejiyu.generic.datatable.core.Table Table} as JSON Lines. <br>
+ * <br>
+ * Each row is written on its own line as a JSON object which keys are the headers of
+ * the columns. Numbers and booleans are written as such, except for non-finite floating
+ * point numbers that are written as strings; any other element is written as the string
+ * returned by its {@code toString()} method. <br>
+ * <br>
+ * A writer reuses its buffer from one table to another, hence must not be used by
+ * several threads at once.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public interface JsonLinesWriter extends TableWriter {
+
+	/**
+	 * Specifies that the {@code null} elements must be omitted instead of being written
+	 * as {@code null} members.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 */
+	JsonLinesWriter skipNulls();
+
+	/**
+	 * Sets the size of the buffer used to write the table. Defaults to 64 KiB.
+	 * 
+	 * @param size
+	 * 			The size of the buffer, in bytes.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws IllegalArgumentException if {@code size} &lt; 64
+	 */
+	JsonLinesWriter bufferSize(int size);
+
+	/**
+	 * Sets the listener notified of the throughput of the writer each time a table is written.
+	 * 
+	 * @param listener
+	 * 			The listener to notify. Must not be {@code null}.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws NullPointerException if {@code listener} is {@code null}.
+	 */
+	JsonLinesWriter reportTo(Consumer<? super Throughput> listener);
+}
@@ -0,0 +1,65 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.core.Table;
+
+/**
+ * A read-only {@link Table} which elements are read from a memory-mapped file. <br>
+ * <br>
+ * Opening a mapped table only reads the schema of the file: the elements of a column
+ * are mapped block by block, the first time they are accessed. Hence, the columns that
+ * are never accessed are never loaded. The decoded blocks are kept in a cache which
+ * evicts the cold ones, as set by {@link ColumnarReader#cacheBudget(long)}. <br>
+ * <br>
+ * The table must be closed once it is no longer needed. Accessing its elements afterwards
+ * throws an {@link IllegalStateException}. A table that is not closed keeps its file open
+ * until the table and its columns have been garbage collected.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public interface MappedTable extends Table, Closeable {
+
+	/**
+	 * Returns the ids the rows had when the table has been written. <br>
+	 * <br>
+	 * If the ids have not been written, returns the positions of the rows instead,
+	 * which are the ids of the rows of a new table.
+	 * 
+	 * @return the ids the rows had when the table has been written.
+	 * 
+	 * @see ColumnarWriter#withRowIds()
+	 */
+	Column<Integer> rowIds();
+
+	/**
+	 * Returns the estimated size of the blocks currently held by the cache of the table.
+	 * 
+	 * @return the estimated size of the decoded blocks, in bytes.
+	 */
+	long loadedBytes();
+
+	/**
+	 * Closes the file the elements are read from.
+	 * 
+	 * @throws IOException if the file cannot be closed.
+	 */
+	@Override
+	void close() throws IOException;
+}
@@ -0,0 +1,69 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io;
+
+import java.io.Closeable;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.io.impl.SimpleOffHeapTable;
+
+/**
+ * A read-only {@link Table} which elements are stored outside of the heap. <br>
+ * <br>
+ * Numbers, characters and booleans are stored in direct buffers. Elements of any other
+ * type, such as strings, are replaced by codes which are stored in direct buffers: only
+ * their distinct values are kept on the heap. As a consequence, large tables with
+ * few distinct strings barely use the heap and do not lengthen garbage collections. <br>
+ * <br>
+ * The table must be closed once it is no longer needed, which releases its memory
+ * straight away. Accessing its elements afterwards throws an {@link IllegalStateException}.
+ * Closing the table while it is read by another thread is safe: the memory is released
+ * once the ongoing reads are over.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public interface OffHeapTable extends Table, Closeable {
+
+	/** @return the number of bytes this table stores outside of the heap, 0 once it is closed */
+	long offHeapBytes();
+
+	/**
+	 * Releases the memory holding the elements of the table. <br>
+	 * <br>
+	 * Has no effect if the table is already closed.
+	 */
+	@Override
+	void close();
+
+	/**
+	 * Copies {@code table} outside of the heap.
+	 * 
+	 * @param table
+	 * 			The table to copy. Must not be {@code null}.
+	 * 
+	 * @return a new table holding the content of {@code table}.
+	 * 
+	 * @throws NullPointerException if {@code table} is {@code null}.
+	 * @throws OutOfMemoryError if the memory cannot be allocated.
+	 */
+	static OffHeapTable copyOf(Table table) {
+		return SimpleOffHeapTable.copyOf(table);
+	}
+
+	/** @return the number of bytes all the open off-heap tables store outside of the heap */
+	static long totalOffHeapBytes() {
+		return SimpleOffHeapTable.totalOffHeapBytes();
+	}
+}
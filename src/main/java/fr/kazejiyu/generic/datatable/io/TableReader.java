@@ -0,0 +1,122 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+import fr.kazejiyu.generic.datatable.exceptions.UndistinctHeadersException;
+import fr.kazejiyu.generic.datatable.io.impl.SimpleColumnarReader;
+import fr.kazejiyu.generic.datatable.io.impl.SimpleCsvReader;
+import fr.kazejiyu.generic.datatable.io.impl.SimpleJsonLinesReader;
+
+/**
+ * Reads a {@link Table} from a file.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public interface TableReader {
+
+	/**
+	 * Reads the table.
+	 * 
+	 * @return a new table holding the content of the file.
+	 * 
+	 * @throws IOException if the file cannot be read.
+	 * @throws MalformedRecordException if the content of the file does not match the expected format.
+	 */
+	DataTable read() throws IOException;
+
+	/**
+	 * Starts reading a CSV file. <br>
+	 * <br>
+	 * Each field of the file is parsed according to the type of its column; empty fields
+	 * are read as {@code null}. The following types are supported: {@code String},
+	 * {@code Boolean}, {@code Character}, {@code Byte}, {@code Short}, {@code Integer},
+	 * {@code Long}, {@code Float}, {@code Double}, {@code BigInteger} and {@code BigDecimal}.
+	 * 
+	 * @param path
+	 * 			The path of the file to read. Must not be {@code null}.
+	 * @param schema
+	 * 			The ids of the columns of the file. Must not be {@code null}.
+	 * 
+	 * @return an object making able to configure the reader.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * @throws IllegalArgumentException if {@code schema} is empty or contains a type that cannot be read.
+	 * @throws UndistinctHeadersException if two ids have the same header.
+	 */
+	static CsvReader csv(Path path, ColumnId<?>... schema) {
+		return new SimpleCsvReader(path, schema);
+	}
+
+	/**
+	 * Starts reading a JSON Lines file, holding one JSON object per line. <br>
+	 * <br>
+	 * The values are parsed according to the type of their column, as for CSV files.
+	 * When no schema is given, it is inferred from the first records of the file.
+	 * 
+	 * @param path
+	 * 			The path of the file to read. Must not be {@code null}.
+	 * @param schema
+	 * 			The ids of the columns to read. Must not be {@code null}.
+	 * 			If empty, the schema is inferred from the file.
+	 * 
+	 * @return an object making able to configure the reader.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * @throws IllegalArgumentException if {@code schema} contains a type that cannot be read.
+	 * @throws UndistinctHeadersException if two ids have the same header.
+	 * 
+	 * @see JsonLinesReader
+	 */
+	static JsonLinesReader jsonLines(Path path, ColumnId<?>... schema) {
+		return new SimpleJsonLinesReader(path, schema);
+	}
+
+	/**
+	 * Starts reading a columnar file written by {@link TableWriter#columnar()}.
+	 * 
+	 * @param path
+	 * 			The path of the file to read. Must not be {@code null}.
+	 * 
+	 * @return an object making able to read or to map the file.
+	 * 
+	 * @throws NullPointerException if {@code path} is {@code null}.
+	 */
+	static ColumnarReader columnar(Path path) {
+		return new SimpleColumnarReader(path);
+	}
+
+	/**
+	 * Starts reading a snapshot written by {@link TableWriter#snapshot()}. <br>
+	 * <br>
+	 * The content, the schema and the ids of the rows of the saved table are restored.
+	 * 
+	 * @param path
+	 * 			The path of the snapshot. Must not be {@code null}.
+	 * 
+	 * @return an object making able to read or to map the snapshot.
+	 * 
+	 * @throws NullPointerException if {@code path} is {@code null}.
+	 */
+	static ColumnarReader snapshot(Path path) {
+		return columnar(path);
+	}
+}
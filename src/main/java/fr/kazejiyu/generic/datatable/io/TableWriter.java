@@ -0,0 +1,123 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.io.impl.SimpleColumnarWriter;
+import fr.kazejiyu.generic.datatable.io.impl.SimpleCsvWriter;
+import fr.kazejiyu.generic.datatable.io.impl.SimpleJsonLinesWriter;
+
+/**
+ * Writes a {@link Table} to a file or a channel. <br>
+ * <br>
+ * Any table can be written, including the views returned by queries.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public interface TableWriter {
+
+	/**
+	 * Writes {@code table} to {@code channel}. <br>
+	 * <br>
+	 * The channel is not closed.
+	 * 
+	 * @param table
+	 * 			The table to write. Must not be {@code null}.
+	 * @param channel
+	 * 			The channel to write to. Must not be {@code null}.
+	 * 
+	 * @throws IOException if the table cannot be written.
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 */
+	void write(Table table, WritableByteChannel channel) throws IOException;
+
+	/**
+	 * Writes {@code table} to the file located at {@code path}, replacing its content.
+	 * 
+	 * @param table
+	 * 			The table to write. Must not be {@code null}.
+	 * @param path
+	 * 			The path of the file to write to. Must not be {@code null}.
+	 * 
+	 * @throws IOException if the table cannot be written.
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 */
+	default void write(Table table, Path path) throws IOException {
+		try( FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE) ) {
+			write(table, channel);
+		}
+	}
+
+	/**
+	 * Starts writing comma-separated values.
+	 * 
+	 * @return an object making able to configure the writer.
+	 * 
+	 * @see TableReader#csv(Path, fr.kazejiyu.generic.datatable.core.impl.ColumnId...)
+	 */
+	static CsvWriter csv() {
+		return new SimpleCsvWriter(',');
+	}
+
+	/**
+	 * Starts writing tab-separated values.
+	 * 
+	 * @return an object making able to configure the writer.
+	 */
+	static CsvWriter tsv() {
+		return new SimpleCsvWriter('\t');
+	}
+
+	/**
+	 * Starts writing JSON Lines, one JSON object per row.
+	 * 
+	 * @return an object making able to configure the writer.
+	 * 
+	 * @see TableReader#jsonLines(Path, fr.kazejiyu.generic.datatable.core.impl.ColumnId...)
+	 */
+	static JsonLinesWriter jsonLines() {
+		return new SimpleJsonLinesWriter();
+	}
+
+	/**
+	 * Starts writing a binary columnar file.
+	 * 
+	 * @return an object making able to configure the writer.
+	 * 
+	 * @see TableReader#columnar(Path)
+	 */
+	static ColumnarWriter columnar() {
+		return new SimpleColumnarWriter();
+	}
+
+	/**
+	 * Starts writing a snapshot of a table: a columnar file that also holds the id of each row,
+	 * so that reading it back restores the content, the schema and the ids of the rows of the table.
+	 * 
+	 * @return an object making able to configure the writer.
+	 * 
+	 * @see TableReader#snapshot(Path)
+	 * @see ColumnarWriter#withRowIds()
+	 */
+	static ColumnarWriter snapshot() {
+		return columnar().withRowIds();
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io;
+
+import java.time.Duration;
+
+/**
+ * Measures the amount of data transferred by a reader or a writer, and how fast.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public final class Throughput {
+
+	/** The number of bytes transferred. */
+	private final long bytes;
+
+	/** The number of rows transferred. */
+	private final long rows;
+
+	/** The time spent transferring the data, in nanoseconds. */
+	private final long nanos;
+
+	/**
+	 * Creates a new measure.
+	 * 
+	 * @param bytes
+	 * 			The number of bytes transferred.
+	 * @param rows
+	 * 			The number of rows transferred.
+	 * @param nanos
+	 * 			The time spent transferring the data, in nanoseconds.
+	 */
+	public Throughput(final long bytes, final long rows, final long nanos) {
+		this.bytes = bytes;
+		this.rows = rows;
+		this.nanos = nanos;
+	}
+
+	/** @return the number of bytes transferred */
+	public long bytes() {
+		return bytes;
+	}
+
+	/** @return the number of rows transferred */
+	public long rows() {
+		return rows;
+	}
+
+	/** @return the time spent transferring the data */
+	public Duration elapsed() {
+		return Duration.ofNanos(nanos);
+	}
+
+	/** @return the number of bytes transferred per second */
+	public double bytesPerSecond() {
+		return perSecond(bytes);
+	}
+
+	/** @return the number of rows transferred per second */
+	public double rowsPerSecond() {
+		return perSecond(rows);
+	}
+
+	private double perSecond(long amount) {
+		return nanos == 0 ? 0 : amount * 1e9 / nanos;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%d rows, %d bytes in %d ms (%.1f MB/s, %.0f rows/s)",
+				rows, bytes, nanos / 1_000_000, bytesPerSecond() / (1024 * 1024), rowsPerSecond());
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+import fr.kazejiyu.generic.datatable.io.impl.SimpleWriteAheadLog;
+
+/**
+ * Makes the modifications of a {@link DataTable} durable. <br>
+ * <br>
+ * Each modification made to the table, through its rows, its columns or one of its
+ * rows, is appended to a log. Opening the log again after a crash replays it on the
+ * latest snapshot of the table, recovering all the modifications made durable. <br>
+ * <br>
+ * Modifications are made durable in batches: the log is periodically forced to the disk
+ * in the background, so that a single {@code fsync} covers all the modifications made
+ * in the meantime. {@link #sync()} makes all the previous modifications durable at once. <br>
+ * <br>
+ * The table must only hold columns which types can be written in the columnar format,
+ * and must still be modified by a single thread at a time.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @see ColumnarWriter
+ */
+public interface WriteAheadLog extends Closeable {
+
+	/** @return the table which modifications are logged */
+	DataTable table();
+
+	/**
+	 * Forces all the modifications logged so far to the disk.
+	 * 
+	 * @throws IOException if the log cannot be written.
+	 * @throws IllegalStateException if the log is closed or has failed.
+	 */
+	void sync() throws IOException;
+
+	/**
+	 * Writes a snapshot of the table then starts a new, empty, log. <br>
+	 * <br>
+	 * Keeps the log short, hence the recovery fast.
+	 * 
+	 * @return a reference to the instance to enable method chaining.
+	 * 
+	 * @throws IOException if the snapshot cannot be written.
+	 * @throws IllegalStateException if the log is closed or has failed.
+	 */
+	WriteAheadLog checkpoint() throws IOException;
+
+	/**
+	 * Forces the modifications logged so far to the disk, then stops logging the modifications of the table.
+	 * 
+	 * @throws IOException if the log cannot be written.
+	 */
+	@Override
+	void close() throws IOException;
+
+	/**
+	 * Opens the log stored in {@code directory}, forcing modifications to the disk every 10 milliseconds.
+	 * 
+	 * @param directory
+	 * 			The directory holding the files of the log. Must not be {@code null}.
+	 * 			Created if it does not exist.
+	 * 
+	 * @return the opened log, which {@link #table()} holds the recovered content.
+	 * 
+	 * @throws IOException if the files cannot be read or written.
+	 * @throws NullPointerException if {@code directory} is {@code null}.
+	 * @throws MalformedRecordException if the snapshot or the log is corrupted.
+	 * 
+	 * @see #open(Path, Duration)
+	 */
+	static WriteAheadLog open(Path directory) throws IOException {
+		return open(directory, Duration.ofMillis(10));
+	}
+
+	/**
+	 * Opens the log stored in {@code directory}.
+	 * 
+	 * @param directory
+	 * 			The directory holding the files of the log. Must not be {@code null}.
+	 * 			Created if it does not exist.
+	 * @param syncInterval
+	 * 			The delay between two forces of the log to the disk. Must not be {@code null}.
+	 * 			If zero, each modification is forced to the disk before returning.
+	 * 
+	 * @return the opened log, which {@link #table()} holds the recovered content.
+	 * 
+	 * @throws IOException if the files cannot be read or written.
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * @throws IllegalArgumentException if {@code syncInterval} is negative.
+	 * @throws MalformedRecordException if the snapshot or the log is corrupted.
+	 */
+	static WriteAheadLog open(Path directory, Duration syncInterval) throws IOException {
+		return SimpleWriteAheadLog.open(directory, syncInterval);
+	}
+}
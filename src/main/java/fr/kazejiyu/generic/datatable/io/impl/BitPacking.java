@@ -0,0 +1,128 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Packs unsigned values on a fixed number of bits. <br>
+ * <br>
+ * Values are packed into big-endian {@code long} words, starting from the least
+ * significant bits of each word; a value may span two consecutive words. Any
+ * packed value can be read in constant time.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class BitPacking {
+
+	private BitPacking() {
+		// utility class
+	}
+
+	/** @return the number of bits needed to represent {@code value}, considered as unsigned */
+	static int width(long value) {
+		return 64 - Long.numberOfLeadingZeros(value);
+	}
+
+	/** @return the number of bytes needed to pack {@code count} values on {@code width} bits */
+	static long bytes(int count, int width) {
+		return (((long) count * width + 63) >>> 6) << 3;
+	}
+
+	/**
+	 * Returns the {@code index}th value packed in {@code buffer}.
+	 * 
+	 * @param buffer
+	 * 			The buffer holding the packed values.
+	 * @param base
+	 * 			The position of the first word in {@code buffer}.
+	 * @param index
+	 * 			The index of the value to read.
+	 * @param width
+	 * 			The number of bits of each value.
+	 * 
+	 * @return the {@code index}th value packed in {@code buffer}.
+	 */
+	static long get(ByteBuffer buffer, int base, int index, int width) {
+		if( width == 0 )
+			return 0;
+
+		long position = (long) index * width;
+		int word = (int) (position >>> 6);
+		int shift = (int) (position & 63);
+		long value = buffer.getLong(base + (word << 3)) >>> shift;
+
+		if( shift + width > 64 )
+			value |= buffer.getLong(base + ((word + 1) << 3)) << (64 - shift);
+
+		return width == 64 ? value : value & ((1L << width) - 1);
+	}
+
+	/** Writes packed values to an output. */
+	static final class Packer {
+
+		private final ChannelOutput output;
+
+		/** The number of bits of each value. */
+		private final int width;
+
+		/** The word being filled. */
+		private long word;
+
+		/** The number of bits of {@link #word} already used. */
+		private int used;
+
+		/**
+		 * Creates a new packer.
+		 * 
+		 * @param output
+		 * 			Where to write the words.
+		 * @param width
+		 * 			The number of bits of each value, between 0 and 64.
+		 */
+		Packer(ChannelOutput output, int width) {
+			this.output = output;
+			this.width = width;
+		}
+
+		/** Packs {@code value}, which must fit in {@code width} bits. */
+		void add(long value) throws IOException {
+			if( width == 0 )
+				return;
+
+			word |= value << used;
+
+			if( used + width < 64 ) {
+				used += width;
+				return;
+			}
+			output.putLong(word);
+
+			int written = 64 - used;
+			word = written == 64 ? 0 : value >>> written;
+			used = used + width - 64;
+		}
+
+		/** Writes the last word, if partially filled. */
+		void finish() throws IOException {
+			if( used > 0 )
+				output.putLong(word);
+
+			word = 0;
+			used = 0;
+		}
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+
+/**
+ * Writes each boolean on a single bit. <br>
+ * <br>
+ * The payload is made of big-endian {@code long} words: the bit {@code i} is set
+ * if the {@code i}th value is {@code true}.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class BitSetEncoding implements BlockEncoding {
+
+	static final byte ID = 5;
+
+	@Override
+	public byte id() {
+		return ID;
+	}
+
+	@Override
+	public boolean supports(ValueType type) {
+		return type == ValueType.BOOLEAN;
+	}
+
+	@Override
+	public long sizeOf(BlockValues values) {
+		return BitPacking.bytes(values.size, 1);
+	}
+
+	@Override
+	public void encode(BlockValues values, ChannelOutput output) throws IOException {
+		BitPacking.Packer packer = new BitPacking.Packer(output, 1);
+
+		for( int i = 0 ; i < values.size ; ++i )
+			packer.add(values.bits[i]);
+
+		packer.finish();
+	}
+
+	@Override
+	public Block decode(ValueType type, ByteBuffer payload, int size) {
+		if( payload.limit() < BitPacking.bytes(size, 1) )
+			throw new MalformedRecordException("The block should hold " + size + " booleans");
+
+		return index -> BitPacking.get(payload, 0, index, 1) != 0;
+	}
+}
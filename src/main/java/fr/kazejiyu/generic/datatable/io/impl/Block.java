@@ -0,0 +1,37 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+/**
+ * The decoded elements of a block of a columnar file. <br>
+ * <br>
+ * A block holds a fixed number of consecutive elements of a column, so that
+ * a column can be read one block after another.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@FunctionalInterface
+interface Block {
+
+	/**
+	 * Returns the element at {@code index} in the block.
+	 * 
+	 * @param index
+	 * 			The index of an element of the block.
+	 * 
+	 * @return the element at {@code index} in the block.
+	 */
+	Object get(int index);
+}
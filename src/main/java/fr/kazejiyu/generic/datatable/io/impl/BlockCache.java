@@ -0,0 +1,113 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Keeps the blocks decoded by the columns of a mapped table. <br>
+ * <br>
+ * The cold blocks are evicted either once the estimated size of all the blocks
+ * exceeds a budget, in least recently used order, or when the heap runs short
+ * if no budget is set. An evicted block is mapped and decoded again the next
+ * time one of its elements is accessed.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class BlockCache {
+
+	/** The estimated number of bytes taken by each decoded value, on top of the bytes of the block. */
+	static final int BYTES_PER_VALUE = 16;
+
+	/** The decoded blocks, identified by the index of their column and their own index. */
+	private final Cache<Long, Entry> blocks;
+
+	/**
+	 * Creates a new cache.
+	 * 
+	 * @param budget
+	 * 			The number of bytes the blocks may take, {@link Long#MAX_VALUE} to
+	 * 			only evict blocks when the heap runs short.
+	 */
+	BlockCache(long budget) {
+		if( budget == Long.MAX_VALUE ) {
+			this.blocks = CacheBuilder.newBuilder()
+					.softValues()
+					.build();
+		}
+		else {
+			this.blocks = CacheBuilder.newBuilder()
+					.maximumWeight(budget)
+					.weigher((Long key, Entry entry) -> entry.weight)
+					.build();
+		}
+	}
+
+	/**
+	 * Returns a block, decoding it if it is not in the cache.
+	 * 
+	 * @param column
+	 * 			The index of the column of the block.
+	 * @param index
+	 * 			The index of the block in its column.
+	 * @param weight
+	 * 			The estimated size of the decoded block, in bytes.
+	 * @param decoder
+	 * 			Decodes the block.
+	 * 
+	 * @return the block.
+	 */
+	Block get(int column, int index, int weight, Supplier<Block> decoder) {
+		Long key = ((long) column << 32) | index;
+		Entry entry = blocks.getIfPresent(key);
+
+		if( entry == null ) {
+			entry = new Entry(decoder.get(), weight);
+			blocks.put(key, entry);
+		}
+		return entry.block;
+	}
+
+	/** @return the estimated size of the blocks in the cache, in bytes */
+	long size() {
+		long size = 0;
+
+		for( Entry entry : blocks.asMap().values() )
+			size += entry.weight;
+
+		return size;
+	}
+
+	/** Removes all the blocks from the cache. */
+	void clear() {
+		blocks.invalidateAll();
+	}
+
+	/** A decoded block along with its estimated size. */
+	private static final class Entry {
+
+		final Block block;
+
+		final int weight;
+
+		Entry(Block block, int weight) {
+			this.block = block;
+			this.weight = weight;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+
+/**
+ * Encodes the elements of a block of a columnar file. <br>
+ * <br>
+ * An encoding only deals with the values of the elements: {@code null} elements
+ * are identified by the bitmap preceding the encoded values in the block, and
+ * their value is meaningless. <br>
+ * <br>
+ * Decoding a block never requires decoding another one, so that a column can be
+ * processed one block after the other.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+interface BlockEncoding {
+
+	/** @return the byte identifying the encoding in a file */
+	byte id();
+
+	/** @return whether the encoding can encode values of type {@code type} */
+	boolean supports(ValueType type);
+
+	/**
+	 * Returns the number of bytes needed to encode {@code values}.
+	 * 
+	 * @param values
+	 * 			The values to encode.
+	 * 
+	 * @return the number of bytes needed to encode {@code values}.
+	 */
+	long sizeOf(BlockValues values);
+
+	/**
+	 * Writes the values of a block.
+	 * 
+	 * @param values
+	 * 			The values to write.
+	 * @param output
+	 * 			Where to write the values.
+	 * 
+	 * @throws IOException if the values cannot be written.
+	 */
+	void encode(BlockValues values, ChannelOutput output) throws IOException;
+
+	/**
+	 * Decodes the values of a block.
+	 * 
+	 * @param type
+	 * 			The type of the values.
+	 * @param payload
+	 * 			The encoded values, starting at index 0.
+	 * @param size
+	 * 			The number of values in the block.
+	 * 
+	 * @return the decoded block.
+	 * 
+	 * @throws MalformedRecordException if the payload cannot be decoded.
+	 */
+	Block decode(ValueType type, ByteBuffer payload, int size);
+}
@@ -0,0 +1,156 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.util.Arrays;
+
+/**
+ * The elements of a block being written to a columnar file. <br>
+ * <br>
+ * Elements are stored as bits, or as objects when their type is not represented
+ * by bits, while {@code null} elements are recorded in a bitmap. An instance is
+ * meant to be reused from one block to another.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class BlockValues {
+
+	/** The type of the elements. */
+	final ValueType type;
+
+	/** The bits of the elements, if their type is represented by bits. */
+	final long[] bits;
+
+	/** The elements, if their type is not represented by bits. */
+	final Object[] objects;
+
+	/** The {@code null} elements: the bit {@code i} is set if the {@code i}th element is {@code null}. */
+	final long[] nulls;
+
+	/** The number of elements in the block. */
+	int size;
+
+	/** The number of {@code null} elements in the block. */
+	int nullCount;
+
+	/**
+	 * Creates a new empty block.
+	 * 
+	 * @param type
+	 * 			The type of the elements.
+	 * @param capacity
+	 * 			The largest number of elements in the block.
+	 */
+	BlockValues(ValueType type, int capacity) {
+		this.type = type;
+		this.bits = type.hasBits() ? new long[capacity] : null;
+		this.objects = type.hasBits() ? null : new Object[capacity];
+		this.nulls = new long[NullMask.words(capacity)];
+	}
+
+	/** @return whether the block is full */
+	boolean isFull() {
+		return size == (bits == null ? objects.length : bits.length);
+	}
+
+	/** Appends {@code value}, which may be {@code null}, to the block. */
+	void add(Object value) {
+		if( value == null ) {
+			nulls[size >>> 6] |= 1L << size;
+			++nullCount;
+		}
+
+		if( bits != null )
+			bits[size] = value == null ? 0 : type.toBits(value);
+
+		else
+			objects[size] = value;
+
+		++size;
+	}
+
+	/** @return whether the {@code index}th element is {@code null} */
+	boolean isNull(int index) {
+		return (nulls[index >>> 6] & (1L << index)) != 0;
+	}
+
+	/**
+	 * Gives {@code null} elements the bits of the closest non-null element preceding them,
+	 * or of the first non-null element if there is none. <br>
+	 * <br>
+	 * Since the value of {@code null} elements is meaningless, doing so prevents them
+	 * from breaking runs or widening the range of the values.
+	 */
+	void fillNulls() {
+		if( bits == null || nullCount == 0 || nullCount == size )
+			return;
+
+		int first = 0;
+
+		while( isNull(first) )
+			++first;
+
+		long previous = bits[first];
+
+		for( int i = 0 ; i < size ; ++i ) {
+			if( isNull(i) )
+				bits[i] = previous;
+			else
+				previous = bits[i];
+		}
+	}
+
+	/** @return the smallest bits of the block, considered as signed */
+	long min() {
+		long min = Long.MAX_VALUE;
+
+		for( int i = 0 ; i < size ; ++i )
+			min = Math.min(min, bits[i]);
+
+		return min;
+	}
+
+	/** @return the largest bits of the block, considered as signed */
+	long max() {
+		long max = Long.MIN_VALUE;
+
+		for( int i = 0 ; i < size ; ++i )
+			max = Math.max(max, bits[i]);
+
+		return max;
+	}
+
+	/** @return the number of runs of consecutive equal bits */
+	int runs() {
+		int runs = size == 0 ? 0 : 1;
+
+		for( int i = 1 ; i < size ; ++i )
+			if( bits[i] != bits[i - 1] )
+				++runs;
+
+		return runs;
+	}
+
+	/** Empties the block. */
+	void clear() {
+		Arrays.fill(nulls, 0, NullMask.words(size), 0);
+
+		if( objects != null )
+			Arrays.fill(objects, 0, size, null);
+
+		size = 0;
+		nullCount = 0;
+	}
+}
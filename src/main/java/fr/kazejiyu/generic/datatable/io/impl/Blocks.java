@@ -0,0 +1,195 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+
+/**
+ * Writes and reads the blocks of a columnar file. <br>
+ * <br>
+ * A block starts with the identifier of its encoding, the number of its elements
+ * and the number of its {@code null} elements. The bitmap of the {@code null}
+ * elements follows, only if there is any, then the values encoded. <br>
+ * <br>
+ * Each block is written with the encoding that makes it the smallest among the ones
+ * supporting the type of its elements, the plain encoding winning ties since it is
+ * the cheapest to decode.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class Blocks {
+
+	/** The size of the header of a block, in bytes. */
+	private static final int HEADER_SIZE = 9;
+
+	/** The encodings that can be read, indexed by identifier. */
+	private static final BlockEncoding[] ENCODINGS = {
+		new PlainEncoding(),
+		new DictionaryEncoding(),
+		new RunLengthEncoding(),
+		new DeltaEncoding(),
+		new FrameOfReferenceEncoding(),
+		new BitSetEncoding()
+	};
+
+	/** The encodings supporting each type. */
+	private static final Map<ValueType, List<BlockEncoding>> CANDIDATES = new EnumMap<>(ValueType.class);
+
+	static {
+		for( ValueType type : ValueType.values() ) {
+			List<BlockEncoding> candidates = new ArrayList<>();
+
+			for( BlockEncoding encoding : ENCODINGS )
+				if( encoding.supports(type) )
+					candidates.add(encoding);
+
+			CANDIDATES.put(type, candidates);
+		}
+	}
+
+	private Blocks() {
+		// utility class
+	}
+
+	/**
+	 * Writes a block.
+	 * 
+	 * @param values
+	 * 			The elements of the block.
+	 * @param output
+	 * 			Where to write the block.
+	 * 
+	 * @throws IOException if the block cannot be written.
+	 */
+	static void write(BlockValues values, ChannelOutput output) throws IOException {
+		values.fillNulls();
+		BlockEncoding encoding = smallestEncodingOf(values);
+
+		output.writeByte(encoding.id());
+		output.putInt(values.size);
+		output.putInt(values.nullCount);
+
+		if( values.nullCount > 0 )
+			NullMask.write(values, output);
+
+		encoding.encode(values, output);
+	}
+
+	/** @return the encoding that makes {@code values} the smallest */
+	private static BlockEncoding smallestEncodingOf(BlockValues values) {
+		List<BlockEncoding> candidates = CANDIDATES.get(values.type);
+
+		if( candidates.size() == 1 )
+			return candidates.get(0);
+
+		BlockEncoding smallest = null;
+		long smallestSize = Long.MAX_VALUE;
+
+		for( BlockEncoding candidate : candidates ) {
+			long size = candidate.sizeOf(values);
+
+			if( size < smallestSize ) {
+				smallest = candidate;
+				smallestSize = size;
+			}
+		}
+		return smallest;
+	}
+
+	/**
+	 * Reads a block.
+	 * 
+	 * @param type
+	 * 			The type of the elements of the block.
+	 * @param block
+	 * 			The bytes of the block, starting at index 0.
+	 * @param size
+	 * 			The expected number of elements in the block.
+	 * 
+	 * @return the decoded block.
+	 * 
+	 * @throws MalformedRecordException if the block cannot be decoded.
+	 */
+	static Block read(ValueType type, ByteBuffer block, int size) {
+		if( block.limit() < HEADER_SIZE )
+			throw new MalformedRecordException("A block must hold at least " + HEADER_SIZE + " bytes");
+
+		BlockEncoding encoding = encodingOf(block.get(0));
+		int offset = HEADER_SIZE;
+
+		if( block.getInt(1) != size )
+			throw new MalformedRecordException("The block should hold " + size + " elements (got: " + block.getInt(1) + ")");
+
+		if( ! encoding.supports(type) )
+			throw new MalformedRecordException("Values of type " + type + " cannot be encoded with the encoding " + encoding.id());
+
+		NullMask nulls = null;
+
+		if( block.getInt(5) > 0 ) {
+			int length = NullMask.words(size) << 3;
+			nulls = new NullMask(slice(block, offset, length));
+			offset += length;
+		}
+		Block values = encoding.decode(type, slice(block, offset, block.limit() - offset), size);
+
+		if( nulls == null )
+			return values;
+
+		NullMask mask = nulls;
+		return index -> mask.isNull(index) ? null : values.get(index);
+	}
+
+	/** @return the encoding identified by {@code id} */
+	private static BlockEncoding encodingOf(byte id) {
+		if( id < 0 || ENCODINGS.length <= id )
+			throw new MalformedRecordException("Unknown block encoding: " + id);
+
+		return ENCODINGS[id];
+	}
+
+	/** @return a buffer sharing the {@code length} bytes of {@code buffer} that start at {@code offset} */
+	static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+		if( offset < 0 || length < 0 || buffer.limit() - offset < length )
+			throw new MalformedRecordException("Expected " + length + " bytes at offset " + offset + " of a buffer of " + buffer.limit() + " bytes");
+
+		ByteBuffer slice = buffer.duplicate();
+		slice.limit(offset + length);
+		slice.position(offset);
+		return slice.slice();
+	}
+
+	/** @return the {@code int} at {@code index} in {@code buffer} */
+	static int getInt(ByteBuffer buffer, int index) {
+		if( index < 0 || buffer.limit() - index < 4 )
+			throw new MalformedRecordException("Expected an int at offset " + index + " of a buffer of " + buffer.limit() + " bytes");
+
+		return buffer.getInt(index);
+	}
+
+	/** @return the string encoded in UTF-8 by the {@code length} bytes of {@code buffer} that start at {@code offset} */
+	static String getUtf8(ByteBuffer buffer, int offset, int length) {
+		byte[] bytes = new byte[length];
+		slice(buffer, offset, length).get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,255 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Formats values into a reusable {@link ByteBuffer} flushed to a channel. <br>
+ * <br>
+ * Values are either formatted as text, by the {@code write*} methods, or in binary,
+ * big-endian, by the {@code put*} methods. Strings are encoded in UTF-8 and integral
+ * numbers are formatted digit by digit, so that no intermediate {@code String} nor
+ * byte array is created.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class ChannelOutput {
+
+	/** The largest number of bytes needed to encode a {@code long} or a code point. */
+	private static final int MAX_TOKEN_SIZE = 20;
+
+	/** Holds the bytes not flushed yet. */
+	private final ByteBuffer buffer;
+
+	/** Holds the digits of the number being formatted, in reverse order. */
+	private final byte[] digits = new byte[MAX_TOKEN_SIZE];
+
+	/** The channel the bytes are flushed to. */
+	private WritableByteChannel channel;
+
+	/** The number of bytes flushed since the output has been opened. */
+	private long flushed;
+
+	/**
+	 * Creates a new output.
+	 * 
+	 * @param capacity
+	 * 			The size of the buffer, in bytes.
+	 * 
+	 * @throws IllegalArgumentException if {@code capacity} &lt; 64
+	 */
+	ChannelOutput(int capacity) {
+		if( capacity < 64 )
+			throw new IllegalArgumentException("The buffer must hold at least 64 bytes (got: " + capacity + ")");
+
+		this.buffer = ByteBuffer.allocate(capacity);
+	}
+
+	/**
+	 * Starts writing to {@code channel}.
+	 * 
+	 * @param channel
+	 * 			The channel the bytes are flushed to.
+	 */
+	void open(WritableByteChannel channel) {
+		this.channel = channel;
+		this.flushed = 0;
+		this.buffer.clear();
+	}
+
+	/** @return the number of bytes written since the output has been opened */
+	long written() {
+		return flushed + buffer.position();
+	}
+
+	/** Writes the bytes of the buffer to the channel. */
+	void flush() throws IOException {
+		buffer.flip();
+
+		while( buffer.hasRemaining() )
+			flushed += channel.write(buffer);
+
+		buffer.clear();
+	}
+
+	/** Flushes the buffer if it cannot hold {@code size} more bytes. */
+	private void reserve(int size) throws IOException {
+		if( buffer.remaining() < size )
+			flush();
+	}
+
+	/** Writes a single byte. */
+	void writeByte(int b) throws IOException {
+		reserve(1);
+		buffer.put((byte) b);
+	}
+
+	/** Writes the two bytes of {@code value}. */
+	void putShort(short value) throws IOException {
+		reserve(2);
+		buffer.putShort(value);
+	}
+
+	/** Writes the four bytes of {@code value}. */
+	void putInt(int value) throws IOException {
+		reserve(4);
+		buffer.putInt(value);
+	}
+
+	/** Writes the eight bytes of {@code value}. */
+	void putLong(long value) throws IOException {
+		reserve(8);
+		buffer.putLong(value);
+	}
+
+	/** Writes the bytes of {@code bytes} located between {@code from}, inclusive, and {@code to}, exclusive. */
+	void put(byte[] bytes, int from, int to) throws IOException {
+		while( from < to ) {
+			reserve(1);
+			int length = Math.min(to - from, buffer.remaining());
+			buffer.put(bytes, from, length);
+			from += length;
+		}
+	}
+
+	/** Writes {@code ascii}, which must only contain ASCII characters. */
+	void writeAscii(String ascii) throws IOException {
+		for( int i = 0 ; i < ascii.length() ; ++i )
+			writeByte(ascii.charAt(i));
+	}
+
+	/** Writes the decimal representation of {@code value}. */
+	void writeLong(long value) throws IOException {
+		reserve(MAX_TOKEN_SIZE);
+
+		if( value == Long.MIN_VALUE ) {
+			writeAscii("-9223372036854775808");
+			return;
+		}
+		if( value < 0 ) {
+			buffer.put((byte) '-');
+			value = -value;
+		}
+		int count = 0;
+
+		do {
+			digits[count++] = (byte) ('0' + value % 10);
+			value /= 10;
+		}
+		while( value != 0 );
+
+		while( count > 0 )
+			buffer.put(digits[--count]);
+	}
+
+	/**
+	 * Writes the representation of {@code value} given by {@link Double#toString(double)}. <br>
+	 * <br>
+	 * Integral values lower than 10<sup>7</sup> are formatted without creating a {@code String}.
+	 */
+	void writeDouble(double value) throws IOException {
+		if( value == (long) value && Math.abs(value) < 1e7 && (value != 0 || 1 / value > 0) ) {
+			writeLong((long) value);
+			writeAscii(".0");
+		}
+		else
+			writeAscii(Double.toString(value));
+	}
+
+	/**
+	 * Writes the representation of {@code value} given by {@link Float#toString(float)}. <br>
+	 * <br>
+	 * Integral values lower than 10<sup>7</sup> are formatted without creating a {@code String}.
+	 */
+	void writeFloat(float value) throws IOException {
+		if( value == (long) value && Math.abs(value) < 1e7 && (value != 0 || 1 / value > 0) ) {
+			writeLong((long) value);
+			writeAscii(".0");
+		}
+		else
+			writeAscii(Float.toString(value));
+	}
+
+	/** Writes {@code text} encoded in UTF-8. */
+	void writeUtf8(CharSequence text) throws IOException {
+		writeUtf8(text, 0, text.length());
+	}
+
+	/** Writes {@code text[from, to[} encoded in UTF-8. */
+	void writeUtf8(CharSequence text, int from, int to) throws IOException {
+		for( int i = from ; i < to ; ++i ) {
+			char c = text.charAt(i);
+
+			if( c < 0x80 )
+				writeByte(c);
+
+			else if( Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(text.charAt(i + 1)) )
+				writeCodePoint(Character.toCodePoint(c, text.charAt(++i)));
+
+			else
+				writeCodePoint(Character.isSurrogate(c) ? '?' : c);
+		}
+	}
+
+	/** @return the number of bytes needed to encode {@code text} in UTF-8 */
+	static int utf8Length(CharSequence text) {
+		int length = 0;
+
+		for( int i = 0 ; i < text.length() ; ++i ) {
+			char c = text.charAt(i);
+
+			if( c < 0x80 )
+				length += 1;
+
+			else if( c < 0x800 )
+				length += 2;
+
+			else if( Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1)) ) {
+				length += 4;
+				++i;
+			}
+			else
+				length += Character.isSurrogate(c) ? 1 : 3;
+		}
+		return length;
+	}
+
+	/** Writes {@code codePoint} encoded in UTF-8. */
+	private void writeCodePoint(int codePoint) throws IOException {
+		reserve(4);
+
+		if( codePoint < 0x80 )
+			buffer.put((byte) codePoint);
+
+		else if( codePoint < 0x800 ) {
+			buffer.put((byte) (0xC0 | codePoint >> 6));
+			buffer.put((byte) (0x80 | codePoint & 0x3F));
+		}
+		else if( codePoint < 0x10000 ) {
+			buffer.put((byte) (0xE0 | codePoint >> 12));
+			buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+			buffer.put((byte) (0x80 | codePoint & 0x3F));
+		}
+		else {
+			buffer.put((byte) (0xF0 | codePoint >> 18));
+			buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+			buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+			buffer.put((byte) (0x80 | codePoint & 0x3F));
+		}
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+import fr.kazejiyu.generic.datatable.util.PrimitiveArrays;
+
+/**
+ * Parses the records of a part of a CSV file into typed arrays, one per column. <br>
+ * <br>
+ * The split owns the records starting in [start, end[ and reads the file through its
+ * own buffer, using positional reads so that several splits can share the same channel.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class CsvSplit implements Callable<CsvSplit> {
+
+	/** The initial size of the buffer. */
+	static final int BUFFER_SIZE = 1 << 20;
+
+	/** The file to read. */
+	private final FileChannel channel;
+
+	/** The position of the first byte of the split. */
+	private final long start;
+
+	/** The position following the last byte of the split. */
+	private final long end;
+
+	/** Splits the records into fields. */
+	private final CsvTokenizer tokenizer;
+
+	/** The number of fields expected in each record. */
+	private final int fields;
+
+	/** The column of each field, -1 if the field is ignored. */
+	private final int[] targets;
+
+	/** The headers of the columns. */
+	private final String[] headers;
+
+	/** The parser of each column. */
+	private final FieldParser[] parsers;
+
+	/** The values of each column. */
+	private final Object[][] columns;
+
+	/** The number of records parsed. */
+	private int rows;
+
+	/**
+	 * Creates a new split.
+	 * 
+	 * @param channel
+	 * 			The file to read.
+	 * @param start
+	 * 			The position of the first byte of the split; must be the start of a record.
+	 * @param end
+	 * 			The position following the last byte of the split; must be the start of a record or the end of the file.
+	 * @param delimiter
+	 * 			The character separating the fields.
+	 * @param fields
+	 * 			The number of fields expected in each record.
+	 * @param targets
+	 * 			The column of each field, -1 if the field is ignored.
+	 * @param headers
+	 * 			The headers of the columns.
+	 * @param parsers
+	 * 			The parser of each column.
+	 */
+	CsvSplit(FileChannel channel, long start, long end, byte delimiter, int fields, int[] targets, String[] headers, FieldParser[] parsers) {
+		this.channel = channel;
+		this.start = start;
+		this.end = end;
+		this.tokenizer = new CsvTokenizer(delimiter);
+		this.fields = fields;
+		this.targets = targets;
+		this.headers = headers;
+		this.parsers = parsers;
+		this.columns = new Object[parsers.length][];
+
+		for( int i = 0 ; i < columns.length ; ++i )
+			columns[i] = new Object[16];
+	}
+
+	/** @return the number of records parsed */
+	int rows() {
+		return rows;
+	}
+
+	/** @return the values of {@code column}; only the first {@link #rows()} values are meaningful */
+	Object[] column(int column) {
+		return columns[column];
+	}
+
+	/**
+	 * Parses the records of the split.
+	 * 
+	 * @return a reference to the instance.
+	 * 
+	 * @throws IOException if the file cannot be read.
+	 * @throws MalformedRecordException if a record does not match the schema.
+	 */
+	@Override
+	public CsvSplit call() throws IOException {
+		byte[] buffer = new byte[(int) Math.min(BUFFER_SIZE, Math.max(16, end - start))];
+		long position = start;
+		int length = 0;
+		int from = 0;
+
+		while( true ) {
+			int recordEnd = CsvTokenizer.recordEnd(buffer, from, length);
+
+			if( recordEnd >= 0 ) {
+				parseRecord(buffer, from, recordEnd, position - length + from);
+				from = recordEnd + 1;
+				continue;
+			}
+			if( position >= end ) {
+				if( from < length )
+					parseRecord(buffer, from, length, position - length + from);
+
+				return this;
+			}
+			// moves the incomplete record at the beginning of the buffer, then reads the following bytes
+			System.arraycopy(buffer, from, buffer, 0, length - from);
+			length -= from;
+			from = 0;
+
+			if( length == buffer.length )
+				buffer = Arrays.copyOf(buffer, buffer.length << 1);
+
+			int read = channel.read(ByteBuffer.wrap(buffer, length, (int) Math.min(buffer.length - length, end - position)), position);
+
+			if( read < 0 )
+				throw new IOException("Unexpected end of file at byte " + position);
+
+			position += read;
+			length += read;
+		}
+	}
+
+	/** Parses the record held by {@code bytes[from, to[}, located at {@code offset} in the file. */
+	private void parseRecord(byte[] bytes, int from, int to, long offset) {
+		if( to == from || (to == from + 1 && bytes[from] == '\r') )
+			return;
+
+		try {
+			int count = tokenizer.tokenize(bytes, from, to);
+
+			if( count != fields )
+				throw new IllegalArgumentException("Expected " + fields + " fields, got " + count);
+		}
+		catch( IllegalArgumentException e ) {
+			throw new MalformedRecordException("Malformed record at byte " + offset + ": " + e.getMessage(), e);
+		}
+		for( int column = 0 ; column < columns.length ; ++column )
+			columns[column] = PrimitiveArrays.grow(columns[column], rows + 1);
+
+		for( int field = 0 ; field < fields ; ++field ) {
+			int column = targets[field];
+
+			if( column < 0 || tokenizer.isNull(field) )
+				continue;
+
+			try {
+				columns[column][rows] = parsers[column].parse(bytes, tokenizer.start(field), tokenizer.end(field));
+			}
+			catch( IllegalArgumentException e ) {
+				throw new MalformedRecordException("Malformed record at byte " + offset + ": "
+						+ "cannot read the column " + headers[column] + " (" + e.getMessage() + ")", e);
+			}
+		}
+		++rows;
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import fr.kazejiyu.generic.datatable.util.PrimitiveArrays;
+
+/**
+ * Splits CSV records into fields. <br>
+ * <br>
+ * The bounds of the fields are stored in reusable arrays so that tokenizing a record
+ * does not allocate anything. Quoted fields are unescaped in place.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class CsvTokenizer {
+
+	private static final byte QUOTE = '"';
+
+	/** The character separating the fields. */
+	private final byte delimiter;
+
+	/** The index of the first byte of each field. */
+	private int[] starts = new int[16];
+
+	/** The index following the last byte of each field. */
+	private int[] ends = new int[16];
+
+	/** Whether each field is quoted. */
+	private boolean[] quoted = new boolean[16];
+
+	/** The number of fields of the last record tokenized. */
+	private int count;
+
+	/**
+	 * Creates a new tokenizer.
+	 * 
+	 * @param delimiter
+	 * 			The character separating the fields.
+	 */
+	CsvTokenizer(final byte delimiter) {
+		this.delimiter = delimiter;
+	}
+
+	/**
+	 * Returns the end of the record starting at {@code from}.
+	 * 
+	 * @param bytes
+	 * 			The bytes holding the record.
+	 * @param from
+	 * 			The index of the first byte of the record.
+	 * @param to
+	 * 			The index following the last byte available.
+	 * 
+	 * @return the index of the line break ending the record, -1 if it is not in {@code bytes[from, to[}.
+	 */
+	static int recordEnd(final byte[] bytes, final int from, final int to) {
+		boolean inQuotes = false;
+
+		for( int i = from ; i < to ; ++i ) {
+			if( bytes[i] == QUOTE )
+				inQuotes = ! inQuotes;
+
+			else if( bytes[i] == '\n' && ! inQuotes )
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Splits the record held by {@code bytes[from, to[} into fields. <br>
+	 * <br>
+	 * A trailing carriage return is ignored.
+	 * 
+	 * @param bytes
+	 * 			The bytes holding the record. Escaped quotes are replaced in place.
+	 * @param from
+	 * 			The index of the first byte of the record.
+	 * @param to
+	 * 			The index following the last byte of the record, line break excluded.
+	 * 
+	 * @return the number of fields of the record.
+	 * 
+	 * @throws IllegalArgumentException if a quoted field is not properly terminated.
+	 */
+	int tokenize(final byte[] bytes, final int from, int to) {
+		if( to > from && bytes[to - 1] == '\r' )
+			--to;
+
+		count = 0;
+		int i = from;
+
+		while( true ) {
+			ensureCapacity(count + 1);
+
+			if( i < to && bytes[i] == QUOTE )
+				i = quotedField(bytes, i, to);
+
+			else {
+				int end = i;
+
+				while( end < to && bytes[end] != delimiter )
+					++end;
+
+				starts[count] = i;
+				ends[count] = end;
+				quoted[count] = false;
+				i = end;
+			}
+			++count;
+
+			if( i >= to )
+				return count;
+
+			++i; // skips the delimiter
+		}
+	}
+
+	/** @return the index following the quoted field starting at {@code from} */
+	private int quotedField(final byte[] bytes, final int from, final int to) {
+		int read = from + 1;
+		int written = from + 1;
+
+		while( true ) {
+			if( read >= to )
+				throw new IllegalArgumentException("Unterminated quoted field");
+
+			if( bytes[read] == QUOTE ) {
+				if( read + 1 < to && bytes[read + 1] == QUOTE )
+					++read;
+				else
+					break;
+			}
+			bytes[written++] = bytes[read++];
+		}
+		if( read + 1 < to && bytes[read + 1] != delimiter )
+			throw new IllegalArgumentException("Unexpected character after a quoted field");
+
+		starts[count] = from + 1;
+		ends[count] = written;
+		quoted[count] = true;
+		return read + 1;
+	}
+
+	private void ensureCapacity(int capacity) {
+		starts = PrimitiveArrays.grow(starts, capacity);
+		ends = PrimitiveArrays.grow(ends, capacity);
+
+		if( quoted.length < capacity ) {
+			boolean[] grown = new boolean[starts.length];
+			System.arraycopy(quoted, 0, grown, 0, quoted.length);
+			quoted = grown;
+		}
+	}
+
+	/** @return the number of fields of the last record tokenized */
+	int count() {
+		return count;
+	}
+
+	/** @return the index of the first byte of {@code field} */
+	int start(int field) {
+		return starts[field];
+	}
+
+	/** @return the index following the last byte of {@code field} */
+	int end(int field) {
+		return ends[field];
+	}
+
+	/** @return whether {@code field} is empty and unquoted, hence stands for {@code null} */
+	boolean isNull(int field) {
+		return starts[field] == ends[field] && ! quoted[field];
+	}
+
+	/** @return the fields of the last record tokenized, decoded as strings */
+	List<String> fields(final byte[] bytes) {
+		List<String> fields = new ArrayList<>(count);
+
+		for( int i = 0 ; i < count ; ++i )
+			fields.add(new String(bytes, starts[i], ends[i] - starts[i], UTF_8));
+
+		return fields;
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+
+/**
+ * Writes the difference between each value and the previous one, bit-packed on
+ * as few bits as possible. <br>
+ * <br>
+ * The payload starts with the first value and the number of bits of a difference,
+ * followed by the packed differences. Differences are zigzag-encoded so that small
+ * negative differences need few bits too. Suits sorted integral values, such as
+ * identifiers or timestamps. <br>
+ * <br>
+ * Since a value depends on all the previous ones, the whole block is decoded at once.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class DeltaEncoding implements BlockEncoding {
+
+	static final byte ID = 3;
+
+	@Override
+	public byte id() {
+		return ID;
+	}
+
+	@Override
+	public boolean supports(ValueType type) {
+		return type.isIntegral();
+	}
+
+	@Override
+	public long sizeOf(BlockValues values) {
+		return 9 + BitPacking.bytes(values.size - 1, width(values));
+	}
+
+	/** @return the number of bits needed to write the differences between the values */
+	private static int width(BlockValues values) {
+		long bits = 0;
+
+		for( int i = 1 ; i < values.size ; ++i )
+			bits |= zigzag(values.bits[i] - values.bits[i - 1]);
+
+		return BitPacking.width(bits);
+	}
+
+	private static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unzigzag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	@Override
+	public void encode(BlockValues values, ChannelOutput output) throws IOException {
+		int width = width(values);
+		BitPacking.Packer packer = new BitPacking.Packer(output, width);
+
+		output.putLong(values.bits[0]);
+		output.writeByte(width);
+
+		for( int i = 1 ; i < values.size ; ++i )
+			packer.add(zigzag(values.bits[i] - values.bits[i - 1]));
+
+		packer.finish();
+	}
+
+	@Override
+	public Block decode(ValueType type, ByteBuffer payload, int size) {
+		if( payload.limit() < 9 )
+			throw new MalformedRecordException("The block does not hold its first value");
+
+		int width = payload.get(8);
+
+		if( width < 0 || 64 < width || payload.limit() - 9 < BitPacking.bytes(size - 1, width) )
+			throw new MalformedRecordException("The block should hold " + size + " values of " + width + " bits");
+
+		Object[] values = new Object[size];
+		long value = payload.getLong(0);
+
+		for( int i = 0 ; i < size ; ++i ) {
+			if( i > 0 )
+				value += unzigzag(BitPacking.get(payload, 9, i - 1, width));
+
+			values[i] = type.fromBits(value);
+		}
+		return index -> values[index];
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+import fr.kazejiyu.generic.datatable.util.ValueDictionary;
+
+/**
+ * Writes the distinct strings of a block once, followed by the code of each value. <br>
+ * <br>
+ * The payload starts with the number of distinct strings, then each string as its
+ * length followed by its UTF-8 bytes, then the number of bits of a code and the
+ * bit-packed code of each value. Strings are only decoded the first time one of
+ * their occurrences is accessed.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class DictionaryEncoding implements BlockEncoding {
+
+	static final byte ID = 1;
+
+	@Override
+	public byte id() {
+		return ID;
+	}
+
+	@Override
+	public boolean supports(ValueType type) {
+		return type == ValueType.STRING;
+	}
+
+	@Override
+	public long sizeOf(BlockValues values) {
+		ValueDictionary dictionary = new ValueDictionary();
+		long size = 5;
+
+		for( int i = 0 ; i < values.size ; ++i ) {
+			if( values.isNull(i) || dictionary.codeOf(values.objects[i]) != ValueDictionary.NO_CODE )
+				continue;
+
+			dictionary.encode(values.objects[i]);
+			size += 4 + ChannelOutput.utf8Length((String) values.objects[i]);
+		}
+		return size + BitPacking.bytes(values.size, codeWidth(dictionary.size()));
+	}
+
+	/** @return the number of bits needed to write the codes of a dictionary holding {@code count} strings */
+	private static int codeWidth(int count) {
+		return BitPacking.width(Math.max(count - 1, 0));
+	}
+
+	@Override
+	public void encode(BlockValues values, ChannelOutput output) throws IOException {
+		ValueDictionary dictionary = new ValueDictionary();
+		int[] codes = new int[values.size];
+
+		for( int i = 0 ; i < values.size ; ++i )
+			codes[i] = values.isNull(i) ? 0 : dictionary.encode(values.objects[i]);
+
+		output.putInt(dictionary.size());
+
+		for( int code = 0 ; code < dictionary.size() ; ++code ) {
+			String entry = (String) dictionary.decode(code);
+			output.putInt(ChannelOutput.utf8Length(entry));
+			output.writeUtf8(entry);
+		}
+		int width = codeWidth(dictionary.size());
+		BitPacking.Packer packer = new BitPacking.Packer(output, width);
+		output.writeByte(width);
+
+		for( int code : codes )
+			packer.add(code);
+
+		packer.finish();
+	}
+
+	@Override
+	public Block decode(ValueType type, ByteBuffer payload, int size) {
+		return new DictionaryBlock(payload, size);
+	}
+
+	/** A block which strings are decoded lazily. */
+	private static final class DictionaryBlock implements Block {
+
+		/** The payload of the block. */
+		private final ByteBuffer payload;
+
+		/** The position of the first byte of each string. */
+		private final int[] starts;
+
+		/** The number of bytes of each string. */
+		private final int[] lengths;
+
+		/** The strings already decoded. */
+		private final String[] entries;
+
+		/** The position of the first packed code. */
+		private final int codes;
+
+		/** The number of bits of each code. */
+		private final int width;
+
+		DictionaryBlock(ByteBuffer payload, int size) {
+			int count = Blocks.getInt(payload, 0);
+			int position = 4;
+
+			if( count < 0 )
+				throw new MalformedRecordException("A dictionary cannot hold " + count + " strings");
+
+			this.payload = payload;
+			this.starts = new int[count];
+			this.lengths = new int[count];
+			this.entries = new String[count];
+
+			for( int entry = 0 ; entry < count ; ++entry ) {
+				lengths[entry] = Blocks.getInt(payload, position);
+				starts[entry] = position + 4;
+				position = starts[entry] + lengths[entry];
+
+				if( lengths[entry] < 0 || position < 0 || position > payload.limit() )
+					throw new MalformedRecordException("The string " + entry + " of the dictionary exceeds the block");
+			}
+			if( position == payload.limit() )
+				throw new MalformedRecordException("The block does not hold the width of its codes");
+
+			this.width = payload.get(position);
+			this.codes = position + 1;
+
+			if( width < 0 || 32 < width || payload.limit() - codes < BitPacking.bytes(size, width) )
+				throw new MalformedRecordException("The block should hold " + size + " codes of " + width + " bits");
+		}
+
+		@Override
+		public Object get(int index) {
+			int code = (int) BitPacking.get(payload, codes, index, width);
+
+			if( entries.length <= code )
+				throw new MalformedRecordException("There is no string encoded with " + code);
+
+			String entry = entries[code];
+
+			if( entry == null )
+				entries[code] = entry = Blocks.getUtf8(payload, starts[code], lengths[code]);
+
+			return entry;
+		}
+	}
+}
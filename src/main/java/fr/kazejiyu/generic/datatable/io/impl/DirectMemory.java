@@ -0,0 +1,115 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Allocates and frees the direct buffers holding the elements of off-heap tables. <br>
+ * <br>
+ * Keeps track of the number of bytes allocated. The memory of a freed buffer is released
+ * immediately when the JVM makes it possible; otherwise, it is released once the buffer
+ * is garbage collected.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class DirectMemory {
+
+	/** The number of bytes currently allocated. */
+	private static final AtomicLong ALLOCATED = new AtomicLong();
+
+	/** Releases the memory of a direct buffer. */
+	private static final Consumer<ByteBuffer> CLEANER = cleaner();
+
+	private DirectMemory() {
+		// utility class
+	}
+
+	/**
+	 * Allocates a new direct buffer using the native byte order.
+	 * 
+	 * @param bytes
+	 * 			The capacity of the buffer, in bytes.
+	 * 
+	 * @return a new direct buffer.
+	 * 
+	 * @throws OutOfMemoryError if the memory cannot be allocated.
+	 */
+	static ByteBuffer allocate(int bytes) {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+		ALLOCATED.addAndGet(bytes);
+		return buffer;
+	}
+
+	/**
+	 * Frees a buffer returned by {@link #allocate(int)}. <br>
+	 * <br>
+	 * The buffer must neither be accessed nor be freed afterwards.
+	 * 
+	 * @param buffer
+	 * 			The buffer to free.
+	 */
+	static void free(ByteBuffer buffer) {
+		ALLOCATED.addAndGet(- buffer.capacity());
+		CLEANER.accept(buffer);
+	}
+
+	/** @return the number of bytes currently allocated */
+	static long allocated() {
+		return ALLOCATED.get();
+	}
+
+	/** @return a way to release the memory of a direct buffer, relying on the internals of the JVM */
+	private static Consumer<ByteBuffer> cleaner() {
+		try {
+			// Java 9 and later
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+			Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+			theUnsafe.setAccessible(true);
+			Object unsafe = theUnsafe.get(null);
+
+			return buffer -> invokeQuietly(invokeCleaner, unsafe, buffer);
+		}
+		catch( ReflectiveOperationException | RuntimeException e ) {
+			// Java 8
+			return buffer -> {
+				try {
+					Method cleaner = buffer.getClass().getMethod("cleaner");
+					cleaner.setAccessible(true);
+					Object instance = cleaner.invoke(buffer);
+					invokeQuietly(instance.getClass().getMethod("clean"), instance);
+				}
+				catch( ReflectiveOperationException | RuntimeException ignored ) {
+					// the memory is released by the garbage collector
+				}
+			};
+		}
+	}
+
+	private static void invokeQuietly(Method method, Object target, Object... arguments) {
+		try {
+			method.invoke(target, arguments);
+		}
+		catch( ReflectiveOperationException | RuntimeException ignored ) {
+			// the memory is released by the garbage collector
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+/**
+ * Parses the bytes of a field into a value of a given type.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@FunctionalInterface
+interface FieldParser {
+
+	/**
+	 * Parses the field held by {@code bytes[from, to[}.
+	 * 
+	 * @param bytes
+	 * 			The bytes holding the field, encoded in UTF-8.
+	 * @param from
+	 * 			The index of the first byte of the field.
+	 * @param to
+	 * 			The index following the last byte of the field.
+	 * 
+	 * @return the value of the field.
+	 * 
+	 * @throws IllegalArgumentException if the field does not hold a valid value.
+	 */
+	Object parse(byte[] bytes, int from, int to);
+}
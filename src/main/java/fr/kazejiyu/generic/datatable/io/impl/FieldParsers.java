@@ -0,0 +1,258 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Parses fields straight from their bytes. <br>
+ * <br>
+ * Integral numbers are parsed without creating any intermediate {@code String}.
+ * Decimal numbers with at most 15 significant digits and a small exponent are parsed
+ * exactly from their digits; the others are delegated to {@link Double#parseDouble(String)}.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class FieldParsers {
+
+	/** The powers of ten that can be exactly represented by a {@code double}. */
+	private static final double[] POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	/** The maximum number of significant digits for which the fast path is exact. */
+	private static final int MAX_EXACT_DIGITS = 15;
+
+	private FieldParsers() {
+		// utility class
+	}
+
+	/**
+	 * Returns a parser for the values of {@code type}.
+	 * 
+	 * @param type
+	 * 			The type of the values to parse.
+	 * 
+	 * @return a parser for the values of {@code type}.
+	 * 
+	 * @throws IllegalArgumentException if the values of {@code type} cannot be parsed.
+	 */
+	static FieldParser of(final Class<?> type) {
+		if( type == String.class )
+			return FieldParsers::parseString;
+
+		if( type == Integer.class )
+			return (bytes, from, to) -> (int) parseLong(bytes, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+		if( type == Long.class )
+			return (bytes, from, to) -> parseLong(bytes, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+
+		if( type == Short.class )
+			return (bytes, from, to) -> (short) parseLong(bytes, from, to, Short.MIN_VALUE, Short.MAX_VALUE);
+
+		if( type == Byte.class )
+			return (bytes, from, to) -> (byte) parseLong(bytes, from, to, Byte.MIN_VALUE, Byte.MAX_VALUE);
+
+		if( type == Double.class )
+			return FieldParsers::parseDouble;
+
+		if( type == Float.class )
+			return (bytes, from, to) -> Float.parseFloat(trimmed(bytes, from, to));
+
+		if( type == Boolean.class )
+			return FieldParsers::parseBoolean;
+
+		if( type == Character.class )
+			return FieldParsers::parseCharacter;
+
+		if( type == BigInteger.class )
+			return (bytes, from, to) -> new BigInteger(trimmed(bytes, from, to));
+
+		if( type == BigDecimal.class )
+			return (bytes, from, to) -> new BigDecimal(trimmed(bytes, from, to));
+
+		throw new IllegalArgumentException("Cannot parse values of type " + type.getName());
+	}
+
+	private static String parseString(byte[] bytes, int from, int to) {
+		return new String(bytes, from, to - from, UTF_8);
+	}
+
+	/** @return the field, without its leading and trailing spaces */
+	private static String trimmed(byte[] bytes, int from, int to) {
+		return new String(bytes, from, to - from, UTF_8).trim();
+	}
+
+	private static int skipLeadingSpaces(byte[] bytes, int from, int to) {
+		while( from < to && bytes[from] == ' ' )
+			++from;
+
+		return from;
+	}
+
+	private static int skipTrailingSpaces(byte[] bytes, int from, int to) {
+		while( to > from && bytes[to - 1] == ' ' )
+			--to;
+
+		return to;
+	}
+
+	/**
+	 * Parses an integral number in [min, max].
+	 * 
+	 * @throws NumberFormatException if the field is not an integral number in [min, max].
+	 */
+	static long parseLong(byte[] bytes, int from, int to, long min, long max) {
+		int start = skipLeadingSpaces(bytes, from, to);
+		int end = skipTrailingSpaces(bytes, start, to);
+		int i = start;
+
+		boolean negative = i < end && bytes[i] == '-';
+
+		if( i < end && (bytes[i] == '-' || bytes[i] == '+') )
+			++i;
+
+		if( i == end )
+			throw invalidNumber(bytes, from, to);
+
+		// accumulates negatively so that Long.MIN_VALUE can be parsed
+		long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long result = 0;
+
+		for( ; i < end ; ++i ) {
+			int digit = bytes[i] - '0';
+
+			if( digit < 0 || 9 < digit || result < limit / 10 )
+				throw invalidNumber(bytes, from, to);
+
+			result *= 10;
+
+			if( result < limit + digit )
+				throw invalidNumber(bytes, from, to);
+
+			result -= digit;
+		}
+		long value = negative ? result : -result;
+
+		if( value < min || max < value )
+			throw invalidNumber(bytes, from, to);
+
+		return value;
+	}
+
+	/** @throws NumberFormatException if the field is not a decimal number */
+	static double parseDouble(byte[] bytes, int from, int to) {
+		int start = skipLeadingSpaces(bytes, from, to);
+		int end = skipTrailingSpaces(bytes, start, to);
+		int i = start;
+
+		boolean negative = i < end && bytes[i] == '-';
+
+		if( i < end && (bytes[i] == '-' || bytes[i] == '+') )
+			++i;
+
+		long mantissa = 0;
+		int significantDigits = 0;
+		int exponent = 0;
+		int digits = 0;
+
+		for( ; i < end && isDigit(bytes[i]) ; ++i, ++digits ) {
+			if( mantissa != 0 || bytes[i] != '0' )
+				++significantDigits;
+
+			mantissa = mantissa * 10 + (bytes[i] - '0');
+		}
+		if( i < end && bytes[i] == '.' ) {
+			for( ++i ; i < end && isDigit(bytes[i]) ; ++i, ++digits ) {
+				if( mantissa != 0 || bytes[i] != '0' )
+					++significantDigits;
+
+				mantissa = mantissa * 10 + (bytes[i] - '0');
+				--exponent;
+			}
+		}
+		if( i < end && (bytes[i] == 'e' || bytes[i] == 'E') ) {
+			int j = i + 1;
+			boolean negativeExponent = j < end && bytes[j] == '-';
+
+			if( j < end && (bytes[j] == '-' || bytes[j] == '+') )
+				++j;
+
+			int explicitExponent = 0;
+			int exponentDigits = 0;
+
+			for( ; j < end && isDigit(bytes[j]) && exponentDigits < 5 ; ++j, ++exponentDigits )
+				explicitExponent = explicitExponent * 10 + (bytes[j] - '0');
+
+			if( exponentDigits > 0 ) {
+				exponent += negativeExponent ? -explicitExponent : explicitExponent;
+				i = j;
+			}
+		}
+		if( i != end || digits == 0 || significantDigits > MAX_EXACT_DIGITS || Math.abs(exponent) >= POWERS_OF_TEN.length )
+			return Double.parseDouble(trimmed(bytes, from, to));
+
+		double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+		return negative ? -value : value;
+	}
+
+	private static boolean isDigit(byte b) {
+		return '0' <= b && b <= '9';
+	}
+
+	/** @throws IllegalArgumentException if the field is neither true nor false, ignoring case */
+	private static Boolean parseBoolean(byte[] bytes, int from, int to) {
+		int start = skipLeadingSpaces(bytes, from, to);
+		int end = skipTrailingSpaces(bytes, start, to);
+
+		if( matches(bytes, start, end, "true") )
+			return Boolean.TRUE;
+
+		if( matches(bytes, start, end, "false") )
+			return Boolean.FALSE;
+
+		throw new IllegalArgumentException("Not a boolean: " + parseString(bytes, from, to));
+	}
+
+	/** @return whether {@code bytes[from, to[} equals {@code expected}, ignoring case */
+	private static boolean matches(byte[] bytes, int from, int to, String expected) {
+		if( to - from != expected.length() )
+			return false;
+
+		for( int i = 0 ; i < expected.length() ; ++i )
+			if( Character.toLowerCase(bytes[from + i]) != expected.charAt(i) )
+				return false;
+
+		return true;
+	}
+
+	/** @throws IllegalArgumentException if the field is not made of a single character */
+	private static Character parseCharacter(byte[] bytes, int from, int to) {
+		String field = parseString(bytes, from, to);
+
+		if( field.length() != 1 )
+			throw new IllegalArgumentException("Not a single character: " + field);
+
+		return field.charAt(0);
+	}
+
+	private static NumberFormatException invalidNumber(byte[] bytes, int from, int to) {
+		return new NumberFormatException("Not a valid number: " + parseString(bytes, from, to));
+	}
+}
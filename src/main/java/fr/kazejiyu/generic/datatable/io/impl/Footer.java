@@ -0,0 +1,255 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+
+/**
+ * The schema of a columnar file and the location of its blocks. <br>
+ * <br>
+ * A columnar file starts with a magic number and the version of the format, followed
+ * by the blocks of the columns, one column after the other. The footer ends the file:
+ * it holds the number of rows, the number of rows per block, then the header, the type
+ * and the location of the blocks of each column. Since the version 2 of the format, the
+ * footer then tells whether the file holds the ids of the rows, stored as an additional
+ * column. The file ends with the position of the footer and the magic number again. <br>
+ * <br>
+ * Writing the footer last makes able to write a file in a single pass, even to a channel
+ * that is not seekable.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class Footer {
+
+	/** Identifies a columnar file: "DTBL" in ASCII. */
+	static final int MAGIC = 0x4454424C;
+
+	/** The version of the format. */
+	static final int VERSION = 2;
+
+	/** The size of the beginning of the file, in bytes. */
+	static final int PROLOGUE_SIZE = 8;
+
+	/** The size of the end of the file, in bytes. */
+	private static final int EPILOGUE_SIZE = 12;
+
+	/** The number of rows of the table. */
+	final int rows;
+
+	/** The number of rows per block. */
+	final int blockRows;
+
+	/** The layout of each column. */
+	final List<ColumnLayout> columns;
+
+	/** The layout of the ids of the rows, {@code null} if the file does not hold them. */
+	final ColumnLayout ids;
+
+	/**
+	 * Creates a new footer.
+	 * 
+	 * @param rows
+	 * 			The number of rows of the table.
+	 * @param blockRows
+	 * 			The number of rows per block.
+	 * @param columns
+	 * 			The layout of each column.
+	 * @param ids
+	 * 			The layout of the ids of the rows, {@code null} if they are not stored.
+	 */
+	Footer(int rows, int blockRows, List<ColumnLayout> columns, ColumnLayout ids) {
+		this.rows = rows;
+		this.blockRows = blockRows;
+		this.columns = Collections.unmodifiableList(columns);
+		this.ids = ids;
+	}
+
+	/** @return the number of blocks of a column made of {@code rows} rows */
+	static int blocks(int rows, int blockRows) {
+		return (int) ((rows + (long) blockRows - 1) / blockRows);
+	}
+
+	/** The header and the type of a column, and the location of its blocks. */
+	static final class ColumnLayout {
+
+		final String header;
+
+		final ValueType type;
+
+		/** The position of each block in the file. */
+		final long[] offsets;
+
+		/** The size of each block, in bytes. */
+		final int[] lengths;
+
+		ColumnLayout(String header, ValueType type, int blocks) {
+			this.header = header;
+			this.type = type;
+			this.offsets = new long[blocks];
+			this.lengths = new int[blocks];
+		}
+	}
+
+	/** Writes the beginning of a file. */
+	static void writePrologue(ChannelOutput output) throws IOException {
+		output.putInt(MAGIC);
+		output.putInt(VERSION);
+	}
+
+	/** Writes the footer, then the end of the file. */
+	void write(ChannelOutput output) throws IOException {
+		long offset = output.written();
+
+		output.putInt(rows);
+		output.putInt(blockRows);
+		output.putInt(columns.size());
+
+		for( ColumnLayout column : columns )
+			write(column, output);
+
+		output.writeByte(ids == null ? 0 : 1);
+
+		if( ids != null )
+			write(ids, output);
+
+		output.putLong(offset);
+		output.putInt(MAGIC);
+	}
+
+	/** Writes the header, the type and the location of the blocks of {@code column}. */
+	private static void write(ColumnLayout column, ChannelOutput output) throws IOException {
+		output.putInt(ChannelOutput.utf8Length(column.header));
+		output.writeUtf8(column.header);
+		output.writeByte(column.type.code);
+		output.putInt(column.offsets.length);
+
+		for( int block = 0 ; block < column.offsets.length ; ++block ) {
+			output.putLong(column.offsets[block]);
+			output.putInt(column.lengths[block]);
+		}
+	}
+
+	/**
+	 * Reads the footer of a columnar file.
+	 * 
+	 * @param channel
+	 * 			The channel of the file.
+	 * 
+	 * @return the footer of the file.
+	 * 
+	 * @throws IOException if the file cannot be read.
+	 * @throws MalformedRecordException if the file is not a valid columnar file.
+	 */
+	static Footer read(FileChannel channel) throws IOException {
+		long size = channel.size();
+
+		if( size < PROLOGUE_SIZE + EPILOGUE_SIZE )
+			throw new MalformedRecordException("The file is too short to be a columnar file (" + size + " bytes)");
+
+		ByteBuffer prologue = readFully(channel, 0, PROLOGUE_SIZE);
+		ByteBuffer epilogue = readFully(channel, size - EPILOGUE_SIZE, EPILOGUE_SIZE);
+
+		if( prologue.getInt(0) != MAGIC || epilogue.getInt(8) != MAGIC )
+			throw new MalformedRecordException("The file is not a columnar file");
+
+		int version = prologue.getInt(4);
+
+		if( version < 1 || VERSION < version )
+			throw new MalformedRecordException("Unsupported version of the columnar format: " + prologue.getInt(4));
+
+		long offset = epilogue.getLong(0);
+		long length = size - EPILOGUE_SIZE - offset;
+
+		if( offset < PROLOGUE_SIZE || length < 0 || length > Integer.MAX_VALUE )
+			throw new MalformedRecordException("Invalid position of the footer: " + offset);
+
+		try {
+			return read(readFully(channel, offset, (int) length), offset, version);
+		}
+		catch( BufferUnderflowException e ) {
+			throw new MalformedRecordException("The footer of the file is truncated", e);
+		}
+	}
+
+	/** @return the footer held by {@code buffer}, which blocks are expected before {@code end} */
+	private static Footer read(ByteBuffer buffer, long end, int version) {
+		int rows = buffer.getInt();
+		int blockRows = buffer.getInt();
+		int count = buffer.getInt();
+
+		if( rows < 0 || blockRows <= 0 || count < 0 )
+			throw new MalformedRecordException("Invalid footer: " + rows + " rows, " + blockRows + " rows per block, " + count + " columns");
+
+		List<ColumnLayout> columns = new ArrayList<>();
+
+		for( int i = 0 ; i < count ; ++i )
+			columns.add(readColumn(buffer, rows, blockRows, end));
+
+		ColumnLayout ids = null;
+
+		if( version >= 2 && buffer.get() != 0 ) {
+			ids = readColumn(buffer, rows, blockRows, end);
+
+			if( ids.type != ValueType.INTEGER )
+				throw new MalformedRecordException("The ids of the rows must be integers");
+		}
+		return new Footer(rows, blockRows, columns, ids);
+	}
+
+	/** @return the layout of the next column of the footer held by {@code buffer} */
+	private static ColumnLayout readColumn(ByteBuffer buffer, int rows, int blockRows, long end) {
+		int length = buffer.getInt();
+
+		if( length < 0 || buffer.remaining() < length )
+			throw new MalformedRecordException("Invalid length of header: " + length);
+
+		String header = Blocks.getUtf8(buffer, buffer.position(), length);
+		buffer.position(buffer.position() + length);
+
+		ColumnLayout column = new ColumnLayout(header, ValueType.ofCode(buffer.get()), buffer.getInt());
+
+		if( column.offsets.length != blocks(rows, blockRows) )
+			throw new MalformedRecordException("The column " + header + " should be made of " + blocks(rows, blockRows) + " blocks");
+
+		for( int block = 0 ; block < column.offsets.length ; ++block ) {
+			column.offsets[block] = buffer.getLong();
+			column.lengths[block] = buffer.getInt();
+
+			if( column.offsets[block] < PROLOGUE_SIZE || column.lengths[block] < 0 || end - column.offsets[block] < column.lengths[block] )
+				throw new MalformedRecordException("The block " + block + " of the column " + header + " exceeds the file");
+		}
+		return column;
+	}
+
+	/** @return a buffer holding the {@code length} bytes of the file starting at {@code position} */
+	private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+
+		while( buffer.hasRemaining() )
+			if( channel.read(buffer, position + buffer.position()) < 0 )
+				throw new MalformedRecordException("Unexpected end of file at byte " + (position + buffer.position()));
+
+		buffer.flip();
+		return buffer;
+	}
+}
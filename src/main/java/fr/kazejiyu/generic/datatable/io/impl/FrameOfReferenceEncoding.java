@@ -0,0 +1,79 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+
+/**
+ * Writes the difference between each value and the smallest one, bit-packed on
+ * as few bits as possible. <br>
+ * <br>
+ * The payload starts with the smallest value and the number of bits of a difference,
+ * followed by the packed differences. Suits integral values lying in a narrow range;
+ * values are read straight from the payload when they are accessed.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class FrameOfReferenceEncoding implements BlockEncoding {
+
+	static final byte ID = 4;
+
+	@Override
+	public byte id() {
+		return ID;
+	}
+
+	@Override
+	public boolean supports(ValueType type) {
+		return type.isIntegral();
+	}
+
+	@Override
+	public long sizeOf(BlockValues values) {
+		return 9 + BitPacking.bytes(values.size, BitPacking.width(values.max() - values.min()));
+	}
+
+	@Override
+	public void encode(BlockValues values, ChannelOutput output) throws IOException {
+		long min = values.min();
+		int width = BitPacking.width(values.max() - min);
+		BitPacking.Packer packer = new BitPacking.Packer(output, width);
+
+		output.putLong(min);
+		output.writeByte(width);
+
+		for( int i = 0 ; i < values.size ; ++i )
+			packer.add(values.bits[i] - min);
+
+		packer.finish();
+	}
+
+	@Override
+	public Block decode(ValueType type, ByteBuffer payload, int size) {
+		if( payload.limit() < 9 )
+			throw new MalformedRecordException("The block does not hold its frame of reference");
+
+		long min = payload.getLong(0);
+		int width = payload.get(8);
+
+		if( width < 0 || 64 < width || payload.limit() - 9 < BitPacking.bytes(size, width) )
+			throw new MalformedRecordException("The block should hold " + size + " values of " + width + " bits");
+
+		return index -> type.fromBits(min + BitPacking.get(payload, 9, index, width));
+	}
+}
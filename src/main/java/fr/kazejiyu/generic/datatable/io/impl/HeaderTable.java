@@ -0,0 +1,132 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the column matching a header, ignoring case, straight from the bytes of the header. <br>
+ * <br>
+ * ASCII headers are looked up in an open-addressing table without creating any
+ * {@code String}; the others are decoded then looked up in a map.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class HeaderTable {
+
+	/** The headers of the columns, lower-cased and encoded in UTF-8. */
+	private final byte[][] headers;
+
+	/** The column stored in each slot, -1 if the slot is empty. */
+	private final int[] slots;
+
+	/** The column of each lower-cased header, used for non-ASCII headers. */
+	private final Map<String,Integer> columnOfHeader = new HashMap<>();
+
+	/**
+	 * Creates a new table.
+	 * 
+	 * @param headers
+	 * 			The headers of the columns. Must be distinct, ignoring case.
+	 */
+	HeaderTable(final List<String> headers) {
+		this.headers = new byte[headers.size()][];
+		this.slots = new int[Integer.highestOneBit(Math.max(1, headers.size()) * 4)];
+		Arrays.fill(slots, -1);
+
+		for( int column = 0 ; column < headers.size() ; ++column ) {
+			String header = headers.get(column).toLowerCase();
+			byte[] bytes = header.getBytes(UTF_8);
+
+			this.headers[column] = bytes;
+			this.columnOfHeader.put(header, column);
+
+			if( isAscii(bytes, 0, bytes.length) ) {
+				int slot = hash(bytes, 0, bytes.length) & (slots.length - 1);
+
+				while( slots[slot] >= 0 )
+					slot = (slot + 1) & (slots.length - 1);
+
+				slots[slot] = column;
+			}
+		}
+	}
+
+	/**
+	 * Returns the column which header is held by {@code bytes[from, to[}, ignoring case.
+	 * 
+	 * @param bytes
+	 * 			The bytes holding the header, encoded in UTF-8.
+	 * @param from
+	 * 			The index of the first byte of the header.
+	 * @param to
+	 * 			The index following the last byte of the header.
+	 * 
+	 * @return the index of the matching column, -1 if there is none.
+	 */
+	int indexOf(final byte[] bytes, final int from, final int to) {
+		if( ! isAscii(bytes, from, to) ) {
+			Integer column = columnOfHeader.get(new String(bytes, from, to - from, UTF_8).toLowerCase());
+			return column == null ? -1 : column;
+		}
+		int slot = hash(bytes, from, to) & (slots.length - 1);
+
+		for( int column = slots[slot] ; column >= 0 ; column = slots[slot] ) {
+			if( equalsIgnoreCase(headers[column], bytes, from, to) )
+				return column;
+
+			slot = (slot + 1) & (slots.length - 1);
+		}
+		return -1;
+	}
+
+	private static boolean isAscii(final byte[] bytes, final int from, final int to) {
+		for( int i = from ; i < to ; ++i )
+			if( bytes[i] < 0 )
+				return false;
+
+		return true;
+	}
+
+	private static int hash(final byte[] bytes, final int from, final int to) {
+		int hash = 0;
+
+		for( int i = from ; i < to ; ++i )
+			hash = 31 * hash + lowerCase(bytes[i]);
+
+		return hash ^ hash >>> 16;
+	}
+
+	/** @return whether {@code bytes[from, to[} matches {@code lowerCase}, ignoring case */
+	private static boolean equalsIgnoreCase(final byte[] lowerCase, final byte[] bytes, final int from, final int to) {
+		if( lowerCase.length != to - from )
+			return false;
+
+		for( int i = 0 ; i < lowerCase.length ; ++i )
+			if( lowerCase[i] != lowerCase(bytes[from + i]) )
+				return false;
+
+		return true;
+	}
+
+	private static int lowerCase(final byte b) {
+		return 'A' <= b && b <= 'Z' ? b + ('a' - 'A') : b;
+	}
+}
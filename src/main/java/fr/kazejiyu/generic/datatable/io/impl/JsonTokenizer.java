@@ -0,0 +1,438 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Arrays;
+
+import fr.kazejiyu.generic.datatable.util.PrimitiveArrays;
+
+/**
+ * Splits JSON objects into members. <br>
+ * <br>
+ * A record is expected to hold a single JSON object. The bounds of the keys and of the
+ * values of its members are stored in reusable arrays so that tokenizing a record does
+ * not allocate anything: strings are unescaped in place, while the other values are
+ * only delimited and left to the {@link FieldParser}s. Nested objects and arrays are
+ * skipped, their raw text being kept as value.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class JsonTokenizer {
+
+	/** The kinds of value a member can hold. */
+	enum Kind {
+		/** The {@code null} literal. */
+		NULL,
+		/** A string, already unescaped. */
+		STRING,
+		/** A number. */
+		NUMBER,
+		/** The {@code true} or {@code false} literal. */
+		BOOLEAN,
+		/** An object or an array, kept as raw text. */
+		NESTED
+	}
+
+	/** The index of the first byte of each key. */
+	private int[] keyStarts = new int[16];
+
+	/** The index following the last byte of each key. */
+	private int[] keyEnds = new int[16];
+
+	/** The index of the first byte of each value. */
+	private int[] starts = new int[16];
+
+	/** The index following the last byte of each value. */
+	private int[] ends = new int[16];
+
+	/** The kind of each value. */
+	private Kind[] kinds = new Kind[16];
+
+	/** The number of members of the last record tokenized. */
+	private int count;
+
+	/** The index of the first byte of the record being tokenized. */
+	private int recordStart;
+
+	/**
+	 * Returns the end of the record starting at {@code from}. <br>
+	 * <br>
+	 * Since JSON strings cannot contain raw line breaks, a record always ends with the
+	 * first line break that follows it.
+	 * 
+	 * @param bytes
+	 * 			The bytes holding the record.
+	 * @param from
+	 * 			The index of the first byte of the record.
+	 * @param to
+	 * 			The index following the last byte available.
+	 * 
+	 * @return the index of the line break ending the record, -1 if it is not in {@code bytes[from, to[}.
+	 */
+	static int recordEnd(final byte[] bytes, final int from, final int to) {
+		for( int i = from ; i < to ; ++i )
+			if( bytes[i] == '\n' )
+				return i;
+
+		return -1;
+	}
+
+	/** @return whether {@code bytes[from, to[} only holds whitespaces */
+	static boolean isBlank(final byte[] bytes, final int from, final int to) {
+		return skipWhitespaces(bytes, from, to) == to;
+	}
+
+	/**
+	 * Splits the object held by {@code bytes[from, to[} into members.
+	 * 
+	 * @param bytes
+	 * 			The bytes holding the record. Escaped strings are unescaped in place.
+	 * @param from
+	 * 			The index of the first byte of the record.
+	 * @param to
+	 * 			The index following the last byte of the record, line break excluded.
+	 * 
+	 * @return the number of members of the object.
+	 * 
+	 * @throws IllegalArgumentException if the record does not hold a single JSON object.
+	 */
+	int tokenize(final byte[] bytes, final int from, final int to) {
+		recordStart = from;
+		count = 0;
+
+		int i = expect(bytes, skipWhitespaces(bytes, from, to), to, '{');
+		i = skipWhitespaces(bytes, i, to);
+
+		if( i < to && bytes[i] == '}' )
+			return end(bytes, i + 1, to);
+
+		while( true ) {
+			ensureCapacity(count + 1);
+
+			i = expect(bytes, i, to, '"');
+			keyStarts[count] = i;
+			i = string(bytes, i, to);
+			keyEnds[count] = ends[count];
+
+			i = skipWhitespaces(bytes, expect(bytes, skipWhitespaces(bytes, i, to), to, ':'), to);
+			i = value(bytes, i, to);
+			++count;
+
+			i = skipWhitespaces(bytes, i, to);
+
+			if( i < to && bytes[i] == '}' )
+				return end(bytes, i + 1, to);
+
+			i = skipWhitespaces(bytes, expect(bytes, i, to, ','), to);
+		}
+	}
+
+	/** @return the number of members, once checked that nothing follows the object */
+	private int end(final byte[] bytes, final int from, final int to) {
+		int i = skipWhitespaces(bytes, from, to);
+
+		if( i < to )
+			throw unexpected(bytes, i);
+
+		return count;
+	}
+
+	/** @return the index following the value starting at {@code from} */
+	private int value(final byte[] bytes, final int from, final int to) {
+		if( from >= to )
+			throw new IllegalArgumentException("Missing value at index " + (from - recordStart));
+
+		byte first = bytes[from];
+
+		if( first == '"' ) {
+			int end = string(bytes, from + 1, to);
+			kinds[count] = Kind.STRING;
+			return end;
+		}
+		if( first == '{' || first == '[' )
+			return nested(bytes, from, to);
+
+		if( first == '-' || isDigit(first) )
+			return number(bytes, from, to);
+
+		if( matches(bytes, from, to, "true") || matches(bytes, from, to, "false") )
+			return literal(bytes, from, first == 't' ? 4 : 5, Kind.BOOLEAN);
+
+		if( matches(bytes, from, to, "null") )
+			return literal(bytes, from, 4, Kind.NULL);
+
+		throw unexpected(bytes, from);
+	}
+
+	private int literal(final byte[] bytes, final int from, final int length, final Kind kind) {
+		starts[count] = from;
+		ends[count] = from + length;
+		kinds[count] = kind;
+		return from + length;
+	}
+
+	/** Delimits the number starting at {@code from}; its syntax is checked when it is parsed. */
+	private int number(final byte[] bytes, final int from, final int to) {
+		int i = from + 1;
+
+		while( i < to && isNumberPart(bytes[i]) )
+			++i;
+
+		starts[count] = from;
+		ends[count] = i;
+		kinds[count] = Kind.NUMBER;
+		return i;
+	}
+
+	/** Delimits the object or the array starting at {@code from}, without unescaping its strings. */
+	private int nested(final byte[] bytes, final int from, final int to) {
+		int depth = 0;
+		boolean inString = false;
+
+		for( int i = from ; i < to ; ++i ) {
+			byte b = bytes[i];
+
+			if( inString ) {
+				if( b == '\\' )
+					++i;
+				else if( b == '"' )
+					inString = false;
+			}
+			else if( b == '"' )
+				inString = true;
+
+			else if( b == '{' || b == '[' )
+				++depth;
+
+			else if( (b == '}' || b == ']') && --depth == 0 ) {
+				starts[count] = from;
+				ends[count] = i + 1;
+				kinds[count] = Kind.NESTED;
+				return i + 1;
+			}
+		}
+		throw new IllegalArgumentException("Unterminated " + (bytes[from] == '{' ? "object" : "array") + " at index " + (from - recordStart));
+	}
+
+	/**
+	 * Unescapes in place the content of the string starting at {@code from}, its opening quote excluded.
+	 * 
+	 * @return the index following the closing quote of the string.
+	 */
+	private int string(final byte[] bytes, final int from, final int to) {
+		int read = from;
+
+		// fast path: most strings do not contain any escape sequence
+		while( read < to && bytes[read] != '"' && bytes[read] != '\\' )
+			++read;
+
+		int written = read;
+
+		while( true ) {
+			if( read >= to )
+				throw new IllegalArgumentException("Unterminated string at index " + (from - 1 - recordStart));
+
+			byte b = bytes[read];
+
+			if( b == '"' )
+				break;
+
+			if( b != '\\' ) {
+				bytes[written++] = bytes[read++];
+				continue;
+			}
+			if( read + 1 >= to )
+				throw new IllegalArgumentException("Unterminated string at index " + (from - 1 - recordStart));
+
+			byte escaped = bytes[read + 1];
+			read += 2;
+
+			switch( escaped ) {
+			case '"':
+			case '\\':
+			case '/': bytes[written++] = escaped; break;
+			case 'b': bytes[written++] = '\b'; break;
+			case 'f': bytes[written++] = '\f'; break;
+			case 'n': bytes[written++] = '\n'; break;
+			case 'r': bytes[written++] = '\r'; break;
+			case 't': bytes[written++] = '\t'; break;
+			case 'u':
+				int codePoint = hex(bytes, read, to);
+				read += 4;
+
+				if( Character.isHighSurrogate((char) codePoint) && read + 1 < to && bytes[read] == '\\' && bytes[read + 1] == 'u' ) {
+					int low = hex(bytes, read + 2, to);
+
+					if( Character.isLowSurrogate((char) low) ) {
+						codePoint = Character.toCodePoint((char) codePoint, (char) low);
+						read += 6;
+					}
+				}
+				written = putCodePoint(bytes, written, Character.isSurrogate((char) codePoint) && codePoint < 0x10000 ? '?' : codePoint);
+				break;
+			default:
+				throw new IllegalArgumentException("Invalid escape sequence \\" + (char) escaped + " at index " + (read - 2 - recordStart));
+			}
+		}
+		starts[count] = from;
+		ends[count] = written;
+		return read + 1;
+	}
+
+	/** @return the value of the 4 hexadecimal digits starting at {@code from} */
+	private int hex(final byte[] bytes, final int from, final int to) {
+		if( from + 4 > to )
+			throw new IllegalArgumentException("Truncated unicode escape at index " + (from - 2 - recordStart));
+
+		int value = 0;
+
+		for( int i = from ; i < from + 4 ; ++i ) {
+			int digit = Character.digit(bytes[i], 16);
+
+			if( digit < 0 )
+				throw new IllegalArgumentException("Invalid unicode escape at index " + (from - 2 - recordStart));
+
+			value = value << 4 | digit;
+		}
+		return value;
+	}
+
+	/**
+	 * Encodes {@code codePoint} in UTF-8 at {@code index}. <br>
+	 * <br>
+	 * Since an escape sequence is always longer than the encoding of its code point,
+	 * the bytes that remain to be unescaped are never overwritten.
+	 * 
+	 * @return the index following the encoded code point.
+	 */
+	private static int putCodePoint(final byte[] bytes, int index, final int codePoint) {
+		if( codePoint < 0x80 )
+			bytes[index++] = (byte) codePoint;
+
+		else if( codePoint < 0x800 ) {
+			bytes[index++] = (byte) (0xC0 | codePoint >> 6);
+			bytes[index++] = (byte) (0x80 | codePoint & 0x3F);
+		}
+		else if( codePoint < 0x10000 ) {
+			bytes[index++] = (byte) (0xE0 | codePoint >> 12);
+			bytes[index++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+			bytes[index++] = (byte) (0x80 | codePoint & 0x3F);
+		}
+		else {
+			bytes[index++] = (byte) (0xF0 | codePoint >> 18);
+			bytes[index++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+			bytes[index++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+			bytes[index++] = (byte) (0x80 | codePoint & 0x3F);
+		}
+		return index;
+	}
+
+	/** @return the index following {@code expected}, which must be located at {@code index} */
+	private int expect(final byte[] bytes, final int index, final int to, final char expected) {
+		if( index >= to )
+			throw new IllegalArgumentException("Expected '" + expected + "' at index " + (index - recordStart) + ", got the end of the record");
+
+		if( bytes[index] != expected )
+			throw new IllegalArgumentException("Expected '" + expected + "' at index " + (index - recordStart) + ", got '" + (char) bytes[index] + "'");
+
+		return index + 1;
+	}
+
+	private IllegalArgumentException unexpected(final byte[] bytes, final int index) {
+		return new IllegalArgumentException("Unexpected character '" + (char) bytes[index] + "' at index " + (index - recordStart));
+	}
+
+	private static int skipWhitespaces(final byte[] bytes, int from, final int to) {
+		while( from < to && (bytes[from] == ' ' || bytes[from] == '\t' || bytes[from] == '\r' || bytes[from] == '\n') )
+			++from;
+
+		return from;
+	}
+
+	private static boolean matches(final byte[] bytes, final int from, final int to, final String expected) {
+		if( to - from < expected.length() )
+			return false;
+
+		for( int i = 0 ; i < expected.length() ; ++i )
+			if( bytes[from + i] != expected.charAt(i) )
+				return false;
+
+		return true;
+	}
+
+	private static boolean isDigit(final byte b) {
+		return '0' <= b && b <= '9';
+	}
+
+	private static boolean isNumberPart(final byte b) {
+		return isDigit(b) || b == '.' || b == 'e' || b == 'E' || b == '-' || b == '+';
+	}
+
+	private void ensureCapacity(final int capacity) {
+		keyStarts = PrimitiveArrays.grow(keyStarts, capacity);
+		keyEnds = PrimitiveArrays.grow(keyEnds, capacity);
+		starts = PrimitiveArrays.grow(starts, capacity);
+		ends = PrimitiveArrays.grow(ends, capacity);
+
+		if( kinds.length < capacity )
+			kinds = Arrays.copyOf(kinds, starts.length);
+	}
+
+	/** @return the number of members of the last record tokenized */
+	int count() {
+		return count;
+	}
+
+	/** @return the index of the first byte of the key of {@code member} */
+	int keyStart(int member) {
+		return keyStarts[member];
+	}
+
+	/** @return the index following the last byte of the key of {@code member} */
+	int keyEnd(int member) {
+		return keyEnds[member];
+	}
+
+	/** @return the key of {@code member}, decoded as a string */
+	String key(final byte[] bytes, int member) {
+		return new String(bytes, keyStarts[member], keyEnds[member] - keyStarts[member], UTF_8);
+	}
+
+	/** @return the index of the first byte of the value of {@code member} */
+	int start(int member) {
+		return starts[member];
+	}
+
+	/** @return the index following the last byte of the value of {@code member} */
+	int end(int member) {
+		return ends[member];
+	}
+
+	/** @return the kind of the value of {@code member} */
+	Kind kind(int member) {
+		return kinds[member];
+	}
+
+	/** @return whether the number held by {@code bytes[from, to[} has neither a fractional part nor an exponent */
+	static boolean isIntegral(final byte[] bytes, final int from, final int to) {
+		for( int i = from ; i < to ; ++i )
+			if( bytes[i] == '.' || bytes[i] == 'e' || bytes[i] == 'E' )
+				return false;
+
+		return true;
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import fr.kazejiyu.generic.datatable.core.impl.ReadOnlyColumn;
+import fr.kazejiyu.generic.datatable.io.impl.Footer.ColumnLayout;
+
+/**
+ * A read-only column which elements are read from a memory-mapped columnar file. <br>
+ * <br>
+ * A block is only mapped and decoded the first time one of its elements is accessed,
+ * then kept in the {@link BlockCache} of the table until it gets cold. Decoding is mostly
+ * zero-copy: plain and bit-packed values are read straight from the mapped memory while
+ * strings are decoded one distinct string at a time.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <T> The type of the elements in the column.
+ */
+final class MappedColumn <T> extends ReadOnlyColumn <T> {
+
+	/** The channel of the file. */
+	private final FileChannel channel;
+
+	/** The location of the blocks in the file. */
+	private final ColumnLayout layout;
+
+	/** The number of elements in the column. */
+	private final int size;
+
+	/** The number of elements per block. */
+	private final int blockRows;
+
+	/** The index of the column in the file, which identifies its blocks in the cache. */
+	private final int index;
+
+	/** Keeps the decoded blocks. */
+	private final BlockCache cache;
+
+	/** 
+	 * The block accessed last, which spares a lookup in the cache when elements are read in order. 
+	 * Only weakly referenced, so that the cache alone decides which blocks stay in memory.
+	 */
+	private volatile Recent recent;
+
+	/**
+	 * Creates a new column.
+	 * 
+	 * @param channel
+	 * 			The channel of the file.
+	 * @param layout
+	 * 			The location of the blocks in the file.
+	 * @param footer
+	 * 			The footer of the file.
+	 * @param index
+	 * 			The index of the column in the file.
+	 * @param cache
+	 * 			Keeps the decoded blocks.
+	 * 
+	 * @return a new column.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> MappedColumn<T> of(FileChannel channel, ColumnLayout layout, Footer footer, int index, BlockCache cache) {
+		return new MappedColumn<>(channel, layout, (Class<T>) layout.type.type, footer, index, cache);
+	}
+
+	private MappedColumn(FileChannel channel, ColumnLayout layout, Class<T> type, Footer footer, int index, BlockCache cache) {
+		super(layout.header, type);
+		this.channel = channel;
+		this.layout = layout;
+		this.size = footer.rows;
+		this.blockRows = footer.blockRows;
+		this.index = index;
+		this.cache = cache;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @throws IllegalStateException if the file has been closed.
+	 * @throws UncheckedIOException if the file cannot be read.
+	 */
+	@Override
+	public T get(final int row) {
+		if( row < 0 || size <= row )
+			throw new IndexOutOfBoundsException("There is no row at index " + row);
+
+		return type().cast(blockAt(row / blockRows).get(row % blockRows));
+	}
+
+	/**
+	 * {@inheritDoc} <br>
+	 * <br>
+	 * The elements are read one block after the other.
+	 * 
+	 * @throws IllegalStateException if the file has been closed.
+	 * @throws UncheckedIOException if the file cannot be read.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private int next = 0;
+
+			/** The block holding the next element. */
+			private Block block;
+
+			/** The index of the next element in its block. */
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return next < size;
+			}
+
+			@Override
+			public T next() {
+				if( ! hasNext() )
+					throw new NoSuchElementException();
+
+				if( block == null || index == blockRows ) {
+					block = blockAt(next / blockRows);
+					index = 0;
+				}
+				++next;
+				return type().cast(block.get(index++));
+			}
+		};
+	}
+
+	/** @return the {@code block}th block, decoding it if needed */
+	private Block blockAt(int block) {
+		if( ! channel.isOpen() )
+			throw new IllegalStateException("The file of the column " + header() + " has been closed");
+
+		Recent last = recent;
+
+		if( last != null && last.index == block ) {
+			Block decoded = last.get();
+
+			if( decoded != null )
+				return decoded;
+		}
+
+		int rows = Math.min(blockRows, size - block * blockRows);
+		int weight = (int) Math.min(Integer.MAX_VALUE, layout.lengths[block] + (long) rows * BlockCache.BYTES_PER_VALUE);
+		Block decoded = cache.get(index, block, weight, () -> Blocks.read(layout.type, map(block), rows));
+
+		recent = new Recent(block, decoded);
+		return decoded;
+	}
+
+	/** @return the memory holding the {@code block}th block */
+	private MappedByteBuffer map(int block) {
+		try {
+			return channel.map(MapMode.READ_ONLY, layout.offsets[block], layout.lengths[block]);
+		}
+		catch( ClosedChannelException e ) {
+			throw new IllegalStateException("The file of the column " + header() + " has been closed", e);
+		}
+		catch( IOException e ) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/** A weak reference to a block, along with its index. */
+	private static final class Recent extends WeakReference<Block> {
+
+		final int index;
+
+		Recent(int index, Block block) {
+			super(block);
+			this.index = index;
+		}
+	}
+}
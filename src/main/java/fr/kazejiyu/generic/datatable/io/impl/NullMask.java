@@ -0,0 +1,58 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * The bitmap identifying the {@code null} elements of a block. <br>
+ * <br>
+ * The bitmap is made of big-endian {@code long}s: the bit {@code i} is set
+ * if the {@code i}th element of the block is {@code null}.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class NullMask {
+
+	/** The words of the bitmap. */
+	private final ByteBuffer words;
+
+	/**
+	 * Creates a new mask reading its words from {@code words}.
+	 * 
+	 * @param words
+	 * 			The words of the bitmap, starting at index 0.
+	 */
+	NullMask(ByteBuffer words) {
+		this.words = words;
+	}
+
+	/** @return whether the {@code index}th element is {@code null} */
+	boolean isNull(int index) {
+		return (words.getLong((index >>> 6) << 3) & (1L << index)) != 0;
+	}
+
+	/** @return the number of words needed to hold {@code size} bits */
+	static int words(int size) {
+		return (size + 63) >>> 6;
+	}
+
+	/** Writes the bitmap of the {@code null} elements of {@code values}. */
+	static void write(BlockValues values, ChannelOutput output) throws IOException {
+		for( int word = 0 ; word < words(values.size) ; ++word )
+			output.putLong(values.nulls[word]);
+	}
+}
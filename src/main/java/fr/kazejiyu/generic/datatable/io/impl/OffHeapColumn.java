@@ -0,0 +1,343 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.StampedLock;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.core.impl.ReadOnlyColumn;
+import fr.kazejiyu.generic.datatable.util.ValueDictionary;
+
+/**
+ * A read-only column which elements are stored in direct buffers. <br>
+ * <br>
+ * Numbers, characters and booleans are stored as fixed-size values, along with a bitmap
+ * of the {@code null} elements. The elements of any other type are stored as codes of
+ * a dictionary: only the dictionary, which holds each distinct element once, is kept
+ * on the heap. <br>
+ * <br>
+ * The values are split in chunks of at most {@value #CHUNK_ROWS} elements, so that
+ * no buffer ever exceeds the 2 GB limit. <br>
+ * <br>
+ * Reads hold the read lock of the column and {@link #close()} its write lock, so that
+ * the buffers are never freed while another thread is reading them. Random accesses
+ * take the lock for each element, while iterators decode {@value #BATCH_ROWS} elements
+ * at a time and only take it once per batch.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <T> The type of the elements in the column.
+ */
+final class OffHeapColumn <T> extends ReadOnlyColumn <T> {
+
+	/** The logarithm of the number of elements per chunk. */
+	private static final int CHUNK_SHIFT = 20;
+
+	/** The maximum number of elements per chunk. */
+	static final int CHUNK_ROWS = 1 << CHUNK_SHIFT;
+
+	private static final int CHUNK_MASK = CHUNK_ROWS - 1;
+
+	/** The number of elements decoded at once by an iterator. */
+	static final int BATCH_ROWS = 1 << 10;
+
+	/** The type of the stored values: the one of the elements, or the one of their codes. */
+	private final ValueType storage;
+
+	/** Decodes the stored codes, {@code null} if the elements are stored as such. */
+	private final ValueDictionary dictionary;
+
+	/** Masks the bits of a stored code, which is unsigned. */
+	private final long codeMask;
+
+	/** The stored values, by chunk. */
+	private final ByteBuffer[] chunks;
+
+	/** The bitmaps of the {@code null} elements, by chunk; {@code null} when a chunk has none. */
+	private final NullMask[] nulls;
+
+	/** The buffers of the bitmaps. */
+	private final ByteBuffer[] nullWords;
+
+	private final int size;
+
+	/** Prevents the buffers from being freed while they are read. */
+	private final StampedLock lock = new StampedLock();
+
+	/** Whether the buffers have been freed; only set while holding the write lock. */
+	private volatile boolean closed;
+
+	/**
+	 * Copies {@code column} into direct buffers.
+	 * 
+	 * @param column
+	 * 			The column to copy.
+	 * 
+	 * @return a new column holding the elements of {@code column}.
+	 * 
+	 * @throws OutOfMemoryError if the direct buffers cannot be allocated.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> OffHeapColumn<T> copyOf(Column<T> column) {
+		ValueType type = valueTypeOf(column.type());
+
+		if( type != null && type.hasBits() )
+			return new OffHeapColumn<>(column, type, null);
+
+		ValueDictionary dictionary = new ValueDictionary();
+
+		for( T element : column )
+			dictionary.encode(element);
+
+		return new OffHeapColumn<>(column, codeTypeOf(dictionary.size()), dictionary);
+	}
+
+	/** @return the value type of the elements of {@code type}, {@code null} if there is none */
+	private static ValueType valueTypeOf(Class<?> type) {
+		for( ValueType valueType : ValueType.values() )
+			if( valueType.type == type )
+				return valueType;
+
+		return null;
+	}
+
+	/** @return the type of the smallest unsigned integers able to hold {@code codes} distinct codes */
+	private static ValueType codeTypeOf(int codes) {
+		if( codes <= 1 << 8 )
+			return ValueType.BYTE;
+
+		if( codes <= 1 << 16 )
+			return ValueType.SHORT;
+
+		return ValueType.INTEGER;
+	}
+
+	private OffHeapColumn(Column<T> column, ValueType storage, ValueDictionary dictionary) {
+		super(column.header(), column.type());
+		this.storage = storage;
+		this.dictionary = dictionary;
+		this.codeMask = storage.width == 8 ? -1L : (1L << (storage.width << 3)) - 1;
+		this.size = column.size();
+		this.chunks = new ByteBuffer[(size + CHUNK_MASK) >>> CHUNK_SHIFT];
+		this.nulls = new NullMask[chunks.length];
+		this.nullWords = new ByteBuffer[chunks.length];
+
+		try {
+			fill(column);
+		}
+		catch( RuntimeException | Error e ) {
+			close();
+			throw e;
+		}
+	}
+
+	/** Copies the elements of {@code column} into the chunks. */
+	private void fill(Column<T> column) {
+		int row = 0;
+
+		for( T element : column ) {
+			int chunk = row >>> CHUNK_SHIFT;
+			int index = row & CHUNK_MASK;
+
+			if( index == 0 )
+				chunks[chunk] = DirectMemory.allocate(Math.min(CHUNK_ROWS, size - row) * storage.width);
+
+			if( dictionary != null )
+				storage.put(chunks[chunk], index, dictionary.codeOf(element));
+
+			else if( element == null )
+				markNull(chunk, index);
+
+			else
+				storage.put(chunks[chunk], index, storage.toBits(element));
+
+			++row;
+		}
+	}
+
+	/** Marks the {@code index}th element of {@code chunk} as {@code null}. */
+	private void markNull(int chunk, int index) {
+		ByteBuffer words = nullWords[chunk];
+
+		if( words == null ) {
+			words = nullWords[chunk] = DirectMemory.allocate(NullMask.words(chunks[chunk].capacity() / storage.width) << 3);
+			nulls[chunk] = new NullMask(words);
+		}
+		int word = (index >>> 6) << 3;
+		words.putLong(word, words.getLong(word) | (1L << index));
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @throws IllegalStateException if the column has been closed.
+	 */
+	@Override
+	public T get(final int row) {
+		if( row < 0 || size <= row )
+			throw new IndexOutOfBoundsException("There is no row at index " + row);
+
+		long stamp = lock.readLock();
+
+		try {
+			assertOpen();
+			return decode(row);
+		}
+		finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * {@inheritDoc} <br>
+	 * <br>
+	 * The elements are decoded {@value #BATCH_ROWS} at a time, while holding the read lock
+	 * of the column once. The lock is released between two batches, so the column can
+	 * still be closed during an iteration.
+	 * 
+	 * @throws IllegalStateException when the next batch is decoded if the column has been closed.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			/** The decoded elements, all of type T. */
+			private final Object[] batch = new Object[Math.min(BATCH_ROWS, size)];
+
+			/** The row of the first element of the batch. */
+			private int first = 0;
+
+			/** The number of elements in the batch. */
+			private int decoded = 0;
+
+			/** The index of the next element in the batch. */
+			private int next = 0;
+
+			@Override
+			public boolean hasNext() {
+				return first + next < size;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public T next() {
+				if( ! hasNext() )
+					throw new NoSuchElementException();
+
+				if( next == decoded ) {
+					first += decoded;
+					decoded = decode(first, batch);
+					next = 0;
+				}
+				return (T) batch[next++];
+			}
+		};
+	}
+
+	/**
+	 * Decodes the elements following {@code from} into {@code batch}.
+	 * 
+	 * @return the number of decoded elements.
+	 * 
+	 * @throws IllegalStateException if the column has been closed.
+	 */
+	private int decode(final int from, final Object[] batch) {
+		int count = Math.min(batch.length, size - from);
+		long stamp = lock.readLock();
+
+		try {
+			assertOpen();
+
+			for( int i = 0 ; i < count ; ++i )
+				batch[i] = decode(from + i);
+
+			return count;
+		}
+		finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/** @throws IllegalStateException if the column has been closed */
+	private void assertOpen() {
+		if( closed )
+			throw new IllegalStateException("The column " + header() + " has been closed");
+	}
+
+	/** @return the element at {@code row}; must be called while holding the read lock of an open column */
+	private T decode(final int row) {
+		int chunk = row >>> CHUNK_SHIFT;
+		int index = row & CHUNK_MASK;
+		long bits = storage.get(chunks[chunk], index);
+
+		if( dictionary != null )
+			return type().cast(dictionary.decode((int) (bits & codeMask)));
+
+		if( nulls[chunk] != null && nulls[chunk].isNull(index) )
+			return null;
+
+		return type().cast(storage.fromBits(bits));
+	}
+
+	/** @return the number of bytes stored off-heap, 0 once the column is closed */
+	long offHeapBytes() {
+		if( closed )
+			return 0;
+
+		long bytes = 0;
+
+		for( int chunk = 0 ; chunk < chunks.length ; ++chunk ) {
+			if( chunks[chunk] != null )
+				bytes += chunks[chunk].capacity();
+
+			if( nullWords[chunk] != null )
+				bytes += nullWords[chunk].capacity();
+		}
+		return bytes;
+	}
+
+	/** 
+	 * Frees the direct buffers of the column, once the ongoing reads are over. 
+	 * Has no effect if the column is already closed.
+	 */
+	void close() {
+		long stamp = lock.writeLock();
+
+		try {
+			if( closed )
+				return;
+
+			closed = true;
+
+			for( int chunk = 0 ; chunk < chunks.length ; ++chunk ) {
+				if( chunks[chunk] != null )
+					DirectMemory.free(chunks[chunk]);
+
+				if( nullWords[chunk] != null )
+					DirectMemory.free(nullWords[chunk]);
+			}
+		}
+		finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+}
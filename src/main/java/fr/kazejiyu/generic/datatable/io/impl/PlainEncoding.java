@@ -0,0 +1,62 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+
+/**
+ * Writes each value on a fixed number of bytes. <br>
+ * <br>
+ * Values are read straight from the payload when they are accessed, so that
+ * decoding a block does not copy it.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class PlainEncoding implements BlockEncoding {
+
+	static final byte ID = 0;
+
+	@Override
+	public byte id() {
+		return ID;
+	}
+
+	@Override
+	public boolean supports(ValueType type) {
+		return type.hasBits();
+	}
+
+	@Override
+	public long sizeOf(BlockValues values) {
+		return (long) values.size * values.type.width;
+	}
+
+	@Override
+	public void encode(BlockValues values, ChannelOutput output) throws IOException {
+		for( int i = 0 ; i < values.size ; ++i )
+			values.type.put(output, values.bits[i]);
+	}
+
+	@Override
+	public Block decode(ValueType type, ByteBuffer payload, int size) {
+		if( payload.remaining() < (long) size * type.width )
+			throw new MalformedRecordException("The block should hold " + size + " values of type " + type);
+
+		return index -> type.fromBits(type.get(payload, index));
+	}
+}
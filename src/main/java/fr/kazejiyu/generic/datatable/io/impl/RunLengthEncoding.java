@@ -0,0 +1,92 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+
+/**
+ * Writes each run of equal consecutive values once, along with its length. <br>
+ * <br>
+ * The payload starts with the number of runs, followed by the length and the
+ * value of each run. Suits sorted columns and columns with few distinct values.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class RunLengthEncoding implements BlockEncoding {
+
+	static final byte ID = 2;
+
+	@Override
+	public byte id() {
+		return ID;
+	}
+
+	@Override
+	public boolean supports(ValueType type) {
+		return type.hasBits();
+	}
+
+	@Override
+	public long sizeOf(BlockValues values) {
+		return 4 + (long) values.runs() * (4 + values.type.width);
+	}
+
+	@Override
+	public void encode(BlockValues values, ChannelOutput output) throws IOException {
+		output.putInt(values.runs());
+
+		int start = 0;
+
+		for( int i = 1 ; i <= values.size ; ++i ) {
+			if( i < values.size && values.bits[i] == values.bits[start] )
+				continue;
+
+			output.putInt(i - start);
+			values.type.put(output, values.bits[start]);
+			start = i;
+		}
+	}
+
+	@Override
+	public Block decode(ValueType type, ByteBuffer payload, int size) {
+		int runs = Blocks.getInt(payload, 0);
+
+		if( runs < 0 || payload.limit() - 4 < (long) runs * (4 + type.width) )
+			throw new MalformedRecordException("The block should hold " + runs + " runs of type " + type);
+
+		int[] ends = new int[runs];
+		Object[] values = new Object[runs];
+		int end = 0;
+		int position = 4;
+
+		for( int run = 0 ; run < runs ; ++run ) {
+			end += payload.getInt(position);
+			ends[run] = end;
+			values[run] = type.fromBits(type.get(Blocks.slice(payload, position + 4, type.width), 0));
+			position += 4 + type.width;
+		}
+		if( end != size )
+			throw new MalformedRecordException("The runs of the block should hold " + size + " values (got: " + end + ")");
+
+		return index -> {
+			int run = Arrays.binarySearch(ends, index + 1);
+			return values[run < 0 ? -run - 1 : run];
+		};
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.io.ColumnarReader;
+import fr.kazejiyu.generic.datatable.io.MappedTable;
+
+/**
+ * A {@link ColumnarReader} that memory-maps the blocks of the file.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class SimpleColumnarReader implements ColumnarReader {
+
+	/** The path of the file to read. */
+	private final Path path;
+
+	/** Whether the file must be deleted once read. */
+	private boolean deleteOnClose;
+
+	/** The number of bytes the decoded blocks of a mapped table may take. */
+	private long cacheBudget = Long.MAX_VALUE;
+
+	/**
+	 * Creates a new reader.
+	 * 
+	 * @param path
+	 * 			The path of the file to read. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if {@code path} is {@code null}.
+	 */
+	public SimpleColumnarReader(final Path path) {
+		this.path = requireNonNull(path, "The path of the file must not be null");
+	}
+
+	@Override
+	public ColumnarReader deleteOnClose() {
+		deleteOnClose = true;
+		return this;
+	}
+
+	@Override
+	public ColumnarReader cacheBudget(final long bytes) {
+		if( bytes <= 0 )
+			throw new IllegalArgumentException("The budget of the cache must be positive (got: " + bytes + ")");
+
+		cacheBudget = bytes;
+		return this;
+	}
+
+	@Override
+	public DataTable read() throws IOException {
+		try( MappedTable mapped = map() ) {
+			return DataTable.copyOf(mapped, mapped.rowIds());
+		}
+	}
+
+	@Override
+	public MappedTable map() throws IOException {
+		FileChannel channel = deleteOnClose ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.DELETE_ON_CLOSE)
+											: FileChannel.open(path, StandardOpenOption.READ);
+
+		try {
+			Footer footer = Footer.read(channel);
+			BlockCache cache = new BlockCache(cacheBudget);
+			List<MappedColumn<?>> columns = new ArrayList<>();
+
+			for( Footer.ColumnLayout layout : footer.columns )
+				columns.add(MappedColumn.of(channel, layout, footer, columns.size(), cache));
+
+			MappedColumn<Integer> ids = footer.ids == null ? null : MappedColumn.of(channel, footer.ids, footer, columns.size(), cache);
+			return new SimpleMappedTable(channel, cache, columns, ids);
+		}
+		catch( IOException | RuntimeException e ) {
+			channel.close();
+			throw e;
+		}
+	}
+}
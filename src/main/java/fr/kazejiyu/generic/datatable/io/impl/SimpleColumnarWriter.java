@@ -0,0 +1,138 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.io.ColumnarWriter;
+import fr.kazejiyu.generic.datatable.io.Throughput;
+import fr.kazejiyu.generic.datatable.io.impl.Footer.ColumnLayout;
+
+/**
+ * A {@link ColumnarWriter} that writes the file in a single pass, one column after the other.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class SimpleColumnarWriter implements ColumnarWriter {
+
+	private static final int DEFAULT_BLOCK_ROWS = 1 << 16;
+
+	private static final int MAX_BLOCK_ROWS = 1 << 24;
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/** The number of rows per block. */
+	private int blockRows = DEFAULT_BLOCK_ROWS;
+
+	/** Whether the ids of the rows are written. */
+	private boolean hasRowIds = false;
+
+	/** Writes the bytes of the file. */
+	private final ChannelOutput output = new ChannelOutput(BUFFER_SIZE);
+
+	/** Notified of the throughput of the writer. */
+	private Consumer<? super Throughput> listener = throughput -> {};
+
+	@Override
+	public ColumnarWriter blockRows(final int rows) {
+		if( rows <= 0 || MAX_BLOCK_ROWS < rows )
+			throw new IllegalArgumentException("A block must hold between 1 and " + MAX_BLOCK_ROWS + " rows (got: " + rows + ")");
+
+		this.blockRows = rows;
+		return this;
+	}
+
+	@Override
+	public ColumnarWriter withRowIds() {
+		this.hasRowIds = true;
+		return this;
+	}
+
+	@Override
+	public ColumnarWriter reportTo(final Consumer<? super Throughput> listener) {
+		this.listener = requireNonNull(listener, "The listener must not be null");
+		return this;
+	}
+
+	@Override
+	public void write(final Table table, final WritableByteChannel channel) throws IOException {
+		requireNonNull(table, "The table to write must not be null");
+		requireNonNull(channel, "The channel to write to must not be null");
+
+		long start = System.nanoTime();
+		int rows = table.rows().size();
+		List<ColumnLayout> layouts = new ArrayList<>();
+
+		for( Column<?> column : table.columns() )
+			layouts.add(new ColumnLayout(column.header(), ValueType.of(column.type()), Footer.blocks(rows, blockRows)));
+
+		output.open(channel);
+		Footer.writePrologue(output);
+
+		int index = 0;
+
+		for( Column<?> column : table.columns() )
+			writeColumn(column, layouts.get(index++));
+
+		ColumnLayout ids = null;
+
+		if( hasRowIds ) {
+			Iterable<Integer> rowIds = () -> table.rows().stream().map(Row::id).iterator();
+			ids = new ColumnLayout("id", ValueType.INTEGER, Footer.blocks(rows, blockRows));
+			writeColumn(rowIds, ids);
+		}
+		new Footer(rows, blockRows, layouts, ids).write(output);
+		output.flush();
+		listener.accept(new Throughput(output.written(), rows, System.nanoTime() - start));
+	}
+
+	/** Writes the blocks of {@code column}, recording their location in {@code layout}. */
+	private void writeColumn(Iterable<?> column, ColumnLayout layout) throws IOException {
+		BlockValues values = new BlockValues(layout.type, blockRows);
+		int block = 0;
+
+		for( Object element : column ) {
+			values.add(element);
+
+			if( values.isFull() )
+				writeBlock(values, layout, block++);
+		}
+		if( values.size > 0 )
+			writeBlock(values, layout, block);
+	}
+
+	/** Writes the {@code index}th block of a column. */
+	private void writeBlock(BlockValues values, ColumnLayout layout, int index) throws IOException {
+		long offset = output.written();
+		Blocks.write(values, output);
+		long length = output.written() - offset;
+
+		if( length > Integer.MAX_VALUE )
+			throw new IllegalArgumentException("The block " + index + " of the column " + layout.header + " exceeds 2 GiB; use smaller blocks");
+
+		layout.offsets[index] = offset;
+		layout.lengths[index] = (int) length;
+		values.clear();
+	}
+}
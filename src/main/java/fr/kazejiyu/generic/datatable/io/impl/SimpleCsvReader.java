@@ -0,0 +1,339 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.exceptions.HeaderNotFoundException;
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+import fr.kazejiyu.generic.datatable.exceptions.UndistinctHeadersException;
+import fr.kazejiyu.generic.datatable.io.CsvReader;
+import fr.kazejiyu.generic.datatable.io.Throughput;
+
+/**
+ * A {@link CsvReader} that streams the file through NIO buffers. <br>
+ * <br>
+ * The fields are parsed straight from the bytes of the file into one array per column;
+ * the table is then built column by column, so that rows are neither validated one by one
+ * nor created from intermediate lists. <br>
+ * <br>
+ * When several threads are used, the file is split at record boundaries and each split is
+ * parsed independently; the splits are finally concatenated in order. Since a quoted field
+ * may contain line breaks, the boundaries are found by a sequential scan tracking the quotes,
+ * which is much cheaper than the parsing itself.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class SimpleCsvReader implements CsvReader {
+
+	/** The minimal size of a split, in bytes. */
+	static final int MIN_SPLIT_SIZE = 1 << 16;
+
+	/** The file to read. */
+	private final Path path;
+
+	/** The ids of the columns to read. */
+	private final List<ColumnId<?>> schema;
+
+	/** The parser of each column. */
+	private final FieldParser[] parsers;
+
+	/** The character separating the fields. */
+	private byte delimiter = ',';
+
+	/** Whether the first line of the file holds the headers. */
+	private boolean hasHeader = false;
+
+	/** The number of threads used to parse the file. */
+	private int threads = 1;
+
+	/** Notified of the throughput of the reader. */
+	private Consumer<? super Throughput> listener = throughput -> {};
+
+	/**
+	 * Creates a new reader.
+	 * 
+	 * @param path
+	 * 			The path of the file to read. Must not be {@code null}.
+	 * @param schema
+	 * 			The ids of the columns of the file. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * @throws IllegalArgumentException if {@code schema} is empty or contains a type that cannot be read.
+	 * @throws UndistinctHeadersException if two ids have the same header.
+	 */
+	public SimpleCsvReader(final Path path, final ColumnId<?>... schema) {
+		this.path = requireNonNull(path, "The path of the file must not be null");
+		this.schema = Arrays.asList(requireNonNull(schema, "The schema must not be null").clone());
+		this.parsers = new FieldParser[schema.length];
+
+		if( schema.length == 0 )
+			throw new IllegalArgumentException("The schema must contain at least one column");
+
+		Set<String> headers = new HashSet<>();
+
+		for( int i = 0 ; i < schema.length ; ++i ) {
+			requireNonNull(schema[i], "The ids of the schema must not be null");
+
+			if( ! headers.add(schema[i].header().toLowerCase()) )
+				throw new UndistinctHeadersException("The header " + schema[i].header() + " is used by several columns of the schema");
+
+			parsers[i] = FieldParsers.of(schema[i].type());
+		}
+	}
+
+	@Override
+	public CsvReader delimiter(final char delimiter) {
+		if( delimiter > 127 || delimiter == '"' || delimiter == '\n' || delimiter == '\r' )
+			throw new IllegalArgumentException("Cannot use " + delimiter + " as a delimiter");
+
+		this.delimiter = (byte) delimiter;
+		return this;
+	}
+
+	@Override
+	public CsvReader withHeader() {
+		this.hasHeader = true;
+		return this;
+	}
+
+	@Override
+	public CsvReader threads(final int threads) {
+		if( threads < 1 )
+			throw new IllegalArgumentException("At least one thread is required to read a file (got: " + threads + ")");
+
+		this.threads = threads;
+		return this;
+	}
+
+	@Override
+	public CsvReader reportTo(final Consumer<? super Throughput> listener) {
+		this.listener = requireNonNull(listener, "The listener must not be null");
+		return this;
+	}
+
+	@Override
+	public DataTable read() throws IOException {
+		long startTime = System.nanoTime();
+
+		try( FileChannel channel = FileChannel.open(path, StandardOpenOption.READ) ) {
+			long size = channel.size();
+			long start = 0;
+			int fields = schema.size();
+			int[] targets = new int[fields];
+
+			for( int i = 0 ; i < fields ; ++i )
+				targets[i] = i;
+
+			if( hasHeader ) {
+				Header header = readHeader(channel);
+				start = header.end;
+				fields = header.fields.size();
+				targets = targetsOf(header.fields);
+			}
+			List<CsvSplit> splits = parse(channel, splits(channel, start, size, fields, targets));
+			DataTable table = assemble(splits);
+
+			listener.accept(new Throughput(size, table.rows().size(), System.nanoTime() - startTime));
+			return table;
+		}
+	}
+
+	/** The first line of a file, holding the headers of its columns. */
+	private static final class Header {
+
+		/** The headers of the columns of the file. */
+		final List<String> fields;
+
+		/** The position following the header. */
+		final long end;
+
+		Header(List<String> fields, long end) {
+			this.fields = fields;
+			this.end = end;
+		}
+	}
+
+	/** @return the first line of the file */
+	private Header readHeader(FileChannel channel) throws IOException {
+		CsvTokenizer tokenizer = new CsvTokenizer(delimiter);
+		byte[] buffer = new byte[4096];
+		int length = 0;
+		int end;
+
+		while( (end = CsvTokenizer.recordEnd(buffer, 0, length)) < 0 ) {
+			if( length == buffer.length )
+				buffer = Arrays.copyOf(buffer, buffer.length << 1);
+
+			int read = channel.read(ByteBuffer.wrap(buffer, length, buffer.length - length), length);
+
+			if( read < 0 ) {
+				end = length;
+				break;
+			}
+			length += read;
+		}
+		try {
+			tokenizer.tokenize(buffer, 0, end);
+		}
+		catch( IllegalArgumentException e ) {
+			throw new MalformedRecordException("Malformed header: " + e.getMessage(), e);
+		}
+		return new Header(tokenizer.fields(buffer), Math.min(end + 1, length));
+	}
+
+	/** @return the column of each field of the file, -1 if the field is ignored */
+	private int[] targetsOf(List<String> header) {
+		Map<String,Integer> fieldOfHeader = new HashMap<>();
+
+		for( int field = 0 ; field < header.size() ; ++field )
+			fieldOfHeader.putIfAbsent(header.get(field).trim().toLowerCase(), field);
+
+		int[] targets = new int[header.size()];
+		Arrays.fill(targets, -1);
+
+		for( int column = 0 ; column < schema.size() ; ++column ) {
+			Integer field = fieldOfHeader.get(schema.get(column).header().toLowerCase());
+
+			if( field == null )
+				throw new HeaderNotFoundException("The header " + schema.get(column).header() + " is not in the file " + path);
+
+			targets[field] = column;
+		}
+		return targets;
+	}
+
+	/** @return the splits of the file, starting at the record located at {@code start} */
+	private List<CsvSplit> splits(FileChannel channel, long start, long size, int fields, int[] targets) throws IOException {
+		int count = (int) Math.max(1, Math.min(threads, (size - start) / MIN_SPLIT_SIZE));
+		String[] headers = schema.stream().map(ColumnId::header).toArray(String[]::new);
+		List<CsvSplit> splits = new ArrayList<>(count);
+		long splitStart = start;
+
+		for( int i = 1 ; i <= count ; ++i ) {
+			long splitEnd = i == count ? size : nextRecord(channel, splitStart, start + (size - start) * i / count, size);
+			splits.add(new CsvSplit(channel, splitStart, splitEnd, delimiter, fields, targets, headers, parsers));
+			splitStart = splitEnd;
+		}
+		return splits;
+	}
+
+	/** 
+	 * @return the position of the first record starting at or after {@code position}, 
+	 * 		   the file being scanned from {@code from}, the position of a record 
+	 */
+	private static long nextRecord(FileChannel channel, long from, long position, long size) throws IOException {
+		if( position <= from )
+			return from;
+
+		byte[] buffer = new byte[1 << 16];
+		boolean inQuotes = false;
+
+		while( from < size ) {
+			int read = channel.read(ByteBuffer.wrap(buffer), from);
+
+			if( read < 0 )
+				break;
+
+			for( int i = 0 ; i < read ; ++i ) {
+				if( buffer[i] == '"' )
+					inQuotes = ! inQuotes;
+
+				else if( buffer[i] == '\n' && ! inQuotes && from + i >= position )
+					return from + i + 1;
+			}
+			from += read;
+		}
+		return size;
+	}
+
+	/** @return the splits, once parsed */
+	private List<CsvSplit> parse(FileChannel channel, List<CsvSplit> splits) throws IOException {
+		if( splits.size() == 1 )
+			return Arrays.asList(splits.get(0).call());
+
+		ExecutorService executor = Executors.newFixedThreadPool(splits.size());
+
+		try {
+			List<Future<CsvSplit>> parsed = new ArrayList<>(splits.size());
+
+			for( CsvSplit split : splits )
+				parsed.add(executor.submit(split));
+
+			List<CsvSplit> results = new ArrayList<>(splits.size());
+
+			for( Future<CsvSplit> split : parsed )
+				results.add(split.get());
+
+			return results;
+		}
+		catch( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while reading " + path, e);
+		}
+		catch( ExecutionException e ) {
+			if( e.getCause() instanceof IOException )
+				throw (IOException) e.getCause();
+
+			if( e.getCause() instanceof RuntimeException )
+				throw (RuntimeException) e.getCause();
+
+			throw new IOException("Cannot read " + path, e.getCause());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/** @return a new table made of the columns parsed by {@code splits} */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private DataTable assemble(List<CsvSplit> splits) {
+		int rows = splits.stream().mapToInt(CsvSplit::rows).sum();
+		DataTable table = new DataTable();
+
+		for( int column = 0 ; column < schema.size() ; ++column ) {
+			Object[] values = new Object[rows];
+			int offset = 0;
+
+			for( CsvSplit split : splits ) {
+				System.arraycopy(split.column(column), 0, values, offset, split.rows());
+				offset += split.rows();
+			}
+			ColumnId id = schema.get(column);
+			table.columns().create(id.header(), id.type(), Arrays.asList(values));
+		}
+		return table;
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.Consumer;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.io.CsvWriter;
+import fr.kazejiyu.generic.datatable.io.Throughput;
+
+/**
+ * A {@link CsvWriter} that formats the elements of a table straight into a reusable buffer. <br>
+ * <br>
+ * Elements are read with {@link Row#get(int)}, so that views are written without
+ * copying their content.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class SimpleCsvWriter implements CsvWriter {
+
+	private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+	/** The character separating the fields. */
+	private char delimiter;
+
+	/** Whether the headers of the columns are written. */
+	private boolean hasHeader = true;
+
+	/** Formats the elements. */
+	private ChannelOutput output = new ChannelOutput(DEFAULT_BUFFER_SIZE);
+
+	/** Notified of the throughput of the writer. */
+	private Consumer<? super Throughput> listener = throughput -> {};
+
+	/**
+	 * Creates a new writer.
+	 * 
+	 * @param delimiter
+	 * 			The character separating the fields. Must be an ASCII character.
+	 * 
+	 * @throws IllegalArgumentException if {@code delimiter} is not an ASCII character,
+	 * 									or is a double quote or a line break.
+	 */
+	public SimpleCsvWriter(final char delimiter) {
+		delimiter(delimiter);
+	}
+
+	@Override
+	public CsvWriter delimiter(final char delimiter) {
+		if( delimiter > 127 || delimiter == '"' || delimiter == '\n' || delimiter == '\r' )
+			throw new IllegalArgumentException("Cannot use " + delimiter + " as a delimiter");
+
+		this.delimiter = delimiter;
+		return this;
+	}
+
+	@Override
+	public CsvWriter withoutHeader() {
+		this.hasHeader = false;
+		return this;
+	}
+
+	@Override
+	public CsvWriter bufferSize(final int size) {
+		this.output = new ChannelOutput(size);
+		return this;
+	}
+
+	@Override
+	public CsvWriter reportTo(final Consumer<? super Throughput> listener) {
+		this.listener = requireNonNull(listener, "The listener must not be null");
+		return this;
+	}
+
+	@Override
+	public void write(final Table table, final WritableByteChannel channel) throws IOException {
+		requireNonNull(table, "The table to write must not be null");
+		requireNonNull(channel, "The channel to write to must not be null");
+
+		long start = System.nanoTime();
+		int columns = table.columns().size();
+		long rows = 0;
+
+		output.open(channel);
+
+		if( hasHeader ) {
+			int index = 0;
+
+			for( Column<?> column : table.columns() ) {
+				if( index++ > 0 )
+					output.writeByte(delimiter);
+
+				writeString(column.header());
+			}
+			output.writeByte('\n');
+		}
+		for( Row row : table.rows() ) {
+			for( int column = 0 ; column < columns ; ++column ) {
+				if( column > 0 )
+					output.writeByte(delimiter);
+
+				writeElement(row.get(column));
+			}
+			output.writeByte('\n');
+			++rows;
+		}
+		output.flush();
+		listener.accept(new Throughput(output.written(), rows, System.nanoTime() - start));
+	}
+
+	private void writeElement(Object element) throws IOException {
+		if( element == null )
+			return;
+
+		if( element instanceof Integer || element instanceof Long || element instanceof Short || element instanceof Byte )
+			output.writeLong(((Number) element).longValue());
+
+		else if( element instanceof Double )
+			output.writeDouble((Double) element);
+
+		else if( element instanceof Float )
+			output.writeFloat((Float) element);
+
+		else if( element instanceof Boolean )
+			output.writeAscii((Boolean) element ? "true" : "false");
+
+		else if( element instanceof BigInteger || element instanceof BigDecimal )
+			output.writeAscii(element.toString());
+
+		else
+			writeString(element.toString());
+	}
+
+	/** Writes {@code text}, quoting it if needed. */
+	private void writeString(String text) throws IOException {
+		if( ! needsQuotes(text) ) {
+			output.writeUtf8(text);
+			return;
+		}
+		output.writeByte('"');
+		int from = 0;
+
+		for( int quote = text.indexOf('"') ; quote >= 0 ; quote = text.indexOf('"', from) ) {
+			output.writeUtf8(text, from, quote + 1);
+			output.writeByte('"');
+			from = quote + 1;
+		}
+		output.writeUtf8(text, from, text.length());
+		output.writeByte('"');
+	}
+
+	/** @return whether {@code text} must be quoted to be read back */
+	private boolean needsQuotes(String text) {
+		if( text.isEmpty() )
+			return true;
+
+		for( int i = 0 ; i < text.length() ; ++i ) {
+			char c = text.charAt(i);
+
+			if( c == delimiter || c == '"' || c == '\n' || c == '\r' )
+				return true;
+		}
+		return false;
+	}
+}
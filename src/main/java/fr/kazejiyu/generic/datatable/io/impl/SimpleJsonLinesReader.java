@@ -0,0 +1,366 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+import fr.kazejiyu.generic.datatable.exceptions.UndistinctHeadersException;
+import fr.kazejiyu.generic.datatable.io.JsonLinesReader;
+import fr.kazejiyu.generic.datatable.io.Throughput;
+import fr.kazejiyu.generic.datatable.util.PrimitiveArrays;
+
+/**
+ * A {@link JsonLinesReader} that streams the file through a reusable buffer. <br>
+ * <br>
+ * Each record is split into members by a {@link JsonTokenizer}, then the value of each
+ * member is parsed straight from the bytes of the file into the array of its column;
+ * the table is finally built column by column, as done by {@link SimpleCsvReader}.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class SimpleJsonLinesReader implements JsonLinesReader {
+
+	/** The initial size of the buffer. */
+	static final int BUFFER_SIZE = 1 << 20;
+
+	/** The default number of records used to infer the schema. */
+	private static final int DEFAULT_SAMPLE_SIZE = 1000;
+
+	/** The file to read. */
+	private final Path path;
+
+	/** The ids of the columns to read, {@code null} until inferred if no schema has been given. */
+	private List<ColumnId<?>> schema;
+
+	/** The number of records used to infer the schema. */
+	private int sampleSize = DEFAULT_SAMPLE_SIZE;
+
+	/** Notified of the throughput of the reader. */
+	private Consumer<? super Throughput> listener = throughput -> {};
+
+	/** Handles the records of a file. */
+	@FunctionalInterface
+	private interface RecordHandler {
+
+		/**
+		 * Handles the record held by {@code bytes[from, to[}, located at {@code offset} in the file.
+		 * 
+		 * @return whether the following records must be handled.
+		 */
+		boolean handle(byte[] bytes, int from, int to, long offset);
+	}
+
+	/**
+	 * Creates a new reader.
+	 * 
+	 * @param path
+	 * 			The path of the file to read. Must not be {@code null}.
+	 * @param schema
+	 * 			The ids of the columns of the file. Must not be {@code null}.
+	 * 			If empty, the schema is inferred from the first records of the file.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * @throws IllegalArgumentException if {@code schema} contains a type that cannot be read.
+	 * @throws UndistinctHeadersException if two ids have the same header.
+	 */
+	public SimpleJsonLinesReader(final Path path, final ColumnId<?>... schema) {
+		this.path = requireNonNull(path, "The path of the file must not be null");
+		requireNonNull(schema, "The schema must not be null");
+
+		Set<String> headers = new HashSet<>();
+
+		for( ColumnId<?> id : schema ) {
+			requireNonNull(id, "The ids of the schema must not be null");
+
+			if( ! headers.add(id.header().toLowerCase()) )
+				throw new UndistinctHeadersException("The header " + id.header() + " is used by several columns of the schema");
+
+			FieldParsers.of(id.type());
+		}
+		if( schema.length > 0 )
+			this.schema = Collections.unmodifiableList(Arrays.asList(schema.clone()));
+	}
+
+	@Override
+	public JsonLinesReader sampleSize(final int records) {
+		if( records < 1 )
+			throw new IllegalArgumentException("At least one record is required to infer the schema (got: " + records + ")");
+
+		this.sampleSize = records;
+		return this;
+	}
+
+	@Override
+	public JsonLinesReader reportTo(final Consumer<? super Throughput> listener) {
+		this.listener = requireNonNull(listener, "The listener must not be null");
+		return this;
+	}
+
+	@Override
+	public List<ColumnId<?>> schema() throws IOException {
+		if( schema == null ) {
+			try( FileChannel channel = FileChannel.open(path, StandardOpenOption.READ) ) {
+				schema = Collections.unmodifiableList(infer(channel));
+			}
+		}
+		return schema;
+	}
+
+	@Override
+	public DataTable read() throws IOException {
+		long startTime = System.nanoTime();
+		List<ColumnId<?>> ids = schema();
+
+		try( FileChannel channel = FileChannel.open(path, StandardOpenOption.READ) ) {
+			Records records = new Records(ids);
+			forEachRecord(channel, records::parse);
+
+			DataTable table = records.assemble();
+			listener.accept(new Throughput(channel.size(), table.rows().size(), System.nanoTime() - startTime));
+			return table;
+		}
+	}
+
+	/** Calls {@code handler} for each non-blank record of the file, until it returns {@code false}. */
+	private static void forEachRecord(FileChannel channel, RecordHandler handler) throws IOException {
+		long size = channel.size();
+		byte[] buffer = new byte[(int) Math.min(BUFFER_SIZE, Math.max(16, size))];
+		long position = 0;
+		int length = 0;
+		int from = 0;
+
+		while( true ) {
+			int recordEnd = JsonTokenizer.recordEnd(buffer, from, length);
+
+			if( recordEnd >= 0 ) {
+				if( ! JsonTokenizer.isBlank(buffer, from, recordEnd) && ! handler.handle(buffer, from, recordEnd, position - length + from) )
+					return;
+
+				from = recordEnd + 1;
+				continue;
+			}
+			if( position >= size ) {
+				if( ! JsonTokenizer.isBlank(buffer, from, length) )
+					handler.handle(buffer, from, length, position - length + from);
+
+				return;
+			}
+			// moves the incomplete record at the beginning of the buffer, then reads the following bytes
+			System.arraycopy(buffer, from, buffer, 0, length - from);
+			length -= from;
+			from = 0;
+
+			if( length == buffer.length )
+				buffer = Arrays.copyOf(buffer, buffer.length << 1);
+
+			int read = channel.read(ByteBuffer.wrap(buffer, length, buffer.length - length), position);
+
+			if( read < 0 )
+				throw new IOException("Unexpected end of file at byte " + position);
+
+			position += read;
+			length += read;
+		}
+	}
+
+	/** @return the schema inferred from the first records of the file */
+	private List<ColumnId<?>> infer(FileChannel channel) throws IOException {
+		JsonTokenizer tokenizer = new JsonTokenizer();
+		Map<String,Inference> inferences = new LinkedHashMap<>();
+		int[] sampled = {0};
+
+		forEachRecord(channel, (bytes, from, to, offset) -> {
+			tokenize(tokenizer, bytes, from, to, offset);
+
+			for( int member = 0 ; member < tokenizer.count() ; ++member ) {
+				String key = tokenizer.key(bytes, member);
+				inferences.computeIfAbsent(key.toLowerCase(), k -> new Inference(key))
+						  .merge(typeOf(tokenizer, bytes, member));
+			}
+			return ++sampled[0] < sampleSize;
+		});
+		List<ColumnId<?>> ids = new ArrayList<>(inferences.size());
+
+		for( Inference inference : inferences.values() ) {
+			Class<?> type = inference.type == null ? String.class : inference.type;
+			ids.add(ColumnId.id(inference.header, type));
+		}
+
+		return ids;
+	}
+
+	/** @return the type of the value of {@code member}, {@code null} if the value is {@code null} */
+	private static Class<?> typeOf(JsonTokenizer tokenizer, byte[] bytes, int member) {
+		switch( tokenizer.kind(member) ) {
+		case NULL:
+			return null;
+		case BOOLEAN:
+			return Boolean.class;
+		case NUMBER:
+			return isLong(bytes, tokenizer.start(member), tokenizer.end(member)) ? Long.class : Double.class;
+		default:
+			return String.class;
+		}
+	}
+
+	/** @return whether {@code bytes[from, to[} holds an integral number that fits in a {@code long} */
+	private static boolean isLong(byte[] bytes, int from, int to) {
+		if( ! JsonTokenizer.isIntegral(bytes, from, to) )
+			return false;
+
+		try {
+			FieldParsers.parseLong(bytes, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+			return true;
+		}
+		catch( NumberFormatException e ) {
+			return false;
+		}
+	}
+
+	/** Splits the record held by {@code bytes[from, to[} into members. */
+	private static void tokenize(JsonTokenizer tokenizer, byte[] bytes, int from, int to, long offset) {
+		try {
+			tokenizer.tokenize(bytes, from, to);
+		}
+		catch( IllegalArgumentException e ) {
+			throw new MalformedRecordException("Malformed record at byte " + offset + ": " + e.getMessage(), e);
+		}
+	}
+
+	/** The type inferred for a key. */
+	private static final class Inference {
+
+		/** The key, as spelled the first time it appeared. */
+		final String header;
+
+		/** The type of the values, {@code null} if they are all {@code null}. */
+		Class<?> type;
+
+		Inference(String header) {
+			this.header = header;
+		}
+
+		/** Widens the inferred type so that it also holds values of {@code other}. */
+		void merge(Class<?> other) {
+			if( other == null || other == type )
+				return;
+
+			if( type == null )
+				type = other;
+
+			else if( (type == Long.class || type == Double.class) && (other == Long.class || other == Double.class) )
+				type = Double.class;
+
+			else
+				type = String.class;
+		}
+	}
+
+	/** The values parsed from the records, one array per column. */
+	private final class Records {
+
+		/** Splits the records into members. */
+		private final JsonTokenizer tokenizer = new JsonTokenizer();
+
+		/** The ids of the columns. */
+		private final List<ColumnId<?>> ids;
+
+		/** Finds the column of each member. */
+		private final HeaderTable headers;
+
+		/** The parser of each column. */
+		private final FieldParser[] parsers;
+
+		/** The values of each column. */
+		private final Object[][] columns;
+
+		/** The number of records parsed. */
+		private int rows;
+
+		Records(List<ColumnId<?>> ids) {
+			this.ids = ids;
+			this.parsers = new FieldParser[ids.size()];
+			this.columns = new Object[ids.size()][];
+
+			List<String> names = new ArrayList<>(ids.size());
+
+			for( int column = 0 ; column < ids.size() ; ++column ) {
+				names.add(ids.get(column).header());
+				parsers[column] = FieldParsers.of(ids.get(column).type());
+				columns[column] = new Object[16];
+			}
+			this.headers = new HeaderTable(names);
+		}
+
+		/** Parses the record held by {@code bytes[from, to[}, located at {@code offset} in the file. */
+		boolean parse(byte[] bytes, int from, int to, long offset) {
+			tokenize(tokenizer, bytes, from, to, offset);
+
+			for( int column = 0 ; column < columns.length ; ++column )
+				columns[column] = PrimitiveArrays.grow(columns[column], rows + 1);
+
+			for( int member = 0 ; member < tokenizer.count() ; ++member ) {
+				int column = headers.indexOf(bytes, tokenizer.keyStart(member), tokenizer.keyEnd(member));
+
+				if( column < 0 )
+					continue;
+
+				if( tokenizer.kind(member) == JsonTokenizer.Kind.NULL ) {
+					columns[column][rows] = null;
+					continue;
+				}
+				try {
+					columns[column][rows] = parsers[column].parse(bytes, tokenizer.start(member), tokenizer.end(member));
+				}
+				catch( IllegalArgumentException e ) {
+					throw new MalformedRecordException("Malformed record at byte " + offset + ": "
+							+ "cannot read the column " + ids.get(column).header() + " (" + e.getMessage() + ")", e);
+				}
+			}
+			++rows;
+			return true;
+		}
+
+		/** @return a new table made of the parsed columns */
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		DataTable assemble() {
+			DataTable table = new DataTable();
+
+			for( int column = 0 ; column < columns.length ; ++column ) {
+				ColumnId id = ids.get(column);
+				table.columns().create(id.header(), id.type(), Arrays.asList(Arrays.copyOf(columns[column], rows)));
+			}
+			return table;
+		}
+	}
+}
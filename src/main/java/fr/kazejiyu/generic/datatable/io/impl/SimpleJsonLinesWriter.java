@@ -0,0 +1,186 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.Consumer;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.io.JsonLinesWriter;
+import fr.kazejiyu.generic.datatable.io.Throughput;
+
+/**
+ * A {@link JsonLinesWriter} that formats the elements of a table straight into a reusable buffer. <br>
+ * <br>
+ * The keys of the members are escaped once per table. Elements are read with
+ * {@link Row#get(int)}, so that views are written without copying their content.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class SimpleJsonLinesWriter implements JsonLinesWriter {
+
+	private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	/** Whether {@code null} elements are omitted. */
+	private boolean skipsNulls = false;
+
+	/** Formats the elements. */
+	private ChannelOutput output = new ChannelOutput(DEFAULT_BUFFER_SIZE);
+
+	/** Notified of the throughput of the writer. */
+	private Consumer<? super Throughput> listener = throughput -> {};
+
+	@Override
+	public JsonLinesWriter skipNulls() {
+		this.skipsNulls = true;
+		return this;
+	}
+
+	@Override
+	public JsonLinesWriter bufferSize(final int size) {
+		this.output = new ChannelOutput(size);
+		return this;
+	}
+
+	@Override
+	public JsonLinesWriter reportTo(final Consumer<? super Throughput> listener) {
+		this.listener = requireNonNull(listener, "The listener must not be null");
+		return this;
+	}
+
+	@Override
+	public void write(final Table table, final WritableByteChannel channel) throws IOException {
+		requireNonNull(table, "The table to write must not be null");
+		requireNonNull(channel, "The channel to write to must not be null");
+
+		long start = System.nanoTime();
+		int columns = table.columns().size();
+		long rows = 0;
+
+		// the keys are escaped once, then copied as is for each row
+		String[] keys = new String[columns];
+
+		for( int column = 0 ; column < columns ; ++column )
+			keys[column] = escaped(table.columns().get(column).header()) + ':';
+
+		output.open(channel);
+
+		for( Row row : table.rows() ) {
+			boolean first = true;
+			output.writeByte('{');
+
+			for( int column = 0 ; column < columns ; ++column ) {
+				Object element = row.get(column);
+
+				if( element == null && skipsNulls )
+					continue;
+
+				if( ! first )
+					output.writeByte(',');
+
+				output.writeUtf8(keys[column]);
+				writeElement(element);
+				first = false;
+			}
+			output.writeByte('}');
+			output.writeByte('\n');
+			++rows;
+		}
+		output.flush();
+		listener.accept(new Throughput(output.written(), rows, System.nanoTime() - start));
+	}
+
+	private void writeElement(Object element) throws IOException {
+		if( element == null )
+			output.writeAscii("null");
+
+		else if( element instanceof Integer || element instanceof Long || element instanceof Short || element instanceof Byte )
+			output.writeLong(((Number) element).longValue());
+
+		else if( element instanceof Double && isFinite((Double) element) )
+			output.writeDouble((Double) element);
+
+		else if( element instanceof Float && isFinite((Float) element) )
+			output.writeFloat((Float) element);
+
+		else if( element instanceof Boolean )
+			output.writeAscii((Boolean) element ? "true" : "false");
+
+		else if( element instanceof BigInteger || element instanceof BigDecimal )
+			output.writeAscii(element.toString());
+
+		else
+			writeString(element.toString());
+	}
+
+	private static boolean isFinite(double value) {
+		return ! Double.isNaN(value) && ! Double.isInfinite(value);
+	}
+
+	/** Writes {@code text} as a JSON string. */
+	private void writeString(String text) throws IOException {
+		output.writeByte('"');
+		int from = 0;
+
+		for( int i = 0 ; i < text.length() ; ++i ) {
+			char c = text.charAt(i);
+
+			if( c == '"' || c == '\\' || c < 0x20 ) {
+				output.writeUtf8(text, from, i);
+				output.writeAscii(escape(c));
+				from = i + 1;
+			}
+		}
+		output.writeUtf8(text, from, text.length());
+		output.writeByte('"');
+	}
+
+	/** @return {@code text} as a JSON string */
+	private static String escaped(String text) {
+		StringBuilder builder = new StringBuilder(text.length() + 2).append('"');
+
+		for( int i = 0 ; i < text.length() ; ++i ) {
+			char c = text.charAt(i);
+
+			if( c == '"' || c == '\\' || c < 0x20 )
+				builder.append(escape(c));
+			else
+				builder.append(c);
+		}
+		return builder.append('"').toString();
+	}
+
+	/** @return the escape sequence of {@code c} */
+	private static String escape(char c) {
+		switch( c ) {
+		case '"':  return "\\\"";
+		case '\\': return "\\\\";
+		case '\n': return "\\n";
+		case '\r': return "\\r";
+		case '\t': return "\\t";
+		case '\b': return "\\b";
+		case '\f': return "\\f";
+		default:   return "\\u00" + HEX_DIGITS[c >> 4] + HEX_DIGITS[c & 0xF];
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.nio.channels.FileChannel;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.base.FinalizablePhantomReference;
+import com.google.common.base.FinalizableReferenceQueue;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.core.impl.ReadOnlyColumn;
+import fr.kazejiyu.generic.datatable.core.impl.TableView;
+import fr.kazejiyu.generic.datatable.io.MappedTable;
+
+/**
+ * A {@link MappedTable} made of {@link MappedColumn}s sharing the channel of a file. <br>
+ * <br>
+ * When a table has not been closed, its channel is closed by a background thread once
+ * the table and its columns have been garbage collected, so that neither its file nor
+ * its mappings are leaked. The columns are tracked through the cache they all share.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class SimpleMappedTable extends TableView implements MappedTable {
+
+	/** Notified of the caches of the tables that have been garbage collected. */
+	private static final FinalizableReferenceQueue COLLECTED = new FinalizableReferenceQueue();
+
+	/** The references of the open tables, which must be reachable for the queue to be notified. */
+	private static final Set<Reference<?>> OPEN = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+	/** The channel of the file. */
+	private final FileChannel channel;
+
+	/** Keeps the blocks decoded by the columns. */
+	private final BlockCache cache;
+
+	/** The ids of the rows. */
+	private final Column<Integer> rowIds;
+
+	/** Closes the channel once the table and its columns are garbage collected. */
+	private final Reference<?> reference;
+
+	/**
+	 * Creates a new table.
+	 * 
+	 * @param channel
+	 * 			The channel of the file.
+	 * @param cache
+	 * 			Keeps the blocks decoded by the columns.
+	 * @param columns
+	 * 			The columns of the table, which elements are read from {@code channel}.
+	 * @param rowIds
+	 * 			The ids of the rows, {@code null} if the file does not hold them.
+	 */
+	SimpleMappedTable(FileChannel channel, BlockCache cache, List<MappedColumn<?>> columns, MappedColumn<Integer> rowIds) {
+		super(columns);
+		this.channel = channel;
+		this.cache = cache;
+		this.rowIds = rowIds == null ? new Positions(rows().size()) : rowIds;
+		this.reference = closeOnceCollected(cache, channel);
+	}
+
+	/** @return a reference closing {@code channel} once {@code cache} has been garbage collected */
+	private static Reference<?> closeOnceCollected(BlockCache cache, FileChannel channel) {
+		Reference<?> reference = new FinalizablePhantomReference<BlockCache>(cache, COLLECTED) {
+			@Override
+			public void finalizeReferent() {
+				OPEN.remove(this);
+
+				try {
+					channel.close();
+				}
+				catch( IOException e ) {
+					// nobody is left to be notified
+				}
+			}
+		};
+		OPEN.add(reference);
+		return reference;
+	}
+
+	@Override
+	public Column<Integer> rowIds() {
+		return rowIds;
+	}
+
+	@Override
+	public long loadedBytes() {
+		return cache.size();
+	}
+
+	@Override
+	public void close() throws IOException {
+		OPEN.remove(reference);
+		channel.close();
+		cache.clear();
+	}
+
+	/** A column made of the positions of the rows. */
+	private static final class Positions extends ReadOnlyColumn<Integer> {
+
+		private final int size;
+
+		Positions(int size) {
+			super("id", Integer.class);
+			this.size = size;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public Integer get(int row) {
+			if( row < 0 || size <= row )
+				throw new IndexOutOfBoundsException("There is no row at index " + row);
+
+			return row;
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.TableView;
+import fr.kazejiyu.generic.datatable.io.OffHeapTable;
+
+/**
+ * An {@link OffHeapTable} made of {@link OffHeapColumn}s.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public final class SimpleOffHeapTable extends TableView implements OffHeapTable {
+
+	/** The columns of the table. */
+	private final List<OffHeapColumn<?>> columns;
+
+	private SimpleOffHeapTable(Table table, List<OffHeapColumn<?>> columns) {
+		super(columns, table.sortOrder());
+		this.columns = columns;
+	}
+
+	/**
+	 * Copies {@code table} outside of the heap.
+	 * 
+	 * @param table
+	 * 			The table to copy. Must not be {@code null}.
+	 * 
+	 * @return a new table holding the content of {@code table}.
+	 * 
+	 * @throws NullPointerException if {@code table} is {@code null}.
+	 * @throws OutOfMemoryError if the memory cannot be allocated.
+	 */
+	public static SimpleOffHeapTable copyOf(final Table table) {
+		requireNonNull(table, "The table to copy must not be null");
+
+		List<OffHeapColumn<?>> columns = new ArrayList<>(table.columns().size());
+
+		try {
+			for( Column<?> column : table.columns() )
+				columns.add(OffHeapColumn.copyOf(column));
+		}
+		catch( RuntimeException | Error e ) {
+			columns.forEach(OffHeapColumn::close);
+			throw e;
+		}
+		return new SimpleOffHeapTable(table, columns);
+	}
+
+	/** @return the number of bytes all the open off-heap tables store outside of the heap */
+	public static long totalOffHeapBytes() {
+		return DirectMemory.allocated();
+	}
+
+	@Override
+	public long offHeapBytes() {
+		long bytes = 0;
+
+		for( OffHeapColumn<?> column : columns )
+			bytes += column.offHeapBytes();
+
+		return bytes;
+	}
+
+	@Override
+	public void close() {
+		columns.forEach(OffHeapColumn::close);
+	}
+}
@@ -0,0 +1,648 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.core.TableListener;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+import fr.kazejiyu.generic.datatable.io.WriteAheadLog;
+
+/**
+ * A {@link WriteAheadLog} storing its files in a directory. <br>
+ * <br>
+ * The directory holds a snapshot of the table, written in the columnar format, and
+ * the log of the modifications made since the snapshot. Both files are numbered by
+ * a generation incremented by each checkpoint; the generation 0 has no snapshot and
+ * stands for an empty table. A checkpoint writes the snapshot of the next generation
+ * then starts a new log, so that a crash at any time leaves either the previous
+ * snapshot and its complete log or the new snapshot. <br>
+ * <br>
+ * Each record of the log is made of its length, its CRC-32 and its content. When the
+ * log is replayed, the records following the first truncated or corrupted one, which
+ * can only have been partially written, are discarded. <br>
+ * <br>
+ * Records are appended to an in-memory buffer. A background thread periodically writes
+ * the buffer to the file and forces it to the disk, so that a single {@code fsync} makes
+ * durable all the modifications made in the meantime. <br>
+ * <br>
+ * Records are numbered in the order they are appended. Forces are serialized by a dedicated
+ * lock, so that they do not block the modifications of the table, and each of them covers all
+ * the records written to the file before it starts; a call to {@link #sync()} returns once the
+ * records it has written are covered by a force, whether it has performed it or not.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public final class SimpleWriteAheadLog implements WriteAheadLog, TableListener {
+
+	private static final byte ROW_CREATED = 1;
+	private static final byte ROWS_REMOVED = 2;
+	private static final byte ROWS_CLEARED = 3;
+	private static final byte ROWS_SORTED = 4;
+	private static final byte ELEMENT_SET = 5;
+	private static final byte COLUMN_CREATED = 6;
+	private static final byte COLUMN_REMOVED = 7;
+
+	private static final String SNAPSHOT_PREFIX = "snapshot-";
+	private static final String SNAPSHOT_SUFFIX = ".dtbl";
+	private static final String LOG_PREFIX = "log-";
+	private static final String LOG_SUFFIX = ".wal";
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/** The directory holding the files. */
+	private final Path directory;
+
+	/** The table which modifications are logged. */
+	private final DataTable table;
+
+	/** The type of each column of the table. */
+	private final List<ValueType> types = new ArrayList<>();
+
+	/** Buffers the records until they are written to the file. */
+	private final ChannelOutput output = new ChannelOutput(BUFFER_SIZE);
+
+	/** Holds the record being built. */
+	private ByteBuffer record = ByteBuffer.allocate(256);
+
+	private final CRC32 checksum = new CRC32();
+
+	/** Periodically forces the records to the disk, {@code null} if each record is forced as soon as appended. */
+	private final ScheduledExecutorService syncer;
+
+	/** The generation of the current snapshot and log. */
+	private long generation;
+
+	/** The channel of the current log. */
+	private volatile FileChannel channel;
+
+	/** The number of records appended to the log. */
+	private long appended;
+
+	/** The number of records written to the channel; only increased while holding the lock of the log. */
+	private volatile long flushed;
+
+	/** 
+	 * Serializes the forces of the log to the disk. The lock of the log may be held while acquiring
+	 * this one, but not the other way around.
+	 */
+	private final Object forceLock = new Object();
+
+	/** The number of records forced to the disk; guarded by {@link #forceLock}. */
+	private long forced;
+
+	/** The error that prevents records from being appended, if any. */
+	private IOException failure;
+
+	private boolean closed;
+
+	private SimpleWriteAheadLog(Path directory, DataTable table, long generation, FileChannel channel, Duration syncInterval) {
+		this.directory = directory;
+		this.table = table;
+		this.generation = generation;
+		this.channel = channel;
+		this.output.open(channel);
+
+		for( Column<?> column : table.columns() )
+			types.add(ValueType.of(column.type()));
+
+		if( syncInterval.isZero() )
+			this.syncer = null;
+
+		else {
+			long period = syncInterval.toNanos();
+			this.syncer = Executors.newSingleThreadScheduledExecutor(task -> {
+				Thread thread = new Thread(task, "datatable-wal-sync");
+				thread.setDaemon(true);
+				return thread;
+			});
+			this.syncer.scheduleWithFixedDelay(this::syncInBackground, period, period, TimeUnit.NANOSECONDS);
+		}
+		table.addListener(this);
+	}
+
+	/**
+	 * Opens the log stored in {@code directory}, recovering the table it holds.
+	 * 
+	 * @param directory
+	 * 			The directory holding the files of the log. Must not be {@code null}.
+	 * 			Created if it does not exist.
+	 * @param syncInterval
+	 * 			The delay between two forces of the log to the disk. Must not be {@code null}.
+	 * 			If zero, each modification is forced to the disk before returning.
+	 * 
+	 * @return the opened log.
+	 * 
+	 * @throws IOException if the files cannot be read or written.
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * @throws IllegalArgumentException if {@code syncInterval} is negative.
+	 * @throws MalformedRecordException if the snapshot or the log is corrupted.
+	 */
+	public static SimpleWriteAheadLog open(final Path directory, final Duration syncInterval) throws IOException {
+		requireNonNull(directory, "The directory of the log must not be null");
+		requireNonNull(syncInterval, "The sync interval must not be null");
+
+		if( syncInterval.isNegative() )
+			throw new IllegalArgumentException("The sync interval must not be negative (got: " + syncInterval + ")");
+
+		Files.createDirectories(directory);
+
+		long generation = latestGeneration(directory);
+		DataTable table = generation == 0 ? new DataTable() : new SimpleColumnarReader(snapshotOf(directory, generation)).read();
+		FileChannel channel = FileChannel.open(logOf(directory, generation), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+		try {
+			long end = replay(channel, table);
+			channel.truncate(end);
+			channel.position(end);
+			deleteFilesPrecedingGeneration(directory, generation);
+			return new SimpleWriteAheadLog(directory, table, generation, channel, syncInterval);
+		}
+		catch( IOException | RuntimeException e ) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	private static Path snapshotOf(Path directory, long generation) {
+		return directory.resolve(SNAPSHOT_PREFIX + generation + SNAPSHOT_SUFFIX);
+	}
+
+	private static Path logOf(Path directory, long generation) {
+		return directory.resolve(LOG_PREFIX + generation + LOG_SUFFIX);
+	}
+
+	/** @return the generation of the latest snapshot stored in {@code directory}, 0 if there is none */
+	private static long latestGeneration(Path directory) throws IOException {
+		long latest = 0;
+
+		try( DirectoryStream<Path> snapshots = Files.newDirectoryStream(directory, SNAPSHOT_PREFIX + "*" + SNAPSHOT_SUFFIX) ) {
+			for( Path snapshot : snapshots )
+				latest = Math.max(latest, generationOf(snapshot, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX));
+		}
+		return latest;
+	}
+
+	/** @return the generation of {@code file}, -1 if its name is not made of a generation */
+	private static long generationOf(Path file, String prefix, String suffix) {
+		String name = file.getFileName().toString();
+
+		try {
+			return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+		}
+		catch( NumberFormatException e ) {
+			return -1;
+		}
+	}
+
+	/** Deletes the snapshots and the logs that precede {@code generation}, as well as unfinished snapshots. */
+	private static void deleteFilesPrecedingGeneration(Path directory, long generation) throws IOException {
+		try( DirectoryStream<Path> files = Files.newDirectoryStream(directory) ) {
+			for( Path file : files ) {
+				String name = file.getFileName().toString();
+
+				boolean isObsolete = name.endsWith(SNAPSHOT_SUFFIX + ".tmp")
+								  || name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX) && generationOf(file, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX) < generation
+								  || name.startsWith(LOG_PREFIX) && name.endsWith(LOG_SUFFIX) && generationOf(file, LOG_PREFIX, LOG_SUFFIX) < generation;
+
+				if( isObsolete )
+					Files.delete(file);
+			}
+		}
+	}
+
+	/**
+	 * Applies the records of a log to {@code table}.
+	 * 
+	 * @return the position following the last valid record.
+	 */
+	private static long replay(FileChannel channel, DataTable table) throws IOException {
+		DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel.position(0)), BUFFER_SIZE));
+		CRC32 checksum = new CRC32();
+		byte[] bytes = new byte[256];
+		long size = channel.size();
+		long end = 0;
+
+		while( true ) {
+			int length;
+			int expected;
+
+			try {
+				length = input.readInt();
+				expected = input.readInt();
+
+				if( length <= 0 || size - end - 8 < length )
+					return end;
+
+				if( bytes.length < length )
+					bytes = new byte[Math.max(length, bytes.length * 2)];
+
+				input.readFully(bytes, 0, length);
+			}
+			catch( EOFException e ) {
+				return end;
+			}
+			checksum.reset();
+			checksum.update(bytes, 0, length);
+
+			if( (int) checksum.getValue() != expected )
+				return end;
+
+			try {
+				apply(ByteBuffer.wrap(bytes, 0, length), table);
+			}
+			catch( BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e ) {
+				throw new MalformedRecordException("The record at byte " + end + " cannot be applied to the table", e);
+			}
+			end += 8 + length;
+		}
+	}
+
+	/** Applies a record to {@code table}. */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static void apply(ByteBuffer record, DataTable table) {
+		byte kind = record.get();
+
+		switch( kind ) {
+		case ROW_CREATED:
+			List<Object> elements = new ArrayList<>(table.columns().size());
+
+			for( Column<?> column : table.columns() )
+				elements.add(readValue(record, ValueType.of(column.type())));
+
+			table.rows().create(elements);
+			break;
+
+		case ROWS_REMOVED:
+			int[] indexes = new int[record.getInt()];
+
+			for( int i = 0 ; i < indexes.length ; ++i )
+				indexes[i] = record.getInt();
+
+			for( int i = indexes.length - 1 ; i >= 0 ; --i )
+				table.rows().remove(indexes[i]);
+
+			break;
+
+		case ROWS_CLEARED:
+			table.rows().clear();
+			break;
+
+		case ROWS_SORTED:
+			ColumnId<?>[] ids = new ColumnId<?>[record.getInt()];
+
+			for( int i = 0 ; i < ids.length ; ++i ) {
+				Column<?> column = table.columns().get(record.getInt());
+				ids[i] = ColumnId.id(column.header(), column.type());
+			}
+			table.sortBy(ids);
+			break;
+
+		case ELEMENT_SET:
+			int row = record.getInt();
+			int index = record.getInt();
+			Object element = readValue(record, ValueType.of(table.columns().get(index).type()));
+			table.rows().get(row).set(index, element);
+			break;
+
+		case COLUMN_CREATED:
+			String header = readString(record);
+			ValueType type = ValueType.ofCode(record.get());
+			int size = record.getInt();
+			List<Object> column = new ArrayList<>(size);
+
+			for( int i = 0 ; i < size ; ++i )
+				column.add(readValue(record, type));
+
+			table.columns().create(header, (Class) type.type, (Iterable) column);
+			break;
+
+		case COLUMN_REMOVED:
+			table.columns().remove(record.getInt());
+			break;
+
+		default:
+			throw new MalformedRecordException("Unknown kind of record: " + kind);
+		}
+	}
+
+	private static Object readValue(ByteBuffer record, ValueType type) {
+		if( record.get() == 0 )
+			return null;
+
+		return type.hasBits() ? type.fromBits(type.read(record)) : readString(record);
+	}
+
+	private static String readString(ByteBuffer record) {
+		int length = record.getInt();
+		String string = new String(record.array(), record.arrayOffset() + record.position(), length, UTF_8);
+		record.position(record.position() + length);
+		return string;
+	}
+
+	@Override
+	public DataTable table() {
+		return table;
+	}
+
+	@Override
+	public void sync() throws IOException {
+		long written;
+
+		synchronized( this ) {
+			assertIsUsable();
+
+			if( flushed < appended ) {
+				try {
+					output.flush();
+				}
+				catch( IOException e ) {
+					throw fail(e);
+				}
+				flushed = appended;
+			}
+			written = flushed;
+		}
+		IOException error = force(written);
+
+		if( error != null ) {
+			synchronized( this ) {
+				throw fail(error);
+			}
+		}
+	}
+
+	/**
+	 * Forces the log to the disk, unless the first {@code records} records already have been.
+	 * 
+	 * @return the error raised by the force, {@code null} if none
+	 */
+	private IOException force(long records) {
+		synchronized( forceLock ) {
+			if( forced >= records )
+				return null;
+
+			long covered = flushed;
+
+			try {
+				channel.force(false);
+			}
+			catch( ClosedChannelException e ) {
+				// a checkpoint has replaced the channel after having forced it
+			}
+			catch( IOException e ) {
+				return e;
+			}
+			forced = covered;
+			return null;
+		}
+	}
+
+	private void syncInBackground() {
+		try {
+			sync();
+		}
+		catch( IOException | RuntimeException e ) {
+			// recorded as the failure of the log, thrown by the next modification
+		}
+	}
+
+	@Override
+	public synchronized WriteAheadLog checkpoint() throws IOException {
+		sync();
+
+		long next = generation + 1;
+		Path snapshot = snapshotOf(directory, next);
+		Path temporary = directory.resolve(snapshot.getFileName() + ".tmp");
+
+		try( FileChannel file = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE) ) {
+			new SimpleColumnarWriter().withRowIds().write(table, file);
+			file.force(true);
+		}
+		Files.move(temporary, snapshot, StandardCopyOption.ATOMIC_MOVE);
+
+		FileChannel log = FileChannel.open(logOf(directory, next), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+		channel.close();
+		channel = log;
+		output.open(log);
+		generation = next;
+
+		deleteFilesPrecedingGeneration(directory, generation);
+		return this;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if( syncer != null ) {
+			syncer.shutdown();
+
+			try {
+				syncer.awaitTermination(1, TimeUnit.MINUTES);
+			}
+			catch( InterruptedException e ) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		synchronized( this ) {
+			if( closed )
+				return;
+
+			table.removeListener(this);
+
+			try {
+				if( failure == null )
+					sync();
+			}
+			finally {
+				closed = true;
+				channel.close();
+			}
+		}
+	}
+
+	/** @throws IllegalStateException if the log is closed or has failed */
+	private void assertIsUsable() {
+		if( closed )
+			throw new IllegalStateException("The log has been closed");
+
+		if( failure != null )
+			throw new IllegalStateException("The log has failed", failure);
+	}
+
+	/** Records that the log has failed because of {@code cause}, then returns it. */
+	private IOException fail(IOException cause) {
+		if( failure == null )
+			failure = cause;
+
+		return cause;
+	}
+
+	@Override
+	public synchronized void rowCreated(List<Object> elements) {
+		begin(ROW_CREATED);
+
+		for( int i = 0 ; i < elements.size() ; ++i )
+			putValue(types.get(i), elements.get(i));
+
+		append();
+	}
+
+	@Override
+	public synchronized void rowsRemoved(int... indexes) {
+		begin(ROWS_REMOVED);
+		putInts(indexes);
+		append();
+	}
+
+	@Override
+	public synchronized void rowsCleared() {
+		begin(ROWS_CLEARED);
+		append();
+	}
+
+	@Override
+	public synchronized void rowsSorted(int... columns) {
+		begin(ROWS_SORTED);
+		putInts(columns);
+		append();
+	}
+
+	@Override
+	public synchronized void elementSet(int row, int column, Object element) {
+		begin(ELEMENT_SET);
+		reserve(8).putInt(row).putInt(column);
+		putValue(types.get(column), element);
+		append();
+	}
+
+	@Override
+	public synchronized void columnCreated(Column<?> column) {
+		ValueType type = ValueType.of(column.type());
+
+		begin(COLUMN_CREATED);
+		putString(column.header());
+		reserve(5).put(type.code).putInt(column.size());
+
+		for( Object element : column )
+			putValue(type, element);
+
+		append();
+		types.add(type);
+	}
+
+	@Override
+	public synchronized void columnRemoved(int index) {
+		begin(COLUMN_REMOVED);
+		reserve(4).putInt(index);
+		append();
+		types.remove(index);
+	}
+
+	/** Starts building a new record. */
+	private void begin(byte kind) {
+		assertIsUsable();
+		record.clear();
+		record.put(kind);
+	}
+
+	/** @return the record, which can hold at least {@code bytes} more bytes */
+	private ByteBuffer reserve(int bytes) {
+		if( record.remaining() < bytes ) {
+			ByteBuffer larger = ByteBuffer.allocate(Math.max(record.capacity() * 2, record.position() + bytes));
+			record.flip();
+			larger.put(record);
+			record = larger;
+		}
+		return record;
+	}
+
+	private void putInts(int[] values) {
+		reserve(4 + 4 * values.length).putInt(values.length);
+
+		for( int value : values )
+			record.putInt(value);
+	}
+
+	private void putString(String string) {
+		byte[] bytes = string.getBytes(UTF_8);
+		reserve(4 + bytes.length).putInt(bytes.length).put(bytes);
+	}
+
+	private void putValue(ValueType type, Object value) {
+		reserve(1).put((byte) (value == null ? 0 : 1));
+
+		if( value == null )
+			return;
+
+		if( ! type.hasBits() ) {
+			putString((String) value);
+			return;
+		}
+		long bits = type.toBits(value);
+
+		switch( type.width ) {
+		case 1:		reserve(1).put((byte) bits); break;
+		case 2:		reserve(2).putShort((short) bits); break;
+		case 4:		reserve(4).putInt((int) bits); break;
+		default:	reserve(8).putLong(bits);
+		}
+	}
+
+	/** Appends the record to the log. */
+	private void append() {
+		checksum.reset();
+		checksum.update(record.array(), 0, record.position());
+
+		try {
+			output.putInt(record.position());
+			output.putInt((int) checksum.getValue());
+			output.put(record.array(), 0, record.position());
+			++appended;
+
+			if( syncer == null )
+				sync();
+		}
+		catch( IOException e ) {
+			throw new UncheckedIOException(fail(e));
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+
+/**
+ * The types of the columns that can be stored in a columnar file. <br>
+ * <br>
+ * Every value but strings is represented by a {@code long} holding its bits,
+ * so that encodings can process all the types the same way.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+enum ValueType {
+
+	BOOLEAN(1, Boolean.class, 1),
+	BYTE(2, Byte.class, 1),
+	SHORT(3, Short.class, 2),
+	CHARACTER(4, Character.class, 2),
+	INTEGER(5, Integer.class, 4),
+	LONG(6, Long.class, 8),
+	FLOAT(7, Float.class, 4),
+	DOUBLE(8, Double.class, 8),
+	STRING(9, String.class, 0);
+
+	/** Identifies the type in a file. */
+	final byte code;
+
+	/** The Java type of the values. */
+	final Class<?> type;
+
+	/** The number of bytes of a value, 0 if values do not have a fixed size. */
+	final int width;
+
+	private ValueType(int code, Class<?> type, int width) {
+		this.code = (byte) code;
+		this.type = type;
+		this.width = width;
+	}
+
+	/**
+	 * Returns the value type of the elements of {@code type}.
+	 * 
+	 * @param type
+	 * 			The type of the elements of a column.
+	 * 
+	 * @return the value type of the elements of {@code type}.
+	 * 
+	 * @throws IllegalArgumentException if the elements of {@code type} cannot be stored.
+	 */
+	static ValueType of(Class<?> type) {
+		for( ValueType valueType : values() )
+			if( valueType.type == type )
+				return valueType;
+
+		throw new IllegalArgumentException("Cannot store values of type " + type.getName());
+	}
+
+	/**
+	 * Returns the value type identified by {@code code}.
+	 * 
+	 * @param code
+	 * 			The code of a value type.
+	 * 
+	 * @return the value type identified by {@code code}.
+	 * 
+	 * @throws MalformedRecordException if no type is identified by {@code code}.
+	 */
+	static ValueType ofCode(byte code) {
+		for( ValueType valueType : values() )
+			if( valueType.code == code )
+				return valueType;
+
+		throw new MalformedRecordException("Unknown value type: " + code);
+	}
+
+	/** @return whether the values are represented by their bits */
+	boolean hasBits() {
+		return this != STRING;
+	}
+
+	/** @return whether the values are integral numbers */
+	boolean isIntegral() {
+		return this == BYTE || this == SHORT || this == CHARACTER || this == INTEGER || this == LONG;
+	}
+
+	/** @return the bits representing {@code value}, which must not be {@code null} */
+	long toBits(Object value) {
+		switch( this ) {
+		case BOOLEAN:	return (Boolean) value ? 1 : 0;
+		case CHARACTER:	return (Character) value;
+		case FLOAT:		return Float.floatToRawIntBits((Float) value);
+		case DOUBLE:	return Double.doubleToRawLongBits((Double) value);
+		case STRING:	throw new UnsupportedOperationException("Strings are not represented by bits");
+		default:		return ((Number) value).longValue();
+		}
+	}
+
+	/** @return the value represented by {@code bits} */
+	Object fromBits(long bits) {
+		switch( this ) {
+		case BOOLEAN:	return bits != 0;
+		case BYTE:		return (byte) bits;
+		case SHORT:		return (short) bits;
+		case CHARACTER:	return (char) bits;
+		case INTEGER:	return (int) bits;
+		case LONG:		return bits;
+		case FLOAT:		return Float.intBitsToFloat((int) bits);
+		case DOUBLE:	return Double.longBitsToDouble(bits);
+		default:		throw new UnsupportedOperationException("Strings are not represented by bits");
+		}
+	}
+
+	/** Writes the {@link #width} lowest bytes of {@code bits}. */
+	void put(ChannelOutput output, long bits) throws IOException {
+		switch( width ) {
+		case 1:		output.writeByte((int) bits); break;
+		case 2:		output.putShort((short) bits); break;
+		case 4:		output.putInt((int) bits); break;
+		default:	output.putLong(bits);
+		}
+	}
+
+	/** Writes the {@link #width} lowest bytes of {@code bits} as the {@code index}th value of {@code buffer}. */
+	void put(ByteBuffer buffer, int index, long bits) {
+		switch( width ) {
+		case 1:		buffer.put(index, (byte) bits); break;
+		case 2:		buffer.putShort(index << 1, (short) bits); break;
+		case 4:		buffer.putInt(index << 2, (int) bits); break;
+		default:	buffer.putLong(index << 3, bits);
+		}
+	}
+
+	/** @return the bits of the value located at the position of {@code buffer}, which is moved past it */
+	long read(ByteBuffer buffer) {
+		switch( width ) {
+		case 1:		return buffer.get();
+		case 2:		return buffer.getShort();
+		case 4:		return buffer.getInt();
+		default:	return buffer.getLong();
+		}
+	}
+
+	/** @return the bits of the {@code index}th value of {@code buffer} */
+	long get(ByteBuffer buffer, int index) {
+		switch( width ) {
+		case 1:		return buffer.get(index);
+		case 2:		return buffer.getShort(index << 1);
+		case 4:		return buffer.getInt(index << 2);
+		default:	return buffer.getLong(index << 3);
+		}
+	}
+}
@@ -0,0 +1,7 @@
+/**
+ * Concrete implementations of the {@link fr.kazejiyu.generic.datatable.io.TableReader TableReader}s
+ * and {@link fr.kazejiyu.generic.datatable.io.TableWriter TableWriter}s.
+ * 
+ * @author Emmanuel CHEBBI 
+ */
+package fr.kazejiyu.generic.datatable.io.impl;
@@ -0,0 +1,21 @@
+/**
+ * Reads and writes {@link fr.kazejiyu.generic.datatable.core.Table Table}s from and to files.
+ * 
+ * <pre>import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
+ * 
+ *Table loadPeople(Path csv) throws IOException {
+ *    return TableReader
+ *        .csv(csv, id("name", String.class), id("age", Integer.class))
+ *        .withHeader()
+ *        .threads(4)
+ *        .read();
+ *}
+ * 
+ *void exportAdults(Table people, WritableByteChannel channel) throws IOException {
+ *    Table adults = Query.from(people).where(AGE).ge(18).select();
+ *    TableWriter.tsv().write(adults, channel);
+ *}</pre>
+ * 
+ * @author Emmanuel CHEBBI
+ */
+package fr.kazejiyu.generic.datatable.io;
@@ -19,6 +19,8 @@ import java.util.Collection;
 import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
 import fr.kazejiyu.generic.datatable.core.impl.ColumnOfNumbersId;
 import fr.kazejiyu.generic.datatable.core.impl.ColumnOfStringsId;
+import fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
 import fr.kazejiyu.generic.datatable.query.impl.WhereNumber;
 import fr.kazejiyu.generic.datatable.query.impl.WhereStr;
 
@@ -135,4 +137,27 @@ public interface And extends Select {
 	 * @return a query set up to apply a filter on several columns of Numbers.
 	 */
 	WhereNumber and(ColumnOfNumbersId<?>[] ids);
+
+	/**
+	 * Keeps the rows for which {@code condition} is {@code true}. <br>
+	 * <br>
+	 * For instance, the code:
+	 * <pre>Query.from(orders)
+	 *     .where(CUSTOMER).eq("Bob")
+	 *     .and(col(PRICE).times(col(QTY)).gt(lit(100)))
+	 *     .select();</pre>
+	 * keeps the orders which total exceeds 100. Rows for which the condition
+	 * is {@code null} are discarded.
+	 * 
+	 * @param condition
+	 * 			The condition the rows must fulfill. Must not be {@code null}.
+	 * 
+	 * @return a query set up to apply other filters.
+	 * 
+	 * @throws NullPointerException if {@code condition} is {@code null}.
+	 * @throws ColumnIdNotFoundException if the condition uses a column that does not belong to the table.
+	 * 
+	 * @see fr.kazejiyu.generic.datatable.query.expression.Expressions
+	 */
+	And and(Expression<Boolean> condition);
 }
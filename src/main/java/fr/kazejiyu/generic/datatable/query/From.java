@@ -16,20 +16,27 @@ package fr.kazejiyu.generic.datatable.query;
 
 import java.util.Collection;
 
+import fr.kazejiyu.generic.datatable.core.Table;
 import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
 import fr.kazejiyu.generic.datatable.core.impl.ColumnOfNumbersId;
 import fr.kazejiyu.generic.datatable.core.impl.ColumnOfStringsId;
+import fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+import fr.kazejiyu.generic.datatable.query.impl.ResultCache;
 import fr.kazejiyu.generic.datatable.query.impl.WhereNumber;
 import fr.kazejiyu.generic.datatable.query.impl.WhereStr;
 
 /**
- * Contribute to a query by selecting one or more column to filter.
+ * Contribute to a query by selecting one or more column to filter. <br>
+ * <br>
+ * Since a query does not have to filter the table, this interface also makes
+ * able to end the query right away.
  * 
  * @author Emmanuel CHEBBI
  * 
  * @see Query Query for further details about the Querying API
  */
-public interface From {
+public interface From extends Select {
 	
 	/**
 	 * Prepares to apply a filter on all the columns of the table.
@@ -150,4 +157,144 @@ public interface From {
 	 * @return a query set up to apply a filter on several columns of Numbers.
 	 */
 	WhereNumber where(ColumnOfNumbersId<?>[] ids);
+
+	/**
+	 * Keeps the rows for which {@code condition} is {@code true}. <br>
+	 * <br>
+	 * For instance, the code:
+	 * <pre>Query.from(orders)
+	 *     .where(col(PRICE).times(col(QTY)).gt(lit(100)))
+	 *     .select();</pre>
+	 * keeps the orders which total exceeds 100. Rows for which the condition
+	 * is {@code null} are discarded.
+	 * 
+	 * @param condition
+	 * 			The condition the rows must fulfill. Must not be {@code null}.
+	 * 
+	 * @return a query set up to apply other filters.
+	 * 
+	 * @throws NullPointerException if {@code condition} is {@code null}.
+	 * @throws ColumnIdNotFoundException if the condition uses a column that does not belong to the table.
+	 * 
+	 * @see fr.kazejiyu.generic.datatable.query.expression.Expressions
+	 */
+	And where(Expression<Boolean> condition);
+	
+	/**
+	 * Looks up the result of the query in {@code cache} before executing it. <br>
+	 * <br>
+	 * For instance, the code:
+	 * <pre>Query.from(people)
+	 *     .cachedIn(cache)
+	 *     .where(CITY).eq("Paris")
+	 *     .select(NAME);</pre>
+	 * only filters {@code people} the first time it is executed, then returns the
+	 * same result until {@code people} is modified. Cached results are read-only. <br>
+	 * <br>
+	 * Only the {@code select} methods use the cache, and only when the behavior of all
+	 * the filters is known: filters using an arbitrary predicate, such as
+	 * {@link Where#match(java.util.function.Predicate) match}, bypass the cache.
+	 * 
+	 * @param cache
+	 * 			The cache storing the results of the query. Must not be {@code null}.
+	 * 
+	 * @return the current instance to enable method chaining.
+	 * 
+	 * @throws NullPointerException if {@code cache} is {@code null}.
+	 * 
+	 * @see ResultCache
+	 */
+	From cachedIn(ResultCache cache);
+	
+	/**
+	 * Limits the memory taken by the intermediate results of the query. <br>
+	 * <br>
+	 * The intermediate results that would exceed {@code bytes} are spilled to temporary files:
+	 * <ul>
+	 * 	<li>rows are sorted by runs which are merged back from the disk,</li>
+	 * 	<li>rows are grouped and joined one partition at a time, the positions of the
+	 * 		rows of each partition being written to the disk,</li>
+	 * 	<li>selected rows are written to a temporary columnar file which is returned as
+	 * 		a {@link fr.kazejiyu.generic.datatable.io.MappedTable MappedTable}; closing
+	 * 		this table deletes the file, which is otherwise deleted once the table has
+	 * 		been garbage collected.</li>
+	 * </ul>
+	 * Results stored in a {@link ResultCache} are never spilled, since they are shared. <br>
+	 * <br>
+	 * Such a query is slower, but its memory footprint remains bounded. Sizes are estimated
+	 * from the number of rows and columns involved, hence the budget is not a hard limit. <br>
+	 * <br>
+	 * The budget applies to the joins that follow.
+	 * 
+	 * @param bytes
+	 * 			The number of bytes the intermediate results may take. Must be positive.
+	 * 
+	 * @return the current instance to enable method chaining.
+	 * 
+	 * @throws IllegalArgumentException if {@code bytes} is not positive.
+	 */
+	From withMemoryBudget(long bytes);
+	
+	/**
+	 * Prepares to join the table with {@code table}, keeping only the rows that match. <br>
+	 * <br>
+	 * For instance, the code:
+	 * <pre>Query.from(orders)
+	 *     .join(customers).on(CUSTOMER_ID, ID)
+	 *     .where(COUNTRY).eq("France")
+	 *     .select(ORDER_ID, NAME);</pre>
+	 * returns the orders of French customers along with the name of the customer.
+	 * 
+	 * @param table
+	 * 			The table to join with. Must not be {@code null}.
+	 * 
+	 * @return a query set up to specify the columns to join on.
+	 * 
+	 * @throws NullPointerException if {@code table} is {@code null}.
+	 */
+	Join join(Table table);
+	
+	/**
+	 * Prepares to join the table with {@code table}, keeping every row of the queried table. <br>
+	 * <br>
+	 * The rows that do not match any row of {@code table} are kept once, the columns
+	 * coming from {@code table} being filled with {@code null}.
+	 * 
+	 * @param table
+	 * 			The table to join with. Must not be {@code null}.
+	 * 
+	 * @return a query set up to specify the columns to join on.
+	 * 
+	 * @throws NullPointerException if {@code table} is {@code null}.
+	 */
+	Join leftJoin(Table table);
+	
+	/**
+	 * Prepares to keep the rows of the queried table that match at least one row of {@code table}. <br>
+	 * <br>
+	 * The resulting table only owns the columns of the queried table and each row
+	 * is kept at most once.
+	 * 
+	 * @param table
+	 * 			The table to match against. Must not be {@code null}.
+	 * 
+	 * @return a query set up to specify the columns to join on.
+	 * 
+	 * @throws NullPointerException if {@code table} is {@code null}.
+	 */
+	Join semiJoin(Table table);
+	
+	/**
+	 * Prepares to keep the rows of the queried table that do not match any row of {@code table}. <br>
+	 * <br>
+	 * The resulting table only owns the columns of the queried table.
+	 * 
+	 * @param table
+	 * 			The table to match against. Must not be {@code null}.
+	 * 
+	 * @return a query set up to specify the columns to join on.
+	 * 
+	 * @throws NullPointerException if {@code table} is {@code null}.
+	 */
+	Join antiJoin(Table table);
 }
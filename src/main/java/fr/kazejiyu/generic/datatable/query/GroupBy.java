@@ -0,0 +1,57 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException;
+import fr.kazejiyu.generic.datatable.exceptions.HeaderAlreadyExistsException;
+import fr.kazejiyu.generic.datatable.query.aggregate.Aggregate;
+import fr.kazejiyu.generic.datatable.query.aggregate.Aggregates;
+
+/**
+ * Last query's statement when rows are grouped ; makes able to choose the aggregates
+ * computed for each group. <br>
+ * <br>
+ * Aggregates are built with the static methods of {@link Aggregates}:
+ * 
+ * <pre>Query.from(sales)
+ *     .groupBy(COUNTRY)
+ *     .aggregate(count(), sum(AMOUNT), avg(AGE));</pre>
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @see Query Query for further details about the Querying API
+ */
+public interface GroupBy {
+
+	/**
+	 * Returns a new table containing one row per group. <br>
+	 * <br>
+	 * The columns of the new table are the grouping columns, in order, followed by
+	 * one column per aggregate. The rows are ordered by first appearance of their
+	 * group in the original table, or in the sorted rows when the query specifies
+	 * an order.
+	 * 
+	 * @param aggregates
+	 * 			The aggregates to compute for each group. Must not be {@code null}.
+	 * 
+	 * @return a new table containing one row per group.
+	 * 
+	 * @throws NullPointerException if {@code aggregates} is {@code null}.
+	 * @throws ColumnIdNotFoundException if an aggregated column does not belong to the table.
+	 * @throws HeaderAlreadyExistsException if two columns of the result share the same header.
+	 */
+	Table aggregate(Aggregate<?>... aggregates);
+}
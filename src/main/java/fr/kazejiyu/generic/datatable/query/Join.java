@@ -0,0 +1,55 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query;
+
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.TableView;
+import fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException;
+import fr.kazejiyu.generic.datatable.exceptions.UndistinctHeadersException;
+
+/**
+ * Contribute to a query by specifying how the rows of two tables are matched. <br>
+ * <br>
+ * Two rows match when the element of the left column equals the element of the
+ * right column; {@code null} elements never match. <br>
+ * <br>
+ * The joined table is a read-only {@link TableView}: its rows are ordered as in
+ * the left table and no element is copied. When both tables own a column with the
+ * same header as the key, only the left one is kept.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @see From#join(fr.kazejiyu.generic.datatable.core.Table) From.join(Table) to start a join
+ */
+public interface Join {
+
+	/**
+	 * Joins the rows which elements in {@code left} and {@code right} are equal.
+	 * 
+	 * @param left
+	 * 			The id of the key column in the left table. Must not be {@code null}.
+	 * @param right
+	 * 			The id of the key column in the right table. Must not be {@code null}.
+	 * 
+	 * @return a query over the joined table.
+	 * 
+	 * @throws NullPointerException if {@code left} or {@code right} is {@code null}.
+	 * @throws ColumnIdNotFoundException if an id does not match any column of its table.
+	 * @throws UndistinctHeadersException if both tables own a non-key column with the same header.
+	 * 
+	 * @param <K> The type of the keys
+	 */
+	<K> From on(ColumnId<K> left, ColumnId<? extends K> right);
+}
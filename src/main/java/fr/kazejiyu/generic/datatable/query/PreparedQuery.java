@@ -0,0 +1,83 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query;
+
+import java.util.Set;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException;
+
+/**
+ * A query built once and executed many times, possibly on different tables and
+ * with different parameters. <br>
+ * <br>
+ * For instance, the code:
+ * <pre>PreparedQuery adults = Query.prepare()
+ *     .where(col(AGE).ge(param("minAge", Integer.class)))
+ *     .orderBy(NAME.asc())
+ *     .select(NAME, AGE);
+ * 
+ *Table french = adults.with("minAge", 18).execute(frenchPeople);
+ *Table american = adults.with("minAge", 21).execute(americanPeople);</pre>
+ * retrieves the adults of each table. <br>
+ * <br>
+ * The conditions are bound once per schema of the queried tables, each parameter reading
+ * its value from the ones given to {@link #with(String, Object)}, and kept in a bounded
+ * cache: executing the query again, even with other values, does not bind them again.
+ * The schema of a table is made of the headers and the types of its columns. <br>
+ * <br>
+ * Instances are immutable and can be shared between threads.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @see Query#prepare()
+ */
+public interface PreparedQuery {
+
+	/** @return the names of the parameters used by the query */
+	Set<String> parameters();
+
+	/**
+	 * Returns a copy of this query in which {@code name} is bound to {@code value}. <br>
+	 * <br>
+	 * The copy shares the cached work of this query.
+	 * 
+	 * @param name
+	 * 			The name of the parameter. Must not be {@code null}.
+	 * @param value
+	 * 			The value of the parameter. Must not be {@code null}.
+	 * 
+	 * @return a copy of this query in which {@code name} is bound to {@code value}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * @throws IllegalArgumentException if the query does not use a parameter called {@code name}
+	 * 									 or if {@code value} does not have the expected type.
+	 */
+	PreparedQuery with(String name, Object value);
+
+	/**
+	 * Executes the query on {@code table}.
+	 * 
+	 * @param table
+	 * 			The table to query. Must not be {@code null}.
+	 * 
+	 * @return a new table resulting of the query.
+	 * 
+	 * @throws NullPointerException if {@code table} is {@code null}.
+	 * @throws IllegalStateException if a parameter is not bound to any value.
+	 * @throws ColumnIdNotFoundException if the query uses a column that does not belong to {@code table}.
+	 */
+	Table execute(Table table);
+}
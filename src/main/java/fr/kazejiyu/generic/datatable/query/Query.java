@@ -18,6 +18,7 @@ import static java.util.Objects.requireNonNull;
 
 import fr.kazejiyu.generic.datatable.core.Table;
 import fr.kazejiyu.generic.datatable.query.impl.SimpleFrom;
+import fr.kazejiyu.generic.datatable.query.impl.SimpleQueryTemplate;
 
 /**
  * Helper method to start a new query.
@@ -43,4 +44,15 @@ public interface Query {
 		return new SimpleFrom(table);
 	}
 	
+	/**
+	 * Starts a new query that can be executed many times, on any table.
+	 * 
+	 * @return an objet making able to continue the query
+	 * 
+	 * @see PreparedQuery
+	 */
+	public static QueryTemplate prepare() {
+		return new SimpleQueryTemplate();
+	}
+	
 }
@@ -0,0 +1,154 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query;
+
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.SortKey;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+
+/**
+ * Describes a query independently of the table it is executed on. <br>
+ * <br>
+ * A template ends with one of the {@code select} methods, which returns
+ * a {@link PreparedQuery} that can be executed many times, possibly with
+ * different parameters.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @see Query#prepare()
+ */
+public interface QueryTemplate {
+
+	/**
+	 * Keeps the rows for which {@code condition} is {@code true}. <br>
+	 * <br>
+	 * The condition may use {@link fr.kazejiyu.generic.datatable.query.expression.Expressions#param(String, Class) parameters}.
+	 * Calling this method several times keeps the rows fulfilling all the conditions.
+	 * 
+	 * @param condition
+	 * 			The condition the rows must fulfill. Must not be {@code null}.
+	 * 
+	 * @return the current instance to enable method chaining.
+	 * 
+	 * @throws NullPointerException if {@code condition} is {@code null}.
+	 */
+	QueryTemplate where(Expression<Boolean> condition);
+
+	/**
+	 * Also keeps the rows for which {@code condition} is {@code true}.
+	 * 
+	 * @param condition
+	 * 			The condition the rows must fulfill. Must not be {@code null}.
+	 * 
+	 * @return the current instance to enable method chaining.
+	 * 
+	 * @throws NullPointerException if {@code condition} is {@code null}.
+	 * 
+	 * @see #where(Expression)
+	 */
+	QueryTemplate and(Expression<Boolean> condition);
+
+	/**
+	 * Sorts the rows resulting of the query.
+	 * 
+	 * @param first
+	 * 			The first key to sort by. Must not be {@code null}.
+	 * @param nexts
+	 * 			The keys used to break ties. Must not be {@code null}.
+	 * 
+	 * @return the current instance to enable method chaining.
+	 * 
+	 * @throws NullPointerException if one of the keys is {@code null}.
+	 * 
+	 * @see Select#orderBy(SortKey, SortKey...)
+	 */
+	QueryTemplate orderBy(SortKey<?> first, SortKey<?>... nexts);
+
+	/**
+	 * Removes the rows holding the same elements as a previous row.
+	 * 
+	 * @return the current instance to enable method chaining.
+	 * 
+	 * @see Select#distinct()
+	 */
+	QueryTemplate distinct();
+
+	/**
+	 * Keeps at most {@code n} rows.
+	 * 
+	 * @param n
+	 * 			The maximum number of rows to keep. Must not be negative.
+	 * 
+	 * @return the current instance to enable method chaining.
+	 * 
+	 * @throws IllegalArgumentException if {@code n} is negative.
+	 * 
+	 * @see Select#limit(int)
+	 */
+	QueryTemplate limit(int n);
+
+	/**
+	 * Skips the first {@code n} rows.
+	 * 
+	 * @param n
+	 * 			The number of rows to skip. Must not be negative.
+	 * 
+	 * @return the current instance to enable method chaining.
+	 * 
+	 * @throws IllegalArgumentException if {@code n} is negative.
+	 * 
+	 * @see Select#offset(int)
+	 */
+	QueryTemplate offset(int n);
+
+	/**
+	 * Prepares a query keeping all the columns of the queried table.
+	 * 
+	 * @return a query that can be executed many times.
+	 */
+	PreparedQuery select();
+
+	/**
+	 * Prepares a query keeping the columns identified by the arguments. The order is relevant.
+	 * 
+	 * @param first
+	 * 			The id of the first column to keep. Must not be {@code null}.
+	 * @param nexts
+	 * 			The ids of the other columns to keep.
+	 * 
+	 * @return a query that can be executed many times.
+	 * 
+	 * @throws NullPointerException if one of the ids is {@code null}.
+	 */
+	PreparedQuery select(ColumnId<?> first, ColumnId<?>... nexts);
+
+	/**
+	 * Prepares a query computing some expressions. The order is relevant. <br>
+	 * <br>
+	 * The expressions may use parameters.
+	 * 
+	 * @param first
+	 * 			The first expression to compute. Must not be {@code null}.
+	 * @param nexts
+	 * 			The other expressions to compute.
+	 * 
+	 * @return a query that can be executed many times.
+	 * 
+	 * @throws NullPointerException if one of the expressions is {@code null}.
+	 * 
+	 * @see Select#select(Expression, Expression...)
+	 */
+	PreparedQuery select(Expression<?> first, Expression<?>... nexts);
+}
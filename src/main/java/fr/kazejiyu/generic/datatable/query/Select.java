@@ -18,11 +18,22 @@ import java.util.Collection;
 
 import fr.kazejiyu.generic.datatable.core.Table;
 import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.SortKey;
+import fr.kazejiyu.generic.datatable.core.impl.TableView;
 import fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException;
 import fr.kazejiyu.generic.datatable.exceptions.HeaderNotFoundException;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+import fr.kazejiyu.generic.datatable.query.window.WindowFunction;
 
 /**
- * Last query's statement ; makes able to choose the columns of the original table to keep.
+ * Last query's statement ; makes able to choose the columns of the original table to keep
+ * or to aggregate the rows of the table. <br>
+ * <br>
+ * The tables returned by the {@code select} methods belong to the caller. When the query
+ * has a {@link From#withMemoryBudget(long) memory budget}, a large result may be spilled
+ * to a temporary file and returned as a {@link fr.kazejiyu.generic.datatable.io.MappedTable MappedTable}:
+ * the caller should close it once done, which deletes the file straight away. Otherwise,
+ * the file is closed and deleted once the result has been garbage collected.
  * 
  * @author Emmanuel CHEBBI
  */
@@ -101,4 +112,222 @@ public interface Select {
 	 * @throws ColumnIdNotFoundException if id does not match any column
 	 */
 	Table select(ColumnId<?> first, ColumnId<?>... nexts);
+
+	/**
+	 * Returns a new table made of the values of some expressions computed over
+	 * the rows resulting of the previously built query. <br>
+	 * <br>
+	 * For instance, the code:
+	 * <pre>Query.from(orders)
+	 *     .select(col(ID), col(PRICE).times(col(QTY)).as("total", Double.class));</pre>
+	 * returns the id and the total of each order. Each expression gives a column
+	 * named after its {@link Expression#header() header}. The order is relevant. <br>
+	 * <br>
+	 * When {@link #distinct()} is used, the rows are deduplicated according to all
+	 * the columns of the original table.
+	 * 
+	 * @param first
+	 * 			The first expression to compute. Must not be {@code null}.
+	 * @param nexts
+	 * 			The other expressions to compute.
+	 * 
+	 * @return a new table resulting of the previously built query.
+	 * 
+	 * @throws NullPointerException if one of the expressions is {@code null}.
+	 * @throws ColumnIdNotFoundException if an expression uses a column that does not belong to the table.
+	 * @throws fr.kazejiyu.generic.datatable.exceptions.UndistinctHeadersException if two expressions have the same header.
+	 * 
+	 * @see fr.kazejiyu.generic.datatable.query.expression.Expressions
+	 */
+	Table select(Expression<?> first, Expression<?>... nexts);
+	
+	/**
+	 * Returns a read-only view of the table resulting of the previously built query. <br>
+	 * <br>
+	 * Unlike {@link #select()}, no element is copied: the view reads the elements
+	 * from the original table when they are accessed. Hence, the view reflects the
+	 * modifications of existing elements but not the insertion or the removal of rows.
+	 * 
+	 * @return a read-only view of the table resulting of the previously built query.
+	 */
+	TableView view();
+	
+	/**
+	 * Returns a read-only view of the table resulting of the previously built query. <br>
+	 * <br>
+	 * The view only contains the columns identified by the arguments. The order is relevant.
+	 * 
+	 * @param first
+	 * 			The id of first the column to keep.
+	 * 			Must not be {@code null}.
+	 * @param nexts
+	 * 			The ids of the others columns to keep.
+	 * 
+	 * @return a read-only view of the table resulting of the previously built query.
+	 * 
+	 * @throws ColumnIdNotFoundException if id does not match any column
+	 * 
+	 * @see #view()
+	 */
+	TableView view(ColumnId<?> first, ColumnId<?>... nexts);
+
+	/**
+	 * Returns a read-only view made of the values of some expressions computed over
+	 * the rows resulting of the previously built query. <br>
+	 * <br>
+	 * The values are computed each time they are accessed.
+	 * 
+	 * @param first
+	 * 			The first expression to compute. Must not be {@code null}.
+	 * @param nexts
+	 * 			The other expressions to compute.
+	 * 
+	 * @return a read-only view of the values of the expressions.
+	 * 
+	 * @throws NullPointerException if one of the expressions is {@code null}.
+	 * @throws ColumnIdNotFoundException if an expression uses a column that does not belong to the table.
+	 * @throws fr.kazejiyu.generic.datatable.exceptions.UndistinctHeadersException if two expressions have the same header.
+	 * 
+	 * @see #select(Expression, Expression...)
+	 */
+	TableView view(Expression<?> first, Expression<?>... nexts);
+	
+	/**
+	 * Returns a read-only view of the table resulting of the previously built query,
+	 * extended with the values computed by some window functions. <br>
+	 * <br>
+	 * For instance, the code:
+	 * <pre>Window byUser = partitionBy(USER).orderBy(TS);
+	 *Query.from(events)
+	 *     .window(rowNumber().over(byUser), lag(TS, 1).over(byUser));</pre>
+	 * numbers the events of each user by date and retrieves the date of the
+	 * previous event of the same user. <br>
+	 * <br>
+	 * The view contains all the columns of the original table, followed by one
+	 * column per function. The functions are computed over the rows of the query,
+	 * once filtered, sorted and limited; the rows of the view keep the order of the query.
+	 * 
+	 * @param functions
+	 * 			The functions to compute. Must not be {@code null}.
+	 * 
+	 * @return a read-only view extended with the values computed by {@code functions}.
+	 * 
+	 * @throws NullPointerException if {@code functions} or one of its elements is {@code null}.
+	 * @throws ColumnIdNotFoundException if a function uses a column that does not belong to the table.
+	 * @throws fr.kazejiyu.generic.datatable.exceptions.UndistinctHeadersException if a function uses the header of another column.
+	 * 
+	 * @see fr.kazejiyu.generic.datatable.query.window.WindowFunctions
+	 */
+	TableView window(WindowFunction<?>... functions);
+	
+	/**
+	 * Sorts the rows resulting of the previously built query. <br>
+	 * <br>
+	 * For instance, the code:
+	 * <pre>Query.from(people)
+	 *     .orderBy(AGE.desc(), NAME.asc())
+	 *     .select();</pre>
+	 * returns the people from the oldest to the youngest, people of the same
+	 * age being sorted by name. <br>
+	 * <br>
+	 * The sort is stable and does not modify the queried table. Calling this
+	 * method again replaces the previous keys.
+	 * 
+	 * @param first
+	 * 			The most significant key. Must not be {@code null}.
+	 * @param nexts
+	 * 			The other keys, by decreasing significance.
+	 * 
+	 * @return a query set up to sort its result.
+	 * 
+	 * @throws NullPointerException if a key is {@code null}.
+	 */
+	Select orderBy(SortKey<?> first, SortKey<?>... nexts);
+	
+	/**
+	 * Removes the duplicate rows from the result of the previously built query. <br>
+	 * <br>
+	 * Two rows are duplicates when they hold equal elements in every selected column;
+	 * the first of them, in the order of the queried table, is kept. When the rows are
+	 * grouped, every column of the table is compared. <br>
+	 * <br>
+	 * The elements are compared through dictionary codes kept in primitive hash tables,
+	 * hence no composite key is allocated per row.
+	 * 
+	 * @return a query set up to remove the duplicate rows.
+	 */
+	Select distinct();
+	
+	/**
+	 * Keeps at most {@code n} rows of the result of the previously built query. <br>
+	 * <br>
+	 * When the rows are not sorted, the remaining rows are not even filtered once
+	 * enough rows match the query. Calling this method again replaces the previous limit.
+	 * 
+	 * @param n
+	 * 			The maximum number of rows to keep. Must not be negative.
+	 * 
+	 * @return a query set up to limit its result.
+	 * 
+	 * @throws IllegalArgumentException if {@code n} is negative.
+	 */
+	Select limit(int n);
+	
+	/**
+	 * Skips the first {@code n} rows of the result of the previously built query. <br>
+	 * <br>
+	 * The rows are skipped after the duplicates are {@link #distinct() removed}
+	 * and before the {@link #limit(int) limit} is applied.
+	 * Calling this method again replaces the previous offset.
+	 * 
+	 * @param n
+	 * 			The number of rows to skip. Must not be negative.
+	 * 
+	 * @return a query set up to skip the first rows of its result.
+	 * 
+	 * @throws IllegalArgumentException if {@code n} is negative.
+	 */
+	Select offset(int n);
+	
+	/**
+	 * Keeps the {@code n} first rows of the result of the previously built query
+	 * according to the given keys. <br>
+	 * <br>
+	 * Equivalent to {@code orderBy(first, nexts).limit(n)}. Only {@code n} rows
+	 * (plus the offset, if any) are kept in memory while the table is scanned,
+	 * so that only them are eventually sorted.
+	 * 
+	 * @param n
+	 * 			The maximum number of rows to keep. Must not be negative.
+	 * @param first
+	 * 			The most significant key. Must not be {@code null}.
+	 * @param nexts
+	 * 			The other keys, by decreasing significance.
+	 * 
+	 * @return a query set up to keep the first rows of its result.
+	 * 
+	 * @throws NullPointerException if a key is {@code null}.
+	 * @throws IllegalArgumentException if {@code n} is negative.
+	 * 
+	 * @see #orderBy(SortKey, SortKey...)
+	 * @see #limit(int)
+	 */
+	Select topK(int n, SortKey<?> first, SortKey<?>... nexts);
+	
+	/**
+	 * Groups the rows resulting of the previously built query. <br>
+	 * <br>
+	 * Two rows belong to the same group when they hold equal values in every
+	 * column identified by {@code ids}. When no id is given, all the rows belong
+	 * to a single group.
+	 * 
+	 * @param ids
+	 * 			The ids of the columns to group by. Must not be {@code null}.
+	 * 
+	 * @return an object making able to aggregate the groups.
+	 * 
+	 * @throws NullPointerException if {@code ids} is {@code null}.
+	 * @throws ColumnIdNotFoundException if an id does not match any column
+	 */
+	GroupBy groupBy(ColumnId<?>... ids);
 }
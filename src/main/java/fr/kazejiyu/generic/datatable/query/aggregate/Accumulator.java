@@ -0,0 +1,52 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.aggregate;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+
+/**
+ * Computes an {@link Aggregate} for several groups at once. <br>
+ * <br>
+ * Groups are identified by dense indexes starting from 0. Implementations
+ * are expected to store their intermediate state in primitive arrays indexed
+ * by group rather than in a map of boxed values.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <R> The type of the computed values
+ */
+public interface Accumulator <R> {
+
+	/**
+	 * Adds {@code row} to the group identified by {@code group}.
+	 * 
+	 * @param group
+	 * 			The index of the group the row belongs to. Must be positive.
+	 * @param row
+	 * 			The row to accumulate. Must not be {@code null}.
+	 */
+	void accumulate(int group, Row row);
+
+	/**
+	 * Returns the value computed for the group identified by {@code group}.
+	 * 
+	 * @param group
+	 * 			The index of the group. Must be positive.
+	 * 
+	 * @return the value computed for the group, possibly {@code null}
+	 * 		   if the group does not contain any relevant value.
+	 */
+	R result(int group);
+}
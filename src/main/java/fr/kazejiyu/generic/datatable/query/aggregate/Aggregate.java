@@ -0,0 +1,64 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.aggregate;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException;
+
+/**
+ * A function computing a single value from the rows of a group. <br>
+ * <br>
+ * Instances are created by the static methods of {@link Aggregates} and
+ * are immutable.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <R> The type of the computed values
+ * 
+ * @see fr.kazejiyu.generic.datatable.query.GroupBy GroupBy
+ */
+public interface Aggregate <R> {
+
+	/** @return the header of the column that stores the computed values */
+	String header();
+
+	/** @return the type of the computed values */
+	Class<? extends R> type();
+
+	/**
+	 * Returns a copy of this aggregate which result is stored under another header.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the computed values.
+	 * 			Must not be {@code null}.
+	 * 
+	 * @return a copy of this aggregate using {@code header}.
+	 * 
+	 * @throws NullPointerException if {@code header} is {@code null}.
+	 */
+	Aggregate<R> as(String header);
+
+	/**
+	 * Creates a new accumulator able to compute the aggregate over the rows of {@code table}.
+	 * 
+	 * @param table
+	 * 			The table containing the rows to aggregate. Must not be {@code null}.
+	 * 
+	 * @return a new accumulator bound to {@code table}.
+	 * 
+	 * @throws ColumnIdNotFoundException if the aggregated column does not belong to {@code table}.
+	 */
+	Accumulator<R> accumulator(Table table);
+}
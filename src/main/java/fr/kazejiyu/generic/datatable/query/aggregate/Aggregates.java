@@ -0,0 +1,259 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.aggregate;
+
+import static java.util.Objects.requireNonNull;
+
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.query.aggregate.impl.ApproxCountDistinct;
+import fr.kazejiyu.generic.datatable.query.aggregate.impl.ApproxPercentile;
+import fr.kazejiyu.generic.datatable.query.aggregate.impl.Average;
+import fr.kazejiyu.generic.datatable.query.aggregate.impl.Count;
+import fr.kazejiyu.generic.datatable.query.aggregate.impl.CountDistinct;
+import fr.kazejiyu.generic.datatable.query.aggregate.impl.Extremum;
+import fr.kazejiyu.generic.datatable.query.aggregate.impl.Sum;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+import fr.kazejiyu.generic.datatable.query.expression.Expressions;
+
+/**
+ * Static factories of the {@link Aggregate}s available in queries. <br>
+ * <br>
+ * By default, the result of an aggregate is stored in a column named after
+ * the function and the aggregated column, such as {@code "sum(amount)"}.
+ * Use {@link Aggregate#as(String)} to choose another header. <br>
+ * <br>
+ * Some aggregates also accept an {@link Expression}, in which case the header
+ * is named after the header of the expression.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public final class Aggregates {
+
+	private Aggregates() {
+		// static factories only
+	}
+
+	/**
+	 * Returns an aggregate counting the rows of each group.
+	 * @return an aggregate counting the rows of each group.
+	 */
+	public static Aggregate<Long> count() {
+		return new Count("count", null);
+	}
+
+	/**
+	 * Returns an aggregate counting the non-{@code null} values of a column.
+	 * 
+	 * @param id
+	 * 			Identifies the column which values are counted. Must not be {@code null}.
+	 * 
+	 * @return an aggregate counting the non-{@code null} values of a column.
+	 * 
+	 * @throws NullPointerException if {@code id} is {@code null}.
+	 */
+	public static Aggregate<Long> count(ColumnId<?> id) {
+		return new Count(headerOf("count", id), id);
+	}
+
+	/**
+	 * Returns an aggregate counting the distinct non-{@code null} values of a column.
+	 * 
+	 * @param id
+	 * 			Identifies the column which distinct values are counted. Must not be {@code null}.
+	 * 
+	 * @return an aggregate counting the distinct non-{@code null} values of a column.
+	 * 
+	 * @throws NullPointerException if {@code id} is {@code null}.
+	 */
+	public static Aggregate<Long> countDistinct(ColumnId<?> id) {
+		return new CountDistinct(headerOf("countDistinct", id), id);
+	}
+
+	/**
+	 * Returns an aggregate estimating the number of distinct non-{@code null} values of a column. <br>
+	 * <br>
+	 * Unlike {@link #countDistinct(ColumnId)}, the memory used per group is constant;
+	 * the relative error of the estimation is about 1.6%.
+	 * 
+	 * @param id
+	 * 			Identifies the column which distinct values are counted. Must not be {@code null}.
+	 * 
+	 * @return an aggregate estimating the number of distinct non-{@code null} values of a column.
+	 * 
+	 * @throws NullPointerException if {@code id} is {@code null}.
+	 * 
+	 * @see fr.kazejiyu.generic.datatable.util.HyperLogLog
+	 */
+	public static Aggregate<Long> approxCountDistinct(ColumnId<?> id) {
+		return new ApproxCountDistinct(headerOf("approxCountDistinct", id), id);
+	}
+
+	/**
+	 * Returns an aggregate estimating a percentile of the values of a column. <br>
+	 * <br>
+	 * For instance, {@code approxPercentile(AGE, 0.5)} estimates the median age.
+	 * The memory used per group is bounded; the rank error of the estimation is about 1%.
+	 * 
+	 * @param id
+	 * 			Identifies the column which percentile is estimated. Must not be {@code null}.
+	 * @param p
+	 * 			The percentile to estimate. Must be between 0 and 1.
+	 * 
+	 * @return an aggregate estimating a percentile of the values of a column.
+	 * 
+	 * @throws NullPointerException if {@code id} is {@code null}.
+	 * @throws IllegalArgumentException if {@code p} is not between 0 and 1.
+	 * 
+	 * @see fr.kazejiyu.generic.datatable.util.KllSketch
+	 */
+	public static Aggregate<Double> approxPercentile(ColumnId<? extends Number> id, double p) {
+		requireNonNull(id, "The id of the aggregated column must not be null");
+		return new ApproxPercentile("approxPercentile(" + id.header() + ", " + p + ")", id, p);
+	}
+
+	/**
+	 * Returns an aggregate summing the values of a column. <br>
+	 * <br>
+	 * The sum of integral numbers is a {@link Long}, any other sum is a {@link Double}.
+	 * 
+	 * @param id
+	 * 			Identifies the column which values are summed. Must not be {@code null}.
+	 * 
+	 * @return an aggregate summing the values of a column.
+	 * 
+	 * @throws NullPointerException if {@code id} is {@code null}.
+	 */
+	public static Aggregate<Number> sum(ColumnId<? extends Number> id) {
+		return new Sum(headerOf("sum", id), Expressions.col(id));
+	}
+
+	/**
+	 * Returns an aggregate summing the values of an expression. <br>
+	 * <br>
+	 * The sum of integral numbers is a {@link Long}, any other sum is a {@link Double}.
+	 * 
+	 * @param expression
+	 * 			The expression which values are summed. Must not be {@code null}.
+	 * 
+	 * @return an aggregate summing the values of an expression.
+	 * 
+	 * @throws NullPointerException if {@code expression} is {@code null}.
+	 */
+	public static Aggregate<Number> sum(Expression<? extends Number> expression) {
+		return new Sum(headerOf("sum", expression), expression);
+	}
+
+	/**
+	 * Returns an aggregate computing the mean of the values of a column.
+	 * 
+	 * @param id
+	 * 			Identifies the column which values are averaged. Must not be {@code null}.
+	 * 
+	 * @return an aggregate computing the mean of the values of a column.
+	 * 
+	 * @throws NullPointerException if {@code id} is {@code null}.
+	 */
+	public static Aggregate<Double> avg(ColumnId<? extends Number> id) {
+		return new Average(headerOf("avg", id), Expressions.col(id));
+	}
+
+	/**
+	 * Returns an aggregate computing the mean of the values of an expression.
+	 * 
+	 * @param expression
+	 * 			The expression which values are averaged. Must not be {@code null}.
+	 * 
+	 * @return an aggregate computing the mean of the values of an expression.
+	 * 
+	 * @throws NullPointerException if {@code expression} is {@code null}.
+	 */
+	public static Aggregate<Double> avg(Expression<? extends Number> expression) {
+		return new Average(headerOf("avg", expression), expression);
+	}
+
+	/**
+	 * Returns an aggregate retrieving the smallest value of a column.
+	 * 
+	 * @param id
+	 * 			Identifies the column which values are compared. Must not be {@code null}.
+	 * 
+	 * @return an aggregate retrieving the smallest value of a column.
+	 * 
+	 * @param <T> The type of the compared values
+	 * 
+	 * @throws NullPointerException if {@code id} is {@code null}.
+	 */
+	public static <T extends Comparable<? super T>> Aggregate<T> min(ColumnId<T> id) {
+		return new Extremum<>(headerOf("min", id), Expressions.col(id), false);
+	}
+
+	/**
+	 * Returns an aggregate retrieving the smallest value of an expression.
+	 * 
+	 * @param expression
+	 * 			The expression which values are compared. Must not be {@code null}.
+	 * 
+	 * @return an aggregate retrieving the smallest value of an expression.
+	 * 
+	 * @param <T> The type of the compared values
+	 * 
+	 * @throws NullPointerException if {@code expression} is {@code null}.
+	 */
+	public static <T extends Comparable<? super T>> Aggregate<T> min(Expression<T> expression) {
+		return new Extremum<>(headerOf("min", expression), expression, false);
+	}
+
+	/**
+	 * Returns an aggregate retrieving the greatest value of a column.
+	 * 
+	 * @param id
+	 * 			Identifies the column which values are compared. Must not be {@code null}.
+	 * 
+	 * @return an aggregate retrieving the greatest value of a column.
+	 * 
+	 * @param <T> The type of the compared values
+	 * 
+	 * @throws NullPointerException if {@code id} is {@code null}.
+	 */
+	public static <T extends Comparable<? super T>> Aggregate<T> max(ColumnId<T> id) {
+		return new Extremum<>(headerOf("max", id), Expressions.col(id), true);
+	}
+
+	/**
+	 * Returns an aggregate retrieving the greatest value of an expression.
+	 * 
+	 * @param expression
+	 * 			The expression which values are compared. Must not be {@code null}.
+	 * 
+	 * @return an aggregate retrieving the greatest value of an expression.
+	 * 
+	 * @param <T> The type of the compared values
+	 * 
+	 * @throws NullPointerException if {@code expression} is {@code null}.
+	 */
+	public static <T extends Comparable<? super T>> Aggregate<T> max(Expression<T> expression) {
+		return new Extremum<>(headerOf("max", expression), expression, true);
+	}
+
+	private static String headerOf(String function, ColumnId<?> id) {
+		requireNonNull(id, "The id of the aggregated column must not be null");
+		return function + "(" + id.header() + ")";
+	}
+
+	private static String headerOf(String function, Expression<?> expression) {
+		requireNonNull(expression, "The aggregated expression must not be null");
+		return function + "(" + expression.header() + ")";
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.aggregate.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import fr.kazejiyu.generic.datatable.query.aggregate.Aggregate;
+
+/**
+ * Skeletal implementation of {@link Aggregate} managing the header
+ * under which the computed values are stored.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <R> The type of the computed values
+ */
+public abstract class AbstractAggregate <R> implements Aggregate <R> {
+
+	/** The header of the column that stores the computed values. */
+	private final String header;
+
+	/**
+	 * Creates a new aggregate.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the computed values.
+	 * 			Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if {@code header} is {@code null}.
+	 */
+	protected AbstractAggregate(final String header) {
+		this.header = requireNonNull(header, "The header of an aggregate must not be null");
+	}
+
+	@Override
+	public String header() {
+		return header;
+	}
+
+	@Override
+	public Aggregate<R> as(final String header) {
+		return withHeader(requireNonNull(header, "The header of an aggregate must not be null"));
+	}
+
+	/**
+	 * Returns a copy of this aggregate using another header.
+	 * 
+	 * @param header
+	 * 			The new header. Never {@code null}.
+	 * 
+	 * @return a copy of this aggregate using {@code header}.
+	 */
+	protected abstract Aggregate<R> withHeader(String header);
+
+	@Override
+	public String toString() {
+		return header;
+	}
+}
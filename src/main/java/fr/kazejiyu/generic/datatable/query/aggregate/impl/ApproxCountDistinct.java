@@ -0,0 +1,104 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.aggregate.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.query.aggregate.Accumulator;
+import fr.kazejiyu.generic.datatable.query.aggregate.Aggregate;
+import fr.kazejiyu.generic.datatable.util.HyperLogLog;
+import fr.kazejiyu.generic.datatable.util.PrimitiveArrays;
+
+/**
+ * Estimates the number of distinct non-{@code null} values of a column. <br>
+ * <br>
+ * Each group is summarized by a {@link HyperLogLog} sketch, hence the memory used
+ * per group does not depend on the number of values.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class ApproxCountDistinct extends AbstractAggregate <Long> {
+
+	/** The precision of the sketches: 4096 registers, about 1.6% of standard error. */
+	private static final int PRECISION = 12;
+
+	/** The column which distinct values are counted. */
+	private final ColumnId<?> id;
+
+	/**
+	 * Creates a new aggregate estimating the number of distinct values.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the estimations. Must not be {@code null}.
+	 * @param id
+	 * 			The column which distinct values are counted. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 */
+	public ApproxCountDistinct(final String header, final ColumnId<?> id) {
+		super(header);
+		this.id = requireNonNull(id, "The id of the aggregated column must not be null");
+	}
+
+	@Override
+	public Class<Long> type() {
+		return Long.class;
+	}
+
+	@Override
+	protected Aggregate<Long> withHeader(final String header) {
+		return new ApproxCountDistinct(header, id);
+	}
+
+	@Override
+	public Accumulator<Long> accumulator(final Table table) {
+		return new SketchAccumulator(table.columns().indexOf(id));
+	}
+
+	/** Keeps a sketch per group, created when the group meets its first value. */
+	private static final class SketchAccumulator implements Accumulator <Long> {
+
+		private final int column;
+
+		private HyperLogLog[] sketches = new HyperLogLog[16];
+
+		SketchAccumulator(final int column) {
+			this.column = column;
+		}
+
+		@Override
+		public void accumulate(final int group, final Row row) {
+			Object value = row.get(column);
+
+			if( value == null )
+				return;
+
+			sketches = PrimitiveArrays.grow(sketches, group + 1);
+
+			if( sketches[group] == null )
+				sketches[group] = new HyperLogLog(PRECISION);
+
+			sketches[group].add(value);
+		}
+
+		@Override
+		public Long result(final int group) {
+			return group < sketches.length && sketches[group] != null ? sketches[group].estimate() : 0L;
+		}
+	}
+}
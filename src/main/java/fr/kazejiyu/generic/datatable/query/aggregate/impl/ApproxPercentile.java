@@ -0,0 +1,119 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.aggregate.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.query.aggregate.Accumulator;
+import fr.kazejiyu.generic.datatable.query.aggregate.Aggregate;
+import fr.kazejiyu.generic.datatable.util.KllSketch;
+import fr.kazejiyu.generic.datatable.util.PrimitiveArrays;
+
+/**
+ * Estimates a percentile of the non-{@code null} values of a column of numbers. <br>
+ * <br>
+ * Each group is summarized by a {@link KllSketch}, hence the memory used per group
+ * does not depend on the number of values. The result is exact for groups of less
+ * than about 200 values. A group without any non-{@code null} value has a {@code null}
+ * percentile.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class ApproxPercentile extends AbstractAggregate <Double> {
+
+	/** The capacity of the sketches: about 1% of rank error. */
+	private static final int CAPACITY = 200;
+
+	/** The column which percentile is estimated. */
+	private final ColumnId<? extends Number> id;
+
+	/** The percentile to estimate, between 0 and 1. */
+	private final double percentile;
+
+	/**
+	 * Creates a new aggregate estimating a percentile.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the estimations. Must not be {@code null}.
+	 * @param id
+	 * 			The column which percentile is estimated. Must not be {@code null}.
+	 * @param percentile
+	 * 			The percentile to estimate. Must be between 0 and 1.
+	 * 
+	 * @throws NullPointerException if {@code header} or {@code id} is {@code null}.
+	 * @throws IllegalArgumentException if {@code percentile} is not between 0 and 1.
+	 */
+	public ApproxPercentile(final String header, final ColumnId<? extends Number> id, final double percentile) {
+		super(header);
+		this.id = requireNonNull(id, "The id of the aggregated column must not be null");
+		this.percentile = percentile;
+
+		if( ! (0 <= percentile && percentile <= 1) )
+			throw new IllegalArgumentException("The percentile must be between 0 and 1 (got: " + percentile + ")");
+	}
+
+	@Override
+	public Class<Double> type() {
+		return Double.class;
+	}
+
+	@Override
+	protected Aggregate<Double> withHeader(final String header) {
+		return new ApproxPercentile(header, id, percentile);
+	}
+
+	@Override
+	public Accumulator<Double> accumulator(final Table table) {
+		return new SketchAccumulator(table.columns().indexOf(id), percentile);
+	}
+
+	/** Keeps a sketch per group, created when the group meets its first value. */
+	private static final class SketchAccumulator implements Accumulator <Double> {
+
+		private final int column;
+
+		private final double percentile;
+
+		private KllSketch[] sketches = new KllSketch[16];
+
+		SketchAccumulator(final int column, final double percentile) {
+			this.column = column;
+			this.percentile = percentile;
+		}
+
+		@Override
+		public void accumulate(final int group, final Row row) {
+			Number value = (Number) row.get(column);
+
+			if( value == null || Double.isNaN(value.doubleValue()) )
+				return;
+
+			sketches = PrimitiveArrays.grow(sketches, group + 1);
+
+			if( sketches[group] == null )
+				sketches[group] = new KllSketch(CAPACITY);
+
+			sketches[group].add(value.doubleValue());
+		}
+
+		@Override
+		public Double result(final int group) {
+			return group < sketches.length && sketches[group] != null ? sketches[group].quantile(percentile) : null;
+		}
+	}
+}
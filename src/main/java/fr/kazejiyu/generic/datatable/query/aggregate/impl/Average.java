@@ -0,0 +1,101 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.aggregate.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.query.aggregate.Accumulator;
+import fr.kazejiyu.generic.datatable.query.aggregate.Aggregate;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+import fr.kazejiyu.generic.datatable.util.PrimitiveArrays;
+
+/**
+ * Computes the arithmetic mean of the non-{@code null} values of an expression computing numbers. <br>
+ * <br>
+ * A group without any non-{@code null} value has a {@code null} average.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class Average extends AbstractAggregate <Double> {
+
+	/** The values to average. */
+	private final Expression<? extends Number> expression;
+
+	/**
+	 * Creates a new aggregate computing averages.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the averages. Must not be {@code null}.
+	 * @param expression
+	 * 			The values to average. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 */
+	public Average(final String header, final Expression<? extends Number> expression) {
+		super(header);
+		this.expression = requireNonNull(expression, "The values to average must not be null");
+	}
+
+	@Override
+	public Class<Double> type() {
+		return Double.class;
+	}
+
+	@Override
+	protected Aggregate<Double> withHeader(final String header) {
+		return new Average(header, expression);
+	}
+
+	@Override
+	public Accumulator<Double> accumulator(final Table table) {
+		return new AverageAccumulator(expression.bind(table));
+	}
+
+	/** Keeps a running sum and count in primitive arrays indexed by group. */
+	private static final class AverageAccumulator implements Accumulator <Double> {
+
+		private final Function<Row, ? extends Number> values;
+
+		private double[] sums = new double[16];
+
+		private long[] counts = new long[16];
+
+		AverageAccumulator(final Function<Row, ? extends Number> values) {
+			this.values = values;
+		}
+
+		@Override
+		public void accumulate(final int group, final Row row) {
+			Number value = values.apply(row);
+
+			if( value == null )
+				return;
+
+			sums = PrimitiveArrays.grow(sums, group + 1);
+			counts = PrimitiveArrays.grow(counts, group + 1);
+			sums[group] += value.doubleValue();
+			++counts[group];
+		}
+
+		@Override
+		public Double result(final int group) {
+			return group < counts.length && counts[group] > 0 ? sums[group] / counts[group] : null;
+		}
+	}
+}
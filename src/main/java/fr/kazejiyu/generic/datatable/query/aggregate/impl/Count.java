@@ -0,0 +1,89 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.aggregate.impl;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.query.aggregate.Accumulator;
+import fr.kazejiyu.generic.datatable.query.aggregate.Aggregate;
+import fr.kazejiyu.generic.datatable.util.PrimitiveArrays;
+
+/**
+ * Counts the rows of a group, or the non-{@code null} values of a column.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class Count extends AbstractAggregate <Long> {
+
+	/** The column which non-null values are counted, {@code null} to count the rows. */
+	private final ColumnId<?> id;
+
+	/**
+	 * Creates a new aggregate counting values.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the counts. Must not be {@code null}.
+	 * @param id
+	 * 			The column which non-null values are counted, {@code null} to count every row.
+	 * 
+	 * @throws NullPointerException if {@code header} is {@code null}.
+	 */
+	public Count(final String header, final ColumnId<?> id) {
+		super(header);
+		this.id = id;
+	}
+
+	@Override
+	public Class<Long> type() {
+		return Long.class;
+	}
+
+	@Override
+	protected Aggregate<Long> withHeader(final String header) {
+		return new Count(header, id);
+	}
+
+	@Override
+	public Accumulator<Long> accumulator(final Table table) {
+		return new CountAccumulator(id == null ? -1 : table.columns().indexOf(id));
+	}
+
+	/** Counts in a primitive array indexed by group. */
+	private static final class CountAccumulator implements Accumulator <Long> {
+
+		/** The index of the column to count, negative to count rows. */
+		private final int column;
+
+		private long[] counts = new long[16];
+
+		CountAccumulator(final int column) {
+			this.column = column;
+		}
+
+		@Override
+		public void accumulate(final int group, final Row row) {
+			counts = PrimitiveArrays.grow(counts, group + 1);
+
+			if( column < 0 || row.get(column) != null )
+				++counts[group];
+		}
+
+		@Override
+		public Long result(final int group) {
+			return group < counts.length ? counts[group] : 0L;
+		}
+	}
+}
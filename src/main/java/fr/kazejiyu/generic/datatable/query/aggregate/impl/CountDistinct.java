@@ -0,0 +1,103 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.aggregate.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.query.aggregate.Accumulator;
+import fr.kazejiyu.generic.datatable.query.aggregate.Aggregate;
+import fr.kazejiyu.generic.datatable.util.LongHashSet;
+import fr.kazejiyu.generic.datatable.util.PrimitiveArrays;
+import fr.kazejiyu.generic.datatable.util.ValueDictionary;
+
+/**
+ * Counts the distinct non-{@code null} values of a column.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class CountDistinct extends AbstractAggregate <Long> {
+
+	/** The column which distinct values are counted. */
+	private final ColumnId<?> id;
+
+	/**
+	 * Creates a new aggregate counting distinct values.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the counts. Must not be {@code null}.
+	 * @param id
+	 * 			The column which distinct values are counted. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 */
+	public CountDistinct(final String header, final ColumnId<?> id) {
+		super(header);
+		this.id = requireNonNull(id, "The id of the aggregated column must not be null");
+	}
+
+	@Override
+	public Class<Long> type() {
+		return Long.class;
+	}
+
+	@Override
+	protected Aggregate<Long> withHeader(final String header) {
+		return new CountDistinct(header, id);
+	}
+
+	@Override
+	public Accumulator<Long> accumulator(final Table table) {
+		return new CountDistinctAccumulator(table.columns().indexOf(id));
+	}
+
+	/**
+	 * Encodes the values into dictionary codes shared by all the groups, then
+	 * remembers the (group, code) pairs already met in a primitive hash set.
+	 */
+	private static final class CountDistinctAccumulator implements Accumulator <Long> {
+
+		/** The index of the column which values are counted. */
+		private final int column;
+
+		/** Encodes the values of the column. */
+		private final ValueDictionary dictionary = new ValueDictionary();
+
+		/** The (group, code) pairs already met. */
+		private final LongHashSet met = new LongHashSet();
+
+		private long[] counts = new long[16];
+
+		CountDistinctAccumulator(final int column) {
+			this.column = column;
+		}
+
+		@Override
+		public void accumulate(final int group, final Row row) {
+			counts = PrimitiveArrays.grow(counts, group + 1);
+			Object value = row.get(column);
+
+			if( value != null && met.add(((long) group << 32) | dictionary.encode(value)) )
+				++counts[group];
+		}
+
+		@Override
+		public Long result(final int group) {
+			return group < counts.length ? counts[group] : 0L;
+		}
+	}
+}
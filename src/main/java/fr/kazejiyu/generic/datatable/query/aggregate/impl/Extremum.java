@@ -0,0 +1,112 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.aggregate.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.query.aggregate.Accumulator;
+import fr.kazejiyu.generic.datatable.query.aggregate.Aggregate;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+import fr.kazejiyu.generic.datatable.util.PrimitiveArrays;
+
+/**
+ * Retrieves the smallest or the greatest non-{@code null} value of an expression. <br>
+ * <br>
+ * A group without any non-{@code null} value has a {@code null} extremum.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <T> The type of the compared values
+ */
+public class Extremum <T extends Comparable<? super T>> extends AbstractAggregate <T> {
+
+	/** The values which extremum is retrieved. */
+	private final Expression<T> expression;
+
+	/** Whether the greatest value is retrieved rather than the smallest. */
+	private final boolean greatest;
+
+	/**
+	 * Creates a new aggregate retrieving an extremum.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the extrema. Must not be {@code null}.
+	 * @param expression
+	 * 			The values which extremum is retrieved. Must not be {@code null}.
+	 * @param greatest
+	 * 			Whether the greatest value is retrieved rather than the smallest.
+	 * 
+	 * @throws NullPointerException if {@code header} or {@code expression} is {@code null}.
+	 */
+	public Extremum(final String header, final Expression<T> expression, final boolean greatest) {
+		super(header);
+		this.expression = requireNonNull(expression, "The values to compare must not be null");
+		this.greatest = greatest;
+	}
+
+	@Override
+	public Class<T> type() {
+		return expression.type();
+	}
+
+	@Override
+	protected Aggregate<T> withHeader(final String header) {
+		return new Extremum<>(header, expression, greatest);
+	}
+
+	@Override
+	public Accumulator<T> accumulator(final Table table) {
+		return new ExtremumAccumulator(expression.bind(table));
+	}
+
+	/** Keeps the current extremum of each group in an array indexed by group. */
+	private final class ExtremumAccumulator implements Accumulator <T> {
+
+		private final Function<Row, T> values;
+
+		private Object[] extrema = new Object[16];
+
+		ExtremumAccumulator(final Function<Row, T> values) {
+			this.values = values;
+		}
+
+		@Override
+		public void accumulate(final int group, final Row row) {
+			T value = values.apply(row);
+
+			if( value == null )
+				return;
+
+			extrema = PrimitiveArrays.grow(extrema, group + 1);
+
+			if( extrema[group] == null || isBetter(value, result(group)) )
+				extrema[group] = value;
+		}
+
+		private boolean isBetter(final T candidate, final T current) {
+			int comparison = candidate.compareTo(current);
+			return greatest ? comparison > 0 : comparison < 0;
+		}
+
+		@Override
+		public T result(final int group) {
+			return group < extrema.length ? expression.type().cast(extrema[group]) : null;
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.aggregate.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.query.aggregate.Accumulator;
+import fr.kazejiyu.generic.datatable.query.aggregate.Aggregate;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+import fr.kazejiyu.generic.datatable.util.NumberTypes;
+import fr.kazejiyu.generic.datatable.util.PrimitiveArrays;
+
+/**
+ * Sums the non-{@code null} values of an expression computing numbers. <br>
+ * <br>
+ * Integral values are summed as {@code long}s and produce {@link Long}s;
+ * any other value is summed as {@code double}s and produces {@link Double}s.
+ * A group without any non-{@code null} value has a {@code null} sum.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class Sum extends AbstractAggregate <Number> {
+
+	/** The values to sum. */
+	private final Expression<? extends Number> expression;
+
+	/**
+	 * Creates a new aggregate summing values.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the sums. Must not be {@code null}.
+	 * @param expression
+	 * 			The values to sum. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 */
+	public Sum(final String header, final Expression<? extends Number> expression) {
+		super(header);
+		this.expression = requireNonNull(expression, "The values to sum must not be null");
+	}
+
+	@Override
+	public Class<? extends Number> type() {
+		return NumberTypes.isIntegral(expression.type()) ? Long.class : Double.class;
+	}
+
+	@Override
+	protected Aggregate<Number> withHeader(final String header) {
+		return new Sum(header, expression);
+	}
+
+	@Override
+	public Accumulator<Number> accumulator(final Table table) {
+		Function<Row, ? extends Number> values = expression.bind(table);
+
+		if( NumberTypes.isIntegral(expression.type()) )
+			return new LongSumAccumulator(values);
+
+		return new DoubleSumAccumulator(values);
+	}
+
+	/** Sums integral numbers in a primitive array indexed by group. */
+	private static final class LongSumAccumulator implements Accumulator <Number> {
+
+		private final Function<Row, ? extends Number> values;
+
+		private long[] sums = new long[16];
+
+		private long[] counts = new long[16];
+
+		LongSumAccumulator(final Function<Row, ? extends Number> values) {
+			this.values = values;
+		}
+
+		@Override
+		public void accumulate(final int group, final Row row) {
+			Number value = values.apply(row);
+
+			if( value == null )
+				return;
+
+			sums = PrimitiveArrays.grow(sums, group + 1);
+			counts = PrimitiveArrays.grow(counts, group + 1);
+			sums[group] += value.longValue();
+			++counts[group];
+		}
+
+		@Override
+		public Number result(final int group) {
+			return group < counts.length && counts[group] > 0 ? sums[group] : null;
+		}
+	}
+
+	/** Sums floating-point numbers in a primitive array indexed by group. */
+	private static final class DoubleSumAccumulator implements Accumulator <Number> {
+
+		private final Function<Row, ? extends Number> values;
+
+		private double[] sums = new double[16];
+
+		private long[] counts = new long[16];
+
+		DoubleSumAccumulator(final Function<Row, ? extends Number> values) {
+			this.values = values;
+		}
+
+		@Override
+		public void accumulate(final int group, final Row row) {
+			Number value = values.apply(row);
+
+			if( value == null )
+				return;
+
+			sums = PrimitiveArrays.grow(sums, group + 1);
+			counts = PrimitiveArrays.grow(counts, group + 1);
+			sums[group] += value.doubleValue();
+			++counts[group];
+		}
+
+		@Override
+		public Number result(final int group) {
+			return group < counts.length && counts[group] > 0 ? sums[group] : null;
+		}
+	}
+}
@@ -0,0 +1,17 @@
+/**
+ * Describes the aggregate functions that can be computed over the groups
+ * of a {@link fr.kazejiyu.generic.datatable.query.GroupBy GroupBy} clause.
+ * 
+ * <pre>import static fr.kazejiyu.generic.datatable.query.aggregate.Aggregates.*;
+ * 
+ *Table salesPerCountry(Table sales) {
+ *    return Query
+ *        .from(sales)
+ *        .where(AMOUNT).isNonNull()
+ *        .groupBy(COUNTRY)
+ *        .aggregate(count(), sum(AMOUNT).as("total"), avg(AMOUNT));
+ *}</pre>
+ * 
+ * @author Emmanuel CHEBBI
+ */
+package fr.kazejiyu.generic.datatable.query.aggregate;
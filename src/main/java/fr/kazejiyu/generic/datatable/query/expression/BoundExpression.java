@@ -0,0 +1,46 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.expression;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+
+/**
+ * An {@link Expression} bound to the columns of a table, which parameters are read
+ * from an array supplied with each row. <br>
+ * <br>
+ * Binding an expression that uses parameters once, then evaluating it with different
+ * values, avoids replacing its parameters and binding it again for each set of values.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <T> The type of the computed values
+ * 
+ * @see Expression#bind(fr.kazejiyu.generic.datatable.core.Table, java.util.List)
+ */
+@FunctionalInterface
+public interface BoundExpression <T> {
+
+	/**
+	 * Computes the value of the expression for {@code row}.
+	 * 
+	 * @param row
+	 * 			A row of the table the expression is bound to.
+	 * @param parameters
+	 * 			The values of the parameters, in the order given when the expression was bound.
+	 * 
+	 * @return the value of the expression for {@code row}.
+	 */
+	T evaluate(Row row, Object[] parameters);
+}
@@ -0,0 +1,320 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.expression;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException;
+
+/**
+ * A typed value computed from the elements of a row. <br>
+ * <br>
+ * Expressions are built from {@link Expressions#col(fr.kazejiyu.generic.datatable.core.impl.ColumnId) columns}
+ * {@link Expressions#lit(Object) literals} and {@link Expressions#param(String, Class) parameters},
+ * then combined with the methods of this interface.
+ * The type of the operands is checked when the expression is built. An operation involving
+ * a {@code null} operand evaluates to {@code null}. <br>
+ * <br>
+ * Instances are immutable.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <T> The type of the computed values
+ */
+public interface Expression <T> {
+
+	/** @return the header of the column that stores the computed values */
+	String header();
+
+	/** @return the type of the computed values */
+	Class<T> type();
+
+	/**
+	 * Binds the expression to the columns of {@code table}. <br>
+	 * <br>
+	 * The columns used by the expression are resolved once, so that the resulting
+	 * function can be applied efficiently to each row of the table.
+	 * 
+	 * @param table
+	 * 			The table containing the rows to evaluate. Must not be {@code null}.
+	 * 
+	 * @return a function computing the value of the expression for a row of {@code table}.
+	 * 
+	 * @throws ColumnIdNotFoundException if a column used by the expression does not belong to {@code table}.
+	 */
+	Function<Row, T> bind(Table table);
+
+	/**
+	 * Binds the expression to the columns of {@code table}, reading the values of its
+	 * parameters from the array given to the resulting function. <br>
+	 * <br>
+	 * The value of the parameter called {@code parameters.get(i)} is read at index {@code i}
+	 * of the array; the caller is responsible for giving values of the expected types.
+	 * 
+	 * @param table
+	 * 			The table containing the rows to evaluate. Must not be {@code null}.
+	 * @param parameters
+	 * 			The names of the parameters, in the order of their values. Must not be {@code null}.
+	 * 
+	 * @return a function computing the value of the expression for a row of {@code table}
+	 * 		   and the values of the parameters.
+	 * 
+	 * @throws ColumnIdNotFoundException if a column used by the expression does not belong to {@code table}.
+	 * @throws IllegalStateException if the expression uses a parameter that is not in {@code parameters}.
+	 */
+	BoundExpression<T> bind(Table table, List<String> parameters);
+
+	/**
+	 * Returns the names of the {@link Expressions#param(String, Class) parameters} used by this expression.
+	 * 
+	 * @return the names of the parameters used by this expression.
+	 */
+	Set<String> parameters();
+
+	/**
+	 * Returns a copy of this expression which parameters are replaced by their value. <br>
+	 * <br>
+	 * The header and the type of the expression are kept. The parameters that are not
+	 * in {@code values} are kept as well.
+	 * 
+	 * @param values
+	 * 			The values of the parameters, by name. Must not be {@code null}.
+	 * 
+	 * @return a copy of this expression which parameters are replaced by their value,
+	 * 		   this expression if it does not use any parameter.
+	 * 
+	 * @throws NullPointerException if {@code values} is {@code null}.
+	 * @throws IllegalArgumentException if the value of a parameter is {@code null} or does not have the expected type.
+	 */
+	Expression<T> withParameters(Map<String, ?> values);
+
+	/**
+	 * Returns a copy of this expression which result is stored under another header.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the computed values. Must not be {@code null}.
+	 * 
+	 * @return a copy of this expression using {@code header}.
+	 * 
+	 * @throws NullPointerException if {@code header} is {@code null}.
+	 */
+	Expression<T> as(String header);
+
+	/**
+	 * Returns an expression converting the values of this one to {@code type}. <br>
+	 * <br>
+	 * Numbers are converted to any other type of number, possibly with a loss of precision;
+	 * other values must already be instances of {@code type}.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the converted values. Must not be {@code null}.
+	 * @param type
+	 * 			The type of the converted values. Must not be {@code null}.
+	 * 
+	 * @return an expression converting the values of this one to {@code type}.
+	 * 
+	 * @param <R> The type of the converted values
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * @throws ClassCastException if the values cannot be converted to {@code type}.
+	 */
+	<R> Expression<R> as(String header, Class<R> type);
+
+	/**
+	 * Returns an expression adding the values of {@code other} to the values of this one. <br>
+	 * <br>
+	 * The sum of integral numbers is a {@link Long}, any other sum is a {@link Double}.
+	 * 
+	 * @param other
+	 * 			The expression to add. Must not be {@code null}.
+	 * 
+	 * @return an expression computing the sum of both expressions.
+	 * 
+	 * @throws NullPointerException if {@code other} is {@code null}.
+	 * @throws ClassCastException if one of the expressions does not compute numbers.
+	 */
+	Expression<Number> plus(Expression<? extends Number> other);
+
+	/**
+	 * Returns an expression subtracting the values of {@code other} from the values of this one. <br>
+	 * <br>
+	 * The difference of integral numbers is a {@link Long}, any other difference is a {@link Double}.
+	 * 
+	 * @param other
+	 * 			The expression to subtract. Must not be {@code null}.
+	 * 
+	 * @return an expression computing the difference of both expressions.
+	 * 
+	 * @throws NullPointerException if {@code other} is {@code null}.
+	 * @throws ClassCastException if one of the expressions does not compute numbers.
+	 */
+	Expression<Number> minus(Expression<? extends Number> other);
+
+	/**
+	 * Returns an expression multiplying the values of this one by the values of {@code other}. <br>
+	 * <br>
+	 * The product of integral numbers is a {@link Long}, any other product is a {@link Double}.
+	 * 
+	 * @param other
+	 * 			The expression to multiply by. Must not be {@code null}.
+	 * 
+	 * @return an expression computing the product of both expressions.
+	 * 
+	 * @throws NullPointerException if {@code other} is {@code null}.
+	 * @throws ClassCastException if one of the expressions does not compute numbers.
+	 */
+	Expression<Number> times(Expression<? extends Number> other);
+
+	/**
+	 * Returns an expression dividing the values of this one by the values of {@code other}. <br>
+	 * <br>
+	 * The quotient is always a {@link Double}.
+	 * 
+	 * @param other
+	 * 			The expression to divide by. Must not be {@code null}.
+	 * 
+	 * @return an expression computing the quotient of both expressions.
+	 * 
+	 * @throws NullPointerException if {@code other} is {@code null}.
+	 * @throws ClassCastException if one of the expressions does not compute numbers.
+	 */
+	Expression<Number> dividedBy(Expression<? extends Number> other);
+
+	/**
+	 * Returns an expression telling whether the values of this one equal the values of {@code other}. <br>
+	 * <br>
+	 * Numbers are compared by value, whatever their type.
+	 * 
+	 * @param other
+	 * 			The expression to compare to. Must not be {@code null}.
+	 * 
+	 * @return an expression comparing both expressions.
+	 * 
+	 * @throws NullPointerException if {@code other} is {@code null}.
+	 */
+	Expression<Boolean> eq(Expression<?> other);
+
+	/**
+	 * Returns an expression telling whether the values of this one differ from the values of {@code other}.
+	 * 
+	 * @param other
+	 * 			The expression to compare to. Must not be {@code null}.
+	 * 
+	 * @return an expression comparing both expressions.
+	 * 
+	 * @throws NullPointerException if {@code other} is {@code null}.
+	 * 
+	 * @see #eq(Expression)
+	 */
+	Expression<Boolean> ne(Expression<?> other);
+
+	/**
+	 * Returns an expression telling whether the values of this one are lower than the values of {@code other}.
+	 * 
+	 * @param other
+	 * 			The expression to compare to. Must not be {@code null}.
+	 * 
+	 * @return an expression comparing both expressions.
+	 * 
+	 * @throws NullPointerException if {@code other} is {@code null}.
+	 * @throws ClassCastException if the values of the expressions cannot be compared.
+	 */
+	Expression<Boolean> lt(Expression<?> other);
+
+	/**
+	 * Returns an expression telling whether the values of this one are lower than or equal to the values of {@code other}.
+	 * 
+	 * @param other
+	 * 			The expression to compare to. Must not be {@code null}.
+	 * 
+	 * @return an expression comparing both expressions.
+	 * 
+	 * @throws NullPointerException if {@code other} is {@code null}.
+	 * @throws ClassCastException if the values of the expressions cannot be compared.
+	 */
+	Expression<Boolean> le(Expression<?> other);
+
+	/**
+	 * Returns an expression telling whether the values of this one are greater than the values of {@code other}.
+	 * 
+	 * @param other
+	 * 			The expression to compare to. Must not be {@code null}.
+	 * 
+	 * @return an expression comparing both expressions.
+	 * 
+	 * @throws NullPointerException if {@code other} is {@code null}.
+	 * @throws ClassCastException if the values of the expressions cannot be compared.
+	 */
+	Expression<Boolean> gt(Expression<?> other);
+
+	/**
+	 * Returns an expression telling whether the values of this one are greater than or equal to the values of {@code other}.
+	 * 
+	 * @param other
+	 * 			The expression to compare to. Must not be {@code null}.
+	 * 
+	 * @return an expression comparing both expressions.
+	 * 
+	 * @throws NullPointerException if {@code other} is {@code null}.
+	 * @throws ClassCastException if the values of the expressions cannot be compared.
+	 */
+	Expression<Boolean> ge(Expression<?> other);
+
+	/**
+	 * Returns the conjunction of this expression and {@code other}. <br>
+	 * <br>
+	 * Follows the three-valued logic of SQL: {@code null and false} is {@code false}
+	 * while {@code null and true} is {@code null}.
+	 * 
+	 * @param other
+	 * 			The other condition. Must not be {@code null}.
+	 * 
+	 * @return the conjunction of both expressions.
+	 * 
+	 * @throws NullPointerException if {@code other} is {@code null}.
+	 * @throws ClassCastException if this expression does not compute booleans.
+	 */
+	Expression<Boolean> and(Expression<Boolean> other);
+
+	/**
+	 * Returns the disjunction of this expression and {@code other}. <br>
+	 * <br>
+	 * Follows the three-valued logic of SQL: {@code null or true} is {@code true}
+	 * while {@code null or false} is {@code null}.
+	 * 
+	 * @param other
+	 * 			The other condition. Must not be {@code null}.
+	 * 
+	 * @return the disjunction of both expressions.
+	 * 
+	 * @throws NullPointerException if {@code other} is {@code null}.
+	 * @throws ClassCastException if this expression does not compute booleans.
+	 */
+	Expression<Boolean> or(Expression<Boolean> other);
+
+	/**
+	 * Returns the negation of this expression.
+	 * 
+	 * @return the negation of this expression.
+	 * 
+	 * @throws ClassCastException if this expression does not compute booleans.
+	 */
+	Expression<Boolean> not();
+}
@@ -0,0 +1,94 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.expression;
+
+import static java.util.Objects.requireNonNull;
+
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.query.expression.impl.ColumnExpression;
+import fr.kazejiyu.generic.datatable.query.expression.impl.Literal;
+import fr.kazejiyu.generic.datatable.query.expression.impl.Parameter;
+
+/**
+ * Static factories of the leaves of {@link Expression}s.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public final class Expressions {
+
+	private Expressions() {
+		// static factories only
+	}
+
+	/**
+	 * Returns an expression which values are the elements of a column.
+	 * 
+	 * @param id
+	 * 			Identifies the column. Must not be {@code null}.
+	 * 
+	 * @return an expression which values are the elements of a column.
+	 * 
+	 * @param <T> The type of the elements of the column
+	 * 
+	 * @throws NullPointerException if {@code id} is {@code null}.
+	 */
+	public static <T> Expression<T> col(ColumnId<T> id) {
+		return new ColumnExpression<>(id);
+	}
+
+	/**
+	 * Returns an expression which value is always {@code value}.
+	 * 
+	 * @param value
+	 * 			The value of the expression. Must not be {@code null}.
+	 * 
+	 * @return an expression which value is always {@code value}.
+	 * 
+	 * @param <T> The type of the value
+	 * 
+	 * @throws NullPointerException if {@code value} is {@code null}.
+	 */
+	public static <T> Expression<T> lit(T value) {
+		requireNonNull(value, "The value of a literal must not be null");
+		return new Literal<>(String.valueOf(value), value);
+	}
+
+	/**
+	 * Returns a placeholder for a value provided when a prepared query is executed. <br>
+	 * <br>
+	 * For instance, the code:
+	 * <pre>PreparedQuery adults = Query.prepare()
+	 *     .where(col(AGE).ge(param("minAge", Integer.class)))
+	 *     .select(NAME);
+	 *Table result = adults.with("minAge", 18).execute(people);</pre>
+	 * retrieves the name of the people aged 18 or more.
+	 * 
+	 * @param name
+	 * 			The name of the parameter. Must not be {@code null}.
+	 * @param type
+	 * 			The type of the value of the parameter. Must not be {@code null}.
+	 * 
+	 * @return a placeholder for a value provided when a prepared query is executed.
+	 * 
+	 * @param <T> The type of the value of the parameter
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * 
+	 * @see fr.kazejiyu.generic.datatable.query.PreparedQuery
+	 */
+	public static <T> Expression<T> param(String name, Class<T> type) {
+		return new Parameter<>(name, type);
+	}
+}
@@ -0,0 +1,231 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.expression.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.query.expression.BoundExpression;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+
+/**
+ * Skeletal implementation of {@link Expression} managing the header and the type
+ * of the computed values, and combining expressions.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <T> The type of the computed values
+ */
+public abstract class AbstractExpression <T> implements Expression <T> {
+
+	/** The values of the parameters of an expression that does not use any. */
+	private static final Object[] NO_PARAMETERS = {};
+
+	/** The header of the column that stores the computed values. */
+	private final String header;
+
+	/** The type of the computed values. */
+	private final Class<T> type;
+
+	/**
+	 * Creates a new expression.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the computed values. Must not be {@code null}.
+	 * @param type
+	 * 			The type of the computed values. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 */
+	protected AbstractExpression(final String header, final Class<T> type) {
+		this.header = requireNonNull(header, "The header of an expression must not be null");
+		this.type = requireNonNull(type, "The type of an expression must not be null");
+	}
+
+	@Override
+	public String header() {
+		return header;
+	}
+
+	@Override
+	public Class<T> type() {
+		return type;
+	}
+
+	/** Binds the expression without any parameter. */
+	@Override
+	public Function<Row, T> bind(final Table table) {
+		BoundExpression<T> bound = bind(table, Collections.emptyList());
+		return row -> bound.evaluate(row, NO_PARAMETERS);
+	}
+
+	/** @return an empty set, since most expressions do not use parameters */
+	@Override
+	public Set<String> parameters() {
+		return Collections.emptySet();
+	}
+
+	/** @return this expression, since most expressions do not use parameters */
+	@Override
+	public Expression<T> withParameters(final Map<String, ?> values) {
+		requireNonNull(values, "The values of the parameters must not be null");
+		return this;
+	}
+
+	/** @return the names of the parameters used by {@code left} or {@code right}, which may be {@code null} */
+	static Set<String> parametersOf(Expression<?> left, Expression<?> right) {
+		if( right == null || right.parameters().isEmpty() )
+			return left.parameters();
+
+		if( left.parameters().isEmpty() )
+			return right.parameters();
+
+		Set<String> parameters = new HashSet<>(left.parameters());
+		parameters.addAll(right.parameters());
+		return Collections.unmodifiableSet(parameters);
+	}
+
+	@Override
+	public Expression<T> as(final String header) {
+		return withHeader(requireNonNull(header, "The header of an expression must not be null"));
+	}
+
+	/**
+	 * Returns a copy of this expression using another header.
+	 * 
+	 * @param header
+	 * 			The new header. Never {@code null}.
+	 * 
+	 * @return a copy of this expression using {@code header}.
+	 */
+	protected abstract Expression<T> withHeader(String header);
+
+	@Override
+	public <R> Expression<R> as(final String header, final Class<R> type) {
+		return new Conversion<>(header, type, this);
+	}
+
+	@Override
+	public Expression<Number> plus(final Expression<? extends Number> other) {
+		return new Arithmetic(Arithmetic.Operator.PLUS, this, other);
+	}
+
+	@Override
+	public Expression<Number> minus(final Expression<? extends Number> other) {
+		return new Arithmetic(Arithmetic.Operator.MINUS, this, other);
+	}
+
+	@Override
+	public Expression<Number> times(final Expression<? extends Number> other) {
+		return new Arithmetic(Arithmetic.Operator.TIMES, this, other);
+	}
+
+	@Override
+	public Expression<Number> dividedBy(final Expression<? extends Number> other) {
+		return new Arithmetic(Arithmetic.Operator.DIVIDED_BY, this, other);
+	}
+
+	@Override
+	public Expression<Boolean> eq(final Expression<?> other) {
+		return new Comparison(Comparison.Operator.EQ, this, other);
+	}
+
+	@Override
+	public Expression<Boolean> ne(final Expression<?> other) {
+		return new Comparison(Comparison.Operator.NE, this, other);
+	}
+
+	@Override
+	public Expression<Boolean> lt(final Expression<?> other) {
+		return new Comparison(Comparison.Operator.LT, this, other);
+	}
+
+	@Override
+	public Expression<Boolean> le(final Expression<?> other) {
+		return new Comparison(Comparison.Operator.LE, this, other);
+	}
+
+	@Override
+	public Expression<Boolean> gt(final Expression<?> other) {
+		return new Comparison(Comparison.Operator.GT, this, other);
+	}
+
+	@Override
+	public Expression<Boolean> ge(final Expression<?> other) {
+		return new Comparison(Comparison.Operator.GE, this, other);
+	}
+
+	@Override
+	public Expression<Boolean> and(final Expression<Boolean> other) {
+		return new Logical(Logical.Operator.AND, this, other);
+	}
+
+	@Override
+	public Expression<Boolean> or(final Expression<Boolean> other) {
+		return new Logical(Logical.Operator.OR, this, other);
+	}
+
+	@Override
+	public Expression<Boolean> not() {
+		return new Logical(Logical.Operator.NOT, this, null);
+	}
+
+	/** @return the header of {@code operand}, surrounded by parentheses if it is made of several operands */
+	static String headerOfOperand(Expression<?> operand) {
+		return operand instanceof Arithmetic || operand instanceof Comparison || operand instanceof Logical
+			 ? "(" + operand.header() + ")" 
+			 : operand.header();
+	}
+
+	/**
+	 * Returns the operands of this expression, used to compare expressions.
+	 * 
+	 * @return the operands of this expression.
+	 */
+	protected abstract Object[] operands();
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * header.hashCode() + type.hashCode()) + Arrays.hashCode(operands());
+	}
+
+	/**
+	 * Returns whether {@code obj} is an expression of the same kind, with the same
+	 * header, the same type and equal operands.
+	 */
+	@Override
+	public boolean equals(final Object obj) {
+		if( this == obj )
+			return true;
+		if( obj == null || obj.getClass() != getClass() )
+			return false;
+
+		AbstractExpression<?> other = (AbstractExpression<?>) obj;
+		return header.equals(other.header) && type.equals(other.type) && Arrays.equals(operands(), other.operands());
+	}
+
+	@Override
+	public String toString() {
+		return header;
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.expression.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.query.expression.BoundExpression;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+import fr.kazejiyu.generic.datatable.util.NumberTypes;
+
+/**
+ * An arithmetic operation between two expressions computing numbers. <br>
+ * <br>
+ * Integral operands are combined as {@code long}s and produce {@link Long}s, except
+ * for divisions; any other operation is computed on {@code double}s and produces {@link Double}s. <br>
+ * <br>
+ * The function returned by {@link #bind(Table, List)} is specialized for the operator and the
+ * kind of operands once, when the expression is bound, so that no dispatch happens per row.
+ * Since the columns of a table store boxed elements, the operands are still unboxed and
+ * the result boxed for each row.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class Arithmetic extends AbstractExpression <Number> {
+
+	/** The available operations. */
+	public enum Operator {
+		PLUS("+"), MINUS("-"), TIMES("*"), DIVIDED_BY("/");
+
+		private final String symbol;
+
+		Operator(final String symbol) {
+			this.symbol = symbol;
+		}
+	}
+
+	private final Operator operator;
+
+	private final Expression<?> left;
+
+	private final Expression<?> right;
+
+	/**
+	 * Creates a new arithmetic operation.
+	 * 
+	 * @param operator
+	 * 			The operation to compute. Must not be {@code null}.
+	 * @param left
+	 * 			The left operand. Must not be {@code null}.
+	 * @param right
+	 * 			The right operand. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * @throws ClassCastException if one of the operands does not compute numbers.
+	 */
+	public Arithmetic(final Operator operator, final Expression<?> left, final Expression<?> right) {
+		this(headerOf(operator, left, right), operator, left, right);
+	}
+
+	private Arithmetic(final String header, final Operator operator, final Expression<?> left, final Expression<?> right) {
+		super(header, typeOf(operator, left, right));
+		this.operator = operator;
+		this.left = left;
+		this.right = right;
+	}
+
+	private static String headerOf(Operator operator, Expression<?> left, Expression<?> right) {
+		requireNonNull(operator, "The operator must not be null");
+		requireNonNull(left, "The operands must not be null");
+		requireNonNull(right, "The operands must not be null");
+		return headerOfOperand(left) + " " + operator.symbol + " " + headerOfOperand(right);
+	}
+
+	private static Class<Number> typeOf(Operator operator, Expression<?> left, Expression<?> right) {
+		assertComputesNumbers(left);
+		assertComputesNumbers(right);
+
+		@SuppressWarnings("unchecked")
+		Class<Number> type = (Class<Number>) (Class<?>) (isIntegral(operator, left, right) ? Long.class : Double.class);
+		return type;
+	}
+
+	private static boolean isIntegral(Operator operator, Expression<?> left, Expression<?> right) {
+		return operator != Operator.DIVIDED_BY && NumberTypes.isIntegral(left.type()) && NumberTypes.isIntegral(right.type());
+	}
+
+	/** @throws ClassCastException if {@code operand} does not compute numbers */
+	private static void assertComputesNumbers(Expression<?> operand) {
+		if( ! Number.class.isAssignableFrom(operand.type()) )
+			throw new ClassCastException("The expression " + operand.header() + " does not compute numbers: " + operand.type());
+	}
+
+	@Override
+	public Set<String> parameters() {
+		return parametersOf(left, right);
+	}
+
+	@Override
+	public Expression<Number> withParameters(final Map<String, ?> values) {
+		requireNonNull(values, "The values of the parameters must not be null");
+
+		if( parameters().isEmpty() )
+			return this;
+
+		return new Arithmetic(header(), operator, left.withParameters(values), right.withParameters(values));
+	}
+
+	@Override
+	protected Object[] operands() {
+		return new Object[] { operator, left, right };
+	}
+
+	@Override
+	protected Expression<Number> withHeader(final String header) {
+		return new Arithmetic(header, operator, left, right);
+	}
+
+	@Override
+	public BoundExpression<Number> bind(final Table table, final List<String> parameters) {
+		BoundExpression<?> a = left.bind(table, parameters);
+		BoundExpression<?> b = right.bind(table, parameters);
+
+		return combine(operator, isIntegral(operator, left, right), a, b);
+	}
+
+	/** 
+	 * @return a function combining the operands as {@code long}s if {@code integral} is {@code true},
+	 * 		   as {@code double}s otherwise
+	 */
+	private static BoundExpression<Number> combine(Operator operator, boolean integral, BoundExpression<?> a, BoundExpression<?> b) {
+		switch( operator ) {
+		case PLUS:
+			if( integral )
+				return (row, values) -> {
+					Number x = (Number) a.evaluate(row, values);
+					Number y = (Number) b.evaluate(row, values);
+					return x == null || y == null ? null : (Number) (x.longValue() + y.longValue());
+				};
+			
+			return (row, values) -> {
+				Number x = (Number) a.evaluate(row, values);
+				Number y = (Number) b.evaluate(row, values);
+				return x == null || y == null ? null : (Number) (x.doubleValue() + y.doubleValue());
+			};
+		case MINUS:
+			if( integral )
+				return (row, values) -> {
+					Number x = (Number) a.evaluate(row, values);
+					Number y = (Number) b.evaluate(row, values);
+					return x == null || y == null ? null : (Number) (x.longValue() - y.longValue());
+				};
+			
+			return (row, values) -> {
+				Number x = (Number) a.evaluate(row, values);
+				Number y = (Number) b.evaluate(row, values);
+				return x == null || y == null ? null : (Number) (x.doubleValue() - y.doubleValue());
+			};
+		case TIMES:
+			if( integral )
+				return (row, values) -> {
+					Number x = (Number) a.evaluate(row, values);
+					Number y = (Number) b.evaluate(row, values);
+					return x == null || y == null ? null : (Number) (x.longValue() * y.longValue());
+				};
+			
+			return (row, values) -> {
+				Number x = (Number) a.evaluate(row, values);
+				Number y = (Number) b.evaluate(row, values);
+				return x == null || y == null ? null : (Number) (x.doubleValue() * y.doubleValue());
+			};
+		case DIVIDED_BY:
+			return (row, values) -> {
+				Number x = (Number) a.evaluate(row, values);
+				Number y = (Number) b.evaluate(row, values);
+				return x == null || y == null ? null : (Number) (x.doubleValue() / y.doubleValue());
+			};
+		default:
+			throw new IllegalStateException("Unknown operator: " + operator);
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.expression.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.query.expression.BoundExpression;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+
+/**
+ * An expression which values are the elements of a column.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <T> The type of the elements of the column
+ */
+public class ColumnExpression <T> extends AbstractExpression <T> {
+
+	/** Identifies the column. */
+	private final ColumnId<T> id;
+
+	/**
+	 * Creates a new expression which values are the elements of a column.
+	 * 
+	 * @param id
+	 * 			Identifies the column. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if {@code id} is {@code null}.
+	 */
+	public ColumnExpression(final ColumnId<T> id) {
+		this(requireNonNull(id, "The id of the column must not be null").header(), id);
+	}
+
+	private ColumnExpression(final String header, final ColumnId<T> id) {
+		super(header, id.type());
+		this.id = id;
+	}
+
+	/** @return the id of the column */
+	public ColumnId<T> id() {
+		return id;
+	}
+
+	@Override
+	protected Object[] operands() {
+		return new Object[] { id };
+	}
+
+	@Override
+	protected Expression<T> withHeader(final String header) {
+		return new ColumnExpression<>(header, id);
+	}
+
+	@Override
+	public BoundExpression<T> bind(final Table table, final List<String> parameters) {
+		int column = table.columns().indexOf(id);
+		Class<T> type = id.type();
+		return (row, values) -> type.cast(row.get(column));
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.expression.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.query.expression.BoundExpression;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+import fr.kazejiyu.generic.datatable.util.NumberTypes;
+
+/**
+ * A comparison between two expressions. <br>
+ * <br>
+ * Numbers are compared by value whatever their type; other values are compared
+ * with {@link Object#equals(Object)} or through {@link Comparable}. The result is
+ * {@code null} when one of the operands is {@code null}.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class Comparison extends AbstractExpression <Boolean> {
+
+	/** The available comparisons. */
+	public enum Operator {
+		EQ("="), NE("<>"), LT("<"), LE("<="), GT(">"), GE(">=");
+
+		private final String symbol;
+
+		Operator(final String symbol) {
+			this.symbol = symbol;
+		}
+
+		boolean test(int comparison) {
+			switch( this ) {
+			case EQ: return comparison == 0;
+			case NE: return comparison != 0;
+			case LT: return comparison < 0;
+			case LE: return comparison <= 0;
+			case GT: return comparison > 0;
+			default: return comparison >= 0;
+			}
+		}
+
+		boolean isEquality() {
+			return this == EQ || this == NE;
+		}
+	}
+
+	private final Operator operator;
+
+	private final Expression<?> left;
+
+	private final Expression<?> right;
+
+	/**
+	 * Creates a new comparison.
+	 * 
+	 * @param operator
+	 * 			The comparison to compute. Must not be {@code null}.
+	 * @param left
+	 * 			The left operand. Must not be {@code null}.
+	 * @param right
+	 * 			The right operand. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * @throws ClassCastException if the operands cannot be ordered.
+	 */
+	public Comparison(final Operator operator, final Expression<?> left, final Expression<?> right) {
+		this(headerOf(operator, left, right), operator, left, right);
+
+		if( ! operator.isEquality() && ! areOrderable(left.type(), right.type()) )
+			throw new ClassCastException("Cannot order " + left.type() + " and " + right.type());
+	}
+
+	private Comparison(final String header, final Operator operator, final Expression<?> left, final Expression<?> right) {
+		super(header, Boolean.class);
+		this.operator = operator;
+		this.left = left;
+		this.right = right;
+	}
+
+	private static String headerOf(Operator operator, Expression<?> left, Expression<?> right) {
+		requireNonNull(operator, "The operator must not be null");
+		requireNonNull(left, "The operands must not be null");
+		requireNonNull(right, "The operands must not be null");
+		return headerOfOperand(left) + " " + operator.symbol + " " + headerOfOperand(right);
+	}
+
+	private static boolean areOrderable(Class<?> left, Class<?> right) {
+		if( Number.class.isAssignableFrom(left) && Number.class.isAssignableFrom(right) )
+			return true;
+
+		return Comparable.class.isAssignableFrom(left) && (left.isAssignableFrom(right) || right.isAssignableFrom(left));
+	}
+
+	@Override
+	public Set<String> parameters() {
+		return parametersOf(left, right);
+	}
+
+	@Override
+	public Expression<Boolean> withParameters(final Map<String, ?> values) {
+		requireNonNull(values, "The values of the parameters must not be null");
+
+		if( parameters().isEmpty() )
+			return this;
+
+		return new Comparison(header(), operator, left.withParameters(values), right.withParameters(values));
+	}
+
+	@Override
+	protected Object[] operands() {
+		return new Object[] { operator, left, right };
+	}
+
+	@Override
+	protected Expression<Boolean> withHeader(final String header) {
+		return new Comparison(header, operator, left, right);
+	}
+
+	@Override
+	public BoundExpression<Boolean> bind(final Table table, final List<String> parameters) {
+		BoundExpression<?> a = left.bind(table, parameters);
+		BoundExpression<?> b = right.bind(table, parameters);
+
+		return (row, values) -> {
+			Object x = a.evaluate(row, values);
+			Object y = b.evaluate(row, values);
+
+			if( x == null || y == null )
+				return null;
+
+			return operator.test(compare(x, y));
+		};
+	}
+
+	/** @return the comparison of {@code x} and {@code y}; for equalities, only whether it is 0 is relevant */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private int compare(Object x, Object y) {
+		if( x instanceof Number && y instanceof Number ) {
+			if( NumberTypes.isIntegral(x.getClass()) && NumberTypes.isIntegral(y.getClass()) )
+				return Long.compare(((Number) x).longValue(), ((Number) y).longValue());
+
+			return Double.compare(((Number) x).doubleValue(), ((Number) y).doubleValue());
+		}
+		if( operator.isEquality() )
+			return x.equals(y) ? 0 : 1;
+
+		return ((Comparable) x).compareTo(y);
+	}
+}
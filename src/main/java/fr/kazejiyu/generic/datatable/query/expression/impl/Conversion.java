@@ -0,0 +1,122 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.expression.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.query.expression.BoundExpression;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+
+/**
+ * Converts the values of an expression to another type. <br>
+ * <br>
+ * Numbers are converted to any other type of number, possibly with a loss
+ * of precision; other values are cast.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <R> The type of the converted values
+ */
+public class Conversion <R> extends AbstractExpression <R> {
+
+	/** The expression which values are converted. */
+	private final Expression<?> source;
+
+	/**
+	 * Creates a new conversion.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the converted values. Must not be {@code null}.
+	 * @param type
+	 * 			The type of the converted values. Must not be {@code null}.
+	 * @param source
+	 * 			The expression which values are converted. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * @throws ClassCastException if the values of {@code source} cannot be converted to {@code type}.
+	 */
+	public Conversion(final String header, final Class<R> type, final Expression<?> source) {
+		super(header, type);
+		this.source = requireNonNull(source, "The converted expression must not be null");
+
+		if( ! type.isAssignableFrom(source.type()) && ! (isNumber(type) && isNumber(source.type())) )
+			throw new ClassCastException("Cannot convert " + source.type() + " to " + type);
+	}
+
+	private static boolean isNumber(Class<?> type) {
+		return Number.class.isAssignableFrom(type);
+	}
+
+	@Override
+	public Set<String> parameters() {
+		return source.parameters();
+	}
+
+	@Override
+	public Expression<R> withParameters(final Map<String, ?> values) {
+		requireNonNull(values, "The values of the parameters must not be null");
+
+		if( parameters().isEmpty() )
+			return this;
+
+		return new Conversion<>(header(), type(), source.withParameters(values));
+	}
+
+	@Override
+	protected Object[] operands() {
+		return new Object[] { source };
+	}
+
+	@Override
+	protected Expression<R> withHeader(final String header) {
+		return new Conversion<>(header, type(), source);
+	}
+
+	@Override
+	public BoundExpression<R> bind(final Table table, final List<String> parameters) {
+		BoundExpression<?> value = source.bind(table, parameters);
+		Class<R> type = type();
+
+		if( type.isAssignableFrom(source.type()) )
+			return (row, values) -> type.cast(value.evaluate(row, values));
+
+		return (row, values) -> type.cast(convert((Number) value.evaluate(row, values), type));
+	}
+
+	/** @return {@code number} converted to {@code type} */
+	private static Object convert(Number number, Class<?> type) {
+		if( number == null || type.isInstance(number) )
+			return number;
+		if( type == Double.class )
+			return number.doubleValue();
+		if( type == Long.class )
+			return number.longValue();
+		if( type == Integer.class )
+			return number.intValue();
+		if( type == Float.class )
+			return number.floatValue();
+		if( type == Short.class )
+			return number.shortValue();
+		if( type == Byte.class )
+			return number.byteValue();
+
+		throw new ClassCastException("Cannot convert " + number + " to " + type);
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.expression.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.query.expression.BoundExpression;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+
+/**
+ * An expression which value is constant.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <T> The type of the value
+ */
+public class Literal <T> extends AbstractExpression <T> {
+
+	/** The value of the expression. */
+	private final T value;
+
+	/**
+	 * Creates a new constant expression.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the value. Must not be {@code null}.
+	 * @param value
+	 * 			The value of the expression. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public Literal(final String header, final T value) {
+		this(header, (Class<T>) requireNonNull(value, "The value of a literal must not be null").getClass(), value);
+	}
+
+	/**
+	 * Creates a new constant expression of a given type.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the value. Must not be {@code null}.
+	 * @param type
+	 * 			The type of the value. Must not be {@code null}.
+	 * @param value
+	 * 			The value of the expression. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * @throws ClassCastException if {@code value} is not an instance of {@code type}.
+	 */
+	public Literal(final String header, final Class<T> type, final T value) {
+		super(header, type);
+		this.value = type.cast(requireNonNull(value, "The value of a literal must not be null"));
+	}
+
+	/** @return the value of the expression */
+	public T value() {
+		return value;
+	}
+
+	@Override
+	protected Object[] operands() {
+		return new Object[] { value };
+	}
+
+	@Override
+	protected Expression<T> withHeader(final String header) {
+		return new Literal<>(header, type(), value);
+	}
+
+	@Override
+	public BoundExpression<T> bind(final Table table, final List<String> parameters) {
+		return (row, values) -> value;
+	}
+}
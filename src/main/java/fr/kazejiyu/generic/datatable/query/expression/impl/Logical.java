@@ -0,0 +1,142 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.expression.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.query.expression.BoundExpression;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+
+/**
+ * A logical operation between expressions computing booleans. <br>
+ * <br>
+ * Follows the three-valued logic of SQL, {@code null} standing for an unknown value.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class Logical extends AbstractExpression <Boolean> {
+
+	/** The available operations. */
+	public enum Operator {
+		AND, OR, NOT
+	}
+
+	private final Operator operator;
+
+	private final Expression<?> left;
+
+	/** The right operand, {@code null} for a negation. */
+	private final Expression<?> right;
+
+	/**
+	 * Creates a new logical operation.
+	 * 
+	 * @param operator
+	 * 			The operation to compute. Must not be {@code null}.
+	 * @param left
+	 * 			The left operand. Must not be {@code null}.
+	 * @param right
+	 * 			The right operand. Must not be {@code null} unless {@code operator} is {@link Operator#NOT}.
+	 * 
+	 * @throws NullPointerException if an operand is {@code null}.
+	 * @throws ClassCastException if an operand does not compute booleans.
+	 */
+	public Logical(final Operator operator, final Expression<?> left, final Expression<?> right) {
+		this(headerOf(operator, left, right), operator, left, right);
+	}
+
+	private Logical(final String header, final Operator operator, final Expression<?> left, final Expression<?> right) {
+		super(header, Boolean.class);
+		this.operator = operator;
+		this.left = left;
+		this.right = right;
+	}
+
+	private static String headerOf(Operator operator, Expression<?> left, Expression<?> right) {
+		requireNonNull(operator, "The operator must not be null");
+		assertComputesBooleans(requireNonNull(left, "The operands must not be null"));
+
+		if( operator == Operator.NOT )
+			return "not " + headerOfOperand(left);
+
+		assertComputesBooleans(requireNonNull(right, "The operands must not be null"));
+		return headerOfOperand(left) + " " + operator.name().toLowerCase() + " " + headerOfOperand(right);
+	}
+
+	/** @throws ClassCastException if {@code operand} does not compute booleans */
+	private static void assertComputesBooleans(Expression<?> operand) {
+		if( operand.type() != Boolean.class )
+			throw new ClassCastException("The expression " + operand.header() + " does not compute booleans: " + operand.type());
+	}
+
+	@Override
+	public Set<String> parameters() {
+		return parametersOf(left, right);
+	}
+
+	@Override
+	public Expression<Boolean> withParameters(final Map<String, ?> values) {
+		requireNonNull(values, "The values of the parameters must not be null");
+
+		if( parameters().isEmpty() )
+			return this;
+
+		return new Logical(header(), operator, left.withParameters(values), right == null ? null : right.withParameters(values));
+	}
+
+	@Override
+	protected Object[] operands() {
+		return new Object[] { operator, left, right };
+	}
+
+	@Override
+	protected Expression<Boolean> withHeader(final String header) {
+		return new Logical(header, operator, left, right);
+	}
+
+	@Override
+	public BoundExpression<Boolean> bind(final Table table, final List<String> parameters) {
+		BoundExpression<?> a = left.bind(table, parameters);
+
+		if( operator == Operator.NOT ) {
+			return (row, values) -> {
+				Boolean x = (Boolean) a.evaluate(row, values);
+				return x == null ? null : ! x;
+			};
+		}
+
+		BoundExpression<?> b = right.bind(table, parameters);
+		Boolean dominant = operator == Operator.OR;
+
+		return (row, values) -> {
+			Boolean x = (Boolean) a.evaluate(row, values);
+
+			if( dominant.equals(x) )
+				return dominant;
+
+			Boolean y = (Boolean) b.evaluate(row, values);
+
+			if( dominant.equals(y) )
+				return dominant;
+
+			return x == null || y == null ? null : ! dominant;
+		};
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.expression.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.query.expression.BoundExpression;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+
+/**
+ * A placeholder for a value provided when a prepared query is executed. <br>
+ * <br>
+ * A parameter must either be replaced by its value, through {@link #withParameters(Map)},
+ * or be bound to a slot of the array of values, through {@link #bind(Table, List)},
+ * before being evaluated.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <T> The type of the value
+ */
+public class Parameter <T> extends AbstractExpression <T> {
+
+	/** The name of the parameter. */
+	private final String name;
+
+	/**
+	 * Creates a new parameter.
+	 * 
+	 * @param name
+	 * 			The name of the parameter. Must not be {@code null}.
+	 * @param type
+	 * 			The type of the value of the parameter. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 */
+	public Parameter(final String name, final Class<T> type) {
+		this(":" + requireNonNull(name, "The name of a parameter must not be null"), name, type);
+	}
+
+	private Parameter(final String header, final String name, final Class<T> type) {
+		super(header, type);
+		this.name = name;
+	}
+
+	/** @return the name of the parameter */
+	public String name() {
+		return name;
+	}
+
+	@Override
+	public Set<String> parameters() {
+		return Collections.singleton(name);
+	}
+
+	@Override
+	public Expression<T> withParameters(final Map<String, ?> values) {
+		requireNonNull(values, "The values of the parameters must not be null");
+
+		if( ! values.containsKey(name) )
+			return this;
+
+		Object value = values.get(name);
+
+		if( ! type().isInstance(value) )
+			throw new IllegalArgumentException("The parameter " + name + " expects a non-null " + type().getName() + " (got: " + value + ")");
+
+		return new Literal<>(header(), type(), type().cast(value));
+	}
+
+	@Override
+	protected Object[] operands() {
+		return new Object[] { name };
+	}
+
+	@Override
+	protected Expression<T> withHeader(final String header) {
+		return new Parameter<>(header, name, type());
+	}
+
+	/**
+	 * Binds the parameter to its slot in the array of values.
+	 * 
+	 * @throws IllegalStateException if the parameter is not in {@code parameters}.
+	 */
+	@Override
+	public BoundExpression<T> bind(final Table table, final List<String> parameters) {
+		int slot = parameters.indexOf(name);
+
+		if( slot < 0 )
+			throw new IllegalStateException("The parameter " + name + " is not bound to any value");
+
+		Class<T> type = type();
+		return (row, values) -> type.cast(values[slot]);
+	}
+}
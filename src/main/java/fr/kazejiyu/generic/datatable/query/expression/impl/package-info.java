@@ -0,0 +1,6 @@
+/**
+ * Concrete implementations of the {@link fr.kazejiyu.generic.datatable.query.expression.Expression Expression}s.
+ * 
+ * @author Emmanuel CHEBBI 
+ */
+package fr.kazejiyu.generic.datatable.query.expression.impl;
@@ -0,0 +1,16 @@
+/**
+ * Describes the typed expressions that can be computed from the columns of a row.
+ * 
+ * <pre>import static fr.kazejiyu.generic.datatable.query.expression.Expressions.*;
+ * 
+ *Table expensiveOrders(Table orders) {
+ *    Expression&lt;Double&gt; total = col(PRICE).times(col(QTY)).as("total", Double.class);
+ *    return Query
+ *        .from(orders)
+ *        .where(total.gt(lit(100.0)))
+ *        .select(col(ID), total);
+ *}</pre>
+ * 
+ * @author Emmanuel CHEBBI
+ */
+package fr.kazejiyu.generic.datatable.query.expression;
@@ -0,0 +1,135 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.PositionedColumn;
+import fr.kazejiyu.generic.datatable.core.impl.TableView;
+import fr.kazejiyu.generic.datatable.util.PrimitiveArrays;
+
+/**
+ * Skeletal implementation of a join strategy. <br>
+ * <br>
+ * A join only computes the positions of the matching rows in both tables: the
+ * result is a {@link TableView} reading its elements from the original tables. <br>
+ * <br>
+ * Whatever the strategy, the rows of the result are ordered as the rows of the
+ * left table, the rows matching a same left row being ordered as in the right
+ * table. Hence, the result keeps the sort order of the left table.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+abstract class AbstractJoin {
+	
+	/** Stands for the absence of a row. */
+	protected static final int NONE = -1;
+	
+	/** The kind of join to perform. */
+	protected final JoinType type;
+	
+	/** The table on the left side of the join. */
+	protected final Table left;
+	
+	/** The index of the key column in the left table. */
+	protected final int leftKey;
+	
+	/** The table on the right side of the join. */
+	protected final Table right;
+	
+	/** The index of the key column in the right table. */
+	protected final int rightKey;
+	
+	/** The positions of the joined rows in the left table. */
+	protected int[] leftPositions = new int[0];
+	
+	/** The positions of the joined rows in the right table, {@link #NONE} when there is none. */
+	protected int[] rightPositions = new int[0];
+	
+	/** The number of joined rows. */
+	protected int size = 0;
+	
+	/**
+	 * Prepares a new join.
+	 * 
+	 * @param type
+	 * 			The kind of join to perform.
+	 * @param left
+	 * 			The table on the left side of the join.
+	 * @param leftKey
+	 * 			The index of the key column in the left table.
+	 * @param right
+	 * 			The table on the right side of the join.
+	 * @param rightKey
+	 * 			The index of the key column in the right table.
+	 */
+	protected AbstractJoin(final JoinType type, final Table left, final int leftKey, final Table right, final int rightKey) {
+		this.type = type;
+		this.left = left;
+		this.leftKey = leftKey;
+		this.right = right;
+		this.rightKey = rightKey;
+	}
+	
+	/** @return a view of the joined tables */
+	TableView join() {
+		match();
+		return view();
+	}
+	
+	/** 
+	 * Computes the positions of the joined rows. <br>
+	 * <br>
+	 * Implementations must fill the positions in the order of the left table,
+	 * typically by calling {@link #emit(int, int)}.
+	 */
+	protected abstract void match();
+	
+	/** 
+	 * Appends a joined row.
+	 * 
+	 * @param leftPosition
+	 * 			The position of the row in the left table.
+	 * @param rightPosition
+	 * 			The position of the row in the right table, {@link #NONE} if there is none.
+	 */
+	protected void emit(int leftPosition, int rightPosition) {
+		leftPositions = PrimitiveArrays.grow(leftPositions, size + 1);
+		rightPositions = PrimitiveArrays.grow(rightPositions, size + 1);
+		leftPositions[size] = leftPosition;
+		rightPositions[size] = rightPosition;
+		++size;
+	}
+	
+	/** @return a view exposing the joined rows */
+	private TableView view() {
+		List<Column<?>> columns = new ArrayList<>();
+		
+		for( int i = 0 ; i < left.columns().size() ; ++i )
+			columns.add(new PositionedColumn<>(left, i, leftPositions, size));
+		
+		if( type.keepsRightColumns() ) {
+			String keyHeader = left.columns().get(leftKey).header();
+			
+			for( int i = 0 ; i < right.columns().size() ; ++i )
+				if( i != rightKey || ! right.columns().get(i).header().equalsIgnoreCase(keyHeader) )
+					columns.add(new PositionedColumn<>(right, i, rightPositions, size));
+		}
+		return new TableView(columns, left.sortOrder());
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import ca.odell.glazedlists.matchers.Matcher;
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Table;
+
+/**
+ * {@link Filters} bound to the columns of a specific {@link Table}. <br>
+ * <br>
+ * The headers of the filtered columns are resolved once, when the filters are compiled,
+ * and each pair (predicate, column) is flattened into a couple of arrays. Hence, matching
+ * a row only reads its elements by index and tests them in a single loop, rather than
+ * looking up each header in each row and iterating over nested collections. <br>
+ * <br>
+ * Since each predicate is invoked through the same call site, whatever the type of the
+ * column or the operator it checks, this call site quickly becomes megamorphic. The
+ * {@link FilterSpecializer} thus unrolls the tests into a class of their own, and falls
+ * back to this loop only when they cannot be unrolled or to report errors.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class CompiledFilters implements Matcher<Row> {
+
+	/** The index of the column checked by each test. */
+	private final int[] columns;
+
+	/** The header of the column checked by each test, used to report errors. */
+	private final String[] headers;
+
+	/** The predicate applied by each test. */
+	private final Predicate<Object>[] predicates;
+
+	/** The conditions involving whole rows. */
+	private final Predicate<Row>[] conditions;
+
+	/**
+	 * Compiles filters for the rows of {@code table}.
+	 * 
+	 * @param table
+	 * 			The table which rows are matched.
+	 * @param filters
+	 * 			The filters to compile.
+	 * @param conditions
+	 * 			The conditions involving whole rows.
+	 * 
+	 * @throws fr.kazejiyu.generic.datatable.exceptions.HeaderNotFoundException if a filter uses a header that does not belong to {@code table}.
+	 */
+	CompiledFilters(final Table table, final List<Filter<?>> filters, final List<Predicate<Row>> conditions) {
+		int tests = 0;
+
+		for( Filter<?> filter : filters )
+			tests += filter.headers().size();
+
+		this.columns = new int[tests];
+		this.headers = new String[tests];
+		this.predicates = newPredicates(tests);
+		this.conditions = conditions.toArray(newPredicates(conditions.size()));
+
+		int test = 0;
+
+		for( Filter<?> filter : filters ) {
+			for( String header : filter.headers() ) {
+				columns[test] = table.columns().indexOf(header);
+				headers[test] = header;
+				this.predicates[test] = predicateOf(filter);
+				++test;
+			}
+		}
+	}
+
+	/** @return the index of the column checked by each test */
+	int[] columns() {
+		return columns;
+	}
+
+	/** @return the predicate applied by each test */
+	Predicate<Object>[] predicates() {
+		return predicates;
+	}
+
+	/** @return the conditions involving whole rows */
+	Predicate<Row>[] conditions() {
+		return conditions;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Predicate<T>[] newPredicates(int size) {
+		return (Predicate<T>[]) new Predicate<?>[size];
+	}
+
+	/** @return the predicate of {@code filter}, accepting any element since the type of the columns is not checked */
+	@SuppressWarnings("unchecked")
+	private static Predicate<Object> predicateOf(Filter<?> filter) {
+		return (Predicate<Object>) filter.predicate();
+	}
+
+	@Override
+	public boolean matches(final Row row) {
+		for( int i = 0 ; i < columns.length ; ++i ) {
+			try {
+				if( ! predicates[i].test(row.get(columns[i])) )
+					return false;
+
+			} catch( ClassCastException e ) {
+				throw new IllegalArgumentException("When appling filter on column " + headers[i], e);
+			}
+		}
+		for( Predicate<Row> condition : conditions )
+			if( ! condition.test(row) )
+				return false;
+
+		return true;
+	}
+}
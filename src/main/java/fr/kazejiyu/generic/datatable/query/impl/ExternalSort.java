@@ -0,0 +1,161 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Rows;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.RowSorter;
+import fr.kazejiyu.generic.datatable.core.impl.SortKey;
+
+/**
+ * Sorts the positions of some rows within the memory budget of a query. <br>
+ * <br>
+ * When sorting all the rows at once would exceed the budget, the positions are split
+ * in runs small enough to be sorted in memory by a {@link RowSorter}. Each sorted run
+ * is spilled to a {@link SpillFile}, then the runs are merged back into the positions.
+ * Runs are merged in order, so the sort remains stable.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class ExternalSort {
+
+	/** The estimated number of bytes taken by each row while it is sorted in memory. */
+	static final int BYTES_PER_ROW = 64;
+
+	private ExternalSort() {
+		// utility class
+	}
+
+	/**
+	 * Sorts the positions of some rows of {@code table} according to {@code keys}.
+	 * 
+	 * @param table
+	 * 			The table which rows are sorted.
+	 * @param positions
+	 * 			The positions of the rows to sort.
+	 * @param keys
+	 * 			Specify how to sort the rows.
+	 * @param context
+	 * 			The context of the query, which sets the memory budget.
+	 * 
+	 * @throws fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException if the id of a key does not match any column
+	 * @throws ClassCastException if the elements of one of the columns are not {@link Comparable}
+	 * @throws java.io.UncheckedIOException if the runs cannot be spilled
+	 */
+	static void sort(Table table, int[] positions, List<SortKey<?>> keys, QueryContext context) {
+		int runs = context.partitions(positions.length, BYTES_PER_ROW);
+
+		if( runs == 1 ) {
+			RowSorter.sort(table, positions, keys);
+			return;
+		}
+		int runLength = (positions.length + runs - 1) / runs;
+		List<SpillFile> files = new ArrayList<>(runs);
+
+		try {
+			for( int from = 0 ; from < positions.length ; from += runLength ) {
+				int[] run = Arrays.copyOfRange(positions, from, Math.min(from + runLength, positions.length));
+				RowSorter.sort(table, run, keys);
+
+				SpillFile file = new SpillFile();
+				files.add(file);
+
+				for( int position : run )
+					file.add(position);
+			}
+			merge(table, files, keys, positions);
+		}
+		finally {
+			files.forEach(SpillFile::close);
+		}
+	}
+
+	/** Merges the sorted runs of {@code files} into {@code positions}. */
+	private static void merge(Table table, List<SpillFile> files, List<SortKey<?>> keys, int[] positions) {
+		int[] columns = new int[keys.size()];
+		boolean[] ascending = new boolean[keys.size()];
+
+		for( int i = 0 ; i < columns.length ; ++i ) {
+			columns[i] = table.columns().indexOf(keys.get(i).id());
+			ascending[i] = keys.get(i).isAscending();
+		}
+		PriorityQueue<Run> heads = new PriorityQueue<>(files.size(), (a, b) -> {
+			for( int i = 0 ; i < columns.length ; ++i ) {
+				int comparison = RowSorter.compare(a.keys[i], b.keys[i]);
+
+				if( comparison != 0 )
+					return ascending[i] ? comparison : - comparison;
+			}
+			return Integer.compare(a.index, b.index);
+		});
+		Rows rows = table.rows();
+
+		for( int i = 0 ; i < files.size() ; ++i ) {
+			Run run = new Run(i, files.get(i).cursor(), columns.length);
+
+			if( run.advance(rows, columns) )
+				heads.add(run);
+		}
+		for( int i = 0 ; i < positions.length ; ++i ) {
+			Run smallest = heads.poll();
+			positions[i] = smallest.position;
+
+			if( smallest.advance(rows, columns) )
+				heads.add(smallest);
+		}
+	}
+
+	/** A sorted run being merged. */
+	private static final class Run {
+
+		/** The index of the run, which breaks ties so that the merge is stable. */
+		final int index;
+
+		/** Reads the positions of the run. */
+		final SpillFile.Cursor cursor;
+
+		/** The keys of the current row. */
+		final Object[] keys;
+
+		/** The position of the current row. */
+		int position;
+
+		Run(int index, SpillFile.Cursor cursor, int keys) {
+			this.index = index;
+			this.cursor = cursor;
+			this.keys = new Object[keys];
+		}
+
+		/** @return whether the run has a next row, which becomes the current one */
+		boolean advance(Rows rows, int[] columns) {
+			if( ! cursor.hasNext() )
+				return false;
+
+			position = cursor.next();
+			Row row = rows.get(position);
+
+			for( int i = 0 ; i < columns.length ; ++i )
+				keys[i] = row.get(columns[i]);
+
+			return true;
+		}
+	}
+}
@@ -42,6 +42,9 @@ public class Filter <T> implements Matcher<T> {
 	/** Indicates whether a value has to be kept. */
 	private final Predicate <T> predicate;
 	
+	/** Describes the behavior of {@link #predicate}, {@code null} if it is unknown. */
+	private final Object description;
+	
 	/**
 	 * Creates a new filter on a specific column.
 	 * 
@@ -67,17 +70,45 @@ public class Filter <T> implements Matcher<T> {
 	 * @throws NullPointerException if {@code header} or {@code predicate} is {@code null}.
 	 */
 	Filter(final Collection <String> headers, final Predicate <T> predicate) {
+		this(headers, predicate, null);
+	}
+	
+	/**
+	 * Creates a new filter on a specific columns which behavior is known.
+	 * 
+	 * @param headers
+	 * 			The header of the columns to filter. Must not be {@code null}.
+	 * @param predicate
+	 * 			Returns {@code true} if the row has to be kept. Must not be {@code null}.
+	 * @param description
+	 * 			Describes the behavior of {@code predicate}: two filters with equal descriptions
+	 * 			must keep the same values. May be {@code null} if the behavior is unknown.
+	 * 
+	 * @throws NullPointerException if {@code header} or {@code predicate} is {@code null}.
+	 */
+	Filter(final Collection <String> headers, final Predicate <T> predicate, final Object description) {
 		requireNonNull(headers, "Filter's headers must not be null");
 		requireNonNull(predicate, "Filter's predicate must not be null");
 		
 		this.headers = new HashSet<>(headers);
 		this.predicate = predicate;
+		this.description = description;
 	}
 	
 	/** @return the header of the columns on which apply this filter */
 	public Set<String> headers() {
 		return headers;
 	}
+	
+	/** @return the predicate indicating whether a value has to be kept */
+	Predicate<T> predicate() {
+		return predicate;
+	}
+
+	/** @return the description of the behavior of this filter, {@code null} if it is unknown */
+	Object description() {
+		return description;
+	}
 
 	@Override
 	public boolean matches(T element) {
@@ -0,0 +1,381 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import ca.odell.glazedlists.matchers.Matcher;
+import fr.kazejiyu.generic.datatable.core.Row;
+
+/**
+ * Generates the {@link SpecializedFilters} testing some {@link CompiledFilters}. <br>
+ * <br>
+ * A subclass of {@link SpecializedFilters} is generated for each shape of filters,
+ * that is for each sequence of predicate and condition classes, and is reused by all the
+ * filters sharing this shape. Since the lambdas written at the same place of the code
+ * share their class, the queries built by the same piece of code share their class too,
+ * whatever the values they compare the rows with. <br>
+ * <br>
+ * The {@code test} method of a generated class is straight-line code calling each predicate
+ * through a call site of its own, which is equivalent to:
+ * <pre>
+ * return predicates[0].test(row.get(columns[0]))
+ *     &amp;&amp; predicates[1].test(row.get(columns[1]))
+ *     &amp;&amp; ...
+ *     &amp;&amp; conditions[0].test(row)
+ *     &amp;&amp; ...;</pre>
+ * Each class is defined by a class loader of its own, so that it can be unloaded
+ * once it is evicted from the cache. The filters that are too long to be unrolled,
+ * or which class cannot be generated, are tested by the {@link CompiledFilters} as is.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class FilterSpecializer {
+
+	/** The maximum number of tests unrolled into a generated class. */
+	static final int MAX_TESTS = 256;
+
+	/** The maximum number of generated classes kept at the same time. */
+	private static final int MAX_SHAPES = 1024;
+
+	/** The generated classes, by shape of filters. */
+	private static final Cache<List<Object>, Class<? extends SpecializedFilters>> CLASSES = CacheBuilder.newBuilder()
+			.maximumSize(MAX_SHAPES)
+			.build();
+
+	/** Used to give a distinct name to each generated class. */
+	private static final AtomicInteger GENERATED = new AtomicInteger();
+
+	private static final String SUPER = SpecializedFilters.class.getName().replace('.', '/');
+	private static final String ROW = Row.class.getName().replace('.', '/');
+	private static final String PREDICATE = Predicate.class.getName().replace('.', '/');
+
+	private FilterSpecializer() {
+		super();
+	}
+
+	/**
+	 * Returns a matcher equivalent to {@code filters} which tests are invoked through call sites of their own.
+	 * 
+	 * @param filters
+	 * 			The filters to specialize.
+	 * 
+	 * @return a matcher equivalent to {@code filters}, {@code filters} itself if they cannot be specialized.
+	 */
+	static Matcher<Row> specialize(final CompiledFilters filters) {
+		int tests = filters.columns().length + filters.conditions().length;
+		
+		if( tests > MAX_TESTS )
+			return filters;
+		
+		try {
+			Class<? extends SpecializedFilters> type = CLASSES.get(shapeOf(filters), () -> generate(filters));
+			return type.getConstructor().newInstance().bind(filters);
+			
+		} catch( ExecutionException | UncheckedExecutionException | ExecutionError | ReflectiveOperationException e ) {
+			return filters;
+		}
+	}
+
+	/** @return the classes of the predicates and of the conditions of {@code filters} */
+	private static List<Object> shapeOf(final CompiledFilters filters) {
+		List<Object> shape = new ArrayList<>(filters.predicates().length + filters.conditions().length + 1);
+		shape.add(filters.predicates().length);
+		
+		for( Predicate<Object> predicate : filters.predicates() )
+			shape.add(predicate.getClass());
+		
+		for( Predicate<Row> condition : filters.conditions() )
+			shape.add(condition.getClass());
+		
+		return shape;
+	}
+
+	/** @return a new subclass of {@link SpecializedFilters} unrolling the tests of {@code filters} */
+	private static Class<? extends SpecializedFilters> generate(final CompiledFilters filters) {
+		String name = SpecializedFilters.class.getPackage().getName().replace('.', '/') + "/GeneratedFilters" + GENERATED.incrementAndGet();
+		byte[] bytes = new ClassWriter(name).write(filters.predicates().length, filters.conditions().length);
+		return new Loader().define(name.replace('/', '.'), bytes).asSubclass(SpecializedFilters.class);
+	}
+
+	/** Defines a single generated class. */
+	private static final class Loader extends ClassLoader {
+		
+		Loader() {
+			super(SpecializedFilters.class.getClassLoader());
+		}
+		
+		Class<?> define(final String name, final byte[] bytes) {
+			return defineClass(name, bytes, 0, bytes.length);
+		}
+	}
+
+	/** 
+	 * Writes the bytes of a generated class. <br>
+	 * <br>
+	 * The class file targets Java 5 so that it does not need any stack map frame.
+	 */
+	private static final class ClassWriter {
+		
+		private static final int MAJOR_VERSION = 49;
+		
+		private static final int ACC_PUBLIC = 0x0001;
+		private static final int ACC_PROTECTED = 0x0004;
+		private static final int ACC_FINAL = 0x0010;
+		private static final int ACC_SUPER = 0x0020;
+		
+		private static final int UTF8 = 1;
+		private static final int CLASS = 7;
+		private static final int FIELD_REF = 9;
+		private static final int METHOD_REF = 10;
+		private static final int INTERFACE_METHOD_REF = 11;
+		private static final int NAME_AND_TYPE = 12;
+		
+		private static final int ICONST_0 = 0x03;
+		private static final int ICONST_1 = 0x04;
+		private static final int BIPUSH = 0x10;
+		private static final int SIPUSH = 0x11;
+		private static final int ALOAD_0 = 0x2A;
+		private static final int ALOAD_1 = 0x2B;
+		private static final int IALOAD = 0x2E;
+		private static final int AALOAD = 0x32;
+		private static final int IFEQ = 0x99;
+		private static final int IRETURN = 0xAC;
+		private static final int RETURN = 0xB1;
+		private static final int GETFIELD = 0xB4;
+		private static final int INVOKESPECIAL = 0xB7;
+		private static final int INVOKEINTERFACE = 0xB9;
+		
+		/** The name of the generated class, in its internal form. */
+		private final String name;
+		
+		/** The entries of the constant pool, each mapped to its index. */
+		private final Map<List<Object>, Integer> indexes = new HashMap<>();
+		
+		private final ByteArrayOutputStream pool = new ByteArrayOutputStream();
+		private final DataOutputStream constants = new DataOutputStream(pool);
+		
+		ClassWriter(final String name) {
+			this.name = name;
+		}
+		
+		/** @return the bytes of a class testing {@code tests} predicates then {@code conditions} conditions */
+		byte[] write(final int tests, final int conditions) {
+			try {
+				int thisClass = classRef(name);
+				int superClass = classRef(SUPER);
+				int code = utf8("Code");
+				int constructorName = utf8("<init>");
+				int constructorDescriptor = utf8("()V");
+				int testName = utf8("test");
+				int testDescriptor = utf8("(L" + ROW + ";)Z");
+				
+				byte[] constructor = constructorCode();
+				byte[] test = testCode(tests, conditions);
+				
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				DataOutputStream out = new DataOutputStream(bytes);
+				
+				out.writeInt(0xCAFEBABE);
+				out.writeShort(0);
+				out.writeShort(MAJOR_VERSION);
+				out.writeShort(indexes.size() + 1);
+				pool.writeTo(out);
+				out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+				out.writeShort(thisClass);
+				out.writeShort(superClass);
+				out.writeShort(0);		// interfaces
+				out.writeShort(0);		// fields
+				out.writeShort(2);		// methods
+				writeMethod(out, ACC_PUBLIC, constructorName, constructorDescriptor, code, 1, 1, constructor);
+				writeMethod(out, ACC_PROTECTED, testName, testDescriptor, code, 4, 2, test);
+				out.writeShort(0);		// attributes
+				
+				return bytes.toByteArray();
+				
+			} catch( IOException e ) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		
+		/** Writes a method which only attribute is its code. */
+		private static void writeMethod(DataOutputStream out, int access, int name, int descriptor, int codeAttribute, int maxStack, int maxLocals, byte[] code) throws IOException {
+			out.writeShort(access);
+			out.writeShort(name);
+			out.writeShort(descriptor);
+			out.writeShort(1);
+			out.writeShort(codeAttribute);
+			out.writeInt(2 + 2 + 4 + code.length + 2 + 2);
+			out.writeShort(maxStack);
+			out.writeShort(maxLocals);
+			out.writeInt(code.length);
+			out.write(code);
+			out.writeShort(0);		// exception table
+			out.writeShort(0);		// attributes
+		}
+		
+		/** @return the code of a constructor calling the constructor of the super class */
+		private byte[] constructorCode() throws IOException {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream code = new DataOutputStream(bytes);
+			
+			code.writeByte(ALOAD_0);
+			code.writeByte(INVOKESPECIAL);
+			code.writeShort(memberRef(METHOD_REF, SUPER, "<init>", "()V"));
+			code.writeByte(RETURN);
+			
+			return bytes.toByteArray();
+		}
+		
+		/** @return the code of a {@code test} method unrolling {@code tests} predicates then {@code conditions} conditions */
+		private byte[] testCode(final int tests, final int conditions) throws IOException {
+			int predicatesField = memberRef(FIELD_REF, SUPER, "predicates", "[L" + PREDICATE + ";");
+			int columnsField = memberRef(FIELD_REF, SUPER, "columns", "[I");
+			int conditionsField = memberRef(FIELD_REF, SUPER, "conditions", "[L" + PREDICATE + ";");
+			int get = memberRef(INTERFACE_METHOD_REF, ROW, "get", "(I)Ljava/lang/Object;");
+			int predicate = memberRef(INTERFACE_METHOD_REF, PREDICATE, "test", "(Ljava/lang/Object;)Z");
+			
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream code = new DataOutputStream(bytes);
+			List<Integer> jumps = new ArrayList<>(tests + conditions);
+			
+			for( int i = 0 ; i < tests ; ++i ) {
+				// predicates[i].test(row.get(columns[i]))
+				code.writeByte(ALOAD_0);
+				code.writeByte(GETFIELD);
+				code.writeShort(predicatesField);
+				pushInt(code, i);
+				code.writeByte(AALOAD);
+				code.writeByte(ALOAD_1);
+				code.writeByte(ALOAD_0);
+				code.writeByte(GETFIELD);
+				code.writeShort(columnsField);
+				pushInt(code, i);
+				code.writeByte(IALOAD);
+				invokeInterface(code, get);
+				invokeInterface(code, predicate);
+				jumps.add(ifFalse(code));
+			}
+			for( int i = 0 ; i < conditions ; ++i ) {
+				// conditions[i].test(row)
+				code.writeByte(ALOAD_0);
+				code.writeByte(GETFIELD);
+				code.writeShort(conditionsField);
+				pushInt(code, i);
+				code.writeByte(AALOAD);
+				code.writeByte(ALOAD_1);
+				invokeInterface(code, predicate);
+				jumps.add(ifFalse(code));
+			}
+			code.writeByte(ICONST_1);
+			code.writeByte(IRETURN);
+			
+			int rejected = code.size();
+			code.writeByte(ICONST_0);
+			code.writeByte(IRETURN);
+			
+			byte[] result = bytes.toByteArray();
+			
+			for( int jump : jumps ) {
+				int offset = rejected - jump;
+				result[jump + 1] = (byte) (offset >> 8);
+				result[jump + 2] = (byte) offset;
+			}
+			return result;
+		}
+		
+		/** Writes a jump which offset is set once the code is complete, and returns its position. */
+		private static int ifFalse(final DataOutputStream code) throws IOException {
+			int position = code.size();
+			code.writeByte(IFEQ);
+			code.writeShort(0);
+			return position;
+		}
+		
+		private static void invokeInterface(final DataOutputStream code, final int method) throws IOException {
+			code.writeByte(INVOKEINTERFACE);
+			code.writeShort(method);
+			code.writeByte(2);		// the size of the receiver and of the argument
+			code.writeByte(0);
+		}
+		
+		private static void pushInt(final DataOutputStream code, final int value) throws IOException {
+			if( value <= 5 ) {
+				code.writeByte(ICONST_0 + value);
+			
+			} else if( value <= Byte.MAX_VALUE ) {
+				code.writeByte(BIPUSH);
+				code.writeByte(value);
+			
+			} else {
+				code.writeByte(SIPUSH);
+				code.writeShort(value);
+			}
+		}
+		
+		private int utf8(final String value) throws IOException {
+			return constant(UTF8, value);
+		}
+		
+		private int classRef(final String internalName) throws IOException {
+			return constant(CLASS, utf8(internalName));
+		}
+		
+		private int memberRef(final int tag, final String owner, final String member, final String descriptor) throws IOException {
+			int nameAndType = constant(NAME_AND_TYPE, utf8(member), utf8(descriptor));
+			return constant(tag, classRef(owner), nameAndType);
+		}
+		
+		/** @return the index of the constant made of {@code tag} and {@code values}, added to the pool if needed */
+		private int constant(final int tag, final Object... values) throws IOException {
+			List<Object> key = new ArrayList<>(values.length + 1);
+			key.add(tag);
+			
+			for( Object value : values )
+				key.add(value);
+			
+			Integer index = indexes.get(key);
+			
+			if( index != null )
+				return index;
+			
+			constants.writeByte(tag);
+			
+			for( Object value : values ) {
+				if( value instanceof String )
+					constants.writeUTF((String) value);
+				else
+					constants.writeShort((Integer) value);
+			}
+			indexes.put(key, indexes.size() + 1);
+			return indexes.size();
+		}
+	}
+}
@@ -17,15 +17,21 @@ package fr.kazejiyu.generic.datatable.query.impl;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import ca.odell.glazedlists.matchers.Matcher;
 import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Table;
 
 /**
  * An aggregation of {@link Filter}s used to match a {@link Row}. <br>
  * <br>
- * This way, a {@link Row} can be checked against multiple values.
+ * This way, a {@link Row} can be checked against multiple values. Conditions
+ * involving several columns of a row can also be added.
  * 
  * @author Emmanuel CHEBBI
  */
@@ -33,6 +39,12 @@ public class Filters implements Matcher<Row> {
 
 	/** The matchers to check against each table's row. */
 	private final List<Filter<?>> matchers = new ArrayList<>();
+
+	/** The conditions involving whole rows. */
+	private final List<Predicate<Row>> conditions = new ArrayList<>();
+	
+	/** Describes the behavior of each condition, {@code null} when it is unknown. */
+	private final List<Object> descriptions = new ArrayList<>();
 	
 	/**
 	 * Adds a new filter.
@@ -49,12 +61,108 @@ public class Filters implements Matcher<Row> {
 		return this;
 	}
 
+	/**
+	 * Adds a new condition involving a whole row.
+	 * 
+	 * @param condition
+	 * 			The condition to add. Must not be {@code null}
+	 * 
+	 * @return the current instance to enable method chaining.
+	 * 
+	 * @throws NullPointerException if {@code condition} is null.
+	 */
+	public Filters addCondition(final Predicate<Row> condition) {
+		return addCondition(condition, null);
+	}
+
+	/**
+	 * Adds a new condition involving a whole row which behavior is known.
+	 * 
+	 * @param condition
+	 * 			The condition to add. Must not be {@code null}
+	 * @param description
+	 * 			Describes the behavior of {@code condition}: two conditions with equal descriptions
+	 * 			must keep the same rows. May be {@code null} if the behavior is unknown.
+	 * 
+	 * @return the current instance to enable method chaining.
+	 * 
+	 * @throws NullPointerException if {@code condition} is null.
+	 */
+	public Filters addCondition(final Predicate<Row> condition, final Object description) {
+		conditions.add(requireNonNull(condition));
+		descriptions.add(description);
+		return this;
+	}
+	
+	/**
+	 * Returns a value identifying the behavior of these filters. <br>
+	 * <br>
+	 * Two instances with equal fingerprints keep the same rows of a given table.
+	 * 
+	 * @return a value identifying the behavior of these filters, {@code null} if
+	 * 		   the behavior of a filter is unknown.
+	 */
+	public Object fingerprint() {
+		List<Object> fingerprint = new ArrayList<>();
+		
+		for( Filter<?> filter : matchers ) {
+			if( filter.description() == null )
+				return null;
+			
+			Set<String> headers = new HashSet<>();
+			
+			for( String header : filter.headers() )
+				headers.add(header.toLowerCase());
+			
+			fingerprint.add(Arrays.asList(headers, filter.description()));
+		}
+		for( Object description : descriptions ) {
+			if( description == null )
+				return null;
+			
+			fingerprint.add(description);
+		}
+		return fingerprint;
+	}
+
+	/**
+	 * Returns a matcher equivalent to these filters and dedicated to the rows of {@code table}. <br>
+	 * <br>
+	 * The headers of the filtered columns are resolved once, so that the returned
+	 * matcher does not have to look them up for each row. The tests are then unrolled
+	 * into a class generated for this shape of filters, so that the JVM can inline each
+	 * predicate separately. The matcher is not affected by the filters added afterwards. <br>
+	 * <br>
+	 * Since nothing is ever matched against an empty table, the headers are not
+	 * checked in this case.
+	 * 
+	 * @param table
+	 * 			The table which rows are matched. Must not be {@code null}.
+	 * 
+	 * @return a matcher dedicated to the rows of {@code table}.
+	 * 
+	 * @throws NullPointerException if {@code table} is {@code null}.
+	 * @throws fr.kazejiyu.generic.datatable.exceptions.HeaderNotFoundException if a filter uses a header that does not belong to {@code table}.
+	 */
+	public Matcher<Row> compile(final Table table) {
+		requireNonNull(table, "The table to compile the filters for must not be null");
+		
+		if( table.rows().isEmpty() )
+			return this;
+		
+		return FilterSpecializer.specialize(new CompiledFilters(table, matchers, conditions));
+	}
+
 	@Override
 	public boolean matches(final Row row) {
 		for( Filter <?> filter : matchers ) 
 			if( ! match(filter, row) )
 				return false;
 		
+		for( Predicate<Row> condition : conditions )
+			if( ! condition.test(row) )
+				return false;
+		
 		return true;
 	}
 	
@@ -0,0 +1,334 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Rows;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.util.PrimitiveArrays;
+import fr.kazejiyu.generic.datatable.util.ValueDictionary;
+
+/**
+ * Joins two tables by building a hash index over the keys of the smallest one,
+ * then by probing this index with the keys of the other one. <br>
+ * <br>
+ * Works whatever the order of the rows. <br>
+ * <br>
+ * When the index would exceed the memory budget of the query, both tables are split
+ * in partitions according to the hash of their keys, and the positions of each
+ * partition are spilled to the disk. Since matching rows always fall in the same
+ * partition, the partitions are then joined one at a time (Grace hash join).
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class HashJoin extends AbstractJoin {
+	
+	/** The estimated number of bytes taken by the index of each row of the smallest table. */
+	static final int BYTES_PER_INDEXED_ROW = 48;
+	
+	/** The context of the query, which sets the memory budget. */
+	private final QueryContext context;
+	
+	/**
+	 * Prepares a new join.
+	 * 
+	 * @param type
+	 * 			The kind of join to perform.
+	 * @param left
+	 * 			The table on the left side of the join.
+	 * @param leftKey
+	 * 			The index of the key column in the left table.
+	 * @param right
+	 * 			The table on the right side of the join.
+	 * @param rightKey
+	 * 			The index of the key column in the right table.
+	 * @param context
+	 * 			The context of the query, which sets the memory budget.
+	 */
+	HashJoin(final JoinType type, final Table left, final int leftKey, final Table right, final int rightKey, final QueryContext context) {
+		super(type, left, leftKey, right, rightKey);
+		this.context = context;
+	}
+	
+	@Override
+	protected void match() {
+		int partitions = context.partitions(Math.min(left.rows().size(), right.rows().size()), BYTES_PER_INDEXED_ROW);
+		
+		if( partitions > 1 )
+			joinPartitions(partitions);
+		
+		else if( left.rows().size() <= right.rows().size() )
+			buildOnLeft();
+		else
+			buildOnRight();
+	}
+	
+	/** Indexes the right table and probes it with the left rows, which directly preserves their order. */
+	private void buildOnRight() {
+		KeyIndex index = KeyIndex.of(right.rows(), rightKey);
+		int position = 0;
+		
+		for( Row row : left.rows() ) {
+			int match = index.first(row.get(leftKey));
+			
+			if( match == NONE ) {
+				if( type == JoinType.LEFT || type == JoinType.ANTI )
+					emit(position, NONE);
+			}
+			else if( type == JoinType.SEMI ) {
+				emit(position, NONE);
+			}
+			else if( type != JoinType.ANTI ) {
+				for( ; match != NONE ; match = index.next(match) )
+					emit(position, match);
+			}
+			++position;
+		}
+	}
+	
+	/** 
+	 * Indexes the left table and probes it with the right rows. <br>
+	 * <br>
+	 * The matching pairs are then reordered according to the left positions with a counting sort.
+	 */
+	private void buildOnLeft() {
+		KeyIndex index = KeyIndex.of(left.rows(), leftKey);
+		int[] matches = new int[left.rows().size()];
+		int[] pairs = new int[0];
+		int pairCount = 0;
+		int position = 0;
+		
+		for( Row row : right.rows() ) {
+			for( int match = index.first(row.get(rightKey)) ; match != NONE ; match = index.next(match) ) {
+				++matches[match];
+				
+				if( type.keepsRightColumns() ) {
+					pairs = PrimitiveArrays.grow(pairs, 2 * pairCount + 2);
+					pairs[2 * pairCount] = match;
+					pairs[2 * pairCount + 1] = position;
+					++pairCount;
+				}
+			}
+			++position;
+		}
+		
+		if( type.keepsRightColumns() )
+			sortPairs(matches, pairs, pairCount);
+		else
+			keepLeftRows(matches);
+	}
+	
+	/** 
+	 * Splits both tables in partitions, then indexes the smallest one and probes it with the other one,
+	 * one partition at a time. <br>
+	 * <br>
+	 * The matching pairs are then reordered according to the left positions with a counting sort.
+	 */
+	private void joinPartitions(int partitions) {
+		boolean buildOnLeft = left.rows().size() <= right.rows().size();
+		Table build = buildOnLeft ? left : right;
+		Table probe = buildOnLeft ? right : left;
+		int buildKey = buildOnLeft ? leftKey : rightKey;
+		int probeKey = buildOnLeft ? rightKey : leftKey;
+		
+		SpillFile[] builds = partition(build, buildKey, partitions);
+		SpillFile[] probes = partition(probe, probeKey, partitions);
+		int[] matches = new int[left.rows().size()];
+		int[] pairs = new int[0];
+		int pairCount = 0;
+		
+		try {
+			for( int partition = 0 ; partition < partitions ; ++partition ) {
+				int[] indexed = builds[partition].toArray();
+				KeyIndex index = KeyIndex.of(build.rows(), buildKey, indexed);
+				SpillFile.Cursor probed = probes[partition].cursor();
+				
+				while( probed.hasNext() ) {
+					int position = probed.next();
+					Object key = probe.rows().get(position).get(probeKey);
+					
+					for( int match = index.first(key) ; match != NONE ; match = index.next(match) ) {
+						int leftPosition = buildOnLeft ? indexed[match] : position;
+						int rightPosition = buildOnLeft ? position : indexed[match];
+						++matches[leftPosition];
+						
+						if( type.keepsRightColumns() ) {
+							pairs = PrimitiveArrays.grow(pairs, 2 * pairCount + 2);
+							pairs[2 * pairCount] = leftPosition;
+							pairs[2 * pairCount + 1] = rightPosition;
+							++pairCount;
+						}
+					}
+				}
+			}
+		}
+		finally {
+			SpillFile.closeAll(builds);
+			SpillFile.closeAll(probes);
+		}
+		
+		if( type.keepsRightColumns() )
+			sortPairs(matches, pairs, pairCount);
+		else
+			keepLeftRows(matches);
+	}
+	
+	/** @return the positions of the rows of {@code table} which key is not {@code null}, split by hash of the key */
+	private static SpillFile[] partition(Table table, int key, int partitions) {
+		SpillFile[] files = new SpillFile[partitions];
+		
+		try {
+			for( int partition = 0 ; partition < partitions ; ++partition )
+				files[partition] = new SpillFile();
+			
+			int position = 0;
+			
+			for( Row row : table.rows() ) {
+				Object element = row.get(key);
+				
+				if( element != null )
+					files[QueryContext.partitionOf(element.hashCode(), partitions)].add(position);
+				
+				++position;
+			}
+			return files;
+		}
+		catch( RuntimeException e ) {
+			SpillFile.closeAll(files);
+			throw e;
+		}
+	}
+	
+	/** Keeps the left rows that match (semi join) or that do not match (anti join) */
+	private void keepLeftRows(int[] matches) {
+		for( int position = 0 ; position < matches.length ; ++position )
+			if( (matches[position] > 0) == (type == JoinType.SEMI) )
+				emit(position, NONE);
+	}
+	
+	/** Orders the pairs of matching rows by left position, keeping the unmatched left rows of a left join. */
+	private void sortPairs(int[] matches, int[] pairs, int pairCount) {
+		int[] offsets = new int[matches.length];
+		int total = 0;
+		
+		for( int position = 0 ; position < matches.length ; ++position ) {
+			offsets[position] = total;
+			total += matches[position] == 0 && type == JoinType.LEFT ? 1 : matches[position];
+		}
+		
+		leftPositions = new int[total];
+		rightPositions = new int[total];
+		size = total;
+		
+		for( int position = 0 ; position < matches.length ; ++position ) {
+			if( matches[position] == 0 && type == JoinType.LEFT ) {
+				leftPositions[offsets[position]] = position;
+				rightPositions[offsets[position]] = NONE;
+			}
+		}
+		
+		for( int pair = 0 ; pair < pairCount ; ++pair ) {
+			int offset = offsets[pairs[2 * pair]]++;
+			leftPositions[offset] = pairs[2 * pair];
+			rightPositions[offset] = pairs[2 * pair + 1];
+		}
+	}
+	
+	/**
+	 * Maps the keys of a table to the positions of the rows holding them. <br>
+	 * <br>
+	 * The positions of the rows sharing a key are chained in ascending order
+	 * through a primitive array, so that no object is allocated per row.
+	 * {@code null} keys are not indexed since they never match. <br>
+	 * <br>
+	 * When only some rows are indexed, the index deals with their index among
+	 * the indexed rows rather than with their position in the table.
+	 */
+	private static final class KeyIndex {
+		
+		/** Encodes the keys to dense codes. */
+		private final ValueDictionary keys = new ValueDictionary();
+		
+		/** The first position holding each key, indexed by code. */
+		private int[] heads = new int[16];
+		
+		/** The last position holding each key, indexed by code. */
+		private int[] tails = new int[16];
+		
+		/** The next position holding the same key, indexed by position. */
+		private final int[] nexts;
+		
+		private KeyIndex(int size) {
+			this.nexts = new int[size];
+		}
+		
+		/** @return an index of the keys of all the {@code rows} */
+		static KeyIndex of(Rows rows, int column) {
+			KeyIndex index = new KeyIndex(rows.size());
+			int position = 0;
+			
+			for( Row row : rows ) {
+				Object key = row.get(column);
+				index.nexts[position] = NONE;
+				
+				if( key != null )
+					index.index(key, position);
+				
+				++position;
+			}
+			return index;
+		}
+		
+		/** @return an index of the keys of the {@code rows} at {@code positions}, which must not be {@code null} */
+		static KeyIndex of(Rows rows, int column, int[] positions) {
+			KeyIndex index = new KeyIndex(positions.length);
+			
+			for( int i = 0 ; i < positions.length ; ++i ) {
+				index.nexts[i] = NONE;
+				index.index(rows.get(positions[i]).get(column), i);
+			}
+			return index;
+		}
+		
+		private void index(Object key, int position) {
+			int known = keys.size();
+			int code = keys.encode(key);
+			
+			if( code == known ) {
+				heads = PrimitiveArrays.grow(heads, code + 1);
+				tails = PrimitiveArrays.grow(tails, code + 1);
+				heads[code] = position;
+			}
+			else {
+				nexts[tails[code]] = position;
+			}
+			tails[code] = position;
+		}
+		
+		/** @return the first position holding {@code key}, {@link AbstractJoin#NONE} if there is none */
+		int first(Object key) {
+			if( key == null )
+				return NONE;
+			
+			int code = keys.codeOf(key);
+			return code == ValueDictionary.NO_CODE ? NONE : heads[code];
+		}
+		
+		/** @return the next position holding the same key as {@code position}, {@link AbstractJoin#NONE} if there is none */
+		int next(int position) {
+			return nexts[position];
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+/**
+ * The kinds of join supported by queries.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+enum JoinType {
+	
+	/** Keeps the pairs of matching rows. */
+	INNER,
+	
+	/** Keeps the pairs of matching rows, as well as the left rows matching nothing. */
+	LEFT,
+	
+	/** Keeps the left rows matching at least one right row. */
+	SEMI,
+	
+	/** Keeps the left rows matching no right row. */
+	ANTI;
+	
+	/** @return whether the joined table owns the columns of the right table */
+	boolean keepsRightColumns() {
+		return this == INNER || this == LEFT;
+	}
+}
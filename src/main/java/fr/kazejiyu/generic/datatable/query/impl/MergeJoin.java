@@ -0,0 +1,92 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import fr.kazejiyu.generic.datatable.core.Rows;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.RowSorter;
+
+/**
+ * Joins two tables which rows are sorted by key by scanning them side by side. <br>
+ * <br>
+ * Unlike {@link HashJoin}, no index is built: each table is read once, plus the
+ * runs of equal right keys that match several left rows. <br>
+ * <br>
+ * <strong>Caution</strong>: both tables must be sorted in ascending order of their
+ * key, {@code null} keys coming first, as described by {@link Table#sortOrder()}.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class MergeJoin extends AbstractJoin {
+	
+	/**
+	 * Prepares a new join.
+	 * 
+	 * @param type
+	 * 			The kind of join to perform.
+	 * @param left
+	 * 			The table on the left side of the join, sorted by its key.
+	 * @param leftKey
+	 * 			The index of the key column in the left table.
+	 * @param right
+	 * 			The table on the right side of the join, sorted by its key.
+	 * @param rightKey
+	 * 			The index of the key column in the right table.
+	 */
+	MergeJoin(final JoinType type, final Table left, final int leftKey, final Table right, final int rightKey) {
+		super(type, left, leftKey, right, rightKey);
+	}
+	
+	@Override
+	protected void match() {
+		Rows leftRows = left.rows();
+		Rows rightRows = right.rows();
+		int rightSize = rightRows.size();
+		
+		// the first right row which key may be greater or equal to the current left key
+		int cursor = 0;
+		
+		for( int position = 0 ; position < leftRows.size() ; ++position ) {
+			Object key = leftRows.get(position).get(leftKey);
+			int match = NONE;
+			
+			if( key != null ) {
+				while( cursor < rightSize && RowSorter.compare(rightRows.get(cursor).get(rightKey), key) < 0 )
+					++cursor;
+				
+				if( cursor < rightSize && RowSorter.compare(rightRows.get(cursor).get(rightKey), key) == 0 )
+					match = cursor;
+			}
+			emitMatches(position, key, match);
+		}
+	}
+	
+	/** Emits the rows joining the left row at {@code position}, {@code match} being its first match. */
+	private void emitMatches(int position, Object key, int match) {
+		if( match == NONE ) {
+			if( type == JoinType.LEFT || type == JoinType.ANTI )
+				emit(position, NONE);
+		}
+		else if( type == JoinType.SEMI ) {
+			emit(position, NONE);
+		}
+		else if( type != JoinType.ANTI ) {
+			Rows rightRows = right.rows();
+			
+			for( int next = match ; next < rightRows.size() && RowSorter.compare(rightRows.get(next).get(rightKey), key) == 0 ; ++next )
+				emit(position, next);
+		}
+	}
+}
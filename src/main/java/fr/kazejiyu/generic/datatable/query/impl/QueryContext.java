@@ -14,10 +14,17 @@
  */
 package fr.kazejiyu.generic.datatable.query.impl;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.List;
 
+import ca.odell.glazedlists.matchers.Matcher;
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Rows;
 import fr.kazejiyu.generic.datatable.core.Table;
 import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.SortKey;
 
 /**
  * The context of a query.
@@ -26,6 +33,9 @@ import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
  */
 class QueryContext {
 	
+	/** The maximum number of parts intermediate results are split in, which bounds the number of temporary files. */
+	static final int MAX_PARTITIONS = 256;
+	
 	/** The Table that contains the rows to filter. */
 	public Table table;
 	
@@ -38,4 +48,192 @@ class QueryContext {
 	/** The filters to apply on the table to obtain the desired result. */
 	public final Filters filters = new Filters();
 	
+	/** A matcher already dedicated to the rows of the table and replacing the filters, {@code null} if there is none. */
+	public Matcher<Row> compiledFilters = null;
+	
+	/** Specify the order of the rows of the final query, empty when the original order is kept. */
+	public final List<SortKey<?>> ordering = new ArrayList<>();
+	
+	/** The maximum number of rows of the final query. */
+	public int limit = Integer.MAX_VALUE;
+	
+	/** The number of matching rows to skip. */
+	public int offset = 0;
+	
+	/** Whether the rows holding the same elements as a previous row are removed from the final query. */
+	public boolean distinct = false;
+	
+	/** The cache storing the results of the query, {@code null} if results are not cached. */
+	public ResultCache cache = null;
+	
+	/** The number of bytes the intermediate results of the query may take before being spilled to the disk. */
+	public long memoryBudget = Long.MAX_VALUE;
+	
+	/**
+	 * Returns the number of parts to split some data in so that each one fits in the memory budget.
+	 * 
+	 * @param count
+	 * 			The number of items of the data.
+	 * @param bytesPerItem
+	 * 			The estimated number of bytes taken by each item.
+	 * 
+	 * @return the number of parts to split the data in, 1 if it fits in the budget.
+	 */
+	int partitions(long count, int bytesPerItem) {
+		long bytes = count * bytesPerItem;
+		
+		if( bytes <= memoryBudget )
+			return 1;
+		
+		return (int) Math.min(MAX_PARTITIONS, (bytes + memoryBudget - 1) / memoryBudget);
+	}
+	
+	/**
+	 * Returns the partition of an item. <br>
+	 * <br>
+	 * Relies on the high bits of a hash that differs from the one used by hash tables, 
+	 * so that the items of a partition remain evenly spread in a hash table.
+	 * 
+	 * @param hash
+	 * 			The hash code of the item.
+	 * @param partitions
+	 * 			The number of partitions.
+	 * 
+	 * @return the partition of the item, between 0 and {@code partitions - 1}.
+	 */
+	static int partitionOf(int hash, int partitions) {
+		int mixed = hash * 0x85EBCA6B;
+		mixed ^= mixed >>> 13;
+		return (int) (((mixed & 0xFFFFFFFFL) * partitions) >>> 32);
+	}
+	
+	/** 
+	 * @return a value identifying the rows kept by the query, {@code null} if the behavior
+	 * 		   of a filter is unknown
+	 */
+	Object fingerprint() {
+		Object filtering = compiledFilters == null ? filters.fingerprint() : null;
+		
+		if( filtering == null )
+			return null;
+		
+		return Arrays.asList(filtering, new ArrayList<>(ordering), distinct, limit, offset);
+	}
+	
+	/** @return a matcher equivalent to the filters, dedicated to the rows of the table */
+	Matcher<Row> matcher() {
+		return compiledFilters == null ? filters.compile(table) : compiledFilters;
+	}
+	
+	/** @return whether the final query keeps all the rows matching the filters, in their original order */
+	boolean onlyFilters() {
+		return ! distinct && ordering.isEmpty() && offset == 0 && limit == Integer.MAX_VALUE;
+	}
+	
+	/** @return the positions of the rows matching the filters, in the requested order */
+	int[] positions() {
+		int[] columns = new int[table.columns().size()];
+		
+		for( int i = 0 ; i < columns.length ; ++i )
+			columns[i] = i;
+		
+		return positions(columns);
+	}
+	
+	/** 
+	 * @param columns
+	 * 			The indexes of the columns compared to tell whether two rows are distinct.
+	 * 
+	 * @return the positions of the rows matching the filters, in the requested order 
+	 */
+	int[] positions(int[] columns) {
+		RowGrouper distinctRows = distinct ? new RowGrouper(columns) : null;
+		Matcher<Row> matcher = matcher();
+		int wanted = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+		int[] positions;
+		
+		if( ordering.isEmpty() )
+			positions = firstMatchingPositions(wanted, matcher, distinctRows);
+		
+		else if( wanted < table.rows().size() )
+			positions = topPositions(wanted, matcher, distinctRows);
+		
+		else {
+			positions = firstMatchingPositions(wanted, matcher, distinctRows);
+			ExternalSort.sort(table, positions, ordering, this);
+		}
+		return page(positions);
+	}
+	
+	/** @return whether {@code row} matches the filters and, if needed, is the first of its kind */
+	private static boolean keeps(Row row, int position, Matcher<Row> matcher, RowGrouper distinctRows) {
+		if( ! matcher.matches(row) )
+			return false;
+		
+		if( distinctRows == null )
+			return true;
+		
+		int found = distinctRows.size();
+		return distinctRows.groupOf(row, position) == found;
+	}
+	
+	/** @return the positions of the first {@code wanted} rows to keep; stops filtering once they are found */
+	private int[] firstMatchingPositions(int wanted, Matcher<Row> matcher, RowGrouper distinctRows) {
+		Rows rows = table.rows();
+		int[] positions = new int[Math.min(rows.size(), wanted)];
+		int size = 0;
+		int position = 0;
+		
+		for( Row row : rows ) {
+			if( size == positions.length )
+				break;
+			if( keeps(row, position, matcher, distinctRows) )
+				positions[size++] = position;
+			++position;
+		}
+		if( size != positions.length )
+			positions = Arrays.copyOf(positions, size);
+		
+		return positions;
+	}
+	
+	/** @return the positions of the first {@code wanted} rows to keep according to the ordering */
+	private int[] topPositions(int wanted, Matcher<Row> matcher, RowGrouper distinctRows) {
+		TopK top = new TopK(table, ordering, wanted);
+		int position = 0;
+		
+		for( Row row : table.rows() ) {
+			if( keeps(row, position, matcher, distinctRows) )
+				top.offer(row, position);
+			++position;
+		}
+		return top.result();
+	}
+	
+	/** @return the positions remaining once the offset and the limit are applied */
+	private int[] page(int[] positions) {
+		int from = Math.min(offset, positions.length);
+		int to = (int) Math.min((long) from + limit, positions.length);
+		
+		if( from == 0 && to == positions.length )
+			return positions;
+		
+		return Arrays.copyOfRange(positions, from, to);
+	}
+	
+	/** @return the ids of the columns the rows of the final query are sorted by */
+	List<ColumnId<?>> sortOrder() {
+		if( ordering.isEmpty() )
+			return table.sortOrder();
+		
+		List<ColumnId<?>> sortOrder = new ArrayList<>();
+		
+		for( SortKey<?> key : ordering ) {
+			if( ! key.isAscending() )
+				break;
+			sortOrder.add(key.id());
+		}
+		return sortOrder;
+	}
+
 }
@@ -0,0 +1,86 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import java.util.List;
+
+import ca.odell.glazedlists.matchers.Matcher;
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.SortKey;
+import fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException;
+import fr.kazejiyu.generic.datatable.query.expression.BoundExpression;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+
+/**
+ * The part of a {@link SimplePreparedQuery} that only depends on the schema of the queried table. <br>
+ * <br>
+ * All the conditions are bound once, when the plan is created: each parameter is bound to
+ * a slot of the array of values supplied when the query is executed. Since bound conditions
+ * only read the elements of a row by index, the plan can be reused for any table with the
+ * same {@link Schema} and any value of the parameters. <br>
+ * <br>
+ * Instances are immutable.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class QueryPlan {
+
+	/** The conditions the rows must fulfill, bound to the schema. */
+	private final BoundExpression<Boolean>[] conditions;
+
+	/**
+	 * Creates the plan of a query for the schema of {@code table}.
+	 * 
+	 * @param table
+	 * 			A table which schema is the one of the plan.
+	 * @param conditions
+	 * 			The conditions the rows must fulfill.
+	 * @param ordering
+	 * 			The keys to sort the rows by.
+	 * @param parameters
+	 * 			The names of the parameters of the query, in the order of their values.
+	 * 
+	 * @throws ColumnIdNotFoundException if the query uses a column that does not belong to {@code table}.
+	 */
+	@SuppressWarnings("unchecked")
+	QueryPlan(final Table table, final List<Expression<Boolean>> conditions, final List<SortKey<?>> ordering, final List<String> parameters) {
+		this.conditions = (BoundExpression<Boolean>[]) new BoundExpression<?>[conditions.size()];
+
+		for( int i = 0 ; i < conditions.size() ; ++i )
+			this.conditions[i] = conditions.get(i).bind(table, parameters);
+
+		for( SortKey<?> key : ordering )
+			table.columns().indexOf(key.id());
+	}
+
+	/**
+	 * Returns a matcher telling whether a row fulfills the conditions of the query.
+	 * 
+	 * @param values
+	 * 			The values of the parameters, in the order given when the plan was created.
+	 * 
+	 * @return a matcher telling whether a row of a table with the schema of the plan fulfills the conditions.
+	 */
+	Matcher<Row> matcher(final Object[] values) {
+		return row -> {
+			for( BoundExpression<Boolean> condition : conditions )
+				if( ! Boolean.TRUE.equals(condition.evaluate(row, values)) )
+					return false;
+
+			return true;
+		};
+	}
+}
@@ -0,0 +1,248 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.core.impl.TableView;
+
+/**
+ * Caches the results of queries until the queried tables are modified. <br>
+ * <br>
+ * A cache is opt-in and can be shared by any number of queries:
+ * <pre>ResultCache cache = new ResultCache(64 * 1024 * 1024);
+ * 
+ *Table parisians = Query
+ *    .from(people)
+ *    .cachedIn(cache)
+ *    .where(CITY).eq("Paris")
+ *    .select(NAME);</pre>
+ * Results are identified by a fingerprint of the query and by the {@link DataTable#version() version}
+ * of the queried table, so that any modification of the table makes its cached results stale.
+ * Stale results are dropped the next time the table is queried. When the estimated size of the
+ * results exceeds the budget of the cache, the least recently used ones are evicted. <br>
+ * <br>
+ * Only the queries on a {@link DataTable} which filters are all built-in can be fingerprinted;
+ * other queries, such as those using {@link fr.kazejiyu.generic.datatable.query.Where#match(java.util.function.Predicate) match},
+ * are always executed. <br>
+ * <br>
+ * Cached results are read-only views, shared by all the queries returning them.
+ * The cache only holds weak references to the queried tables: the results of a table
+ * that has been garbage collected are dropped the next time the cache is used.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public final class ResultCache {
+
+	/** The estimated size of an element of a result, in bytes. */
+	static final int ELEMENT_SIZE = 16;
+
+	/** The estimated overhead of a row of a result, in bytes. */
+	static final int ROW_OVERHEAD = 48;
+
+	/** The cached results, by query. */
+	private final Cache<Key, Table> results;
+
+	/** The results of each queried table; tables are weakly referenced and compared by identity. */
+	private final Cache<DataTable, Results> tables;
+
+	private long hits = 0;
+
+	private long misses = 0;
+
+	/**
+	 * Creates a new cache.
+	 * 
+	 * @param budget
+	 * 			The maximum estimated size of the cached results, in bytes. Must be positive.
+	 * 
+	 * @throws IllegalArgumentException if {@code budget} is not positive.
+	 */
+	public ResultCache(final long budget) {
+		if( budget <= 0 )
+			throw new IllegalArgumentException("The budget of the cache must be positive (got: " + budget + ")");
+
+		this.results = CacheBuilder.newBuilder()
+				.concurrencyLevel(1)
+				.maximumWeight(budget)
+				.weigher((Key key, Table result) -> weightOf(result))
+				.removalListener(this::unindex)
+				.build();
+		
+		this.tables = CacheBuilder.newBuilder()
+				.concurrencyLevel(1)
+				.weakKeys()
+				.removalListener(this::drop)
+				.build();
+	}
+	
+	/** Forgets the result which has been removed from the cache. */
+	private void unindex(RemovalNotification<Key, Table> removal) {
+		if( removal.getCause() != RemovalCause.REPLACED )
+			removal.getKey().owner.keys.remove(removal.getKey());
+	}
+	
+	/** Removes the results of the table which has been invalidated or garbage collected. */
+	private void drop(RemovalNotification<DataTable, Results> removal) {
+		if( removal.getCause() != RemovalCause.REPLACED )
+			results.invalidateAll(new ArrayList<>(removal.getValue().keys));
+	}
+
+	/** @return the estimated size of {@code result}, in bytes */
+	static int weightOf(Table result) {
+		long weight = (long) result.rows().size() * (result.columns().size() * ELEMENT_SIZE + ROW_OVERHEAD);
+		return (int) Math.min(weight, Integer.MAX_VALUE);
+	}
+
+	/** @return the number of cached results */
+	public long size() {
+		tables.cleanUp();
+		return results.size();
+	}
+
+	/** @return the number of queries which result has been found in the cache */
+	public synchronized long hitCount() {
+		return hits;
+	}
+
+	/** @return the number of cacheable queries which result has been computed */
+	public synchronized long missCount() {
+		return misses;
+	}
+
+	/** Removes all the cached results. */
+	public void clear() {
+		tables.invalidateAll();
+		results.invalidateAll();
+	}
+
+	/**
+	 * Removes the cached results of the queries on {@code table}.
+	 * 
+	 * @param table
+	 * 			The table which results are removed.
+	 */
+	public void invalidate(final Table table) {
+		tables.invalidate(table);
+	}
+
+	/**
+	 * Returns the result of a query, computing it if it is not cached.
+	 * 
+	 * @param context
+	 * 			The context of the query.
+	 * @param projection
+	 * 			Identifies the columns of the result.
+	 * @param query
+	 * 			Computes the result.
+	 * 
+	 * @return the result of the query; a read-only view if it can be cached.
+	 */
+	Table get(final QueryContext context, final Object projection, final Supplier<Table> query) {
+		Object fingerprint = context.fingerprint();
+
+		if( fingerprint == null || ! (context.table instanceof DataTable) )
+			return query.get();
+
+		DataTable table = (DataTable) context.table;
+		Results owner = tables.asMap().computeIfAbsent(table, t -> new Results());
+		Key key = new Key(owner, table.version(), Arrays.asList(fingerprint, projection));
+		Table result = results.getIfPresent(key);
+
+		if( result != null ) {
+			synchronized( this ) { ++hits; }
+			return result;
+		}
+		synchronized( this ) { ++misses; }
+
+		for( Key other : owner.keys )
+			if( other.version != key.version )
+				results.invalidate(other);
+		
+		result = readOnly(query.get());
+		owner.keys.add(key);
+		results.put(key, result);
+		return result;
+	}
+
+	/** @return a read-only view of {@code table} */
+	private static Table readOnly(Table table) {
+		List<Column<?>> columns = new ArrayList<>(table.columns().size());
+
+		for( int i = 0 ; i < table.columns().size() ; ++i )
+			columns.add(table.columns().get(i));
+
+		return new TableView(columns, table.sortOrder());
+	}
+
+	/** The results of a queried table. */
+	private static final class Results {
+		
+		/** Identify the cached results of the table. */
+		private final Set<Key> keys = Collections.newSetFromMap(new ConcurrentHashMap<>());
+	}
+
+	/** Identifies the result of a query. */
+	private static final class Key {
+
+		/** The results of the queried table; compared by identity. */
+		private final Results owner;
+
+		/** The version of the table when it has been queried. */
+		private final int version;
+
+		/** Identifies the query. */
+		private final Object query;
+
+		private final int hash;
+
+		Key(final Results owner, final int version, final Object query) {
+			this.owner = owner;
+			this.version = version;
+			this.query = query;
+			this.hash = 31 * (31 * System.identityHashCode(owner) + version) + query.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if( this == obj )
+				return true;
+			if( ! (obj instanceof Key) )
+				return false;
+
+			Key other = (Key) obj;
+			return owner == other.owner && version == other.version && query.equals(other.query);
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.util.LongIntHashMap;
+import fr.kazejiyu.generic.datatable.util.PrimitiveArrays;
+import fr.kazejiyu.generic.datatable.util.ValueDictionary;
+
+/**
+ * Assigns a dense group index to rows according to the values of some of their columns. <br>
+ * <br>
+ * The values of each grouping column are first encoded into dictionary codes.
+ * Codes are then combined column after column: the pair made of the group of the
+ * first {@code i} columns and the code of the {@code i+1}th column is mapped to a
+ * new dense index by a primitive hash map. Hence, a row never allocates a composite key.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+class RowGrouper {
+
+	/** The indexes of the columns to group by. */
+	private final int[] columns;
+
+	/** Encodes the values of each grouping column. */
+	private final ValueDictionary[] dictionaries;
+
+	/** Maps (group of the previous columns, code of the column) pairs to dense indexes. */
+	private final LongIntHashMap[] combinations;
+
+	/** The position of the first row of each group. */
+	private int[] representatives = new int[16];
+
+	/** The number of groups found so far. */
+	private int size;
+
+	/**
+	 * Creates a new grouper.
+	 * 
+	 * @param columns
+	 * 			The indexes of the columns to group by.
+	 * 			When empty, all the rows belong to a single group.
+	 */
+	RowGrouper(final int[] columns) {
+		this.columns = columns.clone();
+		this.dictionaries = new ValueDictionary[columns.length];
+		this.combinations = new LongIntHashMap[columns.length];
+
+		for( int i = 0 ; i < columns.length ; ++i ) {
+			dictionaries[i] = new ValueDictionary();
+			combinations[i] = new LongIntHashMap();
+		}
+		if( columns.length == 0 )
+			this.size = 1;
+	}
+
+	/** @return the number of groups found so far */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the group of {@code row}, creating a new one if needed.
+	 * 
+	 * @param row
+	 * 			The row to group.
+	 * @param position
+	 * 			The position of the row in its table.
+	 * 
+	 * @return the index of the group of {@code row}.
+	 */
+	int groupOf(final Row row, final int position) {
+		if( columns.length == 0 )
+			return 0;
+
+		int group = dictionaries[0].encode(row.get(columns[0]));
+
+		for( int i = 1 ; i < columns.length ; ++i ) {
+			int code = dictionaries[i].encode(row.get(columns[i]));
+			LongIntHashMap combination = combinations[i];
+			group = combination.getOrAdd(((long) group << 32) | code, combination.size());
+		}
+
+		if( group == size ) {
+			representatives = PrimitiveArrays.grow(representatives, size + 1);
+			representatives[size++] = position;
+		}
+		return group;
+	}
+
+	/**
+	 * Returns the position of the first row that has been put in {@code group}.
+	 * 
+	 * @param group
+	 * 			The index of the group.
+	 * 
+	 * @return the position of the first row of {@code group}.
+	 */
+	int representativeOf(final int group) {
+		return representatives[group];
+	}
+}
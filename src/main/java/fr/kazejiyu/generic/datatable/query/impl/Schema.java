@@ -0,0 +1,86 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import java.util.Arrays;
+
+import fr.kazejiyu.generic.datatable.core.Columns;
+import fr.kazejiyu.generic.datatable.core.Table;
+
+/**
+ * The headers and the types of the columns of a table, in order. <br>
+ * <br>
+ * Two tables with the same schema store the same kind of elements at the same
+ * indexes, which makes the work done for one of them reusable for the other one.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class Schema {
+
+	/** The headers of the columns, lower-cased. */
+	private final String[] headers;
+
+	/** The types of the columns. */
+	private final Class<?>[] types;
+
+	private final int hash;
+
+	private Schema(final String[] headers, final Class<?>[] types) {
+		this.headers = headers;
+		this.types = types;
+		this.hash = 31 * Arrays.hashCode(headers) + Arrays.hashCode(types);
+	}
+
+	/**
+	 * Returns the schema of {@code table}.
+	 * 
+	 * @param table
+	 * 			The table which schema is returned.
+	 * 
+	 * @return the schema of {@code table}.
+	 */
+	static Schema of(Table table) {
+		Columns columns = table.columns();
+		String[] headers = new String[columns.size()];
+		Class<?>[] types = new Class<?>[columns.size()];
+
+		for( int i = 0 ; i < headers.length ; ++i ) {
+			headers[i] = columns.get(i).header().toLowerCase();
+			types[i] = columns.get(i).type();
+		}
+		return new Schema(headers, types);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if( this == obj )
+			return true;
+		if( ! (obj instanceof Schema) )
+			return false;
+
+		Schema other = (Schema) obj;
+		return hash == other.hash && Arrays.equals(headers, other.headers) && Arrays.equals(types, other.types);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(headers);
+	}
+}
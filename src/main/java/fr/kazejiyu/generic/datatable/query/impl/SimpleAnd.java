@@ -14,19 +14,21 @@
  */
 package fr.kazejiyu.generic.datatable.query.impl;
 
-import static java.util.Arrays.asList;
+import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.function.Function;
 
+import fr.kazejiyu.generic.datatable.core.Row;
 import fr.kazejiyu.generic.datatable.core.Table;
 import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
 import fr.kazejiyu.generic.datatable.core.impl.ColumnOfNumbersId;
 import fr.kazejiyu.generic.datatable.core.impl.ColumnOfStringsId;
 import fr.kazejiyu.generic.datatable.query.And;
 import fr.kazejiyu.generic.datatable.query.Where;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
 
 /**
  * An implementation of {@link And} able to deal with {@link Table}s.
@@ -35,10 +37,7 @@ import fr.kazejiyu.generic.datatable.query.Where;
  * 
  * @author Emmanuel CHEBBI
  */
-class SimpleAnd implements And {
-
-	/** The context of the query. */
-	private final QueryContext context;
+class SimpleAnd extends SimpleSelect implements And {
 
 	/**
 	 * Creates a new And.
@@ -47,7 +46,7 @@ class SimpleAnd implements And {
 	 * 			The context of the query.
 	 */
 	public SimpleAnd(final QueryContext context) {
-		this.context = context;
+		super(context);
 	}
 	
 	@Override
@@ -89,6 +88,14 @@ class SimpleAnd implements And {
 	public WhereNumber and(ColumnOfNumbersId<?>[] ids) {
 		return new WhereNumber(context, headersOf(ids, ColumnOfNumbersId::header));
 	}
+
+	@Override
+	public And and(final Expression<Boolean> condition) {
+		requireNonNull(condition, "The condition must not be null");
+		Function<Row, Boolean> test = condition.bind(context.table);
+		context.filters.addCondition(row -> Boolean.TRUE.equals(test.apply(row)), condition);
+		return new SimpleAnd(context);
+	}
 	
 	private <T> LinkedHashSet<String> headersOf(T[] ids, Function<T,String> headerOf) {
 		LinkedHashSet<String> headers = new LinkedHashSet<>();
@@ -98,37 +105,4 @@ class SimpleAnd implements And {
 		
 		return headers;
 	}
-
-	@Override
-	public Table select() {
-		return select(context.table.columns().headers());
-	}
-
-	@Override
-	public Table select(String... headers) {
-		return select(asList(headers));
-	}
-	
-	@Override
-	public Table select(ColumnId<?> id) {
-		LinkedHashSet<ColumnId<?>> selectedIds = new LinkedHashSet<>();
-		selectedIds.add(id);
-		return context.table.filterById(selectedIds, context.filters);
-	}
-	
-	@Override
-	public Table select(ColumnId<?> first, ColumnId<?>... nexts) {
-		LinkedHashSet<ColumnId<?>> selectedIds = new LinkedHashSet<>();
-		selectedIds.add(first);
-		selectedIds.addAll(asList(nexts));
-		return context.table.filterById(selectedIds, context.filters);
-	}
-
-	@Override
-	public Table select(Collection<String> headers) {
-		LinkedHashSet<String> selectedHeaders = new LinkedHashSet<>();
-		selectedHeaders.addAll(headers);
-		return context.table.filter(selectedHeaders, context.filters);
-	}
-
 }
@@ -15,28 +15,30 @@
 package fr.kazejiyu.generic.datatable.query.impl;
 
 import static java.util.Arrays.asList;
+import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.function.Function;
 
+import fr.kazejiyu.generic.datatable.core.Row;
 import fr.kazejiyu.generic.datatable.core.Table;
 import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
 import fr.kazejiyu.generic.datatable.core.impl.ColumnOfNumbersId;
 import fr.kazejiyu.generic.datatable.core.impl.ColumnOfStringsId;
+import fr.kazejiyu.generic.datatable.query.And;
 import fr.kazejiyu.generic.datatable.query.From;
+import fr.kazejiyu.generic.datatable.query.Join;
 import fr.kazejiyu.generic.datatable.query.Query;
 import fr.kazejiyu.generic.datatable.query.Where;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
 
 /**
  * An implementation of {@link From} able to deal with {@link Table}s.
  * 
  * @author Emmanuel CHEBBI
  */
-public class SimpleFrom implements From {
-
-	/** The context of the query. */
-	private final QueryContext context = new QueryContext();
+public class SimpleFrom extends SimpleSelect implements From {
 
 	/**
 	 * Starts the construction of a new query. <br>
@@ -50,9 +52,23 @@ public class SimpleFrom implements From {
 	 * @see Query#from(Table) Query.from(Table) to start a new query
 	 */
 	public SimpleFrom(final Table table) {
+		super(new QueryContext());
 		this.context.table = table;
 	}
 	
+	/**
+	 * Starts the construction of a new query limited by a memory budget.
+	 * 
+	 * @param table
+	 * 			The table to query.
+	 * @param memoryBudget
+	 * 			The number of bytes the intermediate results may take before being spilled to the disk.
+	 */
+	SimpleFrom(final Table table, final long memoryBudget) {
+		this(table);
+		this.context.memoryBudget = memoryBudget;
+	}
+	
 	@Override
 	public Where<?> where() {
 		return where(context.table.columns().headers());
@@ -101,4 +117,47 @@ public class SimpleFrom implements From {
 	public WhereNumber where(ColumnOfNumbersId<?> id) {
 		return new WhereNumber(context, id.header());
 	}
+
+	@Override
+	public And where(final Expression<Boolean> condition) {
+		requireNonNull(condition, "The condition must not be null");
+		Function<Row, Boolean> test = condition.bind(context.table);
+		context.filters.addCondition(row -> Boolean.TRUE.equals(test.apply(row)), condition);
+		return new SimpleAnd(context);
+	}
+	
+	@Override
+	public From cachedIn(final ResultCache cache) {
+		context.cache = requireNonNull(cache, "The cache must not be null");
+		return this;
+	}
+	
+	@Override
+	public From withMemoryBudget(final long bytes) {
+		if( bytes <= 0 )
+			throw new IllegalArgumentException("The memory budget must be positive (got: " + bytes + ")");
+		
+		context.memoryBudget = bytes;
+		return this;
+	}
+	
+	@Override
+	public Join join(final Table table) {
+		return new SimpleJoin(context, table, JoinType.INNER);
+	}
+	
+	@Override
+	public Join leftJoin(final Table table) {
+		return new SimpleJoin(context, table, JoinType.LEFT);
+	}
+	
+	@Override
+	public Join semiJoin(final Table table) {
+		return new SimpleJoin(context, table, JoinType.SEMI);
+	}
+	
+	@Override
+	public Join antiJoin(final Table table) {
+		return new SimpleJoin(context, table, JoinType.ANTI);
+	}
 }
@@ -0,0 +1,229 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Rows;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.query.GroupBy;
+import fr.kazejiyu.generic.datatable.query.aggregate.Accumulator;
+import fr.kazejiyu.generic.datatable.query.aggregate.Aggregate;
+import fr.kazejiyu.generic.datatable.util.PrimitiveArrays;
+
+/**
+ * An implementation of {@link GroupBy} able to deal with {@link Table}s. <br>
+ * <br>
+ * Rows are grouped in a single pass with a {@link RowGrouper}, while each
+ * aggregate is computed by its own {@link Accumulator}. <br>
+ * <br>
+ * When the groups could exceed the memory budget of the query, the rows are first
+ * split in partitions according to the hash of their key, and the positions of each
+ * partition are spilled to the disk. Since the rows of a group always fall in the same
+ * partition, the partitions are then aggregated one at a time.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+class SimpleGroupBy implements GroupBy {
+
+	/** The estimated number of bytes taken by each key or aggregated value of a group. */
+	static final int BYTES_PER_VALUE = 32;
+
+	/** The context of the query. */
+	private final QueryContext context;
+
+	/** The ids of the columns to group by. */
+	private final List<ColumnId<?>> ids;
+
+	/**
+	 * Prepares to group the rows of a query.
+	 * 
+	 * @param context
+	 * 			The context of the query.
+	 * @param ids
+	 * 			The ids of the columns to group by.
+	 */
+	SimpleGroupBy(final QueryContext context, final List<ColumnId<?>> ids) {
+		this.context = context;
+		this.ids = new ArrayList<>(ids);
+	}
+
+	@Override
+	public Table aggregate(Aggregate<?>... aggregates) {
+		requireNonNull(aggregates, "The aggregates must not be null");
+
+		for( Aggregate<?> aggregate : aggregates )
+			requireNonNull(aggregate, "An aggregate must not be null");
+
+		int[] keyColumns = indexesOfGroupingColumns();
+		int[] positions = context.positions();
+		int partitions = keyColumns.length == 0 ? 1 : context.partitions(positions.length, BYTES_PER_VALUE * (keyColumns.length + aggregates.length));
+		List<List<Object>> groups = new ArrayList<>();
+
+		if( partitions == 1 ) {
+			aggregate(positions, keyColumns, aggregates, groups);
+			return toTable(aggregates, groups);
+		}
+		SpillFile[] files = partition(positions, keyColumns, partitions);
+		int[] representatives = new int[0];
+
+		try {
+			for( SpillFile file : files ) {
+				int[] indexes = file.toArray();
+				int[] partition = new int[indexes.length];
+
+				for( int i = 0 ; i < indexes.length ; ++i )
+					partition[i] = positions[indexes[i]];
+
+				int[] found = aggregate(partition, keyColumns, aggregates, groups);
+				representatives = PrimitiveArrays.grow(representatives, groups.size());
+
+				for( int i = 0 ; i < found.length ; ++i )
+					representatives[groups.size() - found.length + i] = indexes[found[i]];
+			}
+		}
+		finally {
+			SpillFile.closeAll(files);
+		}
+		return toTable(aggregates, inOrderOfAppearance(groups, representatives));
+	}
+
+	/**
+	 * Aggregates some rows of the table.
+	 * 
+	 * @param positions
+	 * 			The positions of the rows to aggregate, in the order of the query.
+	 * @param keyColumns
+	 * 			The indexes of the columns to group by.
+	 * @param aggregates
+	 * 			The aggregates to compute.
+	 * @param groups
+	 * 			Where to append the key and the aggregated values of each group, in order of appearance.
+	 * 
+	 * @return the index in {@code positions} of the first row of each group appended.
+	 */
+	private int[] aggregate(int[] positions, int[] keyColumns, Aggregate<?>[] aggregates, List<List<Object>> groups) {
+		Table table = context.table;
+		RowGrouper grouper = new RowGrouper(keyColumns);
+		List<Accumulator<?>> accumulators = new ArrayList<>();
+
+		for( Aggregate<?> aggregate : aggregates )
+			accumulators.add(aggregate.accumulator(table));
+
+		Rows rows = table.rows();
+
+		for( int i = 0 ; i < positions.length ; ++i ) {
+			Row row = rows.get(positions[i]);
+			int group = grouper.groupOf(row, i);
+
+			for( Accumulator<?> accumulator : accumulators )
+				accumulator.accumulate(group, row);
+		}
+		int[] representatives = new int[grouper.size()];
+
+		for( int group = 0 ; group < grouper.size() ; ++group ) {
+			List<Object> values = new ArrayList<>(keyColumns.length + accumulators.size());
+			representatives[group] = grouper.representativeOf(group);
+
+			if( keyColumns.length > 0 ) {
+				Row representative = rows.get(positions[representatives[group]]);
+
+				for( int column : keyColumns )
+					values.add(representative.get(column));
+			}
+			for( Accumulator<?> accumulator : accumulators )
+				values.add(accumulator.result(group));
+
+			groups.add(values);
+		}
+		return representatives;
+	}
+
+	/** @return the indexes in {@code positions} of the rows, split by hash of the elements of {@code keyColumns} */
+	private SpillFile[] partition(int[] positions, int[] keyColumns, int partitions) {
+		SpillFile[] files = new SpillFile[partitions];
+		Rows rows = context.table.rows();
+
+		try {
+			for( int partition = 0 ; partition < partitions ; ++partition )
+				files[partition] = new SpillFile();
+
+			for( int i = 0 ; i < positions.length ; ++i ) {
+				Row row = rows.get(positions[i]);
+				int hash = 1;
+
+				for( int column : keyColumns )
+					hash = 31 * hash + Objects.hashCode(row.get(column));
+
+				files[QueryContext.partitionOf(hash, partitions)].add(i);
+			}
+			return files;
+		}
+		catch( RuntimeException e ) {
+			SpillFile.closeAll(files);
+			throw e;
+		}
+	}
+
+	/** @return {@code groups} sorted by the rank of their first row among the rows of the query */
+	private static List<List<Object>> inOrderOfAppearance(List<List<Object>> groups, int[] representatives) {
+		long[] packed = new long[groups.size()];
+
+		for( int group = 0 ; group < packed.length ; ++group )
+			packed[group] = ((long) representatives[group] << 32) | group;
+
+		Arrays.sort(packed);
+
+		List<List<Object>> ordered = new ArrayList<>(groups.size());
+
+		for( long group : packed )
+			ordered.add(groups.get((int) group));
+
+		return ordered;
+	}
+
+	private int[] indexesOfGroupingColumns() {
+		int[] indexes = new int[ids.size()];
+
+		for( int i = 0 ; i < indexes.length ; ++i )
+			indexes[i] = context.table.columns().indexOf(requireNonNull(ids.get(i), "The ids to group by must not be null"));
+
+		return indexes;
+	}
+
+	/** @return a new table containing the key and the aggregated values of each group */
+	private Table toTable(Aggregate<?>[] aggregates, List<List<Object>> groups) {
+		Table result = new DataTable();
+
+		for( ColumnId<?> id : ids )
+			result.columns().create(id.header(), context.table.columns().get(id).type());
+
+		for( Aggregate<?> aggregate : aggregates )
+			result.columns().create(aggregate.header(), aggregate.type());
+
+		for( List<Object> values : groups )
+			result.rows().create(values);
+
+		return result;
+	}
+}
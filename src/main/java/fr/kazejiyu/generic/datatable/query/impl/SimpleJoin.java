@@ -0,0 +1,87 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.query.From;
+import fr.kazejiyu.generic.datatable.query.Join;
+
+/**
+ * An implementation of {@link Join}. <br>
+ * <br>
+ * Relies on a {@link MergeJoin} when both tables are known to be sorted by their
+ * key, and on a {@link HashJoin} otherwise. <br>
+ * <br>
+ * The query over the joined table inherits the memory budget of the original query.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+class SimpleJoin implements Join {
+	
+	/** The context of the query over the table on the left side of the join. */
+	private final QueryContext context;
+	
+	/** The table on the left side of the join. */
+	private final Table left;
+	
+	/** The table on the right side of the join. */
+	private final Table right;
+	
+	/** The kind of join to perform. */
+	private final JoinType type;
+	
+	/**
+	 * Creates a new join.
+	 * 
+	 * @param context
+	 * 			The context of the query over the table on the left side of the join.
+	 * @param right
+	 * 			The table on the right side of the join. Must not be {@code null}.
+	 * @param type
+	 * 			The kind of join to perform.
+	 * 
+	 * @throws NullPointerException if {@code right} is {@code null}.
+	 */
+	SimpleJoin(final QueryContext context, final Table right, final JoinType type) {
+		this.context = context;
+		this.left = context.table;
+		this.right = requireNonNull(right, "The table to join with must not be null");
+		this.type = type;
+	}
+
+	@Override
+	public <K> From on(final ColumnId<K> leftId, final ColumnId<? extends K> rightId) {
+		requireNonNull(leftId, "The id of the left key must not be null");
+		requireNonNull(rightId, "The id of the right key must not be null");
+		
+		int leftKey = left.columns().indexOf(leftId);
+		int rightKey = right.columns().indexOf(rightId);
+		
+		AbstractJoin join = isSortedBy(left, leftId) && isSortedBy(right, rightId)
+				? new MergeJoin(type, left, leftKey, right, rightKey)
+				: new HashJoin(type, left, leftKey, right, rightKey, context);
+		
+		return new SimpleFrom(join.join(), context.memoryBudget);
+	}
+	
+	/** @return whether the rows of {@code table} are known to be sorted by the column identified by {@code id} */
+	private static boolean isSortedBy(Table table, ColumnId<?> id) {
+		return ! table.sortOrder().isEmpty() 
+			&& table.sortOrder().get(0).header().equalsIgnoreCase(id.header());
+	}
+}
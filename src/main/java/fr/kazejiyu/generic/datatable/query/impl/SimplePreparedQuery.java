@@ -0,0 +1,221 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.SortKey;
+import fr.kazejiyu.generic.datatable.query.PreparedQuery;
+import fr.kazejiyu.generic.datatable.query.Select;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+
+/**
+ * An implementation of {@link PreparedQuery} caching one {@link QueryPlan} per schema. <br>
+ * <br>
+ * The values of the parameters are checked and stored in an array when they are bound,
+ * so that executing the query only hands this array to the cached plan.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+class SimplePreparedQuery implements PreparedQuery {
+
+	/** The maximum number of plans kept by a query. */
+	static final int MAX_PLANS = 64;
+
+	/** Computes the final table from a query which clauses are set. */
+	@FunctionalInterface
+	interface Projection {
+
+		/**
+		 * Computes the final table.
+		 * 
+		 * @param select
+		 * 			The query which clauses are set.
+		 * @param values
+		 * 			The values of the parameters, by name.
+		 * 
+		 * @return the final table.
+		 */
+		Table select(Select select, Map<String, ?> values);
+	}
+
+	/** The conditions the rows must fulfill. */
+	private final List<Expression<Boolean>> conditions;
+
+	/** The keys to sort the rows by. */
+	private final List<SortKey<?>> ordering;
+
+	private final boolean distinct;
+
+	private final int limit;
+
+	private final int offset;
+
+	/** Computes the final table. */
+	private final Projection projection;
+
+	/** The expressions used by the query, used to check the values of the parameters. */
+	private final List<Expression<?>> expressions;
+
+	/** The names of the parameters used by the query, in the order of their values. */
+	private final List<String> parameters;
+
+	/** The values of the parameters, by name. */
+	private final Map<String, Object> values;
+
+	/** The values of the parameters, in the order of {@link #parameters}. */
+	private final Object[] arguments;
+
+	/** The plans of the query, by schema; shared with the copies of the query. */
+	private final Cache<Schema, QueryPlan> plans;
+
+	/**
+	 * Creates a new prepared query.
+	 * 
+	 * @param conditions
+	 * 			The conditions the rows must fulfill.
+	 * @param ordering
+	 * 			The keys to sort the rows by.
+	 * @param distinct
+	 * 			Whether duplicated rows are removed.
+	 * @param limit
+	 * 			The maximum number of rows to keep.
+	 * @param offset
+	 * 			The number of rows to skip.
+	 * @param projected
+	 * 			The expressions computed by {@code projection}, used to find out the parameters of the query.
+	 * @param projection
+	 * 			Computes the final table.
+	 */
+	SimplePreparedQuery(final List<Expression<Boolean>> conditions, final List<SortKey<?>> ordering, final boolean distinct,
+			final int limit, final int offset, final List<Expression<?>> projected, final Projection projection) {
+		this.conditions = conditions;
+		this.ordering = ordering;
+		this.distinct = distinct;
+		this.limit = limit;
+		this.offset = offset;
+		this.projection = projection;
+		this.expressions = new ArrayList<>(conditions);
+		this.expressions.addAll(projected);
+		this.parameters = Collections.unmodifiableList(new ArrayList<>(parametersOf(expressions)));
+		this.values = Collections.emptyMap();
+		this.arguments = new Object[parameters.size()];
+		this.plans = CacheBuilder.newBuilder().maximumSize(MAX_PLANS).build();
+	}
+
+	private SimplePreparedQuery(final SimplePreparedQuery query, final Map<String, Object> values, final Object[] arguments) {
+		this.conditions = query.conditions;
+		this.ordering = query.ordering;
+		this.distinct = query.distinct;
+		this.limit = query.limit;
+		this.offset = query.offset;
+		this.projection = query.projection;
+		this.expressions = query.expressions;
+		this.parameters = query.parameters;
+		this.values = values;
+		this.arguments = arguments;
+		this.plans = query.plans;
+	}
+
+	/** @return the names of the parameters used by {@code expressions}, sorted */
+	private static Set<String> parametersOf(List<Expression<?>> expressions) {
+		Set<String> parameters = new TreeSet<>();
+
+		for( Expression<?> expression : expressions )
+			parameters.addAll(expression.parameters());
+
+		return parameters;
+	}
+
+	@Override
+	public Set<String> parameters() {
+		return Collections.unmodifiableSet(new TreeSet<>(parameters));
+	}
+
+	@Override
+	public PreparedQuery with(final String name, final Object value) {
+		requireNonNull(name, "The name of the parameter must not be null");
+		requireNonNull(value, "The value of the parameter must not be null");
+
+		int slot = parameters.indexOf(name);
+
+		if( slot < 0 )
+			throw new IllegalArgumentException("The query does not use any parameter called " + name + " (expected one of: " + parameters + ")");
+
+		// replacing the parameter checks the type of its value in every expression using it
+		Map<String, Object> binding = Collections.singletonMap(name, value);
+
+		for( Expression<?> expression : expressions )
+			expression.withParameters(binding);
+
+		Map<String, Object> copy = new HashMap<>(values);
+		copy.put(name, value);
+
+		Object[] arguments = this.arguments.clone();
+		arguments[slot] = value;
+		return new SimplePreparedQuery(this, Collections.unmodifiableMap(copy), arguments);
+	}
+
+	@Override
+	public Table execute(final Table table) {
+		requireNonNull(table, "Cannot query a null table");
+		assertParametersAreBound();
+
+		QueryContext context = new QueryContext();
+		context.table = table;
+		context.ordering.addAll(ordering);
+		context.distinct = distinct;
+		context.limit = limit;
+		context.offset = offset;
+
+		context.compiledFilters = plan(table).matcher(arguments);
+
+		return projection.select(new SimpleAnd(context), values);
+	}
+
+	/** @throws IllegalStateException if a parameter is not bound to any value */
+	private void assertParametersAreBound() {
+		if( values.size() == parameters.size() )
+			return;
+
+		Set<String> unbound = new TreeSet<>(parameters);
+		unbound.removeAll(values.keySet());
+		throw new IllegalStateException("The parameters " + unbound + " are not bound to any value");
+	}
+
+	/** @return the plan of the query for the schema of {@code table}, created if needed */
+	private QueryPlan plan(Table table) {
+		Schema schema = Schema.of(table);
+		QueryPlan plan = plans.getIfPresent(schema);
+
+		if( plan == null ) {
+			plan = new QueryPlan(table, conditions, ordering, parameters);
+			plans.put(schema, plan);
+		}
+		return plan;
+	}
+}
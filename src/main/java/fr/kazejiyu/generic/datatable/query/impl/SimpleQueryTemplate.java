@@ -0,0 +1,140 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.SortKey;
+import fr.kazejiyu.generic.datatable.query.PreparedQuery;
+import fr.kazejiyu.generic.datatable.query.Query;
+import fr.kazejiyu.generic.datatable.query.QueryTemplate;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+
+/**
+ * An implementation of {@link QueryTemplate} recording the clauses of a query. <br>
+ * <br>
+ * <strong>Caution</strong>: should not be instantiated directly. The creation
+ * of a new instance should be delegated to {@link Query#prepare()}.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class SimpleQueryTemplate implements QueryTemplate {
+
+	/** The conditions the rows must fulfill. */
+	private final List<Expression<Boolean>> conditions = new ArrayList<>();
+
+	/** The keys to sort the rows by. */
+	private final List<SortKey<?>> ordering = new ArrayList<>();
+
+	private boolean distinct = false;
+
+	private int limit = Integer.MAX_VALUE;
+
+	private int offset = 0;
+
+	@Override
+	public QueryTemplate where(final Expression<Boolean> condition) {
+		conditions.add(requireNonNull(condition, "The condition must not be null"));
+		return this;
+	}
+
+	@Override
+	public QueryTemplate and(final Expression<Boolean> condition) {
+		return where(condition);
+	}
+
+	@Override
+	public QueryTemplate orderBy(final SortKey<?> first, final SortKey<?>... nexts) {
+		requireNonNull(nexts, "The keys to sort by must not be null");
+
+		ordering.clear();
+		ordering.add(requireNonNull(first, "The keys to sort by must not be null"));
+
+		for( SortKey<?> next : nexts )
+			ordering.add(requireNonNull(next, "The keys to sort by must not be null"));
+
+		return this;
+	}
+
+	@Override
+	public QueryTemplate distinct() {
+		distinct = true;
+		return this;
+	}
+
+	@Override
+	public QueryTemplate limit(final int n) {
+		if( n < 0 )
+			throw new IllegalArgumentException("The limit must not be negative (got: " + n + ")");
+
+		limit = n;
+		return this;
+	}
+
+	@Override
+	public QueryTemplate offset(final int n) {
+		if( n < 0 )
+			throw new IllegalArgumentException("The offset must not be negative (got: " + n + ")");
+
+		offset = n;
+		return this;
+	}
+
+	@Override
+	public PreparedQuery select() {
+		return prepare(Collections.emptyList(), (select, values) -> select.select());
+	}
+
+	@Override
+	public PreparedQuery select(final ColumnId<?> first, final ColumnId<?>... nexts) {
+		requireNonNull(first, "The ids of the columns to keep must not be null");
+		requireNonNull(nexts, "The ids of the columns to keep must not be null");
+
+		ColumnId<?>[] copy = nexts.clone();
+		return prepare(Collections.emptyList(), (select, values) -> select.select(first, copy));
+	}
+
+	@Override
+	public PreparedQuery select(final Expression<?> first, final Expression<?>... nexts) {
+		requireNonNull(nexts, "The expressions must not be null");
+
+		List<Expression<?>> expressions = new ArrayList<>();
+		expressions.add(requireNonNull(first, "The expressions must not be null"));
+
+		for( Expression<?> next : nexts )
+			expressions.add(requireNonNull(next, "The expressions must not be null"));
+
+		return prepare(expressions, (select, values) -> {
+			Expression<?>[] bound = new Expression<?>[expressions.size() - 1];
+
+			for( int i = 0 ; i < bound.length ; ++i )
+				bound[i] = expressions.get(i + 1).withParameters(values);
+
+			return select.select(expressions.get(0).withParameters(values), bound);
+		});
+	}
+
+	/** @return a query made of the recorded clauses and ending with {@code projection} */
+	private PreparedQuery prepare(List<Expression<?>> projected, SimplePreparedQuery.Projection projection) {
+		return new SimplePreparedQuery(
+				new ArrayList<>(conditions), new ArrayList<>(ordering), distinct, limit, offset,
+				projected, projection);
+	}
+}
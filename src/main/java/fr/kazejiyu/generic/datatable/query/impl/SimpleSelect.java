@@ -0,0 +1,312 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import static java.util.Arrays.asList;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.ComputedColumn;
+import fr.kazejiyu.generic.datatable.core.impl.PositionedColumn;
+import fr.kazejiyu.generic.datatable.core.impl.SortKey;
+import fr.kazejiyu.generic.datatable.core.impl.TableView;
+import fr.kazejiyu.generic.datatable.io.TableReader;
+import fr.kazejiyu.generic.datatable.io.TableWriter;
+import fr.kazejiyu.generic.datatable.query.GroupBy;
+import fr.kazejiyu.generic.datatable.query.Select;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+import fr.kazejiyu.generic.datatable.query.window.WindowFunction;
+
+/**
+ * An implementation of {@link Select} able to deal with {@link Table}s. <br>
+ * <br>
+ * Shared by the statements that can end a query.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+abstract class SimpleSelect implements Select {
+
+	/** The estimated number of bytes taken by each element of a table. */
+	static final int BYTES_PER_ELEMENT = 48;
+
+	/** The context of the query. */
+	protected final QueryContext context;
+
+	/**
+	 * Creates a new Select.
+	 * 
+	 * @param context
+	 * 			The context of the query.
+	 */
+	protected SimpleSelect(final QueryContext context) {
+		this.context = context;
+	}
+
+	@Override
+	public Table select() {
+		return select(context.table.columns().headers());
+	}
+
+	@Override
+	public Table select(String... headers) {
+		return select(asList(headers));
+	}
+
+	@Override
+	public Table select(ColumnId<?> id) {
+		return cached(asList("ids", id), () -> {
+			if( ! filtersDirectly() )
+				return materialize(view(id));
+			
+			LinkedHashSet<ColumnId<?>> selectedIds = new LinkedHashSet<>();
+			selectedIds.add(id);
+			return context.table.filterById(selectedIds, context.matcher());
+		});
+	}
+
+	@Override
+	public Table select(ColumnId<?> first, ColumnId<?>... nexts) {
+		return cached(asList("ids", first, asList(nexts)), () -> {
+			if( ! filtersDirectly() )
+				return materialize(view(first, nexts));
+			
+			LinkedHashSet<ColumnId<?>> selectedIds = new LinkedHashSet<>();
+			selectedIds.add(first);
+			selectedIds.addAll(asList(nexts));
+			return context.table.filterById(selectedIds, context.matcher());
+		});
+	}
+
+	@Override
+	public Table select(Collection<String> headers) {
+		LinkedHashSet<String> selectedHeaders = new LinkedHashSet<>();
+		selectedHeaders.addAll(headers);
+		
+		return cached(asList("headers", new ArrayList<>(selectedHeaders)), () -> {
+			if( ! filtersDirectly() ) {
+				List<Integer> columns = new ArrayList<>();
+				
+				for( String header : selectedHeaders )
+					columns.add(context.table.columns().indexOf(header));
+				
+				return materialize(view(columns));
+			}
+			return context.table.filter(selectedHeaders, context.matcher());
+		});
+	}
+	
+	@Override
+	public Table select(Expression<?> first, Expression<?>... nexts) {
+		return cached(asList("expressions", first, asList(nexts)), () -> materialize(view(first, nexts)));
+	}
+	
+	/** @return the result of {@code query}, looked up in the cache of the query if any */
+	private Table cached(Object projection, Supplier<Table> query) {
+		if( context.cache == null )
+			return query.get();
+		
+		return context.cache.get(context, projection, query);
+	}
+	
+	/** 
+	 * @return whether the table can be filtered straight into a new table, which requires the query
+	 * 		   to only filter the rows and not to be limited by a memory budget
+	 */
+	private boolean filtersDirectly() {
+		return context.onlyFilters() && context.memoryBudget == Long.MAX_VALUE;
+	}
+	
+	/** 
+	 * @return a new table with the same content as {@code view}, spilled to the disk if it exceeds
+	 * 		   the memory budget of the query and is not cached 
+	 */
+	private Table materialize(TableView view) {
+		long elements = (long) view.rows().size() * view.columns().size();
+		
+		if( context.cache == null && context.partitions(elements, BYTES_PER_ELEMENT) > 1 ) {
+			Table spilled = spill(view);
+			
+			if( spilled != null )
+				return spilled;
+		}
+		return view.filter(view.columns().headers(), row -> true);
+	}
+	
+	/** 
+	 * @return a table reading the content of {@code view} from a temporary columnar file, 
+	 * 		   {@code null} if the elements of {@code view} cannot be written in the columnar format
+	 */
+	private static Table spill(TableView view) {
+		Path file = null;
+		
+		try {
+			file = Files.createTempFile("datatable-", ".dtbl");
+			TableWriter.columnar().write(view, file);
+			return TableReader.columnar(file).deleteOnClose().map();
+		}
+		catch( IllegalArgumentException e ) {
+			// a column has a type that cannot be written, the result must stay in memory
+			deleteIfExists(file);
+			return null;
+		}
+		catch( IOException e ) {
+			deleteIfExists(file);
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	private static void deleteIfExists(Path file) {
+		try {
+			if( file != null )
+				Files.deleteIfExists(file);
+		}
+		catch( IOException e ) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public TableView view() {
+		List<Integer> columns = new ArrayList<>();
+		
+		for( int i = 0 ; i < context.table.columns().size() ; ++i )
+			columns.add(i);
+		
+		return view(columns);
+	}
+
+	@Override
+	public TableView view(ColumnId<?> first, ColumnId<?>... nexts) {
+		List<Integer> columns = new ArrayList<>();
+		columns.add(context.table.columns().indexOf(first));
+		
+		for( ColumnId<?> next : nexts )
+			columns.add(context.table.columns().indexOf(next));
+		
+		return view(columns);
+	}
+	
+	/** @return a view exposing the columns at {@code indexes} of the rows matching the query */
+	private TableView view(List<Integer> indexes) {
+		int[] positions = context.positions(indexes.stream().mapToInt(Integer::intValue).toArray());
+		List<Column<?>> columns = new ArrayList<>(indexes.size());
+		
+		for( int index : indexes )
+			columns.add(new PositionedColumn<>(context.table, index, positions, positions.length));
+		
+		return new TableView(columns, context.sortOrder());
+	}
+	
+	@Override
+	public TableView view(Expression<?> first, Expression<?>... nexts) {
+		requireNonNull(nexts, "The expressions must not be null");
+		
+		List<Expression<?>> expressions = new ArrayList<>();
+		expressions.add(requireNonNull(first, "The expressions must not be null"));
+		
+		for( Expression<?> next : nexts )
+			expressions.add(requireNonNull(next, "The expressions must not be null"));
+		
+		int[] positions = context.positions();
+		List<Column<?>> columns = new ArrayList<>(expressions.size());
+		
+		for( Expression<?> expression : expressions )
+			columns.add(computed(expression, positions));
+		
+		return new TableView(columns);
+	}
+	
+	/** @return a column computing the values of {@code expression} for the rows at {@code positions} */
+	private <T> Column<T> computed(Expression<T> expression, int[] positions) {
+		return new ComputedColumn<>(expression.header(), expression.type(), context.table, positions, positions.length, expression.bind(context.table));
+	}
+	
+	@Override
+	public TableView window(WindowFunction<?>... functions) {
+		requireNonNull(functions, "The window functions must not be null");
+		
+		int[] positions = context.positions();
+		Windowing windowing = new Windowing(context.table, positions);
+		List<Column<?>> columns = new ArrayList<>();
+		
+		for( int i = 0 ; i < context.table.columns().size() ; ++i )
+			columns.add(new PositionedColumn<>(context.table, i, positions, positions.length));
+		
+		for( WindowFunction<?> function : functions )
+			columns.add(windowing.compute(requireNonNull(function, "A window function must not be null")));
+		
+		return new TableView(columns, context.sortOrder());
+	}
+	
+	@Override
+	public Select orderBy(SortKey<?> first, SortKey<?>... nexts) {
+		requireNonNull(nexts, "The keys to sort by must not be null");
+		
+		context.ordering.clear();
+		context.ordering.add(requireNonNull(first, "The keys to sort by must not be null"));
+		
+		for( SortKey<?> next : nexts )
+			context.ordering.add(requireNonNull(next, "The keys to sort by must not be null"));
+		
+		return this;
+	}
+
+	@Override
+	public Select distinct() {
+		context.distinct = true;
+		return this;
+	}
+	
+	@Override
+	public Select limit(int n) {
+		if( n < 0 )
+			throw new IllegalArgumentException("The limit must not be negative (got: " + n + ")");
+		
+		context.limit = n;
+		return this;
+	}
+	
+	@Override
+	public Select offset(int n) {
+		if( n < 0 )
+			throw new IllegalArgumentException("The offset must not be negative (got: " + n + ")");
+		
+		context.offset = n;
+		return this;
+	}
+	
+	@Override
+	public Select topK(int n, SortKey<?> first, SortKey<?>... nexts) {
+		return orderBy(first, nexts).limit(n);
+	}
+
+	@Override
+	public GroupBy groupBy(ColumnId<?>... ids) {
+		requireNonNull(ids, "The ids of the columns to group by must not be null");
+		return new SimpleGroupBy(context, asList(ids));
+	}
+}
@@ -16,7 +16,12 @@ package fr.kazejiyu.generic.datatable.query.impl;
 
 import static java.util.Arrays.asList;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import fr.kazejiyu.generic.datatable.core.Table;
@@ -69,6 +74,90 @@ class SimpleWhere <T> implements Where <T> {
 		return new SimpleAnd(context);
 	}
 	
+	/**
+	 * Adds a filter which behavior is described by {@code operator} and {@code operands}. <br>
+	 * <br>
+	 * Unlike {@link #match(Predicate)}, the resulting query can be fingerprinted
+	 * and hence its result can be cached.
+	 * 
+	 * @param predicate
+	 * 			Returns {@code true} if the row has to be kept.
+	 * @param operator
+	 * 			The name of the operation performed by {@code predicate}.
+	 * @param operands
+	 * 			The values used by {@code predicate}.
+	 * 
+	 * @return a {@code And} instance to continue the query.
+	 */
+	protected And match(final Predicate <T> predicate, final String operator, final Object... operands) {
+		context.filters.add(new Filter<T>(headers, predicate, Arrays.asList(operator, Arrays.asList(operands))));
+		return new SimpleAnd(context);
+	}
+	
+	/**
+	 * Adds a filter which behavior is described by {@code operator} and {@code operands},
+	 * discarding {@code null} values.
+	 * 
+	 * @param predicate
+	 * 			Returns {@code true} if the row has to be kept. Never called with {@code null}.
+	 * @param operator
+	 * 			The name of the operation performed by {@code predicate}.
+	 * @param operands
+	 * 			The values used by {@code predicate}.
+	 * 
+	 * @return a {@code And} instance to continue the query.
+	 * 
+	 * @see #match(Predicate, String, Object...)
+	 */
+	protected And matchSafe(final Predicate <T> predicate, final String operator, final Object... operands) {
+		return match(item -> item != null && predicate.test(item), operator, operands);
+	}
+	
+	@Override
+	public And eq(final T value) {
+		return match(o -> Objects.equals(o, value), "eq", value);
+	}
+	
+	@Override
+	public And ne(final T value) {
+		return match(o -> ! Objects.equals(o, value), "ne", value);
+	}
+	
+	@Override
+	public And isNull() {
+		return match(Objects::isNull, "isNull");
+	}
+	
+	@Override
+	public And isNonNull() {
+		return match(Objects::nonNull, "isNonNull");
+	}
+	
+	@Override
+	public And isInstanceOf(final Class <?> clazz) {
+		return match(clazz::isInstance, "isInstanceOf", clazz);
+	}
+	
+	@Override
+	public And in(final Collection <T> elements) {
+		Set<T> copy = copyOf(elements);
+		return match(copy::contains, "in", copy);
+	}
+	
+	@Override
+	public And notIn(final Collection <T> elements) {
+		Set<T> copy = copyOf(elements);
+		return match(o -> ! copy.contains(o), "notIn", copy);
+	}
+	
+	/** 
+	 * @return an immutable copy of {@code elements}, shared by the filter and its fingerprint 
+	 * 		   so that later changes of {@code elements} affect neither of them
+	 */
+	private static <T> Set<T> copyOf(final Collection <T> elements) {
+		return Collections.unmodifiableSet(new HashSet<>(elements));
+	}
+	
 	@Override
 	public <N> Where<N> as(final Class <N> clazz) {
 		return new SimpleWhere<>(context, headers);
@@ -0,0 +1,91 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import java.util.function.Predicate;
+
+import ca.odell.glazedlists.matchers.Matcher;
+import fr.kazejiyu.generic.datatable.core.Row;
+
+/**
+ * {@link CompiledFilters} which tests are unrolled into a class generated at runtime. <br>
+ * <br>
+ * Each test of a generated class is invoked through a call site of its own, so the JVM
+ * profiles and inlines each predicate separately instead of dispatching all of them
+ * through the shared, megamorphic call site of {@link CompiledFilters#matches(Row)}.
+ * A class is generated per shape of filters, i.e. per sequence of predicate classes,
+ * by a {@link FilterSpecializer}. <br>
+ * <br>
+ * This class is only public so that the generated classes, which are defined by
+ * a dedicated class loader, can extend it. It is not meant to be used by clients.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public abstract class SpecializedFilters implements Matcher<Row> {
+
+	/** The index of the column checked by each test. */
+	protected int[] columns;
+
+	/** The predicate applied by each test. */
+	protected Predicate<Object>[] predicates;
+
+	/** The conditions involving whole rows. */
+	protected Predicate<Row>[] conditions;
+
+	/** The filters tested by this instance, used to report errors. */
+	private CompiledFilters interpreted;
+
+	/** Only meant to be called by the generated classes. */
+	protected SpecializedFilters() {
+		super();
+	}
+
+	/**
+	 * Makes this instance test the same filters than {@code filters}.
+	 * 
+	 * @param filters
+	 * 			The filters to test.
+	 * 
+	 * @return this instance.
+	 */
+	final SpecializedFilters bind(final CompiledFilters filters) {
+		this.columns = filters.columns();
+		this.predicates = filters.predicates();
+		this.conditions = filters.conditions();
+		this.interpreted = filters;
+		return this;
+	}
+
+	@Override
+	public final boolean matches(final Row row) {
+		try {
+			return test(row);
+
+		} catch( ClassCastException e ) {
+			// runs the tests again, one at a time, to find out the column that cannot be tested
+			return interpreted.matches(row);
+		}
+	}
+
+	/**
+	 * Tests {@code row} against each filter, then against each condition.
+	 * 
+	 * @param row
+	 * 			The row to test.
+	 * 
+	 * @return whether {@code row} matches all the filters and all the conditions.
+	 */
+	protected abstract boolean test(Row row);
+}
@@ -0,0 +1,220 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A temporary file holding a sequence of {@code int}s, such as the positions of some rows. <br>
+ * <br>
+ * The values are appended through a small buffer, then read back in the same order.
+ * The file is deleted once closed. <br>
+ * <br>
+ * Since queries do not declare any checked exception, I/O failures are reported
+ * as {@link UncheckedIOException}s.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class SpillFile implements Closeable {
+
+	/** The size of the buffers used to write and to read the file, in bytes. */
+	private static final int BUFFER_SIZE = 8192;
+
+	/** The channel of the file. */
+	private final FileChannel channel;
+
+	/** Holds the values not written yet. */
+	private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+	/** The number of values appended. */
+	private int size;
+
+	/**
+	 * Creates a new empty temporary file.
+	 * 
+	 * @throws UncheckedIOException if the file cannot be created.
+	 */
+	SpillFile() {
+		try {
+			Path file = Files.createTempFile("datatable-", ".spill");
+			this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+		}
+		catch( IOException e ) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/** @return the number of values appended */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Appends a value at the end of the file.
+	 * 
+	 * @param value
+	 * 			The value to append.
+	 * 
+	 * @throws UncheckedIOException if the file cannot be written.
+	 */
+	void add(int value) {
+		if( ! buffer.hasRemaining() )
+			flush();
+
+		buffer.putInt(value);
+		++size;
+	}
+
+	/** Writes the buffered values. */
+	private void flush() {
+		try {
+			buffer.flip();
+
+			while( buffer.hasRemaining() )
+				channel.write(buffer);
+
+			buffer.clear();
+		}
+		catch( IOException e ) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Reads all the values of the file.
+	 * 
+	 * @return the values of the file, in the order they have been appended.
+	 * 
+	 * @throws UncheckedIOException if the file cannot be read.
+	 */
+	int[] toArray() {
+		int[] values = new int[size];
+		Cursor cursor = cursor();
+
+		for( int i = 0 ; i < size ; ++i )
+			values[i] = cursor.next();
+
+		return values;
+	}
+
+	/**
+	 * Starts reading the values of the file. <br>
+	 * <br>
+	 * No value must be appended while the file is read.
+	 * 
+	 * @return a cursor over the values of the file, in the order they have been appended.
+	 * 
+	 * @throws UncheckedIOException if the file cannot be written.
+	 */
+	Cursor cursor() {
+		flush();
+		return new Cursor();
+	}
+
+	/**
+	 * Deletes the file.
+	 * 
+	 * @throws UncheckedIOException if the file cannot be closed.
+	 */
+	@Override
+	public void close() {
+		try {
+			channel.close();
+		}
+		catch( IOException e ) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Deletes some files.
+	 * 
+	 * @param files
+	 * 			The files to delete. May contain {@code null} elements, which are ignored.
+	 * 
+	 * @throws UncheckedIOException if a file cannot be closed.
+	 */
+	static void closeAll(SpillFile[] files) {
+		for( SpillFile file : files )
+			if( file != null )
+				file.close();
+	}
+
+	/** Reads the values of the file one after the other. */
+	final class Cursor {
+
+		/** Holds the values read but not consumed yet. */
+		private final ByteBuffer values = ByteBuffer.allocate(BUFFER_SIZE);
+
+		/** The position of the next bytes to read in the file. */
+		private long position;
+
+		/** The number of values not consumed yet. */
+		private int remaining = size;
+
+		private Cursor() {
+			values.flip();
+		}
+
+		/** @return whether there are values left to read */
+		boolean hasNext() {
+			return remaining > 0;
+		}
+
+		/**
+		 * Returns the next value of the file. <br>
+		 * <br>
+		 * Must only be called if {@link #hasNext()} returns {@code true}.
+		 * 
+		 * @return the next value of the file.
+		 * 
+		 * @throws UncheckedIOException if the file cannot be read.
+		 */
+		int next() {
+			if( values.remaining() < Integer.BYTES )
+				fill();
+
+			--remaining;
+			return values.getInt();
+		}
+
+		/** Reads the next values of the file. */
+		private void fill() {
+			try {
+				values.compact();
+
+				while( values.position() < Integer.BYTES ) {
+					int read = channel.read(values, position);
+
+					if( read < 0 )
+						throw new IOException("Unexpected end of the spill file");
+
+					position += read;
+				}
+				values.flip();
+			}
+			catch( IOException e ) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Rows;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.RowSorter;
+import fr.kazejiyu.generic.datatable.core.impl.SortKey;
+
+/**
+ * Selects the first rows of a table according to some sort keys without sorting all of them. <br>
+ * <br>
+ * The selected positions are kept in a bounded binary heap which root is the last selected row,
+ * so that a row that does not belong to the result is rejected with a single comparison. The
+ * most significant element of each selected row is stored as a primitive {@code long} whenever
+ * its type allows it; the rows are only read again to break ties. <br>
+ * <br>
+ * Rows which elements are equal are selected in order of position, hence the selection is
+ * consistent with the stable sort performed by {@link RowSorter}.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class TopK {
+	
+	/** The table which rows are selected. */
+	private final Table table;
+	
+	/** The rows of the table. */
+	private final Rows rows;
+	
+	/** Specify how to sort the rows. */
+	private final List<SortKey<?>> keys;
+	
+	/** The indexes of the columns to sort by. */
+	private final int[] columns;
+	
+	/** Whether each column is sorted in ascending order. */
+	private final boolean[] ascending;
+	
+	/** Whether the elements of the most significant column are compared through their primitive key. */
+	private final boolean primitive;
+	
+	/** The maximum number of rows to select. */
+	private final int capacity;
+	
+	/** The positions of the selected rows, as a heap which root is the last selected row. */
+	private final int[] heap;
+	
+	/** The primitive key of the most significant element of each selected row. */
+	private final long[] primaries;
+	
+	/** Whether the most significant element of each selected row is {@code null}. */
+	private final boolean[] nulls;
+	
+	/** The number of selected rows. */
+	private int size;
+	
+	/**
+	 * Creates a new object able to select the first {@code capacity} rows of {@code table}.
+	 * 
+	 * @param table
+	 * 			The table which rows are selected. Must not be {@code null}.
+	 * @param keys
+	 * 			Specify how to sort the rows. Must not be {@code null} nor empty.
+	 * @param capacity
+	 * 			The maximum number of rows to select.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 * @throws fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException if the id of a key does not match any column
+	 * @throws ClassCastException if the elements of one of the columns are not {@link Comparable}
+	 */
+	TopK(final Table table, final List<SortKey<?>> keys, final int capacity) {
+		this.table = requireNonNull(table, "The table must not be null");
+		this.rows = table.rows();
+		this.keys = requireNonNull(keys, "The keys to sort by must not be null");
+		this.columns = new int[keys.size()];
+		this.ascending = new boolean[keys.size()];
+		
+		for( int i = 0 ; i < columns.length ; ++i ) {
+			columns[i] = table.columns().indexOf(keys.get(i).id());
+			ascending[i] = keys.get(i).isAscending();
+			assertIsSortable(table.columns().get(columns[i]));
+		}
+		
+		this.primitive = RowSorter.hasPrimitiveKeys(table.columns().get(columns[0]).type());
+		this.capacity = capacity;
+		this.heap = new int[capacity];
+		this.primaries = new long[capacity];
+		this.nulls = new boolean[capacity];
+	}
+	
+	/** @throws ClassCastException if the elements of {@code column} are not {@link Comparable} */
+	private static void assertIsSortable(Column<?> column) {
+		if( ! Comparable.class.isAssignableFrom(column.type()) )
+			throw new ClassCastException("The column " + column.header() + " cannot be sorted: " + column.type() + " is not Comparable");
+	}
+	
+	/**
+	 * Offers a row to the selection. <br>
+	 * <br>
+	 * The rows must be offered in increasing order of position.
+	 * 
+	 * @param row
+	 * 			The row to offer.
+	 * @param position
+	 * 			The position of the row in the table.
+	 */
+	void offer(final Row row, final int position) {
+		if( capacity == 0 )
+			return;
+		
+		Object element = row.get(columns[0]);
+		boolean isNull = element == null;
+		long primary = isNull || ! primitive ? 0L : RowSorter.primitiveKey(element);
+		
+		if( size < capacity ) {
+			set(size, position, primary, isNull);
+			siftUp(size++);
+		}
+		else if( compare(position, primary, isNull, heap[0], primaries[0], nulls[0]) < 0 ) {
+			set(0, position, primary, isNull);
+			siftDown(0);
+		}
+	}
+	
+	/** @return the positions of the selected rows, sorted */
+	int[] result() {
+		int[] positions = Arrays.copyOf(heap, size);
+		Arrays.sort(positions);
+		RowSorter.sort(table, positions, keys);
+		return positions;
+	}
+	
+	private void set(int slot, int position, long primary, boolean isNull) {
+		heap[slot] = position;
+		primaries[slot] = primary;
+		nulls[slot] = isNull;
+	}
+	
+	private void siftUp(int slot) {
+		while( slot > 0 ) {
+			int parent = (slot - 1) >>> 1;
+			
+			if( compareSlots(slot, parent) <= 0 )
+				return;
+			
+			swap(slot, parent);
+			slot = parent;
+		}
+	}
+	
+	private void siftDown(int slot) {
+		while( true ) {
+			int largest = slot;
+			int left = 2 * slot + 1;
+			int right = left + 1;
+			
+			if( left < size && compareSlots(left, largest) > 0 )
+				largest = left;
+			if( right < size && compareSlots(right, largest) > 0 )
+				largest = right;
+			if( largest == slot )
+				return;
+			
+			swap(slot, largest);
+			slot = largest;
+		}
+	}
+	
+	private void swap(int a, int b) {
+		int position = heap[a];
+		long primary = primaries[a];
+		boolean isNull = nulls[a];
+		set(a, heap[b], primaries[b], nulls[b]);
+		set(b, position, primary, isNull);
+	}
+	
+	private int compareSlots(int a, int b) {
+		return compare(heap[a], primaries[a], nulls[a], heap[b], primaries[b], nulls[b]);
+	}
+	
+	/** @return a negative integer if the row at {@code a} comes before the row at {@code b}, a positive integer otherwise */
+	private int compare(int a, long primaryA, boolean nullA, int b, long primaryB, boolean nullB) {
+		int comparison = primitive ? comparePrimaries(primaryA, nullA, primaryB, nullB) : compareElements(a, b, 0);
+		
+		for( int key = 1 ; comparison == 0 && key < columns.length ; ++key )
+			comparison = compareElements(a, b, key);
+		
+		return comparison != 0 ? comparison : Integer.compare(a, b);
+	}
+	
+	private int comparePrimaries(long primaryA, boolean nullA, long primaryB, boolean nullB) {
+		int comparison = nullA || nullB ? Boolean.compare(nullB, nullA) : Long.compare(primaryA, primaryB);
+		return ascending[0] ? comparison : -comparison;
+	}
+	
+	private int compareElements(int a, int b, int key) {
+		int comparison = RowSorter.compare(rows.get(a).get(columns[key]), rows.get(b).get(columns[key]));
+		return ascending[key] ? comparison : -comparison;
+	}
+}
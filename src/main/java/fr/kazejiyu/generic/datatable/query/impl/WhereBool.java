@@ -55,7 +55,7 @@ public class WhereBool extends SimpleWhere <Boolean> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And isTrue() {
-		return matchSafe(Boolean::booleanValue);
+		return matchSafe(Boolean::booleanValue, "isTrue");
 	}
 
 	/**
@@ -63,7 +63,7 @@ public class WhereBool extends SimpleWhere <Boolean> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And isFalse() {
-		return matchSafe(bool -> ! bool);
+		return matchSafe(bool -> ! bool, "isFalse");
 	}
 	
 }
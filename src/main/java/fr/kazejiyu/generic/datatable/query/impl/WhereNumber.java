@@ -55,7 +55,7 @@ public class WhereNumber extends SimpleWhere <Number> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And isZero() {
-		return matchSafe(n -> n.doubleValue() == 0);
+		return matchSafe(n -> n.doubleValue() == 0, "isZero");
 	}
 
 	/**
@@ -63,7 +63,7 @@ public class WhereNumber extends SimpleWhere <Number> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And isPositive() {
-		return matchSafe(n -> n.doubleValue() > 0);
+		return matchSafe(n -> n.doubleValue() > 0, "isPositive");
 	}
 
 	/**
@@ -71,7 +71,7 @@ public class WhereNumber extends SimpleWhere <Number> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And isNegative() {
-		return matchSafe(n -> n.doubleValue() < 0);
+		return matchSafe(n -> n.doubleValue() < 0, "isNegative");
 	}
 
 	/**
@@ -79,7 +79,7 @@ public class WhereNumber extends SimpleWhere <Number> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And isEven() {
-		return matchSafe(n -> n.doubleValue() % 2 == 0);
+		return matchSafe(n -> n.doubleValue() % 2 == 0, "isEven");
 	}
 
 	/**
@@ -87,7 +87,7 @@ public class WhereNumber extends SimpleWhere <Number> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And isOdd() {
-		return matchSafe(n -> n.doubleValue() % 2 != 0);
+		return matchSafe(n -> n.doubleValue() % 2 != 0, "isOdd");
 	}
 
 	/**
@@ -101,7 +101,7 @@ public class WhereNumber extends SimpleWhere <Number> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And inClosedInterval(double min, double max) {
-		return matchSafe(n -> min <= n.doubleValue() && n.doubleValue() <= max);
+		return matchSafe(n -> min <= n.doubleValue() && n.doubleValue() <= max, "inClosedInterval", min, max);
 	}
 
 	/**
@@ -115,7 +115,7 @@ public class WhereNumber extends SimpleWhere <Number> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And inOpenInterval(double min, double max) {
-		return matchSafe(n -> min < n.doubleValue() && n.doubleValue() < max);
+		return matchSafe(n -> min < n.doubleValue() && n.doubleValue() < max, "inOpenInterval", min, max);
 	}
 
 	/**
@@ -127,7 +127,7 @@ public class WhereNumber extends SimpleWhere <Number> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And lt(double b) {
-		return matchSafe(a -> a.doubleValue() < b);
+		return matchSafe(a -> a.doubleValue() < b, "lt", b);
 	}
 
 	/**
@@ -139,7 +139,7 @@ public class WhereNumber extends SimpleWhere <Number> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And le(double b) {
-		return matchSafe(a -> a.doubleValue() <= b);
+		return matchSafe(a -> a.doubleValue() <= b, "le", b);
 	}
 
 	/**
@@ -151,7 +151,7 @@ public class WhereNumber extends SimpleWhere <Number> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And gt(double b) {
-		return matchSafe(a -> a.doubleValue() > b);
+		return matchSafe(a -> a.doubleValue() > b, "gt", b);
 	}
 
 	/**
@@ -163,6 +163,6 @@ public class WhereNumber extends SimpleWhere <Number> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And ge(double b) {
-		return matchSafe(a -> a.doubleValue() >= b);
+		return matchSafe(a -> a.doubleValue() >= b, "ge", b);
 	}
 }
@@ -55,7 +55,7 @@ public class WhereStr extends SimpleWhere <String> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And isEmpty() {
-		return matchSafe(String::isEmpty);
+		return matchSafe(String::isEmpty, "isEmpty");
 	}
 
 	/**
@@ -68,7 +68,7 @@ public class WhereStr extends SimpleWhere <String> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And equalsIgnoreCase(String expected) {
-		return matchSafe(str -> str.equalsIgnoreCase(expected));
+		return matchSafe(str -> str.equalsIgnoreCase(expected), "equalsIgnoreCase", expected);
 	}
 
 	/**
@@ -76,7 +76,7 @@ public class WhereStr extends SimpleWhere <String> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And isInLowerCase() {
-		return matchSafe(str -> str.equals(str.toLowerCase()));
+		return matchSafe(str -> str.equals(str.toLowerCase()), "isInLowerCase");
 	}
 
 	/**
@@ -84,7 +84,7 @@ public class WhereStr extends SimpleWhere <String> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And isInUpperCase() {
-		return matchSafe(str -> str.equals(str.toUpperCase()));
+		return matchSafe(str -> str.equals(str.toUpperCase()), "isInUpperCase");
 	}
 
 	/**
@@ -96,7 +96,7 @@ public class WhereStr extends SimpleWhere <String> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And contains(String sub) {
-		return matchSafe(str -> str.contains(sub));
+		return matchSafe(str -> str.contains(sub), "contains", sub);
 	}
 
 	/**
@@ -108,7 +108,7 @@ public class WhereStr extends SimpleWhere <String> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And startsWith(String start) {
-		return matchSafe(str -> str.startsWith(start));
+		return matchSafe(str -> str.startsWith(start), "startsWith", start);
 	}
 
 	/**
@@ -120,7 +120,7 @@ public class WhereStr extends SimpleWhere <String> {
 	 * @return a {@code And} instance to continue the query.
 	 */
 	public And endsWith(String end) {
-		return matchSafe(str -> str.endsWith(end));
+		return matchSafe(str -> str.endsWith(end), "endsWith", end);
 	}
 	
 }
@@ -0,0 +1,181 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Rows;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ArrayColumn;
+import fr.kazejiyu.generic.datatable.core.impl.RowSorter;
+import fr.kazejiyu.generic.datatable.query.window.Window;
+import fr.kazejiyu.generic.datatable.query.window.WindowEvaluator;
+import fr.kazejiyu.generic.datatable.query.window.WindowFunction;
+
+/**
+ * Computes {@link WindowFunction}s over the rows of a query. <br>
+ * <br>
+ * The rows of each distinct window are partitioned with a {@link RowGrouper}, sorted
+ * with a {@link RowSorter}, then bucketed by partition with a stable counting sort.
+ * Functions sharing the same window share this work.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+final class Windowing {
+
+	/** The table which rows are windowed. */
+	private final Table table;
+
+	/** The positions of the rows of the query. */
+	private final int[] positions;
+
+	/** The index of each position in {@link #positions}, indexed by position. */
+	private int[] indexOfPosition;
+
+	/** The rows of each window, in order, and the bounds of their partitions. */
+	private final Map<Window, Partitions> partitions = new HashMap<>();
+
+	/**
+	 * Prepares to compute window functions over some rows of {@code table}.
+	 * 
+	 * @param table
+	 * 			The table which rows are windowed.
+	 * @param positions
+	 * 			The positions of the rows of the query. Each position must appear once.
+	 */
+	Windowing(final Table table, final int[] positions) {
+		this.table = table;
+		this.positions = positions;
+	}
+
+	/**
+	 * Computes {@code function} for each row of the query.
+	 * 
+	 * @param function
+	 * 			The function to compute.
+	 * 
+	 * @return a column holding the value of each row, in the order of the query.
+	 */
+	@SuppressWarnings("unchecked")
+	<R> Column<R> compute(WindowFunction<R> function) {
+		Partitions windowed = partitions.computeIfAbsent(function.window(), this::partition);
+		Object[] results = new Object[positions.length];
+		Rows rows = table.rows();
+		List<Row> partition = new ArrayList<>();
+		WindowEvaluator<R> evaluator = function.evaluator(table);
+
+		for( int p = 0 ; p + 1 < windowed.starts.length ; ++p ) {
+			int start = windowed.starts[p];
+			int end = windowed.starts[p + 1];
+			Object[] values = new Object[end - start];
+
+			partition.clear();
+
+			for( int i = start ; i < end ; ++i )
+				partition.add(rows.get(positions[windowed.order[i]]));
+
+			evaluator.evaluate(partition, values);
+
+			for( int i = start ; i < end ; ++i )
+				results[windowed.order[i]] = values[i - start];
+		}
+		return new ArrayColumn<>(function.header(), (Class<R>) function.type(), results);
+	}
+
+	/** @return the rows of the query grouped by partition, then sorted according to the window */
+	private Partitions partition(Window window) {
+		int size = positions.length;
+		int[] sorted = sortedIndexes(window);
+
+		RowGrouper grouper = new RowGrouper(partitioningColumns(window));
+		int[] groups = new int[size];
+		Rows rows = table.rows();
+
+		for( int i = 0 ; i < size ; ++i )
+			groups[i] = grouper.groupOf(rows.get(positions[i]), positions[i]);
+
+		int[] starts = new int[grouper.size() + 1];
+
+		for( int i = 0 ; i < size ; ++i )
+			++starts[groups[i] + 1];
+
+		for( int group = 0 ; group < grouper.size() ; ++group )
+			starts[group + 1] += starts[group];
+
+		int[] next = Arrays.copyOf(starts, grouper.size());
+		int[] order = new int[size];
+
+		for( int index : sorted )
+			order[next[groups[index]]++] = index;
+
+		return new Partitions(order, starts);
+	}
+
+	/** @return the indexes of the rows of the query, sorted according to the keys of {@code window} */
+	private int[] sortedIndexes(Window window) {
+		int[] indexes = new int[positions.length];
+
+		if( window.orderKeys().isEmpty() ) {
+			for( int i = 0 ; i < indexes.length ; ++i )
+				indexes[i] = i;
+
+			return indexes;
+		}
+
+		int[] sorted = positions.clone();
+		RowSorter.sort(table, sorted, window.orderKeys());
+
+		if( indexOfPosition == null ) {
+			indexOfPosition = new int[table.rows().size()];
+
+			for( int i = 0 ; i < positions.length ; ++i )
+				indexOfPosition[positions[i]] = i;
+		}
+		for( int i = 0 ; i < sorted.length ; ++i )
+			indexes[i] = indexOfPosition[sorted[i]];
+
+		return indexes;
+	}
+
+	private int[] partitioningColumns(Window window) {
+		int[] columns = new int[window.partitionIds().size()];
+
+		for( int i = 0 ; i < columns.length ; ++i )
+			columns[i] = table.columns().indexOf(window.partitionIds().get(i));
+
+		return columns;
+	}
+
+	/** The rows of a window, grouped by partition. */
+	private static final class Partitions {
+
+		/** The indexes of the rows, partition after partition. */
+		final int[] order;
+
+		/** The index in {@link #order} of the first row of each partition, followed by the number of rows. */
+		final int[] starts;
+
+		Partitions(final int[] order, final int[] starts) {
+			this.order = order;
+			this.starts = starts;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.window;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.SortKey;
+
+/**
+ * Specifies the rows a {@link WindowFunction} is computed over. <br>
+ * <br>
+ * The rows are first split into partitions: two rows belong to the same partition when they
+ * hold equal values in every partitioning column. The rows of each partition are then sorted
+ * according to the ordering keys; rows which elements are equal keep the order of the query. <br>
+ * <br>
+ * Instances are immutable.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public final class Window {
+
+	/** The window made of all the rows, in the order of the query. */
+	private static final Window ALL = new Window(Collections.emptyList(), Collections.emptyList());
+
+	/** The ids of the partitioning columns. */
+	private final List<ColumnId<?>> partitionIds;
+
+	/** The keys the rows of a partition are sorted by. */
+	private final List<SortKey<?>> orderKeys;
+
+	private Window(final List<ColumnId<?>> partitionIds, final List<SortKey<?>> orderKeys) {
+		this.partitionIds = Collections.unmodifiableList(partitionIds);
+		this.orderKeys = Collections.unmodifiableList(orderKeys);
+	}
+
+	/** @return the window made of all the rows, in the order of the query */
+	public static Window all() {
+		return ALL;
+	}
+
+	/**
+	 * Returns a window which partitions are made of the rows holding equal values in the given columns.
+	 * 
+	 * @param ids
+	 * 			The ids of the partitioning columns. Must not be {@code null}.
+	 * 			When empty, all the rows belong to a single partition.
+	 * 
+	 * @return a window partitioned by the given columns.
+	 * 
+	 * @throws NullPointerException if {@code ids} or one of its elements is {@code null}.
+	 */
+	public static Window partitionBy(ColumnId<?>... ids) {
+		requireNonNull(ids, "The ids of the partitioning columns must not be null");
+
+		for( ColumnId<?> id : ids )
+			requireNonNull(id, "The ids of the partitioning columns must not be null");
+
+		return new Window(new ArrayList<>(Arrays.asList(ids)), Collections.emptyList());
+	}
+
+	/**
+	 * Returns a copy of this window which partitions are sorted in ascending order of the given columns.
+	 * 
+	 * @param ids
+	 * 			The ids of the columns to sort by, by decreasing significance. Must not be {@code null}.
+	 * 
+	 * @return a copy of this window sorted by the given columns.
+	 * 
+	 * @throws NullPointerException if {@code ids} or one of its elements is {@code null}.
+	 */
+	public Window orderBy(ColumnId<?>... ids) {
+		requireNonNull(ids, "The ids of the columns to sort by must not be null");
+
+		List<SortKey<?>> keys = new ArrayList<>(ids.length);
+
+		for( ColumnId<?> id : ids )
+			keys.add(requireNonNull(id, "The ids of the columns to sort by must not be null").asc());
+
+		return new Window(partitionIds, keys);
+	}
+
+	/**
+	 * Returns a copy of this window which partitions are sorted according to the given keys.
+	 * 
+	 * @param first
+	 * 			The most significant key. Must not be {@code null}.
+	 * @param nexts
+	 * 			The other keys, by decreasing significance.
+	 * 
+	 * @return a copy of this window sorted according to the given keys.
+	 * 
+	 * @throws NullPointerException if a key is {@code null}.
+	 */
+	public Window orderBy(SortKey<?> first, SortKey<?>... nexts) {
+		requireNonNull(nexts, "The keys to sort by must not be null");
+
+		List<SortKey<?>> keys = new ArrayList<>(nexts.length + 1);
+		keys.add(requireNonNull(first, "The keys to sort by must not be null"));
+
+		for( SortKey<?> next : nexts )
+			keys.add(requireNonNull(next, "The keys to sort by must not be null"));
+
+		return new Window(partitionIds, keys);
+	}
+
+	/** @return the ids of the partitioning columns */
+	public List<ColumnId<?>> partitionIds() {
+		return partitionIds;
+	}
+
+	/** @return the keys the rows of a partition are sorted by */
+	public List<SortKey<?>> orderKeys() {
+		return orderKeys;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * partitionIds.hashCode() + orderKeys.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if( this == obj )
+			return true;
+		if( obj == null || getClass() != obj.getClass() )
+			return false;
+
+		Window other = (Window) obj;
+		return partitionIds.equals(other.partitionIds) && orderKeys.equals(other.orderKeys);
+	}
+
+	@Override
+	public String toString() {
+		return "Window [partitionBy=" + partitionIds + ", orderBy=" + orderKeys + "]";
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.window;
+
+import java.util.List;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+
+/**
+ * Computes a {@link WindowFunction} over the partitions of a window. <br>
+ * <br>
+ * Partitions are evaluated one after the other; an evaluator must not keep
+ * any state from one partition to another.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <R> The type of the computed values
+ */
+public interface WindowEvaluator <R> {
+
+	/**
+	 * Computes the value of each row of a partition.
+	 * 
+	 * @param partition
+	 * 			The rows of the partition, in the order of the window. Never {@code null}.
+	 * @param results
+	 * 			Where to store the computed values: {@code results[i]} is the value
+	 * 			of {@code partition.get(i)}. Never {@code null}.
+	 */
+	void evaluate(List<Row> partition, Object[] results);
+}
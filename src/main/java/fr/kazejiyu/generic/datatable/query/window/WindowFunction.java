@@ -0,0 +1,80 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.window;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException;
+
+/**
+ * A function computing a value for each row from the other rows of its partition. <br>
+ * <br>
+ * Instances are created by the static methods of {@link WindowFunctions} and
+ * are immutable. Unless {@link #over(Window)} is called, a function is computed
+ * over {@link Window#all() all the rows}.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <R> The type of the computed values
+ * 
+ * @see fr.kazejiyu.generic.datatable.query.Select#window(WindowFunction...) Select.window
+ */
+public interface WindowFunction <R> {
+
+	/** @return the header of the column that stores the computed values */
+	String header();
+
+	/** @return the type of the computed values */
+	Class<? extends R> type();
+
+	/** @return the window the function is computed over */
+	Window window();
+
+	/**
+	 * Returns a copy of this function which result is stored under another header.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the computed values.
+	 * 			Must not be {@code null}.
+	 * 
+	 * @return a copy of this function using {@code header}.
+	 * 
+	 * @throws NullPointerException if {@code header} is {@code null}.
+	 */
+	WindowFunction<R> as(String header);
+
+	/**
+	 * Returns a copy of this function computed over {@code window}.
+	 * 
+	 * @param window
+	 * 			The window the function is computed over. Must not be {@code null}.
+	 * 
+	 * @return a copy of this function computed over {@code window}.
+	 * 
+	 * @throws NullPointerException if {@code window} is {@code null}.
+	 */
+	WindowFunction<R> over(Window window);
+
+	/**
+	 * Creates a new evaluator able to compute the function over the rows of {@code table}.
+	 * 
+	 * @param table
+	 * 			The table containing the rows. Must not be {@code null}.
+	 * 
+	 * @return a new evaluator bound to {@code table}.
+	 * 
+	 * @throws ColumnIdNotFoundException if a column used by the function does not belong to {@code table}.
+	 */
+	WindowEvaluator<R> evaluator(Table table);
+}
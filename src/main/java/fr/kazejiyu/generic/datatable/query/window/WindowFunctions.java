@@ -0,0 +1,146 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.window;
+
+import static java.util.Objects.requireNonNull;
+
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.query.window.impl.MovingAverage;
+import fr.kazejiyu.generic.datatable.query.window.impl.Offset;
+import fr.kazejiyu.generic.datatable.query.window.impl.Rank;
+import fr.kazejiyu.generic.datatable.query.window.impl.RowNumber;
+import fr.kazejiyu.generic.datatable.query.window.impl.RunningSum;
+
+/**
+ * Static factories of the {@link WindowFunction}s available in queries. <br>
+ * <br>
+ * By default, the result of a function is stored in a column named after
+ * the function and its arguments, such as {@code "lag(amount, 1)"}.
+ * Use {@link WindowFunction#as(String)} to choose another header.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public final class WindowFunctions {
+
+	private WindowFunctions() {
+		// static factories only
+	}
+
+	/**
+	 * Returns a function numbering the rows of each partition, starting from 1.
+	 * @return a function numbering the rows of each partition.
+	 */
+	public static WindowFunction<Long> rowNumber() {
+		return new RowNumber("rowNumber", Window.all());
+	}
+
+	/**
+	 * Returns a function ranking the rows of each partition according to the ordering keys
+	 * of the window. Rows holding equal elements share the same rank.
+	 * 
+	 * @return a function ranking the rows of each partition.
+	 */
+	public static WindowFunction<Long> rank() {
+		return new Rank("rank", Window.all());
+	}
+
+	/**
+	 * Returns a function retrieving the element of a column located {@code offset} rows
+	 * before each row of its partition.
+	 * 
+	 * @param id
+	 * 			Identifies the column which elements are retrieved. Must not be {@code null}.
+	 * @param offset
+	 * 			The number of rows to look backward. Must not be negative.
+	 * 
+	 * @return a function retrieving the elements of previous rows.
+	 * 
+	 * @param <T> The type of the retrieved elements
+	 * 
+	 * @throws NullPointerException if {@code id} is {@code null}.
+	 * @throws IllegalArgumentException if {@code offset} is negative.
+	 */
+	public static <T> WindowFunction<T> lag(ColumnId<T> id, int offset) {
+		return new Offset<>(headerOf("lag", id, offset), Window.all(), id, -checkOffset(offset));
+	}
+
+	/**
+	 * Returns a function retrieving the element of a column located {@code offset} rows
+	 * after each row of its partition.
+	 * 
+	 * @param id
+	 * 			Identifies the column which elements are retrieved. Must not be {@code null}.
+	 * @param offset
+	 * 			The number of rows to look forward. Must not be negative.
+	 * 
+	 * @return a function retrieving the elements of next rows.
+	 * 
+	 * @param <T> The type of the retrieved elements
+	 * 
+	 * @throws NullPointerException if {@code id} is {@code null}.
+	 * @throws IllegalArgumentException if {@code offset} is negative.
+	 */
+	public static <T> WindowFunction<T> lead(ColumnId<T> id, int offset) {
+		return new Offset<>(headerOf("lead", id, offset), Window.all(), id, checkOffset(offset));
+	}
+
+	/**
+	 * Returns a function summing the values of a column from the first row of each
+	 * partition up to the current one. <br>
+	 * <br>
+	 * The sum of integral numbers is a {@link Long}, any other sum is a {@link Double}.
+	 * 
+	 * @param id
+	 * 			Identifies the column which values are summed. Must not be {@code null}.
+	 * 
+	 * @return a function computing running sums.
+	 * 
+	 * @throws NullPointerException if {@code id} is {@code null}.
+	 */
+	public static WindowFunction<Number> runningSum(ColumnId<? extends Number> id) {
+		requireNonNull(id, "The id of the column must not be null");
+		return new RunningSum("runningSum(" + id.header() + ")", Window.all(), id);
+	}
+
+	/**
+	 * Returns a function averaging the values of a column over the current row
+	 * and the {@code size - 1} rows preceding it in its partition.
+	 * 
+	 * @param id
+	 * 			Identifies the column which values are averaged. Must not be {@code null}.
+	 * @param size
+	 * 			The number of rows averaged, current row included. Must be positive.
+	 * 
+	 * @return a function computing moving averages.
+	 * 
+	 * @throws NullPointerException if {@code id} is {@code null}.
+	 * @throws IllegalArgumentException if {@code size} is not positive.
+	 */
+	public static WindowFunction<Double> movingAvg(ColumnId<? extends Number> id, int size) {
+		return new MovingAverage(headerOf("movingAvg", id, size), Window.all(), id, size);
+	}
+
+	private static int checkOffset(int offset) {
+		if( offset < 0 )
+			throw new IllegalArgumentException("The offset must not be negative (got: " + offset + ")");
+
+		return offset;
+	}
+
+	private static String headerOf(String function, ColumnId<?> id, int argument) {
+		requireNonNull(id, "The id of the column must not be null");
+		return function + "(" + id.header() + ", " + argument + ")";
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.window.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import fr.kazejiyu.generic.datatable.query.window.Window;
+import fr.kazejiyu.generic.datatable.query.window.WindowFunction;
+
+/**
+ * Skeletal implementation of {@link WindowFunction} managing the header
+ * under which the computed values are stored and the window.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <R> The type of the computed values
+ */
+public abstract class AbstractWindowFunction <R> implements WindowFunction <R> {
+
+	/** The header of the column that stores the computed values. */
+	private final String header;
+
+	/** The window the function is computed over. */
+	private final Window window;
+
+	/**
+	 * Creates a new window function.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the computed values.
+	 * 			Must not be {@code null}.
+	 * @param window
+	 * 			The window the function is computed over. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 */
+	protected AbstractWindowFunction(final String header, final Window window) {
+		this.header = requireNonNull(header, "The header of a window function must not be null");
+		this.window = requireNonNull(window, "The window of a window function must not be null");
+	}
+
+	@Override
+	public String header() {
+		return header;
+	}
+
+	@Override
+	public Window window() {
+		return window;
+	}
+
+	@Override
+	public WindowFunction<R> as(final String header) {
+		return copy(requireNonNull(header, "The header of a window function must not be null"), window);
+	}
+
+	@Override
+	public WindowFunction<R> over(final Window window) {
+		return copy(header, requireNonNull(window, "The window of a window function must not be null"));
+	}
+
+	/**
+	 * Returns a copy of this function using another header and another window.
+	 * 
+	 * @param header
+	 * 			The new header. Never {@code null}.
+	 * @param window
+	 * 			The new window. Never {@code null}.
+	 * 
+	 * @return a copy of this function using {@code header} and {@code window}.
+	 */
+	protected abstract WindowFunction<R> copy(String header, Window window);
+
+	@Override
+	public String toString() {
+		return header;
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.window.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.query.window.Window;
+import fr.kazejiyu.generic.datatable.query.window.WindowEvaluator;
+import fr.kazejiyu.generic.datatable.query.window.WindowFunction;
+
+/**
+ * Computes the mean of the non-{@code null} values of a column over a sliding frame
+ * made of the current row and of the rows preceding it in its partition. <br>
+ * <br>
+ * The frame slides in constant time: the value leaving the frame is subtracted
+ * from a running sum. The average is {@code null} when the frame does not contain
+ * any non-{@code null} value.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class MovingAverage extends AbstractWindowFunction <Double> {
+
+	/** The column to average. */
+	private final ColumnId<? extends Number> id;
+
+	/** The number of rows in the frame, current row included. */
+	private final int size;
+
+	/**
+	 * Creates a new function computing moving averages.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the averages. Must not be {@code null}.
+	 * @param window
+	 * 			The window the function is computed over. Must not be {@code null}.
+	 * @param id
+	 * 			The column to average. Must not be {@code null}.
+	 * @param size
+	 * 			The number of rows in the frame, current row included. Must be positive.
+	 * 
+	 * @throws NullPointerException if {@code header}, {@code window} or {@code id} is {@code null}.
+	 * @throws IllegalArgumentException if {@code size} is not positive.
+	 */
+	public MovingAverage(final String header, final Window window, final ColumnId<? extends Number> id, final int size) {
+		super(header, window);
+		this.id = requireNonNull(id, "The column to average must not be null");
+		this.size = size;
+
+		if( size <= 0 )
+			throw new IllegalArgumentException("The size of the frame must be positive (got: " + size + ")");
+	}
+
+	@Override
+	public Class<Double> type() {
+		return Double.class;
+	}
+
+	@Override
+	protected WindowFunction<Double> copy(final String header, final Window window) {
+		return new MovingAverage(header, window, id, size);
+	}
+
+	@Override
+	public WindowEvaluator<Double> evaluator(final Table table) {
+		int column = table.columns().indexOf(id);
+
+		return (partition, results) -> {
+			double sum = 0;
+			int count = 0;
+
+			for( int i = 0 ; i < results.length ; ++i ) {
+				Number entering = (Number) partition.get(i).get(column);
+
+				if( entering != null ) {
+					sum += entering.doubleValue();
+					++count;
+				}
+				if( i >= size ) {
+					Number leaving = (Number) partition.get(i - size).get(column);
+
+					if( leaving != null ) {
+						sum -= leaving.doubleValue();
+						--count;
+					}
+				}
+				if( count == 0 )
+					sum = 0; // discards rounding errors
+				
+				results[i] = count == 0 ? null : (Double) (sum / count);
+			}
+		};
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.window.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.query.window.Window;
+import fr.kazejiyu.generic.datatable.query.window.WindowEvaluator;
+import fr.kazejiyu.generic.datatable.query.window.WindowFunction;
+
+/**
+ * Retrieves the element of a column located a given number of rows before, or after,
+ * each row of a partition. <br>
+ * <br>
+ * The value is {@code null} when the partition does not contain such a row.
+ * 
+ * @author Emmanuel CHEBBI
+ * 
+ * @param <T> The type of the retrieved elements
+ */
+public class Offset <T> extends AbstractWindowFunction <T> {
+
+	/** The column which elements are retrieved. */
+	private final ColumnId<T> id;
+
+	/** The number of rows between a row and the retrieved element; negative to look backward. */
+	private final int offset;
+
+	/**
+	 * Creates a new function retrieving the elements of other rows.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the elements. Must not be {@code null}.
+	 * @param window
+	 * 			The window the function is computed over. Must not be {@code null}.
+	 * @param id
+	 * 			The column which elements are retrieved. Must not be {@code null}.
+	 * @param offset
+	 * 			The number of rows between a row and the retrieved element; negative to look backward.
+	 * 
+	 * @throws NullPointerException if {@code header}, {@code window} or {@code id} is {@code null}.
+	 */
+	public Offset(final String header, final Window window, final ColumnId<T> id, final int offset) {
+		super(header, window);
+		this.id = requireNonNull(id, "The id of the column must not be null");
+		this.offset = offset;
+	}
+
+	@Override
+	public Class<T> type() {
+		return id.type();
+	}
+
+	@Override
+	protected WindowFunction<T> copy(final String header, final Window window) {
+		return new Offset<>(header, window, id, offset);
+	}
+
+	@Override
+	public WindowEvaluator<T> evaluator(final Table table) {
+		int column = table.columns().indexOf(id);
+
+		return (partition, results) -> {
+			for( int i = 0 ; i < results.length ; ++i ) {
+				int other = i + offset;
+				results[i] = 0 <= other && other < results.length ? partition.get(other).get(column) : null;
+			}
+		};
+	}
+}
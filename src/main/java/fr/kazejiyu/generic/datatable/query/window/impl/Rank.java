@@ -0,0 +1,88 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.window.impl;
+
+import java.util.List;
+import java.util.Objects;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.query.window.Window;
+import fr.kazejiyu.generic.datatable.query.window.WindowEvaluator;
+import fr.kazejiyu.generic.datatable.query.window.WindowFunction;
+
+/**
+ * Ranks the rows of each partition according to the ordering keys of the window. <br>
+ * <br>
+ * Rows holding equal elements in every ordering column share the same rank; the
+ * next rank then skips as many values, as in {@code 1, 2, 2, 4}. When the window
+ * is not ordered, every row has the rank 1.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class Rank extends AbstractWindowFunction <Long> {
+
+	/**
+	 * Creates a new function ranking rows.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the ranks. Must not be {@code null}.
+	 * @param window
+	 * 			The window the function is computed over. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 */
+	public Rank(final String header, final Window window) {
+		super(header, window);
+	}
+
+	@Override
+	public Class<Long> type() {
+		return Long.class;
+	}
+
+	@Override
+	protected WindowFunction<Long> copy(final String header, final Window window) {
+		return new Rank(header, window);
+	}
+
+	@Override
+	public WindowEvaluator<Long> evaluator(final Table table) {
+		int[] columns = new int[window().orderKeys().size()];
+
+		for( int i = 0 ; i < columns.length ; ++i )
+			columns[i] = table.columns().indexOf(window().orderKeys().get(i).id());
+
+		return (partition, results) -> {
+			long rank = 1;
+
+			for( int i = 0 ; i < results.length ; ++i ) {
+				if( i > 0 && ! arePeers(partition, i - 1, i, columns) )
+					rank = i + 1L;
+
+				results[i] = rank;
+			}
+		};
+	}
+
+	/** @return whether the rows at {@code a} and {@code b} hold equal elements in every column */
+	private static boolean arePeers(List<Row> partition, int a, int b, int[] columns) {
+		for( int column : columns )
+			if( ! Objects.equals(partition.get(a).get(column), partition.get(b).get(column)) )
+				return false;
+
+		return true;
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.window.impl;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.query.window.Window;
+import fr.kazejiyu.generic.datatable.query.window.WindowEvaluator;
+import fr.kazejiyu.generic.datatable.query.window.WindowFunction;
+
+/**
+ * Numbers the rows of each partition, starting from 1.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class RowNumber extends AbstractWindowFunction <Long> {
+
+	/**
+	 * Creates a new function numbering rows.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the numbers. Must not be {@code null}.
+	 * @param window
+	 * 			The window the function is computed over. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 */
+	public RowNumber(final String header, final Window window) {
+		super(header, window);
+	}
+
+	@Override
+	public Class<Long> type() {
+		return Long.class;
+	}
+
+	@Override
+	protected WindowFunction<Long> copy(final String header, final Window window) {
+		return new RowNumber(header, window);
+	}
+
+	@Override
+	public WindowEvaluator<Long> evaluator(final Table table) {
+		return (partition, results) -> {
+			for( int i = 0 ; i < results.length ; ++i )
+				results[i] = i + 1L;
+		};
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.query.window.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.query.window.Window;
+import fr.kazejiyu.generic.datatable.query.window.WindowEvaluator;
+import fr.kazejiyu.generic.datatable.query.window.WindowFunction;
+import fr.kazejiyu.generic.datatable.util.NumberTypes;
+
+/**
+ * Sums the non-{@code null} values of a column from the first row of each partition
+ * up to the current one. <br>
+ * <br>
+ * Integral columns are summed as {@code long}s and produce {@link Long}s;
+ * any other column is summed as {@code double}s and produces {@link Double}s.
+ * The sum is {@code null} until a non-{@code null} value is met.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public class RunningSum extends AbstractWindowFunction <Number> {
+
+	/** The column to sum. */
+	private final ColumnId<? extends Number> id;
+
+	/**
+	 * Creates a new function computing running sums.
+	 * 
+	 * @param header
+	 * 			The header of the column that stores the sums. Must not be {@code null}.
+	 * @param window
+	 * 			The window the function is computed over. Must not be {@code null}.
+	 * @param id
+	 * 			The column to sum. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if any of the arguments is {@code null}.
+	 */
+	public RunningSum(final String header, final Window window, final ColumnId<? extends Number> id) {
+		super(header, window);
+		this.id = requireNonNull(id, "The column to sum must not be null");
+	}
+
+	@Override
+	public Class<? extends Number> type() {
+		return NumberTypes.isIntegral(id.type()) ? Long.class : Double.class;
+	}
+
+	@Override
+	protected WindowFunction<Number> copy(final String header, final Window window) {
+		return new RunningSum(header, window, id);
+	}
+
+	@Override
+	public WindowEvaluator<Number> evaluator(final Table table) {
+		int column = table.columns().indexOf(id);
+
+		if( NumberTypes.isIntegral(id.type()) ) {
+			return (partition, results) -> {
+				long sum = 0;
+				boolean met = false;
+
+				for( int i = 0 ; i < results.length ; ++i ) {
+					Number value = (Number) partition.get(i).get(column);
+
+					if( value != null ) {
+						sum += value.longValue();
+						met = true;
+					}
+					results[i] = met ? (Long) sum : null;
+				}
+			};
+		}
+		return (partition, results) -> {
+			double sum = 0;
+			boolean met = false;
+
+			for( int i = 0 ; i < results.length ; ++i ) {
+				Number value = (Number) partition.get(i).get(column);
+
+				if( value != null ) {
+					sum += value.doubleValue();
+					met = true;
+				}
+				results[i] = met ? (Double) sum : null;
+			}
+		};
+	}
+}
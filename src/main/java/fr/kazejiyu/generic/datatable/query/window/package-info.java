@@ -0,0 +1,16 @@
+/**
+ * Describes the window functions that can be computed over the rows of a query.
+ * 
+ * <pre>import static fr.kazejiyu.generic.datatable.query.window.Window.partitionBy;
+ *import static fr.kazejiyu.generic.datatable.query.window.WindowFunctions.*;
+ * 
+ *TableView purchasesPerUser(Table purchases) {
+ *    Window byUser = partitionBy(USER).orderBy(TS);
+ *    return Query
+ *        .from(purchases)
+ *        .window(rowNumber().over(byUser), runningSum(AMOUNT).over(byUser).as("spent"));
+ *}</pre>
+ * 
+ * @author Emmanuel CHEBBI
+ */
+package fr.kazejiyu.generic.datatable.query.window;
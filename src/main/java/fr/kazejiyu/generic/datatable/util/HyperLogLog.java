@@ -0,0 +1,167 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Estimates the number of distinct values of a stream in constant memory. <br>
+ * <br>
+ * Implements the HyperLogLog algorithm of Flajolet et al.: each value is hashed on 64 bits,
+ * the first {@code precision} bits select a register and the register keeps the longest
+ * run of leading zeros met among the remaining bits. The relative standard error of the
+ * estimate is about {@code 1.04 / sqrt(2^precision)}; small cardinalities are estimated
+ * with linear counting. <br>
+ * <br>
+ * Two sketches of the same precision can be {@link #merge(HyperLogLog) merged}: the result
+ * is the sketch that would have been built from both streams.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public final class HyperLogLog {
+
+	/** The smallest precision allowed. */
+	public static final int MIN_PRECISION = 4;
+
+	/** The greatest precision allowed. */
+	public static final int MAX_PRECISION = 18;
+
+	/** The number of bits used to select a register. */
+	private final int precision;
+
+	/** The longest run of leading zeros met by each register, plus one. */
+	private final byte[] registers;
+
+	/**
+	 * Creates a new empty sketch.
+	 * 
+	 * @param precision
+	 * 			The number of bits used to select a register; the sketch uses {@code 2^precision} bytes.
+	 * 			Must be between {@link #MIN_PRECISION} and {@link #MAX_PRECISION}.
+	 * 
+	 * @throws IllegalArgumentException if {@code precision} is out of bounds.
+	 */
+	public HyperLogLog(int precision) {
+		if( precision < MIN_PRECISION || MAX_PRECISION < precision )
+			throw new IllegalArgumentException("The precision must be between " + MIN_PRECISION + " and " + MAX_PRECISION + " (got: " + precision + ")");
+
+		this.precision = precision;
+		this.registers = new byte[1 << precision];
+	}
+
+	/** @return the number of bits used to select a register */
+	public int precision() {
+		return precision;
+	}
+
+	/**
+	 * Adds {@code value} to the sketch.
+	 * 
+	 * @param value
+	 * 			The value to add. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if {@code value} is {@code null}.
+	 */
+	public void add(Object value) {
+		addHash(hash(requireNonNull(value, "The value must not be null")));
+	}
+
+	/**
+	 * Adds a value to the sketch from its 64-bits hash.
+	 * 
+	 * @param hash
+	 * 			The well-distributed hash of the value to add.
+	 */
+	public void addHash(long hash) {
+		int register = (int) (hash >>> (Long.SIZE - precision));
+		int rank = Math.min(Long.numberOfLeadingZeros(hash << precision), Long.SIZE - precision) + 1;
+
+		if( rank > registers[register] )
+			registers[register] = (byte) rank;
+	}
+
+	/**
+	 * Adds the values seen by {@code other} to this sketch.
+	 * 
+	 * @param other
+	 * 			The sketch to merge. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if {@code other} is {@code null}.
+	 * @throws IllegalArgumentException if the sketches do not have the same precision.
+	 */
+	public void merge(HyperLogLog other) {
+		requireNonNull(other, "The sketch to merge must not be null");
+
+		if( other.precision != precision )
+			throw new IllegalArgumentException("Cannot merge sketches of different precisions (got: " + other.precision + ", expected: " + precision + ")");
+
+		for( int i = 0 ; i < registers.length ; ++i )
+			if( other.registers[i] > registers[i] )
+				registers[i] = other.registers[i];
+	}
+
+	/** @return the estimated number of distinct values added to the sketch */
+	public long estimate() {
+		int m = registers.length;
+		double sum = 0;
+		int zeros = 0;
+
+		for( byte register : registers ) {
+			sum += Double.longBitsToDouble((1023L - register) << 52); // 2^-register
+			if( register == 0 )
+				++zeros;
+		}
+
+		double alpha = 0.7213 / (1 + 1.079 / m);
+		double estimate = alpha * m * m / sum;
+
+		if( estimate <= 2.5 * m && zeros > 0 )
+			estimate = m * Math.log((double) m / zeros);
+
+		return Math.round(estimate);
+	}
+
+	/**
+	 * Returns a well-distributed 64-bits hash of {@code value}. <br>
+	 * <br>
+	 * Integral numbers and floating-point numbers are hashed from their 64 bits;
+	 * other values from their {@link Object#hashCode() hash code}.
+	 * 
+	 * @param value
+	 * 			The value to hash. Must not be {@code null}.
+	 * 
+	 * @return a well-distributed hash of {@code value}.
+	 */
+	public static long hash(Object value) {
+		long bits;
+
+		if( value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte )
+			bits = ((Number) value).longValue();
+
+		else if( value instanceof Double || value instanceof Float )
+			bits = Double.doubleToLongBits(((Number) value).doubleValue());
+
+		else
+			bits = value.hashCode();
+
+		// finalizer of MurmurHash3
+		bits ^= bits >>> 33;
+		bits *= 0xFF51AFD7ED558CCDL;
+		bits ^= bits >>> 33;
+		bits *= 0xC4CEB9FE1A85EC53L;
+		bits ^= bits >>> 33;
+		return bits;
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.util;
+
+/**
+ * Compares two {@code int} without boxing them. <br>
+ * <br>
+ * Typically used to compare two rows identified by their position.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@FunctionalInterface
+public interface IntComparator {
+
+	/**
+	 * Compares {@code a} and {@code b}.
+	 * 
+	 * @param a
+	 * 			The first value to compare.
+	 * @param b
+	 * 			The second value to compare.
+	 * 
+	 * @return a negative integer, zero, or a positive integer as {@code a}
+	 * 		   is less than, equal to, or greater than {@code b}.
+	 */
+	int compare(int a, int b);
+}
@@ -0,0 +1,236 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Estimates the quantiles of a stream of numbers in sub-linear memory. <br>
+ * <br>
+ * Implements the KLL sketch of Karnin, Lang and Liberty: values are stored in a hierarchy
+ * of compactors, the values of level {@code h} standing for {@code 2^h} values each. When
+ * a compactor is full, its values are sorted and every other one is promoted to the next
+ * level. Capacities decrease geometrically from the top level down, so that the sketch
+ * holds {@code O(k)} values; the rank error is about {@code 1.7 / k}. <br>
+ * <br>
+ * As long as no compaction happened, quantiles are exact. Two sketches can be
+ * {@link #merge(KllSketch) merged} whatever the order in which they have been built.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public final class KllSketch {
+
+	/** The ratio between the capacities of two consecutive levels. */
+	private static final double DECAY = 2.0 / 3.0;
+
+	/** The capacity of the top level. */
+	private final int k;
+
+	/** Decides which half of a compactor is promoted. */
+	private final Random random = new Random(0x5EED);
+
+	/** The values of each level. */
+	private double[][] levels = new double[1][8];
+
+	/** The number of values held by each level. */
+	private int[] sizes = new int[1];
+
+	/** The number of values held by the sketch. */
+	private int retained;
+
+	/** The number of values held before a compaction is needed. */
+	private int capacity;
+
+	/** The number of values added to the sketch. */
+	private long count;
+
+	/**
+	 * Creates a new empty sketch.
+	 * 
+	 * @param k
+	 * 			The capacity of the top level; the higher, the more accurate. Must be at least 8.
+	 * 
+	 * @throws IllegalArgumentException if {@code k < 8}.
+	 */
+	public KllSketch(int k) {
+		if( k < 8 )
+			throw new IllegalArgumentException("The capacity of the sketch must be at least 8 (got: " + k + ")");
+
+		this.k = k;
+		this.capacity = capacityOf(0);
+	}
+
+	/** @return the number of values added to the sketch */
+	public long count() {
+		return count;
+	}
+
+	/** @return whether no value has been added to the sketch */
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	/**
+	 * Adds {@code value} to the sketch.
+	 * 
+	 * @param value
+	 * 			The value to add. Must not be NaN.
+	 * 
+	 * @throws IllegalArgumentException if {@code value} is NaN.
+	 */
+	public void add(double value) {
+		if( Double.isNaN(value) )
+			throw new IllegalArgumentException("NaN cannot be added to the sketch");
+
+		append(0, value);
+		++count;
+
+		if( retained >= capacity )
+			compress();
+	}
+
+	/**
+	 * Adds the values seen by {@code other} to this sketch.
+	 * 
+	 * @param other
+	 * 			The sketch to merge. Must not be {@code null}.
+	 * 
+	 * @throws NullPointerException if {@code other} is {@code null}.
+	 */
+	public void merge(KllSketch other) {
+		requireNonNull(other, "The sketch to merge must not be null");
+
+		while( levels.length < other.levels.length )
+			addLevel();
+
+		for( int level = 0 ; level < other.levels.length ; ++level )
+			for( int i = 0 ; i < other.sizes[level] ; ++i )
+				append(level, other.levels[level][i]);
+
+		count += other.count;
+
+		while( retained >= capacity )
+			compress();
+	}
+
+	/**
+	 * Returns an estimation of the {@code q}-quantile of the values added to the sketch. <br>
+	 * <br>
+	 * The result is one of the added values: the smallest one which estimated rank is
+	 * at least {@code q * count()}.
+	 * 
+	 * @param q
+	 * 			The quantile to estimate. Must be between 0 and 1.
+	 * 
+	 * @return an estimation of the {@code q}-quantile, NaN if the sketch is empty.
+	 * 
+	 * @throws IllegalArgumentException if {@code q} is not between 0 and 1.
+	 */
+	public double quantile(double q) {
+		if( ! (0 <= q && q <= 1) )
+			throw new IllegalArgumentException("The quantile must be between 0 and 1 (got: " + q + ")");
+
+		if( isEmpty() )
+			return Double.NaN;
+
+		double[] values = new double[retained];
+		long[] weights = new long[retained];
+		int[] order = new int[retained];
+		int size = 0;
+
+		for( int level = 0 ; level < levels.length ; ++level ) {
+			for( int i = 0 ; i < sizes[level] ; ++i ) {
+				values[size] = levels[level][i];
+				weights[size] = 1L << level;
+				order[size] = size;
+				++size;
+			}
+		}
+		PrimitiveSorts.stableSort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+		double target = q * count;
+		long cumulated = 0;
+
+		for( int index : order ) {
+			cumulated += weights[index];
+
+			if( cumulated >= target )
+				return values[index];
+		}
+		return values[order[order.length - 1]];
+	}
+
+	private void append(int level, double value) {
+		levels[level] = PrimitiveArrays.grow(levels[level], sizes[level] + 1);
+		levels[level][sizes[level]++] = value;
+		++retained;
+	}
+
+	/** Compacts the lowest level that exceeds its capacity. */
+	private void compress() {
+		for( int level = 0 ; level < levels.length ; ++level ) {
+			if( sizes[level] < capacityOf(level) )
+				continue;
+
+			if( level + 1 == levels.length )
+				addLevel();
+
+			compact(level);
+			return;
+		}
+	}
+
+	/** Promotes every other value of {@code level} to the next level. */
+	private void compact(int level) {
+		double[] values = levels[level];
+		int size = sizes[level];
+		int pairs = size / 2;
+		int offset = random.nextBoolean() ? 1 : 0;
+
+		Arrays.sort(values, 0, size);
+
+		for( int i = 0 ; i < pairs ; ++i )
+			append(level + 1, values[2 * i + offset]);
+
+		// the greatest value is kept when the size is odd
+		if( size % 2 == 1 )
+			values[0] = values[size - 1];
+
+		sizes[level] = size % 2;
+		retained -= 2 * pairs;
+	}
+
+	private void addLevel() {
+		int height = levels.length + 1;
+		double[][] newLevels = new double[height][];
+		System.arraycopy(levels, 0, newLevels, 0, levels.length);
+		newLevels[height - 1] = new double[8];
+		levels = newLevels;
+		sizes = Arrays.copyOf(sizes, height);
+
+		capacity = 0;
+		for( int level = 0 ; level < height ; ++level )
+			capacity += capacityOf(level);
+	}
+
+	/** @return the number of values {@code level} can hold before being compacted */
+	private int capacityOf(int level) {
+		int depth = levels.length - level - 1;
+		return Math.max(2, (int) Math.ceil(Math.pow(DECAY, depth) * k)) + 1;
+	}
+}
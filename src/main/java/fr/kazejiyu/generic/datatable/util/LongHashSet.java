@@ -0,0 +1,132 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.util;
+
+import java.util.Arrays;
+
+/**
+ * A set of primitive {@code long} values. <br>
+ * <br>
+ * Relies on open addressing with linear probing, hence never allocates
+ * an object per element.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public final class LongHashSet {
+
+	private static final float LOAD_FACTOR = 0.5f;
+
+	private long[] elements;
+
+	/** Whether each slot is used. */
+	private boolean[] used;
+
+	private int size;
+
+	/** Creates a new empty set. */
+	public LongHashSet() {
+		this(16);
+	}
+
+	/**
+	 * Creates a new empty set.
+	 * 
+	 * @param expectedSize
+	 * 			The number of elements the set should be able to store without being resized.
+	 */
+	public LongHashSet(int expectedSize) {
+		int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+		this.elements = new long[capacity];
+		this.used = new boolean[capacity];
+	}
+
+	/** @return the number of elements in the set */
+	public int size() {
+		return size;
+	}
+
+	/** @return whether the set is empty */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns whether {@code element} belongs to the set.
+	 * 
+	 * @param element
+	 * 			The element to look for.
+	 * 
+	 * @return whether {@code element} belongs to the set.
+	 */
+	public boolean contains(long element) {
+		return used[slotOf(element)];
+	}
+
+	/**
+	 * Adds {@code element} to the set.
+	 * 
+	 * @param element
+	 * 			The element to add.
+	 * 
+	 * @return {@code true} if the element has been added, {@code false} if it already belonged to the set.
+	 */
+	public boolean add(long element) {
+		int slot = slotOf(element);
+
+		if( used[slot] )
+			return false;
+
+		elements[slot] = element;
+		used[slot] = true;
+
+		if( ++size > elements.length * LOAD_FACTOR )
+			rehash();
+
+		return true;
+	}
+
+	/** Removes all the elements of the set. */
+	public void clear() {
+		Arrays.fill(used, false);
+		size = 0;
+	}
+
+	/** @return the slot containing {@code element}, or the free slot where it should be inserted */
+	private int slotOf(long element) {
+		int mask = elements.length - 1;
+		int slot = LongIntHashMap.hash(element) & mask;
+
+		while( used[slot] && elements[slot] != element )
+			slot = (slot + 1) & mask;
+
+		return slot;
+	}
+
+	private void rehash() {
+		long[] oldElements = elements;
+		boolean[] oldUsed = used;
+
+		elements = new long[oldElements.length << 1];
+		used = new boolean[oldElements.length << 1];
+
+		for( int i = 0 ; i < oldElements.length ; ++i ) {
+			if( oldUsed[i] ) {
+				int slot = slotOf(oldElements[i]);
+				elements[slot] = oldElements[i];
+				used[slot] = true;
+			}
+		}
+	}
+}
@@ -0,0 +1,233 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.util;
+
+import java.util.Arrays;
+
+/**
+ * A hash map associating primitive {@code long} keys to {@code int} values. <br>
+ * <br>
+ * Relies on open addressing with linear probing, hence never allocates
+ * an object per entry.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public final class LongIntHashMap {
+
+	/** The value returned by {@link #get(long)} when a key is not mapped. */
+	public static final int NO_VALUE = -1;
+
+	private static final float LOAD_FACTOR = 0.5f;
+
+	private long[] keys;
+
+	private int[] values;
+
+	/** Whether each slot is used. */
+	private boolean[] used;
+
+	private int size;
+
+	/** Creates a new empty map. */
+	public LongIntHashMap() {
+		this(16);
+	}
+
+	/**
+	 * Creates a new empty map.
+	 * 
+	 * @param expectedSize
+	 * 			The number of entries the map should be able to store without being resized.
+	 */
+	public LongIntHashMap(int expectedSize) {
+		int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+		this.keys = new long[capacity];
+		this.values = new int[capacity];
+		this.used = new boolean[capacity];
+	}
+
+	/** @return the number of entries in the map */
+	public int size() {
+		return size;
+	}
+
+	/** @return whether the map is empty */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the value associated to {@code key}.
+	 * 
+	 * @param key
+	 * 			The key of the value to retrieve.
+	 * 
+	 * @return the value associated to {@code key}, {@link #NO_VALUE} if there is none.
+	 */
+	public int get(long key) {
+		int slot = slotOf(key);
+		return used[slot] ? values[slot] : NO_VALUE;
+	}
+
+	/**
+	 * Returns whether a value is associated to {@code key}.
+	 * 
+	 * @param key
+	 * 			The key to look for.
+	 * 
+	 * @return whether a value is associated to {@code key}.
+	 */
+	public boolean containsKey(long key) {
+		return used[slotOf(key)];
+	}
+
+	/**
+	 * Returns the value associated to {@code key}, associating it to {@code value} first
+	 * if the key is not mapped yet.
+	 * 
+	 * @param key
+	 * 			The key of the value to retrieve.
+	 * @param value
+	 * 			The value to associate to {@code key} if it is not mapped yet.
+	 * 
+	 * @return the value associated to {@code key}.
+	 */
+	public int getOrAdd(long key, int value) {
+		int slot = slotOf(key);
+
+		if( used[slot] )
+			return values[slot];
+
+		insert(slot, key, value);
+		return value;
+	}
+
+	/**
+	 * Associates {@code value} to {@code key}, replacing any previous value.
+	 * 
+	 * @param key
+	 * 			The key of the value.
+	 * @param value
+	 * 			The value to associate to {@code key}.
+	 */
+	public void put(long key, int value) {
+		int slot = slotOf(key);
+
+		if( used[slot] )
+			values[slot] = value;
+		else
+			insert(slot, key, value);
+	}
+
+	/**
+	 * Removes the value associated to {@code key}.
+	 * 
+	 * @param key
+	 * 			The key of the entry to remove.
+	 * 
+	 * @return the value that was associated to {@code key}, {@link #NO_VALUE} if there was none.
+	 */
+	public int remove(long key) {
+		int slot = slotOf(key);
+
+		if( ! used[slot] )
+			return NO_VALUE;
+
+		int removed = values[slot];
+		used[slot] = false;
+		--size;
+		shiftFollowingEntries(slot);
+		return removed;
+	}
+
+	/** Removes all the entries of the map. */
+	public void clear() {
+		Arrays.fill(used, false);
+		size = 0;
+	}
+
+	/** Re-inserts the entries following a removed slot so that probing sequences stay unbroken. */
+	private void shiftFollowingEntries(int removedSlot) {
+		int mask = keys.length - 1;
+		int hole = removedSlot;
+		int slot = (hole + 1) & mask;
+
+		while( used[slot] ) {
+			int ideal = hash(keys[slot]) & mask;
+
+			if( ((slot - ideal) & mask) >= ((slot - hole) & mask) ) {
+				keys[hole] = keys[slot];
+				values[hole] = values[slot];
+				used[hole] = true;
+				used[slot] = false;
+				hole = slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+	}
+
+	private void insert(int slot, long key, int value) {
+		keys[slot] = key;
+		values[slot] = value;
+		used[slot] = true;
+
+		if( ++size > keys.length * LOAD_FACTOR )
+			rehash();
+	}
+
+	/** @return the slot containing {@code key}, or the free slot where it should be inserted */
+	private int slotOf(long key) {
+		int mask = keys.length - 1;
+		int slot = hash(key) & mask;
+
+		while( used[slot] && keys[slot] != key )
+			slot = (slot + 1) & mask;
+
+		return slot;
+	}
+
+	private void rehash() {
+		long[] oldKeys = keys;
+		int[] oldValues = values;
+		boolean[] oldUsed = used;
+
+		keys = new long[oldKeys.length << 1];
+		values = new int[oldKeys.length << 1];
+		used = new boolean[oldKeys.length << 1];
+
+		for( int i = 0 ; i < oldKeys.length ; ++i ) {
+			if( oldUsed[i] ) {
+				int slot = slotOf(oldKeys[i]);
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+				used[slot] = true;
+			}
+		}
+	}
+
+	/**
+	 * Spreads the bits of {@code key} so that close keys do not end up
+	 * in close slots.
+	 * 
+	 * @param key
+	 * 			The key to hash.
+	 * 
+	 * @return a well-distributed hash of {@code key}.
+	 */
+	static int hash(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+}
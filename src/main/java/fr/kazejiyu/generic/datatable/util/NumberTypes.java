@@ -0,0 +1,56 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.util;
+
+/**
+ * Helpers to know how the content of a column of numbers can be stored
+ * as primitives.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public final class NumberTypes {
+
+	private NumberTypes() {
+		// utility class
+	}
+
+	/**
+	 * Returns whether the instances of {@code type} can be stored as {@code long}s without loss.
+	 * 
+	 * @param type
+	 * 			The type to check. Must not be {@code null}.
+	 * 
+	 * @return whether the instances of {@code type} are integral numbers fitting in a {@code long}.
+	 */
+	public static boolean isIntegral(Class<?> type) {
+		return type == Integer.class
+			|| type == Long.class
+			|| type == Short.class
+			|| type == Byte.class;
+	}
+
+	/**
+	 * Returns whether the instances of {@code type} can be stored as {@code double}s without loss.
+	 * 
+	 * @param type
+	 * 			The type to check. Must not be {@code null}.
+	 * 
+	 * @return whether the instances of {@code type} are floating-point numbers.
+	 */
+	public static boolean isFloating(Class<?> type) {
+		return type == Double.class
+			|| type == Float.class;
+	}
+}
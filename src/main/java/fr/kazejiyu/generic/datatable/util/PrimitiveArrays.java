@@ -0,0 +1,93 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.util;
+
+import java.util.Arrays;
+
+/**
+ * Helpers to grow primitive arrays used as dynamic buffers.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public final class PrimitiveArrays {
+
+	private PrimitiveArrays() {
+		// utility class
+	}
+
+	/**
+	 * Returns an array able to store at least {@code capacity} elements.
+	 * 
+	 * @param array
+	 * 			The array to grow. Must not be {@code null}.
+	 * @param capacity
+	 * 			The minimal capacity of the returned array.
+	 * 
+	 * @return {@code array} if it is large enough, a larger copy otherwise.
+	 */
+	public static int[] grow(int[] array, int capacity) {
+		return capacity <= array.length ? array : Arrays.copyOf(array, newLength(array.length, capacity));
+	}
+
+	/**
+	 * Returns an array able to store at least {@code capacity} elements.
+	 * 
+	 * @param array
+	 * 			The array to grow. Must not be {@code null}.
+	 * @param capacity
+	 * 			The minimal capacity of the returned array.
+	 * 
+	 * @return {@code array} if it is large enough, a larger copy otherwise.
+	 */
+	public static long[] grow(long[] array, int capacity) {
+		return capacity <= array.length ? array : Arrays.copyOf(array, newLength(array.length, capacity));
+	}
+
+	/**
+	 * Returns an array able to store at least {@code capacity} elements.
+	 * 
+	 * @param array
+	 * 			The array to grow. Must not be {@code null}.
+	 * @param capacity
+	 * 			The minimal capacity of the returned array.
+	 * 
+	 * @return {@code array} if it is large enough, a larger copy otherwise.
+	 */
+	public static double[] grow(double[] array, int capacity) {
+		return capacity <= array.length ? array : Arrays.copyOf(array, newLength(array.length, capacity));
+	}
+
+	/**
+	 * Returns an array able to store at least {@code capacity} elements.
+	 * 
+	 * @param array
+	 * 			The array to grow. Must not be {@code null}.
+	 * @param capacity
+	 * 			The minimal capacity of the returned array.
+	 * 
+	 * @return {@code array} if it is large enough, a larger copy otherwise.
+	 * 
+	 * @param <T> The type of the array's elements
+	 */
+	public static <T> T[] grow(T[] array, int capacity) {
+		return capacity <= array.length ? array : Arrays.copyOf(array, newLength(array.length, capacity));
+	}
+
+	/** @return the length of an array that grows from {@code length} to hold at least {@code capacity} elements */
+	private static int newLength(int length, int capacity) {
+		int doubled = length < 8 ? 16 : length << 1;
+		return doubled < 0 ? Integer.MAX_VALUE - 8 : Math.max(doubled, capacity);
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.util;
+
+/**
+ * Sorting algorithms working on primitive arrays.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public final class PrimitiveSorts {
+
+	/** Below this length, ranges are sorted by insertion. */
+	private static final int INSERTION_THRESHOLD = 16;
+
+	private PrimitiveSorts() {
+		// utility class
+	}
+
+	/**
+	 * Sorts {@code array} according to {@code comparator}. <br>
+	 * <br>
+	 * The sort is stable: equal elements keep their relative order. It relies on
+	 * a merge sort that allocates a single temporary {@code int[]}.
+	 * 
+	 * @param array
+	 * 			The array to sort. Must not be {@code null}.
+	 * @param comparator
+	 * 			Defines the order of the elements. Must not be {@code null}.
+	 */
+	public static void stableSort(int[] array, IntComparator comparator) {
+		stableSort(array, 0, array.length, comparator);
+	}
+
+	/**
+	 * Sorts the range [{@code from}, {@code to}) of {@code array} according to {@code comparator}. <br>
+	 * <br>
+	 * The sort is stable: equal elements keep their relative order.
+	 * 
+	 * @param array
+	 * 			The array to sort. Must not be {@code null}.
+	 * @param from
+	 * 			The index of the first element to sort, inclusive.
+	 * @param to
+	 * 			The index of the last element to sort, exclusive.
+	 * @param comparator
+	 * 			Defines the order of the elements. Must not be {@code null}.
+	 */
+	public static void stableSort(int[] array, int from, int to, IntComparator comparator) {
+		if( to - from < 2 )
+			return;
+
+		int[] buffer = array.clone();
+		mergeSort(buffer, array, from, to, comparator);
+	}
+
+	/** Sorts {@code destination[from, to)} using {@code source}, which holds the same elements, as a buffer. */
+	private static void mergeSort(int[] source, int[] destination, int from, int to, IntComparator comparator) {
+		if( to - from <= INSERTION_THRESHOLD ) {
+			insertionSort(destination, from, to, comparator);
+			return;
+		}
+
+		int middle = (from + to) >>> 1;
+		mergeSort(destination, source, from, middle, comparator);
+		mergeSort(destination, source, middle, to, comparator);
+
+		if( comparator.compare(source[middle - 1], source[middle]) <= 0 ) {
+			System.arraycopy(source, from, destination, from, to - from);
+			return;
+		}
+
+		for( int i = from, left = from, right = middle ; i < to ; ++i ) {
+			if( right >= to || (left < middle && comparator.compare(source[left], source[right]) <= 0) )
+				destination[i] = source[left++];
+			else
+				destination[i] = source[right++];
+		}
+	}
+
+	private static void insertionSort(int[] array, int from, int to, IntComparator comparator) {
+		for( int i = from + 1 ; i < to ; ++i ) {
+			int current = array[i];
+			int j = i - 1;
+
+			while( j >= from && comparator.compare(array[j], current) > 0 ) {
+				array[j + 1] = array[j];
+				--j;
+			}
+			array[j + 1] = current;
+		}
+	}
+}
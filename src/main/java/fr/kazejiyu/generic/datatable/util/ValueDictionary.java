@@ -0,0 +1,146 @@
+/*
+ * 		Copyright 2017 Emmanuel CHEBBI
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package fr.kazejiyu.generic.datatable.util;
+
+import java.util.Objects;
+
+/**
+ * Encodes values into dense {@code int} codes. <br>
+ * <br>
+ * The first distinct value encoded gets the code 0, the second one the code 1,
+ * and so on. {@code null} is a valid value and gets its own code. <br>
+ * <br>
+ * Relies on open addressing so that no object is allocated per encoded value.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+public final class ValueDictionary {
+
+	/** The value returned by {@link #codeOf(Object)} when a value is not encoded. */
+	public static final int NO_CODE = -1;
+
+	private static final Object NULL = new Object();
+
+	/** The encoded values, indexed by hash slot. */
+	private Object[] slots;
+
+	/** The code of the values, indexed by hash slot. */
+	private int[] codes;
+
+	/** The encoded values, indexed by code. */
+	private Object[] values;
+
+	private int size;
+
+	/** Creates a new empty dictionary. */
+	public ValueDictionary() {
+		this.slots = new Object[16];
+		this.codes = new int[16];
+		this.values = new Object[8];
+	}
+
+	/** @return the number of distinct values encoded */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the code of {@code value}, encoding it first if needed.
+	 * 
+	 * @param value
+	 * 			The value to encode. May be {@code null}.
+	 * 
+	 * @return the code of {@code value}.
+	 */
+	public int encode(Object value) {
+		Object key = value == null ? NULL : value;
+		int slot = slotOf(key);
+
+		if( slots[slot] != null )
+			return codes[slot];
+
+		int code = size++;
+		slots[slot] = key;
+		codes[slot] = code;
+		values = PrimitiveArrays.grow(values, size);
+		values[code] = value;
+
+		if( size > slots.length >> 1 )
+			rehash();
+
+		return code;
+	}
+
+	/**
+	 * Returns the code of {@code value}.
+	 * 
+	 * @param value
+	 * 			The value which code is returned. May be {@code null}.
+	 * 
+	 * @return the code of {@code value}, {@link #NO_CODE} if it has not been encoded.
+	 */
+	public int codeOf(Object value) {
+		int slot = slotOf(value == null ? NULL : value);
+		return slots[slot] == null ? NO_CODE : codes[slot];
+	}
+
+	/**
+	 * Returns the value identified by {@code code}.
+	 * 
+	 * @param code
+	 * 			A code previously returned by {@link #encode(Object)}.
+	 * 
+	 * @return the value identified by {@code code}.
+	 * 
+	 * @throws IndexOutOfBoundsException if code &lt; 0 || size() &lt;= code
+	 */
+	public Object decode(int code) {
+		if( code < 0 || size <= code )
+			throw new IndexOutOfBoundsException("There is no value encoded with " + code);
+
+		return values[code];
+	}
+
+	private int slotOf(Object key) {
+		int mask = slots.length - 1;
+		int slot = spread(key.hashCode()) & mask;
+
+		while( slots[slot] != null && ! Objects.equals(slots[slot], key) )
+			slot = (slot + 1) & mask;
+
+		return slot;
+	}
+
+	private void rehash() {
+		Object[] oldSlots = slots;
+		int[] oldCodes = codes;
+
+		slots = new Object[oldSlots.length << 1];
+		codes = new int[oldSlots.length << 1];
+
+		for( int i = 0 ; i < oldSlots.length ; ++i ) {
+			if( oldSlots[i] != null ) {
+				int slot = slotOf(oldSlots[i]);
+				slots[slot] = oldSlots[i];
+				codes[slot] = oldCodes[i];
+			}
+		}
+	}
+
+	private static int spread(int hash) {
+		int h = hash * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
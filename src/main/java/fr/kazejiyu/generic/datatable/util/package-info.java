@@ -0,0 +1,7 @@
+/**
+ * Primitive collections and helpers used internally to process the content
+ * of a {@link fr.kazejiyu.generic.datatable.core.Table Table} without boxing.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+package fr.kazejiyu.generic.datatable.util;
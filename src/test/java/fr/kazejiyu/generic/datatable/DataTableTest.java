@@ -4,7 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.List;
 
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,7 +15,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import fr.kazejiyu.generic.datatable.core.Column;
 import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.TableListener;
 import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
 import fr.kazejiyu.generic.datatable.core.impl.DataTable;
 import fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException;
@@ -242,5 +247,111 @@ class DataTableTest {
 			softly.assertThat(result.rows().get(1)).containsExactly("Mathilde", 21);
 			softly.assertAll();	
 		}
+		
+		// sortBy()
+		
+		@Test @DisplayName("can be sorted by a column")
+		void can_be_sorted_by_a_column() {
+			people.sortBy(AGE);
+			
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(people.columns().get(NAME)).containsExactly("Anya", "Mathilde", "Luc", "Baptiste");
+			softly.assertThat(people.rows().first().id()).isEqualTo(2);
+			softly.assertThat(people.sortOrder()).containsExactly(AGE);
+			softly.assertAll();
+		}
+		
+		@Test @DisplayName("can be sorted by several columns, null first")
+		void can_be_sorted_by_several_columns() {
+			people.rows().create("Marc", null, "Male");
+			people.sortBy(id(SEX_HEADER, String.class), AGE);
+			
+			assertThat(people.columns().get(NAME)).containsExactly("Anya", "Mathilde", "Marc", "Luc", "Baptiste");
+		}
+		
+		@Test @DisplayName("forgets its sort order when modified")
+		void forgets_its_sort_order_when_modified() {
+			people.sortBy(AGE);
+			people.rows().first().set(AGE, 99);
+			
+			assertThat(people.sortOrder()).isEmpty();
+		}
+		
+		@Test @DisplayName("keeps its sort order when filtered")
+		void keeps_its_sort_order_when_filtered() {
+			people.sortBy(AGE, NAME);
+			
+			LinkedHashSet<ColumnId<?>> ids = new LinkedHashSet<>();
+			ids.add(AGE);
+			
+			assertThat(people.filterById(ids, row -> true).sortOrder()).containsExactly(AGE);
+		}
+		
+		@Test @DisplayName("throws when sorted by non existing id")
+		void throws_when_sorted_by_non_existing_id() {
+			assertThatExceptionOfType(ColumnIdNotFoundException.class)
+				.isThrownBy(() -> people.sortBy(id("non existing", String.class)));
+		}
+		
+		// compact()
+		
+		@Test @DisplayName("keeps its content, positions and ids when compacted")
+		void keeps_its_content_when_compacted() {
+			DataTable table = (DataTable) people;
+			table.compactionThreshold(1);
+			
+			int id = people.rows().get(2).id();
+			people.rows().remove(1).remove(0);
+			table.compact();
+			
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(people.columns().get(NAME)).containsExactly("Anya", "Mathilde");
+			softly.assertThat(people.rows().first().id()).isEqualTo(id);
+			softly.assertThat(people.rows().getById(id)).containsExactly("Anya", 0, "Female");
+			softly.assertAll();
+		}
+		
+		@Test @DisplayName("throws when given a compaction threshold out of ]0, 1]")
+		void throws_when_given_a_wrong_compaction_threshold() {
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThatThrownBy(() -> ((DataTable) people).compactionThreshold(0)).isInstanceOf(IllegalArgumentException.class);
+			softly.assertThatThrownBy(() -> ((DataTable) people).compactionThreshold(1.5)).isInstanceOf(IllegalArgumentException.class);
+			softly.assertAll();
+		}
+		
+		// addListener()
+		
+		@Test @DisplayName("notifies its listeners of its modifications, identifying rows by position")
+		void notifies_its_listeners_of_its_modifications() {
+			List<String> events = new ArrayList<>();
+			
+			((DataTable) people).addListener(new TableListener() {
+				@Override
+				public void rowCreated(List<Object> elements) {
+					events.add("create " + elements);
+				}
+				@Override
+				public void rowsRemoved(int... indexes) {
+					events.add("remove " + Arrays.toString(indexes));
+				}
+				@Override
+				public void elementSet(int row, int column, Object element) {
+					events.add("set " + row + " " + column + " " + element);
+				}
+				@Override
+				public void columnCreated(Column<?> column) {
+					events.add("create " + column.header());
+				}
+			});
+			
+			people.rows().remove(0);
+			people.rows().get(2).set(AGE, 22);
+			people.rows().create("Marc", 40, "Male");
+			people.rows().removeIf(row -> row.get(NAME).startsWith("M"));
+			people.columns().create(id("city", String.class), "Paris", "Lyon");
+			
+			assertThat(events).containsExactly(
+					"remove [0]", "set 2 1 22", "create [Marc, 40, Male]", "remove [2, 3]", "create city");
+		}
 	}
 }
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.util.stream.Stream;
 
+import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import fr.kazejiyu.generic.datatable.core.Column;
 import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnStatistics;
 import fr.kazejiyu.generic.datatable.core.impl.DataTable;
 
 /**
@@ -72,6 +74,21 @@ class SimpleColumnTest {
 			assertThatExceptionOfType(IndexOutOfBoundsException.class)
 				.isThrownBy(() -> empty.get(0));
 		}
+		
+		// statistics()
+		
+		@Test @DisplayName("has empty statistics")
+		void has_empty_statistics() {
+			ColumnStatistics<?> statistics = empty.statistics();
+			
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(statistics.size()).isEqualTo(0);
+			softly.assertThat(statistics.nullCount()).isEqualTo(0);
+			softly.assertThat(statistics.distinctCount()).isEqualTo(0L);
+			softly.assertThat(statistics.min()).isNull();
+			softly.assertThat(statistics.histogram()).isEmpty();
+			softly.assertAll();
+		}
 	}
 	
 	@Nested
@@ -207,5 +224,54 @@ class SimpleColumnTest {
 		void accepts_null_values() {
 			assertThat(people.columns()).allMatch(col -> col.accepts(null));
 		}
+		
+		// statistics()
+		
+		@Test @DisplayName("computes its statistics")
+		@SuppressWarnings("unchecked")
+		void computes_its_statistics() {
+			Column<Integer> ages = (Column<Integer>) people.columns().get(AGE_HEADER);
+			people.rows().create("Marc", null, "Male");
+			ColumnStatistics<Integer> statistics = ages.statistics();
+			
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(statistics.size()).isEqualTo(5);
+			softly.assertThat(statistics.nullCount()).isEqualTo(1);
+			softly.assertThat(statistics.distinctCount()).isEqualTo(4L);
+			softly.assertThat(statistics.min()).isEqualTo(0);
+			softly.assertThat(statistics.max()).isEqualTo(32);
+			softly.assertAll();
+		}
+		
+		@Test @DisplayName("computes an equi-depth histogram")
+		void computes_an_equi_depth_histogram() {
+			Table numbers = new DataTable();
+			Integer[] values = new Integer[100];
+			
+			for( int i = 0 ; i < values.length ; ++i )
+				values[i] = 99 - i;
+			
+			numbers.columns().create("n", Integer.class, values);
+			
+			assertThat(numbers.columns().get("n").statistics().histogram())
+				.extracting(bucket -> bucket.lower() + ".." + bucket.upper() + ":" + bucket.count())
+				.containsExactly("0..9:10", "10..19:10", "20..29:10", "30..39:10", "40..49:10", 
+								 "50..59:10", "60..69:10", "70..79:10", "80..89:10", "90..99:10");
+		}
+		
+		@Test @DisplayName("updates its statistics when the table is modified")
+		@SuppressWarnings("unchecked")
+		void updates_its_statistics_when_the_table_is_modified() {
+			Column<String> names = (Column<String>) people.columns().get(NAME_HEADER);
+			ColumnStatistics<String> before = names.statistics();
+			
+			names.set(0, "Zoe");
+			
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(names.statistics()).isSameAs(names.statistics());
+			softly.assertThat(before.max()).isEqualTo("Mathilde");
+			softly.assertThat(names.statistics().max()).isEqualTo("Zoe");
+			softly.assertAll();
+		}
 	}
 }
@@ -411,6 +411,19 @@ class SimpleColumnsTest {
 			softly.assertAll();
 		}
 		
+		@Test @DisplayName("can still access the following columns once a column is removed")
+		void can_access_the_following_columns_once_a_column_is_removed() {
+			people.columns().remove(NAME_HEADER);
+			
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(people.columns().headers()).containsExactly(AGE_HEADER, SEX_HEADER);
+			softly.assertThat(people.columns().indexOf(SEX_HEADER)).isEqualTo(1);
+			softly.assertThat(people.columns().get(AGE)).containsExactly(23, 32, 0, 21);
+			softly.assertThat(people.columns().contains(NAME)).isFalse();
+			softly.assertThat(people.rows().first()).containsExactly(23, "Male");
+			softly.assertAll();
+		}
+		
 		@Test @DisplayName("throws when removing a column from a non existing header")
 		void throws_when_removing_a_column_from_a_non_existing_header() {
 			assertThatExceptionOfType(HeaderNotFoundException.class)
@@ -1,5 +1,6 @@
 package fr.kazejiyu.generic.datatable;
 
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,6 +27,7 @@ import fr.kazejiyu.generic.datatable.core.Rows;
 import fr.kazejiyu.generic.datatable.core.Table;
 import fr.kazejiyu.generic.datatable.core.impl.DataTable;
 import fr.kazejiyu.generic.datatable.exceptions.InconsistentRowSizeException;
+import fr.kazejiyu.generic.datatable.exceptions.RowIdNotFoundException;
 
 /**
  * Tests the behavior of a {@link Rows} implementation.
@@ -105,6 +107,38 @@ class SimpleRowsTest {
 			assertThatExceptionOfType(IndexOutOfBoundsException.class)
 				.isThrownBy(() -> empty.rows().remove(0));
 		}
+		
+		// getById()
+		
+		@Test @DisplayName("throws when asked for a row by id")
+		void throws_when_asked_for_a_row_by_id() {
+			assertThatExceptionOfType(RowIdNotFoundException.class)
+				.isThrownBy(() -> empty.rows().getById(0));
+		}
+		
+		@Test @DisplayName("keeps the ids and the content of the remaining rows when many rows are removed")
+		void keeps_ids_and_content_when_many_rows_are_removed() {
+			for( int i = 0 ; i < 1000 ; ++i )
+				empty.rows().create();
+			
+			for( int i = 999 ; i >= 0 ; i -= 3 )
+				empty.rows().remove(i);
+			
+			for( int i = 0 ; i < 200 ; ++i )
+				empty.rows().remove(i);
+			
+			List<Integer> ids = empty.rows().stream().map(Row::id).collect(toList());
+			
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(empty.rows().size()).isEqualTo(466);
+			softly.assertThat(ids).isSorted().doesNotHaveDuplicates().hasSize(466);
+			
+			for( int i = 0 ; i < ids.size() ; ++i ) {
+				softly.assertThat(empty.rows().get(i).id()).isEqualTo(ids.get(i));
+				softly.assertThat(empty.rows().getById(ids.get(i)).id()).isEqualTo(ids.get(i));
+			}
+			softly.assertAll();
+		}
 	}
 	
 	@Nested
@@ -242,6 +276,133 @@ class SimpleRowsTest {
 			softly.assertAll();			
 		}
 		
+		@Test @DisplayName("throws when removing a row out of bounds")
+		void throws_when_removing_a_row_out_of_bounds() {
+			people.rows().remove(1);
+			
+			assertThatExceptionOfType(IndexOutOfBoundsException.class)
+				.isThrownBy(() -> people.rows().remove(3));
+		}
+		
+		@Test @DisplayName("skips removed rows when iterated")
+		void skips_removed_rows_when_iterated() {
+			people.rows().remove(1);
+			people.rows().remove(1);
+			
+			assertThat(people.rows().stream().map(row -> row.get(0)))
+				.containsExactly("Luc", "Mathilde");
+			assertThat(people.rows().iterator())
+				.containsExactly(people.rows().get(0), people.rows().get(1));
+		}
+		
+		// removeIf()
+		
+		@Test @DisplayName("can remove the rows matching a predicate")
+		void can_remove_the_rows_matching_a_predicate() {
+			int id = people.rows().get(3).id();
+			people.rows().removeIf(row -> "Male".equals(row.get(2)));
+			
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(people.rows().size()).isEqualTo(2);
+			softly.assertThat(people.rows().get(0)).containsExactly("Anya", 0, "Female");
+			softly.assertThat(people.rows().get(1)).containsExactly("Mathilde", 21, "Female");
+			softly.assertThat(people.rows().getById(id)).containsExactly("Mathilde", 21, "Female");
+			softly.assertThat(people.columns().get(id(NAME_HEADER, String.class))).containsExactly("Anya", "Mathilde");
+			softly.assertAll();
+		}
+		
+		@Test @DisplayName("leaves the rows untouched when the predicate throws")
+		void leaves_the_rows_untouched_when_the_predicate_throws() {
+			try {
+				people.rows().removeIf(row -> {
+					if( row.get(0).equals("Anya") )
+						throw new IllegalStateException();
+					return true;
+				});
+			}
+			catch( IllegalStateException e ) {
+				// expected
+			}
+			assertThat(people.rows()).size().isEqualTo(4);
+		}
+		
+		@Test @DisplayName("does not return removed rows to queries")
+		void does_not_return_removed_rows_to_queries() {
+			people.rows().removeIf(row -> "Luc".equals(row.get(0)));
+			
+			assertThat(people.filter(row -> true).columns().get(id(NAME_HEADER, String.class)))
+				.containsExactly("Baptiste", "Anya", "Mathilde");
+		}
+		
+		// getById()
+		
+		@Test @DisplayName("can return a row by id")
+		void can_return_a_row_by_id() {
+			int id = people.rows().get(2).id();
+			
+			assertThat(people.rows().getById(id))
+				.containsExactly("Anya", 0, "Female");
+		}
+		
+		@Test @DisplayName("preserves the ids of the remaining rows on removal")
+		void preserves_ids_on_removal() {
+			int id = people.rows().get(2).id();
+			people.rows().remove(0);
+			
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(people.rows().get(1).id()).isEqualTo(id);
+			softly.assertThat(people.rows().getById(id)).containsExactly("Anya", 0, "Female");
+			softly.assertAll();
+		}
+		
+		@Test @DisplayName("never reuses the ids of removed rows")
+		void never_reuses_the_ids_of_removed_rows() {
+			int last = people.rows().last().id();
+			people.rows().clear();
+			people.rows().create("Paul", 40, "Male");
+			
+			assertThat(people.rows().first().id()).isGreaterThan(last);
+		}
+		
+		@Test @DisplayName("never gives the id of an added row to a created one")
+		void never_gives_the_id_of_an_added_row_to_a_created_one() {
+			Table other = new DataTable();
+			other.columns().create(NAME_HEADER, String.class).create(AGE_HEADER, Integer.class).create(SEX_HEADER, String.class);
+			
+			for( int i = 0 ; i <= people.rows().last().id() + 5 ; ++i )
+				other.rows().create("Paul", i, "Male");
+			
+			Row added = other.rows().last();
+			people.rows().add(added);
+			people.rows().create("Marie", 30, "Female");
+			
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(people.rows().last().id()).isGreaterThan(added.id());
+			softly.assertThat(people.rows().getById(added.id())).isSameAs(added);
+			softly.assertAll();
+		}
+		
+		@Test @DisplayName("throws when asked for a removed row by id")
+		void throws_when_asked_for_a_removed_row_by_id() {
+			int id = people.rows().get(1).id();
+			people.rows().remove(1);
+			
+			assertThatExceptionOfType(RowIdNotFoundException.class)
+				.isThrownBy(() -> people.rows().getById(id));
+		}
+		
+		@Test @DisplayName("can return a row by id once sorted")
+		void can_return_a_row_by_id_once_sorted() {
+			int id = people.rows().get(0).id();
+			people.rows().remove(2);
+			people.sortBy(id(NAME_HEADER, String.class));
+			
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(people.rows().getById(id)).containsExactly("Luc", 23, "Male");
+			softly.assertThat(people.rows().get(1).id()).isEqualTo(id);
+			softly.assertAll();
+		}
+		
 		// clear()
 		
 		@Test @DisplayName("removes all its rows when cleared")
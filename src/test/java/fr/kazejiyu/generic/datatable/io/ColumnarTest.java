@@ -0,0 +1,267 @@
+package fr.kazejiyu.generic.datatable.io;
+
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.n;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import fr.kazejiyu.generic.datatable.core.Row;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+import fr.kazejiyu.generic.datatable.query.Query;
+
+/**
+ * Tests the behavior of {@link ColumnarWriter} and {@link ColumnarReader} instances.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@DisplayName("A columnar file")
+class ColumnarTest {
+
+	private static final ColumnId<String> NAME = id("name", String.class);
+	private static final ColumnId<Integer> AGE = id("age", Integer.class);
+	private static final ColumnId<Double> SALARY = id("salary", Double.class);
+	private static final ColumnId<Boolean> MARRIED = id("married", Boolean.class);
+	private static final ColumnId<Long> PHONE = id("phone", Long.class);
+	private static final ColumnId<Character> INITIAL = id("initial", Character.class);
+
+	private Table people;
+
+	private Path file;
+
+	@BeforeEach
+	void initializePeopleTable() throws IOException {
+		people = new DataTable();
+		people.columns()
+				.create(NAME, "Luc", "Baptiste", "Luc", "", null, "Zoë", "Luc")
+				.create(AGE, 23, Integer.MIN_VALUE, 7, 19, null, 40, 23)
+				.create(SALARY, 1500.0, -0.0, 0.1, Double.NaN, 3e200, null, 1500.0)
+				.create(MARRIED, true, false, null, true, false, true, true)
+				.create(PHONE, 612345678L, Long.MAX_VALUE, null, -1L, 0L, 42L, 612345678L)
+				.create(INITIAL, 'L', 'B', 'L', null, 'é', 'Z', 'L');
+
+		file = Files.createTempFile("datatable", ".dtbl");
+	}
+
+	@AfterEach
+	void deleteFile() throws IOException {
+		Files.delete(file);
+	}
+
+	private static void assertSameContent(Table actual, Table expected) {
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(actual.columns().headers()).containsExactlyElementsOf(expected.columns().headers());
+		softly.assertThat(actual.columns().get(NAME)).containsExactlyElementsOf(expected.columns().get(NAME));
+		softly.assertThat(actual.columns().get(AGE)).containsExactlyElementsOf(expected.columns().get(AGE));
+		softly.assertThat(actual.columns().get(SALARY)).containsExactlyElementsOf(expected.columns().get(SALARY));
+		softly.assertThat(actual.columns().get(MARRIED)).containsExactlyElementsOf(expected.columns().get(MARRIED));
+		softly.assertThat(actual.columns().get(PHONE)).containsExactlyElementsOf(expected.columns().get(PHONE));
+		softly.assertThat(actual.columns().get(INITIAL)).containsExactlyElementsOf(expected.columns().get(INITIAL));
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("can be read back into a table")
+	void can_be_read_back_into_a_table() throws IOException {
+		TableWriter.columnar().blockRows(3).write(people, file);
+
+		DataTable read = TableReader.columnar(file).read();
+
+		assertSameContent(read, people);
+		assertThat(read.rows()).isEqualTo(people.rows());
+	}
+
+	@Test @DisplayName("restores the content, schema and row ids of a snapshot")
+	void restores_the_row_ids_of_a_snapshot() throws IOException {
+		people.rows().remove(1);
+		people.rows().create("Marc", null, null, true, null, 'M');
+		TableWriter.snapshot().write(people, file);
+
+		DataTable loaded = TableReader.snapshot(file).read();
+		loaded.rows().create("Julie", 28, 2100.0, false, null, 'J');
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(loaded.rows().stream().limit(7)).containsExactlyElementsOf(people.rows());
+		softly.assertThat(loaded.rows().stream().map(Row::id)).containsExactly(0, 2, 3, 4, 5, 6, 7, 8);
+		softly.assertThat(loaded.rows().getById(7)).containsExactly("Marc", null, null, true, null, 'M');
+		softly.assertAll();
+
+		assertSameContent(loaded.filter(row -> row.id() != 8), people);
+	}
+
+	@Test @DisplayName("can be mapped in memory and queried")
+	void can_be_mapped_and_queried() throws IOException {
+		TableWriter.columnar().blockRows(2).write(people, file);
+
+		try( MappedTable mapped = TableReader.columnar(file).map() ) {
+			Table adults = Query.from(mapped).where(n(AGE)).ge(18).select(NAME, AGE);
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(mapped.rows().size()).isEqualTo(7);
+			softly.assertThat(mapped.columns().get(SALARY).type()).isEqualTo(Double.class);
+			softly.assertThat(mapped.rows().get(4)).containsExactly(null, null, 3e200, false, 0L, 'é');
+			softly.assertThat(adults.columns().get(NAME)).containsExactly("Luc", "", "Zoë", "Luc");
+			softly.assertAll();
+
+			assertSameContent(mapped, people);
+		}
+	}
+
+	@Test @DisplayName("only loads the blocks of the columns that are accessed")
+	void only_loads_the_blocks_that_are_accessed() throws IOException {
+		TableWriter.columnar().blockRows(2).write(people, file);
+
+		try( MappedTable mapped = TableReader.columnar(file).cacheBudget(1 << 20).map() ) {
+			long opened = mapped.loadedBytes();
+			mapped.columns().get(AGE).get(0);
+			mapped.columns().get(AGE).get(5);
+			long touched = mapped.loadedBytes();
+
+			mapped.columns().forEach(column -> column.forEach(element -> {}));
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(opened).isZero();
+			softly.assertThat(touched).isPositive();
+			softly.assertThat(mapped.loadedBytes()).isGreaterThan(touched);
+			softly.assertAll();
+		}
+	}
+
+	@Test @DisplayName("evicts the cold blocks beyond the budget of its cache")
+	void evicts_the_cold_blocks_beyond_its_budget() throws IOException {
+		Table numbers = new DataTable();
+		numbers.columns().create(AGE);
+
+		for( int i = 0 ; i < 10_000 ; ++i )
+			numbers.rows().create(i * 7 % 1000);
+
+		TableWriter.columnar().blockRows(100).write(numbers, file);
+
+		try( MappedTable mapped = TableReader.columnar(file).cacheBudget(10_000).map() ) {
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(mapped.columns().get(AGE)).containsExactlyElementsOf(numbers.columns().get(AGE));
+			softly.assertThat(mapped.loadedBytes()).isBetween(1L, 10_000L);
+			softly.assertThat(mapped.columns().get(AGE).get(0)).isEqualTo(0);
+			softly.assertAll();
+		}
+	}
+
+	@Test @DisplayName("compresses sorted and repetitive columns")
+	void compresses_sorted_and_repetitive_columns() throws IOException {
+		int rows = 10_000;
+		Long[] ids = new Long[rows];
+		Integer[] ages = new Integer[rows];
+		String[] names = new String[rows];
+		Boolean[] married = new Boolean[rows];
+
+		for( int i = 0 ; i < rows ; ++i ) {
+			ids[i] = 1_500_000_000_000L + 3 * i;
+			ages[i] = i % 10 == 0 ? null : 20 + i % 7;
+			names[i] = "name" + i % 3;
+			married[i] = i % 3 == 0;
+		}
+		Table large = new DataTable();
+		large.columns()
+				.create(PHONE, ids)
+				.create(AGE, ages)
+				.create(NAME, names)
+				.create(MARRIED, married);
+
+		TableWriter.columnar().blockRows(4096).write(large, file);
+
+		try( MappedTable mapped = TableReader.columnar(file).map() ) {
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(Files.size(file)).isLessThan(rows * (8 + 4 + 4 + 1) / 5);
+			softly.assertThat(mapped.columns().get(PHONE)).containsExactly(ids);
+			softly.assertThat(mapped.columns().get(AGE)).containsExactly(ages);
+			softly.assertThat(mapped.columns().get(NAME)).containsExactly(names);
+			softly.assertThat(mapped.columns().get(MARRIED)).containsExactly(married);
+			softly.assertAll();
+		}
+	}
+
+	@Test @DisplayName("restores the extreme values of integral columns")
+	void restores_the_extreme_values_of_integral_columns() throws IOException {
+		Table extremes = new DataTable();
+		extremes.columns()
+				.create(PHONE, Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, null, 0L, Long.MAX_VALUE)
+				.create(id("level", Byte.class), Byte.MIN_VALUE, Byte.MAX_VALUE, (byte) 0, null, (byte) -1, Byte.MAX_VALUE)
+				.create(id("rank", Short.class), Short.MAX_VALUE, Short.MIN_VALUE, (short) 1, null, (short) 1, (short) 1);
+
+		TableWriter.columnar().write(extremes, file);
+
+		assertThat(TableReader.columnar(file).read().rows()).isEqualTo(extremes.rows());
+	}
+
+	@Test @DisplayName("can hold a table without rows")
+	void can_hold_a_table_without_rows() throws IOException {
+		people.clear();
+		TableWriter.columnar().write(people, file);
+
+		DataTable read = TableReader.columnar(file).read();
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(read.columns().headers()).containsExactlyElementsOf(people.columns().headers());
+		softly.assertThat(read.rows()).isEmpty();
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("reports the throughput of the writer")
+	void reports_the_throughput_of_the_writer() throws IOException {
+		AtomicReference<Throughput> throughput = new AtomicReference<>();
+		TableWriter.columnar().reportTo(throughput::set).write(people, file);
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(throughput.get().rows()).isEqualTo(7);
+		softly.assertThat(throughput.get().bytes()).isEqualTo(Files.size(file));
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("cannot be read once the mapped table is closed")
+	void cannot_be_read_once_closed() throws IOException {
+		TableWriter.columnar().write(people, file);
+
+		MappedTable mapped = TableReader.columnar(file).map();
+		mapped.close();
+
+		assertThatExceptionOfType(IllegalStateException.class)
+			.isThrownBy(() -> mapped.columns().get(NAME).get(0));
+	}
+
+	@Test @DisplayName("cannot hold columns of unsupported types")
+	void cannot_hold_columns_of_unsupported_types() {
+		Table bonuses = new DataTable();
+		bonuses.columns().create(id("bonus", BigDecimal.class), BigDecimal.ONE);
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> TableWriter.columnar().write(bonuses, file));
+	}
+
+	@Test @DisplayName("throws when reading a file of another format")
+	void throws_when_reading_a_file_of_another_format() throws IOException {
+		Files.write(file, "name,age\nLuc,23\n".getBytes(UTF_8));
+
+		assertThatExceptionOfType(MalformedRecordException.class)
+			.isThrownBy(() -> TableReader.columnar(file).map());
+	}
+
+	@Test @DisplayName("throws when the block size is not positive")
+	void throws_when_the_block_size_is_not_positive() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> TableWriter.columnar().blockRows(0));
+	}
+}
@@ -0,0 +1,198 @@
+package fr.kazejiyu.generic.datatable.io;
+
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.exceptions.HeaderNotFoundException;
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+
+/**
+ * Tests the behavior of {@link CsvReader} instances.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@DisplayName("A CsvReader")
+class CsvReaderTest {
+
+	private static final ColumnId<String> NAME = id("name", String.class);
+	private static final ColumnId<Integer> AGE = id("age", Integer.class);
+	private static final ColumnId<Double> SALARY = id("salary", Double.class);
+	private static final ColumnId<Boolean> MARRIED = id("married", Boolean.class);
+
+	private Path file;
+
+	@BeforeEach
+	void createFile() throws IOException {
+		file = Files.createTempFile("datatable", ".csv");
+	}
+
+	@AfterEach
+	void deleteFile() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	private void write(String content) throws IOException {
+		Files.write(file, content.getBytes(UTF_8));
+	}
+
+	@Test @DisplayName("parses each field according to the type of its column")
+	void parses_each_field_according_to_its_type() throws IOException {
+		write("Luc,23,1500.5,true\nBaptiste,-32,2e3,FALSE\n");
+
+		Table people = TableReader.csv(file, NAME, AGE, SALARY, MARRIED).read();
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(people.columns().headers()).containsExactly("name", "age", "salary", "married");
+		softly.assertThat(people.columns().get(NAME)).containsExactly("Luc", "Baptiste");
+		softly.assertThat(people.columns().get(AGE)).containsExactly(23, -32);
+		softly.assertThat(people.columns().get(SALARY)).containsExactly(1500.5, 2000.0);
+		softly.assertThat(people.columns().get(MARRIED)).containsExactly(true, false);
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("parses decimal numbers exactly")
+	void parses_decimal_numbers_exactly() throws IOException {
+		String[] numbers = {"0.1", "-0.0", "3.14159", "1e-5", "-3.25E+2", "123456789012345678", "0.30000000000000004",
+							"1.7976931348623157E308", "4.9e-324", "2.2250738585072014E-308", " 42 ", "NaN", "-Infinity"};
+		write(String.join("\n", numbers));
+
+		Table table = TableReader.csv(file, SALARY).read();
+
+		List<Double> expected = new ArrayList<>();
+
+		for( String number : numbers )
+			expected.add(Double.parseDouble(number));
+
+		assertThat(table.columns().get(SALARY)).containsExactlyElementsOf(expected);
+	}
+
+	@Test @DisplayName("reads empty unquoted fields as null and empty quoted fields as empty strings")
+	void reads_empty_fields() throws IOException {
+		write("\"\",\n,12\n");
+
+		Table people = TableReader.csv(file, NAME, AGE).read();
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(people.columns().get(NAME)).containsExactly("", null);
+		softly.assertThat(people.columns().get(AGE)).containsExactly(null, 12);
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("reads quoted fields containing delimiters, quotes and line breaks")
+	void reads_quoted_fields() throws IOException {
+		write("\"Doe, John\",1\r\n\"Say \"\"hi\"\"\",2\r\n\"two\nlines\",3");
+
+		Table people = TableReader.csv(file, NAME, AGE).read();
+
+		assertThat(people.columns().get(NAME)).containsExactly("Doe, John", "Say \"hi\"", "two\nlines");
+	}
+
+	@Test @DisplayName("matches the columns of the file by header")
+	void matches_the_columns_by_header() throws IOException {
+		write("Salary\tcity\tNAME\n1500\tParis\tLuc\n2000\tLyon\tBaptiste\n");
+
+		Table people = TableReader.csv(file, NAME, SALARY).delimiter('\t').withHeader().read();
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(people.columns().headers()).containsExactly("name", "salary");
+		softly.assertThat(people.columns().get(NAME)).containsExactly("Luc", "Baptiste");
+		softly.assertThat(people.columns().get(SALARY)).containsExactly(1500.0, 2000.0);
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("produces the same table whatever the number of threads")
+	void produces_the_same_table_whatever_the_number_of_threads() throws IOException {
+		try( Writer writer = Files.newBufferedWriter(file, UTF_8) ) {
+			writer.write("name,age,salary\n");
+
+			for( int i = 0 ; i < 100_000 ; ++i )
+				writer.write("person " + i + "," + (i % 100) + "," + (i / 8.0) + "\n");
+		}
+		AtomicReference<Throughput> throughput = new AtomicReference<>();
+
+		Table sequential = TableReader.csv(file, NAME, AGE, SALARY).withHeader().read();
+		Table parallel = TableReader.csv(file, NAME, AGE, SALARY).withHeader().threads(4).reportTo(throughput::set).read();
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(parallel.rows().size()).isEqualTo(100_000);
+		softly.assertThat(parallel).isEqualTo(sequential);
+		softly.assertThat(parallel.rows().get(54_321)).containsExactly("person 54321", 21, 54_321 / 8.0);
+		softly.assertThat(throughput.get().rows()).isEqualTo(100_000);
+		softly.assertThat(throughput.get().bytes()).isEqualTo(Files.size(file));
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("splits the file between records when quoted fields contain line breaks")
+	void splits_the_file_between_records_when_quoted_fields_contain_line_breaks() throws IOException {
+		try( Writer writer = Files.newBufferedWriter(file, UTF_8) ) {
+			writer.write("name,age,salary\n");
+
+			for( int i = 0 ; i < 20_000 ; ++i )
+				writer.write("\"person " + i + "\nfake,0,0.0\nfake,0,0.0\nfake,0,0.0\nfake,0,0.0\"," + (i % 100) + "," + (i / 8.0) + "\n");
+		}
+		Table sequential = TableReader.csv(file, NAME, AGE, SALARY).withHeader().read();
+		Table parallel = TableReader.csv(file, NAME, AGE, SALARY).withHeader().threads(4).read();
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(parallel.rows().size()).isEqualTo(20_000);
+		softly.assertThat(parallel).isEqualTo(sequential);
+		softly.assertThat(parallel.rows().get(12_345)).containsExactly("person 12345\nfake,0,0.0\nfake,0,0.0\nfake,0,0.0\nfake,0,0.0", 45, 12_345 / 8.0);
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("throws when a column of the schema is not in the header")
+	void throws_when_a_column_is_not_in_the_header() throws IOException {
+		write("name,city\nLuc,Paris\n");
+
+		assertThatExceptionOfType(HeaderNotFoundException.class)
+			.isThrownBy(() -> TableReader.csv(file, NAME, AGE).withHeader().read());
+	}
+
+	@Test @DisplayName("throws when a record does not have the expected number of fields")
+	void throws_when_a_record_has_a_wrong_size() throws IOException {
+		write("Luc,23\nBaptiste\n");
+
+		assertThatExceptionOfType(MalformedRecordException.class)
+			.isThrownBy(() -> TableReader.csv(file, NAME, AGE).read())
+			.withMessageContaining("byte 7");
+	}
+
+	@Test @DisplayName("throws when a field cannot be parsed")
+	void throws_when_a_field_cannot_be_parsed() throws IOException {
+		write("Luc,23\nBaptiste,3000000000\n");
+
+		assertThatExceptionOfType(MalformedRecordException.class)
+			.isThrownBy(() -> TableReader.csv(file, NAME, AGE).read())
+			.withMessageContaining("age");
+	}
+
+	@Test @DisplayName("throws when a column has a type that cannot be read")
+	void throws_when_a_type_cannot_be_read() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> TableReader.csv(file, NAME, id("birth", java.util.Date.class)));
+	}
+
+	@Test @DisplayName("throws when given less than one thread")
+	void throws_when_given_less_than_one_thread() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> TableReader.csv(file, NAME).threads(0));
+	}
+}
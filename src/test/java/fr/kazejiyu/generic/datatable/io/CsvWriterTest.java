@@ -0,0 +1,105 @@
+package fr.kazejiyu.generic.datatable.io;
+
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.n;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.query.Query;
+
+/**
+ * Tests the behavior of {@link CsvWriter} instances.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@DisplayName("A CsvWriter")
+class CsvWriterTest {
+
+	private static final ColumnId<String> NAME = id("name", String.class);
+	private static final ColumnId<Integer> AGE = id("age", Integer.class);
+	private static final ColumnId<Double> SALARY = id("salary", Double.class);
+	private static final ColumnId<Boolean> MARRIED = id("married", Boolean.class);
+
+	private Table people;
+
+	@BeforeEach
+	void initializePeopleTable() {
+		people = new DataTable();
+		people.columns()
+				.create(NAME, "Luc", "Doe, John", "Say \"hi\"", "", null, "Zoë")
+				.create(AGE, 23, Integer.MIN_VALUE, 7, 19, null, 40)
+				.create(SALARY, 1500.0, -0.0, 0.1, 1e21, Double.NaN, null)
+				.create(MARRIED, true, false, null, true, false, true);
+	}
+
+	private static String write(CsvWriter writer, Table table) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		writer.write(table, Channels.newChannel(bytes));
+		return new String(bytes.toByteArray(), UTF_8);
+	}
+
+	@Test @DisplayName("writes the headers then one line per row")
+	void writes_the_headers_then_one_line_per_row() throws IOException {
+		assertThat(write(TableWriter.csv(), people)).isEqualTo(
+				"name,age,salary,married\n"
+			  + "Luc,23,1500.0,true\n"
+			  + "\"Doe, John\",-2147483648,-0.0,false\n"
+			  + "\"Say \"\"hi\"\"\",7,0.1,\n"
+			  + "\"\",19,1.0E21,true\n"
+			  + ",,NaN,false\n"
+			  + "Zoë,40,,true\n");
+	}
+
+	@Test @DisplayName("writes tab-separated values")
+	void writes_tab_separated_values() throws IOException {
+		Table names = Query.from(people).where(n(AGE)).ge(20).select(NAME, AGE);
+
+		assertThat(write(TableWriter.tsv().withoutHeader(), names)).isEqualTo("Luc\t23\nZoë\t40\n");
+	}
+
+	@Test @DisplayName("writes tables that can be read back")
+	void writes_tables_that_can_be_read_back() throws IOException {
+		Path file = Files.createTempFile("datatable", ".csv");
+
+		try {
+			AtomicReference<Throughput> throughput = new AtomicReference<>();
+			TableWriter.csv().delimiter(';').bufferSize(64).reportTo(throughput::set).write(people, file);
+
+			Table read = TableReader.csv(file, MARRIED, SALARY, AGE, NAME).delimiter(';').withHeader().read();
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(read.columns().get(NAME)).containsExactlyElementsOf(people.columns().get(NAME));
+			softly.assertThat(read.columns().get(AGE)).containsExactlyElementsOf(people.columns().get(AGE));
+			softly.assertThat(read.columns().get(SALARY)).containsExactlyElementsOf(people.columns().get(SALARY));
+			softly.assertThat(read.columns().get(MARRIED)).containsExactlyElementsOf(people.columns().get(MARRIED));
+			softly.assertThat(throughput.get().rows()).isEqualTo(6);
+			softly.assertThat(throughput.get().bytes()).isEqualTo(Files.size(file));
+			softly.assertAll();
+		}
+		finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test @DisplayName("throws when given a forbidden delimiter")
+	void throws_when_given_a_forbidden_delimiter() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> TableWriter.csv().delimiter('"'));
+	}
+}
@@ -0,0 +1,157 @@
+package fr.kazejiyu.generic.datatable.io;
+
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.exceptions.MalformedRecordException;
+import fr.kazejiyu.generic.datatable.exceptions.UndistinctHeadersException;
+
+/**
+ * Tests the behavior of {@link JsonLinesReader} instances.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@DisplayName("A JsonLinesReader")
+class JsonLinesReaderTest {
+
+	private static final ColumnId<String> NAME = id("name", String.class);
+	private static final ColumnId<Integer> AGE = id("age", Integer.class);
+	private static final ColumnId<Double> SALARY = id("salary", Double.class);
+	private static final ColumnId<Boolean> MARRIED = id("married", Boolean.class);
+
+	private Path file;
+
+	@BeforeEach
+	void createFile() throws IOException {
+		file = Files.createTempFile("datatable", ".jsonl");
+	}
+
+	@AfterEach
+	void deleteFile() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	private void write(String content) throws IOException {
+		Files.write(file, content.getBytes(UTF_8));
+	}
+
+	@Test @DisplayName("parses each value according to the type of its column")
+	void parses_each_value_according_to_its_type() throws IOException {
+		write("{\"name\": \"Luc\", \"age\": 23, \"salary\": 1500.5, \"married\": true}\n"
+			+ "{ \"married\" : false , \"salary\" : 2e3 , \"age\" : -32 , \"name\" : \"Baptiste\" }\n");
+
+		Table people = TableReader.jsonLines(file, NAME, AGE, SALARY, MARRIED).read();
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(people.columns().headers()).containsExactly("name", "age", "salary", "married");
+		softly.assertThat(people.columns().get(NAME)).containsExactly("Luc", "Baptiste");
+		softly.assertThat(people.columns().get(AGE)).containsExactly(23, -32);
+		softly.assertThat(people.columns().get(SALARY)).containsExactly(1500.5, 2000.0);
+		softly.assertThat(people.columns().get(MARRIED)).containsExactly(true, false);
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("reads missing members and null values as null, and ignores unknown keys")
+	void reads_missing_members_as_null() throws IOException {
+		write("{\"NAME\":\"Luc\",\"city\":\"Paris\",\"tags\":[1,{\"a\":\"]\"}]}\r\n"
+			+ "\n"
+			+ "{}\n"
+			+ "{\"name\":null,\"Age\":7}");
+
+		Table people = TableReader.jsonLines(file, NAME, AGE).read();
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(people.columns().get(NAME)).containsExactly("Luc", null, null);
+		softly.assertThat(people.columns().get(AGE)).containsExactly(null, null, 7);
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("unescapes strings and keeps nested values as raw JSON")
+	void unescapes_strings() throws IOException {
+		write("{\"name\":\"Say \\\"hi\\\"\\n\\t\\\\o/ \\u00e9\\ud83d\\ude00\"}\n"
+			+ "{\"name\":\"Zoë\"}\n"
+			+ "{\"name\":{\"first\": \"Luc\", \"nick\": \"\\\"L\\\"\"}}\n"
+			+ "{\"name\":42}\n");
+
+		Table people = TableReader.jsonLines(file, NAME).read();
+
+		assertThat(people.columns().get(NAME)).containsExactly(
+				"Say \"hi\"\n\t\\o/ é\uD83D\uDE00", "Zoë", "{\"first\": \"Luc\", \"nick\": \"\\\"L\\\"\"}", "42");
+	}
+
+	@Test @DisplayName("infers the schema from the first records")
+	void infers_the_schema() throws IOException {
+		write("{\"name\":\"Luc\",\"age\":23,\"salary\":1500,\"married\":true,\"nickname\":null}\n"
+			+ "{\"name\":\"Anya\",\"age\":7,\"salary\":1200.5,\"married\":false,\"extra\":1}\n"
+			+ "{\"name\":\"Marc\",\"AGE\":40,\"salary\":null,\"married\":null,\"late\":1.5}\n");
+
+		JsonLinesReader reader = TableReader.jsonLines(file).sampleSize(2);
+		Table people = reader.read();
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(reader.schema()).containsExactly(
+				id("name", String.class), id("age", Long.class), id("salary", Double.class),
+				id("married", Boolean.class), id("nickname", String.class), id("extra", Long.class));
+		softly.assertThat(people.rows().get(2)).containsExactly("Marc", 40L, null, null, null, null);
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("throws when a record is not a JSON object")
+	void throws_when_a_record_is_malformed() throws IOException {
+		write("{\"name\":\"Luc\"}\n{\"name\":\"Anya\" \"age\":7}\n");
+
+		assertThatExceptionOfType(MalformedRecordException.class)
+			.isThrownBy(() -> TableReader.jsonLines(file, NAME, AGE).read())
+			.withMessageContaining("byte 15");
+	}
+
+	@Test @DisplayName("throws when a value does not match the type of its column")
+	void throws_when_a_value_does_not_match_its_column() throws IOException {
+		write("{\"age\":\"twelve\"}\n");
+
+		assertThatExceptionOfType(MalformedRecordException.class)
+			.isThrownBy(() -> TableReader.jsonLines(file, AGE).read())
+			.withMessageContaining("age");
+	}
+
+	@Test @DisplayName("throws when two columns have the same header")
+	void throws_when_two_columns_have_the_same_header() {
+		assertThatExceptionOfType(UndistinctHeadersException.class)
+			.isThrownBy(() -> TableReader.jsonLines(file, NAME, id("Name", Integer.class)));
+	}
+
+	@Test @DisplayName("reads records spanning several buffers and reports its throughput")
+	void reads_large_files() throws IOException {
+		StringBuilder content = new StringBuilder();
+
+		for( int i = 0 ; i < 50_000 ; ++i )
+			content.append("{\"name\":\"person ").append(i).append("\",\"age\":").append(i % 100).append("}\n");
+
+		write(content.toString());
+		AtomicReference<Throughput> throughput = new AtomicReference<>();
+
+		Table people = TableReader.jsonLines(file, NAME, AGE).reportTo(throughput::set).read();
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(people.rows()).size().isEqualTo(50_000);
+		softly.assertThat(people.rows().get(49_999)).containsExactly("person 49999", 99);
+		softly.assertThat(throughput.get().rows()).isEqualTo(50_000);
+		softly.assertThat(throughput.get().bytes()).isEqualTo(content.length());
+		softly.assertAll();
+	}
+}
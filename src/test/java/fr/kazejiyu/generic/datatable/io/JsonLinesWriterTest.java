@@ -0,0 +1,89 @@
+package fr.kazejiyu.generic.datatable.io;
+
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+
+/**
+ * Tests the behavior of {@link JsonLinesWriter} instances.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@DisplayName("A JsonLinesWriter")
+class JsonLinesWriterTest {
+
+	private static final ColumnId<String> NAME = id("name", String.class);
+	private static final ColumnId<Integer> AGE = id("age", Integer.class);
+	private static final ColumnId<Double> SALARY = id("salary", Double.class);
+	private static final ColumnId<Boolean> MARRIED = id("married", Boolean.class);
+
+	private Table people;
+
+	@BeforeEach
+	void initializePeopleTable() {
+		people = new DataTable();
+		people.columns()
+				.create(NAME, "Luc", "Say \"hi\"\n", "back\\slash\u0001", null, "Zoë")
+				.create(AGE, 23, Integer.MIN_VALUE, 7, null, 40)
+				.create(SALARY, 1500.0, -0.0, 0.1, Double.NaN, null)
+				.create(MARRIED, true, false, null, true, false);
+	}
+
+	private static String write(JsonLinesWriter writer, Table table) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		writer.write(table, Channels.newChannel(bytes));
+		return new String(bytes.toByteArray(), UTF_8);
+	}
+
+	@Test @DisplayName("writes one JSON object per row")
+	void writes_one_object_per_row() throws IOException {
+		assertThat(write(TableWriter.jsonLines(), people)).isEqualTo(
+				"{\"name\":\"Luc\",\"age\":23,\"salary\":1500.0,\"married\":true}\n"
+			  + "{\"name\":\"Say \\\"hi\\\"\\n\",\"age\":-2147483648,\"salary\":-0.0,\"married\":false}\n"
+			  + "{\"name\":\"back\\\\slash\\u0001\",\"age\":7,\"salary\":0.1,\"married\":null}\n"
+			  + "{\"name\":null,\"age\":null,\"salary\":\"NaN\",\"married\":true}\n"
+			  + "{\"name\":\"Zoë\",\"age\":40,\"salary\":null,\"married\":false}\n");
+	}
+
+	@Test @DisplayName("can omit null elements")
+	void can_omit_null_elements() throws IOException {
+		assertThat(write(TableWriter.jsonLines().skipNulls(), people)).contains(
+				"{\"name\":\"back\\\\slash\\u0001\",\"age\":7,\"salary\":0.1}\n"
+			  + "{\"salary\":\"NaN\",\"married\":true}\n");
+	}
+
+	@Test @DisplayName("writes tables that can be read back")
+	void writes_tables_that_can_be_read_back() throws IOException {
+		Path file = Files.createTempFile("datatable", ".jsonl");
+
+		try {
+			TableWriter.jsonLines().write(people, file);
+			Table read = TableReader.jsonLines(file, NAME, AGE, SALARY, MARRIED).read();
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(read.columns().get(NAME)).containsExactlyElementsOf(people.columns().get(NAME));
+			softly.assertThat(read.columns().get(AGE)).containsExactlyElementsOf(people.columns().get(AGE));
+			softly.assertThat(read.columns().get(SALARY)).containsExactlyElementsOf(people.columns().get(SALARY));
+			softly.assertThat(read.columns().get(MARRIED)).containsExactlyElementsOf(people.columns().get(MARRIED));
+			softly.assertAll();
+		}
+		finally {
+			Files.deleteIfExists(file);
+		}
+	}
+}
@@ -0,0 +1,181 @@
+package fr.kazejiyu.generic.datatable.io;
+
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.n;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import fr.kazejiyu.generic.datatable.core.Column;
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.query.Query;
+
+/**
+ * Tests the behavior of {@link OffHeapTable} instances.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@DisplayName("An off-heap table")
+class OffHeapTableTest {
+
+	private static final ColumnId<String> NAME = id("name", String.class);
+	private static final ColumnId<Integer> AGE = id("age", Integer.class);
+	private static final ColumnId<Double> SALARY = id("salary", Double.class);
+	private static final ColumnId<Boolean> MARRIED = id("married", Boolean.class);
+	private static final ColumnId<BigDecimal> DEBT = id("debt", BigDecimal.class);
+
+	private Table people;
+
+	private OffHeapTable offHeap;
+
+	@BeforeEach
+	void initializePeopleTable() {
+		people = new DataTable();
+		people.columns()
+				.create(NAME, "Luc", "Baptiste", "Luc", "", null, "Zoë")
+				.create(AGE, 23, Integer.MIN_VALUE, 7, 19, null, 40)
+				.create(SALARY, 1500.0, -0.0, Double.NaN, 3e200, null, 1500.0)
+				.create(MARRIED, true, false, null, true, false, true)
+				.create(DEBT, BigDecimal.ONE, null, new BigDecimal("12.5"), BigDecimal.ONE, BigDecimal.ZERO, null);
+
+		offHeap = OffHeapTable.copyOf(people);
+	}
+
+	@AfterEach
+	void closeTable() {
+		offHeap.close();
+	}
+
+	@Test @DisplayName("holds the content of the copied table")
+	void holds_the_content_of_the_copied_table() {
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(offHeap.columns().headers()).containsExactlyElementsOf(people.columns().headers());
+		softly.assertThat(offHeap.columns().get(NAME)).containsExactlyElementsOf(people.columns().get(NAME));
+		softly.assertThat(offHeap.columns().get(AGE)).containsExactlyElementsOf(people.columns().get(AGE));
+		softly.assertThat(offHeap.columns().get(SALARY)).containsExactlyElementsOf(people.columns().get(SALARY));
+		softly.assertThat(offHeap.columns().get(MARRIED)).containsExactlyElementsOf(people.columns().get(MARRIED));
+		softly.assertThat(offHeap.columns().get(DEBT)).containsExactlyElementsOf(people.columns().get(DEBT));
+		softly.assertThat(offHeap.rows().get(4)).containsExactly(null, null, null, false, BigDecimal.ZERO);
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("can be queried")
+	void can_be_queried() {
+		Table adults = Query.from(offHeap).where(n(AGE)).ge(18).select(NAME);
+
+		assertThat(adults.columns().get(NAME)).containsExactly("Luc", "", "Zoë");
+	}
+
+	@Test @DisplayName("keeps the codes of the strings unsigned")
+	void keeps_the_codes_of_the_strings_unsigned() {
+		List<String> names = new ArrayList<>();
+
+		for( int i = 0 ; i < 70_000 ; ++i )
+			names.add("name" + i);
+
+		Table table = new DataTable();
+		table.columns().create(NAME.header(), String.class, names);
+
+		try( OffHeapTable copy = OffHeapTable.copyOf(table) ) {
+			assertThat(copy.columns().get(NAME)).containsExactlyElementsOf(names);
+		}
+	}
+
+	@Test @DisplayName("accounts for the memory it stores outside of the heap")
+	void accounts_for_the_memory_it_stores() {
+		long total = OffHeapTable.totalOffHeapBytes();
+		long bytes = offHeap.offHeapBytes();
+
+		offHeap.close();
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(bytes).isGreaterThanOrEqualTo(6 * (1 + 4 + 8 + 1 + 1));
+		softly.assertThat(offHeap.offHeapBytes()).isZero();
+		softly.assertThat(OffHeapTable.totalOffHeapBytes()).isEqualTo(total - bytes);
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("throws when read once closed")
+	void throws_when_read_once_closed() {
+		offHeap.close();
+
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> offHeap.rows().get(0).get(AGE));
+	}
+
+	@Test @DisplayName("iterates over columns longer than a batch")
+	void iterates_over_columns_longer_than_a_batch() {
+		List<Integer> ages = new ArrayList<>();
+
+		for( int i = 0 ; i < 2_500 ; ++i )
+			ages.add(i % 3 == 0 ? null : i);
+
+		Table table = new DataTable();
+		table.columns().create(AGE.header(), Integer.class, ages);
+
+		try( OffHeapTable copy = OffHeapTable.copyOf(table) ) {
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(copy.columns().get(AGE)).containsExactlyElementsOf(ages);
+
+			Iterator<Integer> iterator = copy.columns().get(AGE).iterator();
+			iterator.next();
+			copy.close();
+
+			softly.assertThatThrownBy(() -> iterator.forEachRemaining(age -> {})).isInstanceOf(IllegalStateException.class);
+			softly.assertAll();
+		}
+	}
+
+	@Test @DisplayName("can be closed while other threads read it")
+	void can_be_closed_while_other_threads_read_it() throws Exception {
+		Long[] ids = new Long[3_000_000];
+
+		for( int i = 0 ; i < ids.length ; ++i )
+			ids[i] = (long) i;
+
+		Table table = new DataTable();
+		table.columns().create("id", Long.class, ids);
+		OffHeapTable copy = OffHeapTable.copyOf(table);
+		Column<?> column = copy.columns().get(0);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<Boolean>> readers = new ArrayList<>();
+
+		try {
+			for( int i = 0 ; i < 4 ; ++i )
+				readers.add(executor.submit(() -> {
+					try {
+						for( int row = 0 ; ; row = (row + 1) % ids.length )
+							if( ! column.get(row).equals((long) row) )
+								return false;
+					}
+					catch( IllegalStateException e ) {
+						return true;
+					}
+				}));
+
+			Thread.sleep(50);
+			copy.close();
+
+			for( Future<Boolean> reader : readers )
+				assertThat(reader.get()).isTrue();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+}
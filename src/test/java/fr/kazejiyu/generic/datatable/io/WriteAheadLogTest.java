@@ -0,0 +1,199 @@
+package fr.kazejiyu.generic.datatable.io;
+
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+
+/**
+ * Tests the behavior of {@link WriteAheadLog} instances.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@DisplayName("A WriteAheadLog")
+class WriteAheadLogTest {
+
+	private static final ColumnId<String> NAME = id("name", String.class);
+	private static final ColumnId<Integer> AGE = id("age", Integer.class);
+	private static final ColumnId<Double> SALARY = id("salary", Double.class);
+
+	private Path directory;
+
+	@BeforeEach
+	void createDirectory() throws IOException {
+		directory = Files.createTempDirectory("datatable");
+	}
+
+	@AfterEach
+	void deleteDirectory() throws IOException {
+		try( Stream<Path> files = Files.walk(directory) ) {
+			files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+		}
+	}
+
+	private static void populate(DataTable people) {
+		people.columns()
+				.create(NAME, "Luc", "Baptiste", "Anya", "Mathilde", "Zoë")
+				.create(AGE, 23, 32, 7, null, 40);
+
+		people.rows().create("Marc", 19);
+		people.rows().get(1).set(AGE, 33);
+		people.rows().remove(0);
+		people.rows().removeIf(row -> row.get(AGE) != null && row.get(AGE) < 10);
+		people.columns().create(SALARY, 1500.0, null, 1800.0, 1200.0);
+		people.sortBy(NAME);
+	}
+
+	@Test @DisplayName("recovers the modifications of the table when reopened")
+	void recovers_the_modifications_when_reopened() throws IOException {
+		DataTable expected = new DataTable();
+		populate(expected);
+
+		try( WriteAheadLog log = WriteAheadLog.open(directory) ) {
+			populate(log.table());
+		}
+		try( WriteAheadLog log = WriteAheadLog.open(directory) ) {
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(log.table().columns().headers()).containsExactly("name", "age", "salary");
+			softly.assertThat(log.table().rows()).isEqualTo(expected.rows());
+			softly.assertAll();
+		}
+	}
+
+	@Test @DisplayName("recovers the modifications synced before a crash")
+	void recovers_the_modifications_synced_before_a_crash() throws IOException {
+		WriteAheadLog crashed = WriteAheadLog.open(directory, Duration.ofHours(1));
+		populate(crashed.table());
+		crashed.sync();
+
+		DataTable expected = new DataTable();
+		populate(expected);
+
+		try( WriteAheadLog log = WriteAheadLog.open(directory) ) {
+			assertThat(log.table().rows()).isEqualTo(expected.rows());
+		}
+		finally {
+			crashed.close();
+		}
+	}
+
+	@Test @DisplayName("recovers the modifications synced while other threads sync the log")
+	void recovers_the_modifications_synced_concurrently() throws Exception {
+		WriteAheadLog crashed = WriteAheadLog.open(directory, Duration.ofHours(1));
+		crashed.table().columns().create(NAME).create(AGE);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		AtomicBoolean done = new AtomicBoolean();
+		List<Future<?>> syncs = new ArrayList<>();
+
+		try {
+			for( int i = 0 ; i < 4 ; ++i )
+				syncs.add(executor.submit(() -> {
+					while( ! done.get() )
+						crashed.sync();
+
+					return null;
+				}));
+
+			for( int i = 0 ; i < 1_000 ; ++i )
+				crashed.table().rows().create("person " + i, i);
+
+			crashed.sync();
+			done.set(true);
+
+			for( Future<?> sync : syncs )
+				sync.get();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		try( WriteAheadLog log = WriteAheadLog.open(directory) ) {
+			assertThat(log.table().rows()).isEqualTo(crashed.table().rows());
+		}
+		finally {
+			crashed.close();
+		}
+	}
+
+	@Test @DisplayName("replays the log on the latest snapshot")
+	void replays_the_log_on_the_latest_snapshot() throws IOException {
+		try( WriteAheadLog log = WriteAheadLog.open(directory, Duration.ZERO) ) {
+			populate(log.table());
+			log.checkpoint();
+			log.table().rows().create("Julie", 28, 2100.0);
+			log.table().columns().remove(1);
+			log.table().rows().last().set(SALARY, 2200.0);
+		}
+		try( WriteAheadLog log = WriteAheadLog.open(directory) ) {
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(log.table().columns().headers()).containsExactly("name", "salary");
+			softly.assertThat(log.table().columns().get(NAME)).containsExactly("Baptiste", "Marc", "Mathilde", "Zoë", "Julie");
+			softly.assertThat(log.table().columns().get(SALARY)).containsExactly(1500.0, 1200.0, null, 1800.0, 2200.0);
+			softly.assertAll();
+		}
+		try( Stream<Path> files = Files.list(directory) ) {
+			assertThat(files.map(file -> file.getFileName().toString())).containsExactlyInAnyOrder("snapshot-1.dtbl", "log-1.wal");
+		}
+	}
+
+	@Test @DisplayName("discards a record partially written")
+	void discards_a_record_partially_written() throws IOException {
+		try( WriteAheadLog log = WriteAheadLog.open(directory) ) {
+			log.table().columns().create(NAME, "Luc", "Anya");
+		}
+		Path file = directory.resolve("log-0.wal");
+		long size = Files.size(file);
+		Files.write(file, new byte[] { 0, 0, 0, 42, 1, 2 }, StandardOpenOption.APPEND);
+
+		try( WriteAheadLog log = WriteAheadLog.open(directory) ) {
+			log.table().rows().create("Marc");
+		}
+		try( WriteAheadLog log = WriteAheadLog.open(directory) ) {
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(log.table().columns().get(NAME)).containsExactly("Luc", "Anya", "Marc");
+			softly.assertThat(Files.size(file)).isGreaterThan(size);
+			softly.assertAll();
+		}
+	}
+
+	@Test @DisplayName("throws when a column cannot be logged")
+	void throws_when_a_column_cannot_be_logged() throws IOException {
+		try( WriteAheadLog log = WriteAheadLog.open(directory) ) {
+			assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> log.table().columns().create(id("bonus", BigDecimal.class)));
+		}
+	}
+
+	@Test @DisplayName("stops logging once closed")
+	void stops_logging_once_closed() throws IOException {
+		WriteAheadLog log = WriteAheadLog.open(directory);
+		log.close();
+		log.table().columns().create(NAME, "Luc");
+
+		try( WriteAheadLog reopened = WriteAheadLog.open(directory) ) {
+			assertThat(reopened.table().columns()).isEmpty();
+		}
+	}
+}
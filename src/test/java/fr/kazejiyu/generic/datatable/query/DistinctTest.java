@@ -0,0 +1,112 @@
+package fr.kazejiyu.generic.datatable.query;
+
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
+import static fr.kazejiyu.generic.datatable.query.aggregate.Aggregates.count;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+
+/**
+ * Tests the behavior of the {@link Select#distinct} clause.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@DisplayName("A Query's Distinct clause")
+class DistinctTest {
+
+	private static final ColumnId<String> NAME = id("name", String.class);
+	private static final ColumnId<Integer> AGE = id("age", Integer.class);
+	private static final ColumnId<String> CITY = id("city", String.class);
+
+	@Nested
+	@DisplayName("on an empty table")
+	class Empty {
+		private Table empty;
+
+		@BeforeEach
+		void initializeEmptyTable() {
+			empty = new DataTable();
+			empty.columns()
+				.create(NAME)
+				.create(CITY);
+		}
+
+		@Test @DisplayName("returns an empty table")
+		void returns_an_empty_table() {
+			Table result = Query.from(empty).distinct().select(CITY);
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.rows()).isEmpty();
+			softly.assertThat(result.columns().headers()).containsExactly("city");
+			softly.assertAll();
+		}
+	}
+
+	@Nested
+	@DisplayName("on a not empty table")
+	class NonEmpty {
+		private Table people;
+
+		@BeforeEach
+		void initializePeopleTable() {
+			people = new DataTable();
+			people.columns()
+					.create(NAME, "Luc", "Baptiste", "Anya", "Luc", "Julie", "Marc")
+					.create(AGE, 23, 32, 7, 23, null, null)
+					.create(CITY, "Paris", "Lyon", "Paris", "Paris", null, null);
+		}
+
+		@Test @DisplayName("keeps the first row of each distinct combination of the selected columns")
+		void keeps_the_first_distinct_rows() {
+			Table result = Query.from(people).distinct().select(CITY);
+
+			assertThat(result.columns().get(CITY)).containsExactly("Paris", "Lyon", null);
+		}
+
+		@Test @DisplayName("compares every selected column")
+		void compares_every_selected_column() {
+			Table result = Query.from(people).distinct().select(NAME, AGE);
+
+			assertThat(result.columns().get(NAME)).containsExactly("Luc", "Baptiste", "Anya", "Julie", "Marc");
+		}
+
+		@Test @DisplayName("only keeps the rows matching the query")
+		void only_keeps_the_matching_rows() {
+			Table result = Query.from(people).where(AGE).isNonNull().distinct().view(CITY, AGE);
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().get(CITY)).containsExactly("Paris", "Lyon", "Paris");
+			softly.assertThat(result.columns().get(AGE)).containsExactly(23, 32, 7);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("removes the duplicates before applying the limit")
+		void removes_the_duplicates_before_the_limit() {
+			Table result = Query.from(people).distinct().offset(1).limit(2).select(CITY);
+
+			assertThat(result.columns().get(CITY)).containsExactly("Lyon", null);
+		}
+
+		@Test @DisplayName("can be sorted")
+		void can_be_sorted() {
+			Table result = Query.from(people).distinct().topK(2, CITY.desc()).select(CITY);
+
+			assertThat(result.columns().get(CITY)).containsExactly("Paris", "Lyon");
+		}
+
+		@Test @DisplayName("removes duplicate rows before grouping them")
+		void removes_duplicate_rows_before_grouping() {
+			Table result = Query.from(people).distinct().groupBy(CITY).aggregate(count());
+
+			assertThat(result.columns().get(id("count", Long.class))).containsExactly(2L, 1L, 2L);
+		}
+	}
+}
@@ -0,0 +1,192 @@
+package fr.kazejiyu.generic.datatable.query;
+
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
+import static fr.kazejiyu.generic.datatable.query.aggregate.Aggregates.max;
+import static fr.kazejiyu.generic.datatable.query.aggregate.Aggregates.sum;
+import static fr.kazejiyu.generic.datatable.query.expression.Expressions.col;
+import static fr.kazejiyu.generic.datatable.query.expression.Expressions.lit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException;
+import fr.kazejiyu.generic.datatable.query.expression.Expression;
+
+/**
+ * Tests the behavior of {@link Expression}s used in queries.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@DisplayName("A Query's Expression")
+class ExpressionTest {
+
+	private static final ColumnId<String> ITEM = id("item", String.class);
+	private static final ColumnId<Double> PRICE = id("price", Double.class);
+	private static final ColumnId<Integer> QTY = id("qty", Integer.class);
+	private static final ColumnId<String> CITY = id("city", String.class);
+	private static final ColumnId<Boolean> PAID = id("paid", Boolean.class);
+
+	@Nested
+	@DisplayName("on an empty table")
+	class Empty {
+		private Table empty;
+
+		@BeforeEach
+		void initializeEmptyTable() {
+			empty = new DataTable();
+			empty.columns()
+				.create(PRICE)
+				.create(QTY);
+		}
+
+		@Test @DisplayName("returns an empty table with one column per expression")
+		void returns_an_empty_table() {
+			Table result = Query.from(empty).select(col(PRICE).times(col(QTY)).as("total", Double.class));
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.rows()).isEmpty();
+			softly.assertThat(result.columns().headers()).containsExactly("total");
+			softly.assertThat(result.columns().get("total").type()).isEqualTo(Double.class);
+			softly.assertAll();
+		}
+	}
+
+	@Nested
+	@DisplayName("on a not empty table")
+	class NonEmpty {
+		private Table orders;
+
+		@BeforeEach
+		void initializeOrdersTable() {
+			orders = new DataTable();
+			orders.columns()
+					.create(ITEM, "pen", "book", "lamp", "desk", "mug")
+					.create(PRICE, 1.5, 12.0, 30.0, null, 4.0)
+					.create(QTY, 10, 2, 1, 1, 25)
+					.create(CITY, "Paris", "Lyon", "Paris", "Lyon", "Paris")
+					.create(PAID, true, false, null, true, false);
+		}
+
+		@Test @DisplayName("computes arithmetic over several columns")
+		void computes_arithmetic_over_several_columns() {
+			Table result = Query.from(orders).select(col(ITEM), col(PRICE).times(col(QTY)).as("total", Double.class));
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().headers()).containsExactly("item", "total");
+			softly.assertThat(result.columns().get(id("total", Double.class))).containsExactly(15.0, 24.0, 30.0, null, 100.0);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("computes integral arithmetic as longs")
+		void computes_integral_arithmetic_as_longs() {
+			Table result = Query.from(orders).select(col(QTY).plus(lit(1)).times(lit(2)));
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().headers()).containsExactly("(qty + 1) * 2");
+			softly.assertThat(result.columns().get(0).type()).isEqualTo(Long.class);
+			softly.assertThat(result.columns().get(id("(qty + 1) * 2", Long.class))).containsExactly(22L, 6L, 4L, 4L, 52L);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("always divides as doubles")
+		void always_divides_as_doubles() {
+			Table result = Query.from(orders).select(col(QTY).dividedBy(lit(4)).as("quarter"));
+
+			assertThat(result.columns().get(id("quarter", Double.class))).containsExactly(2.5, 0.5, 0.25, 0.25, 6.25);
+		}
+
+		@Test @DisplayName("filters rows with a condition involving several columns")
+		void filters_rows_with_a_condition() {
+			Table result = Query
+					.from(orders)
+					.where(col(PRICE).times(col(QTY)).ge(lit(24)))
+					.and(CITY).eq("Paris")
+					.select(ITEM);
+
+			assertThat(result.columns().get(ITEM)).containsExactly("lamp", "mug");
+		}
+
+		@Test @DisplayName("discards the rows for which a condition is unknown")
+		void discards_the_rows_for_which_a_condition_is_unknown() {
+			Table result = Query
+					.from(orders)
+					.where(col(PAID).or(col(PRICE).gt(lit(20))))
+					.select(ITEM);
+
+			assertThat(result.columns().get(ITEM)).containsExactly("pen", "lamp", "desk");
+		}
+
+		@Test @DisplayName("follows the three-valued logic")
+		void follows_the_three_valued_logic() {
+			Table result = Query
+					.from(orders)
+					.select(col(PAID).and(lit(false)).as("and"), col(PAID).or(lit(true)).as("or"), col(PAID).not().as("not"));
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.rows().get(2)).containsExactly(false, true, null);
+			softly.assertThat(result.rows().get(0)).containsExactly(false, true, false);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("compares numbers of different types by value")
+		void compares_numbers_by_value() {
+			Table result = Query.from(orders).where(col(QTY).eq(lit(1.0))).select(ITEM);
+
+			assertThat(result.columns().get(ITEM)).containsExactly("lamp", "desk");
+		}
+
+		@Test @DisplayName("can be aggregated")
+		void can_be_aggregated() {
+			Table result = Query
+					.from(orders)
+					.groupBy(CITY)
+					.aggregate(sum(col(PRICE).times(col(QTY))), max(col(PRICE).times(col(QTY)).as("total", Double.class)));
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().headers()).containsExactly("city", "sum(price * qty)", "max(total)");
+			softly.assertThat(result.rows().get(0)).containsExactly("Paris", 145.0, 100.0);
+			softly.assertThat(result.rows().get(1)).containsExactly("Lyon", 24.0, 24.0);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("can be viewed without being copied")
+		void can_be_viewed() {
+			Table view = Query.from(orders).where(CITY).eq("Lyon").view(col(ITEM), col(QTY).minus(lit(1)).as("extra"));
+			orders.columns().get(QTY).set(1, 5);
+
+			assertThat(view.columns().get(id("extra", Long.class))).containsExactly(4L, 0L);
+		}
+
+		@Test @DisplayName("throws when the operands do not compute numbers")
+		@SuppressWarnings("unchecked")
+		void throws_when_the_operands_are_not_numbers() {
+			Expression<Number> items = (Expression<Number>) (Expression<?>) col(ITEM);
+			assertThatExceptionOfType(ClassCastException.class).isThrownBy(() -> col(PRICE).plus(lit(1)).plus(items));
+		}
+
+		@Test @DisplayName("throws when the values cannot be ordered")
+		void throws_when_the_values_cannot_be_ordered() {
+			assertThatExceptionOfType(ClassCastException.class).isThrownBy(() -> col(ITEM).lt(lit(3)));
+		}
+
+		@Test @DisplayName("throws when converted to an incompatible type")
+		void throws_when_converted_to_an_incompatible_type() {
+			assertThatExceptionOfType(ClassCastException.class).isThrownBy(() -> col(ITEM).as("n", Integer.class));
+		}
+
+		@Test @DisplayName("throws when a column does not belong to the table")
+		void throws_when_a_column_is_unknown() {
+			assertThatExceptionOfType(ColumnIdNotFoundException.class).isThrownBy(() ->
+				Query.from(orders).select(col(id("unknown", Integer.class)))
+			);
+		}
+	}
+}
@@ -0,0 +1,218 @@
+package fr.kazejiyu.generic.datatable.query;
+
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
+import static fr.kazejiyu.generic.datatable.query.aggregate.Aggregates.approxCountDistinct;
+import static fr.kazejiyu.generic.datatable.query.aggregate.Aggregates.approxPercentile;
+import static fr.kazejiyu.generic.datatable.query.aggregate.Aggregates.avg;
+import static fr.kazejiyu.generic.datatable.query.aggregate.Aggregates.count;
+import static fr.kazejiyu.generic.datatable.query.aggregate.Aggregates.countDistinct;
+import static fr.kazejiyu.generic.datatable.query.aggregate.Aggregates.max;
+import static fr.kazejiyu.generic.datatable.query.aggregate.Aggregates.min;
+import static fr.kazejiyu.generic.datatable.query.aggregate.Aggregates.sum;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException;
+
+/**
+ * Tests the behavior of {@link GroupBy} instances.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@DisplayName("A Query's GroupBy clause")
+class GroupByTest {
+
+	private static final ColumnId<String> NAME = id("name", String.class);
+	private static final ColumnId<Integer> AGE = id("age", Integer.class);
+	private static final ColumnId<String> SEX = id("sex", String.class);
+	private static final ColumnId<String> CITY = id("city", String.class);
+	private static final ColumnId<Double> SALARY = id("salary", Double.class);
+
+	@Nested
+	@DisplayName("on an empty table")
+	class Empty {
+		private Table empty;
+
+		@BeforeEach
+		void initializeEmptyTable() {
+			empty = new DataTable();
+			empty.columns()
+				.create(SEX)
+				.create(AGE);
+		}
+
+		@Test @DisplayName("returns an empty table when grouping by a column")
+		void returns_an_empty_table_when_grouping_by_a_column() {
+			Table result = Query
+					.from(empty)
+					.groupBy(SEX)
+					.aggregate(count());
+
+			assertThat(result.rows()).isEmpty();
+		}
+
+		@Test @DisplayName("returns a single group when grouping by nothing")
+		void returns_a_single_group_when_grouping_by_nothing() {
+			Table result = Query
+					.from(empty)
+					.groupBy()
+					.aggregate(count(), sum(AGE));
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.rows()).size().isEqualTo(1);
+			softly.assertThat(result.rows().first()).containsExactly(0L, null);
+			softly.assertAll();
+		}
+	}
+
+	@Nested
+	@DisplayName("on a not empty table")
+	class NonEmpty {
+		private Table people;
+
+		@BeforeEach
+		void initializePeopleTable() {
+			people = new DataTable();
+			people.columns()
+					.create(NAME, "Luc", "Baptiste", "Anya", "Mathilde", "Julie", "Marc")
+					.create(AGE, 23, 32, 7, 21, null, 40)
+					.create(SEX, "Male", "Male", "Female", "Female", "Female", "Male")
+					.create(CITY, "Paris", "Lyon", "Paris", "Paris", "Lyon", "Paris")
+					.create(SALARY, 1500.0, 2000.5, null, 1800.0, 1200.0, 3000.0);
+		}
+
+		@Test @DisplayName("creates one row per group, in order of appearance")
+		void creates_one_row_per_group() {
+			Table result = Query
+					.from(people)
+					.groupBy(SEX)
+					.aggregate(count());
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().headers()).containsExactly("sex", "count");
+			softly.assertThat(result.columns().get(SEX)).containsExactly("Male", "Female");
+			softly.assertThat(result.columns().get(id("count", Long.class))).containsExactly(3L, 3L);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("can group by several columns")
+		void can_group_by_several_columns() {
+			Table result = Query
+					.from(people)
+					.groupBy(SEX, CITY)
+					.aggregate(count());
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.rows()).size().isEqualTo(4);
+			softly.assertThat(result.rows().get(0)).containsExactly("Male", "Paris", 2L);
+			softly.assertThat(result.rows().get(1)).containsExactly("Male", "Lyon", 1L);
+			softly.assertThat(result.rows().get(2)).containsExactly("Female", "Paris", 2L);
+			softly.assertThat(result.rows().get(3)).containsExactly("Female", "Lyon", 1L);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("can compute several aggregates at once")
+		void can_compute_several_aggregates() {
+			Table result = Query
+					.from(people)
+					.groupBy(SEX)
+					.aggregate(count(AGE), sum(AGE), avg(AGE), min(NAME), max(AGE));
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().headers()).containsExactly("sex", "count(age)", "sum(age)", "avg(age)", "min(name)", "max(age)");
+			softly.assertThat(result.rows().get(0)).containsExactly("Male", 3L, 95L, 95.0 / 3, "Baptiste", 40);
+			softly.assertThat(result.rows().get(1)).containsExactly("Female", 2L, 28L, 14.0, "Anya", 21);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("sums floating-point numbers as doubles")
+		void sums_floating_point_numbers_as_doubles() {
+			Table result = Query
+					.from(people)
+					.groupBy(CITY)
+					.aggregate(sum(SALARY).as("total"));
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().get("total").type()).isEqualTo(Double.class);
+			softly.assertThat(result.columns().get(id("total", Double.class))).containsExactly(6300.0, 3200.5);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("only aggregates the rows matching the query")
+		void only_aggregates_the_matching_rows() {
+			Table result = Query
+					.from(people)
+					.where(AGE).isNonNull()
+					.and(CITY).eq("Paris")
+					.groupBy(SEX)
+					.aggregate(count(), max(NAME));
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.rows()).size().isEqualTo(2);
+			softly.assertThat(result.rows().get(0)).containsExactly("Male", 2L, "Marc");
+			softly.assertThat(result.rows().get(1)).containsExactly("Female", 2L, "Mathilde");
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("counts the distinct non-null values of each group")
+		void counts_the_distinct_values_of_each_group() {
+			Table result = Query
+					.from(people)
+					.groupBy(SEX)
+					.aggregate(countDistinct(CITY), countDistinct(SALARY));
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().headers()).containsExactly("sex", "countDistinct(city)", "countDistinct(salary)");
+			softly.assertThat(result.rows().get(0)).containsExactly("Male", 2L, 3L);
+			softly.assertThat(result.rows().get(1)).containsExactly("Female", 2L, 2L);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("estimates the distinct values and the percentiles of each group")
+		void estimates_distinct_values_and_percentiles() {
+			Table result = Query
+					.from(people)
+					.groupBy(SEX)
+					.aggregate(approxCountDistinct(CITY), approxPercentile(AGE, 0.5), approxPercentile(SALARY, 1));
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().headers()).containsExactly("sex", "approxCountDistinct(city)", "approxPercentile(age, 0.5)", "approxPercentile(salary, 1.0)");
+			softly.assertThat(result.rows().get(0)).containsExactly("Male", 2L, 32.0, 3000.0);
+			softly.assertThat(result.rows().get(1)).containsExactly("Female", 2L, 7.0, 1800.0);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("throws when the percentile is out of bounds")
+		void throws_when_the_percentile_is_out_of_bounds() {
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> approxPercentile(AGE, 1.5));
+		}
+
+		@Test @DisplayName("considers null as a group of its own")
+		void considers_null_as_a_group() {
+			Table result = Query
+					.from(people)
+					.groupBy(AGE)
+					.aggregate(count());
+
+			assertThat(result.columns().get(AGE)).containsExactly(23, 32, 7, 21, null, 40);
+		}
+
+		@Test @DisplayName("throws when grouping by an unknown column")
+		void throws_when_grouping_by_an_unknown_column() {
+			assertThatExceptionOfType(ColumnIdNotFoundException.class).isThrownBy(() ->
+				Query.from(people)
+					 .groupBy(id("unknown", String.class))
+					 .aggregate(count())
+			);
+		}
+	}
+}
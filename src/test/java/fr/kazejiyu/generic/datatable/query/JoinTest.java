@@ -0,0 +1,214 @@
+package fr.kazejiyu.generic.datatable.query;
+
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException;
+
+/**
+ * Tests the behavior of {@link Join} instances.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@DisplayName("A Query's Join clause")
+class JoinTest {
+
+	private static final ColumnId<Integer> ID = id("id", Integer.class);
+	private static final ColumnId<String> NAME = id("name", String.class);
+	private static final ColumnId<Integer> ORDER = id("order", Integer.class);
+	private static final ColumnId<Integer> CUSTOMER = id("customer", Integer.class);
+	private static final ColumnId<Double> AMOUNT = id("amount", Double.class);
+
+	@Nested
+	@DisplayName("with an empty table")
+	class Empty {
+		private Table customers;
+		private Table orders;
+
+		@BeforeEach
+		void initializeTables() {
+			customers = new DataTable();
+			customers.columns()
+				.create(ID, 1, 2)
+				.create(NAME, "Anya", "Luc");
+
+			orders = new DataTable();
+			orders.columns()
+				.create(ORDER)
+				.create(CUSTOMER);
+		}
+
+		@Test @DisplayName("returns an empty table on inner join")
+		void returns_an_empty_table_on_inner_join() {
+			Table result = Query.from(customers).join(orders).on(ID, CUSTOMER).select();
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.rows()).isEmpty();
+			softly.assertThat(result.columns().headers()).containsExactly("id", "name", "order", "customer");
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("keeps every left row on left join")
+		void keeps_every_left_row_on_left_join() {
+			Table result = Query.from(customers).leftJoin(orders).on(ID, CUSTOMER).select();
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.rows().get(0)).containsExactly(1, "Anya", null, null);
+			softly.assertThat(result.rows().get(1)).containsExactly(2, "Luc", null, null);
+			softly.assertAll();
+		}
+	}
+
+	@Nested
+	@DisplayName("with not empty tables")
+	class NonEmpty {
+		private Table customers;
+		private Table orders;
+
+		@BeforeEach
+		void initializeTables() {
+			customers = new DataTable();
+			customers.columns()
+				.create(ID, 1, 2, 3, null)
+				.create(NAME, "Anya", "Luc", "Julie", "Marc");
+
+			orders = new DataTable();
+			orders.columns()
+				.create(ORDER, 10, 11, 12, 13, 14, 15)
+				.create(CUSTOMER, 2, 1, 2, 4, null, 1)
+				.create(AMOUNT, 12.5, 30.0, 7.5, 100.0, 1.0, 3.0);
+		}
+
+		@Test @DisplayName("keeps the pairs of matching rows on inner join, in order of the left table")
+		void keeps_matching_pairs_on_inner_join() {
+			Table result = Query.from(customers).join(orders).on(ID, CUSTOMER).select();
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.rows()).size().isEqualTo(4);
+			softly.assertThat(result.rows().get(0)).containsExactly(1, "Anya", 11, 1, 30.0);
+			softly.assertThat(result.rows().get(1)).containsExactly(1, "Anya", 15, 1, 3.0);
+			softly.assertThat(result.rows().get(2)).containsExactly(2, "Luc", 10, 2, 12.5);
+			softly.assertThat(result.rows().get(3)).containsExactly(2, "Luc", 12, 2, 7.5);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("gives the same result whatever the smallest table")
+		void gives_the_same_result_whatever_the_smallest_table() {
+			Table result = Query.from(orders).join(customers).on(CUSTOMER, ID).select(ORDER, NAME);
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().get(ORDER)).containsExactly(10, 11, 12, 15);
+			softly.assertThat(result.columns().get(NAME)).containsExactly("Luc", "Anya", "Luc", "Anya");
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("gives the same result when both tables are sorted by key")
+		void gives_the_same_result_when_both_tables_are_sorted_by_key() {
+			customers.sortBy(ID);
+			orders.sortBy(CUSTOMER);
+			
+			Table inner = Query.from(customers).join(orders).on(ID, CUSTOMER).select(NAME, ORDER);
+			Table left = Query.from(customers).leftJoin(orders).on(ID, CUSTOMER).select(NAME, ORDER);
+			Table anti = Query.from(orders).antiJoin(customers).on(CUSTOMER, ID).select(ORDER);
+			
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(inner.columns().get(NAME)).containsExactly("Anya", "Anya", "Luc", "Luc");
+			softly.assertThat(inner.columns().get(ORDER)).containsExactly(11, 15, 10, 12);
+			softly.assertThat(left.columns().get(NAME)).containsExactly("Marc", "Anya", "Anya", "Luc", "Luc", "Julie");
+			softly.assertThat(left.columns().get(ORDER)).containsExactly(null, 11, 15, 10, 12, null);
+			softly.assertThat(anti.columns().get(ORDER)).containsExactly(14, 13);
+			softly.assertAll();
+		}
+		
+		@Test @DisplayName("keeps the sort order of the left table")
+		void keeps_the_sort_order_of_the_left_table() {
+			customers.sortBy(ID);
+			
+			Table result = Query.from(customers).join(orders).on(ID, CUSTOMER).view();
+			
+			assertThat(result.sortOrder()).containsExactly(ID);
+		}
+		
+		@Test @DisplayName("fills unmatched rows with null on left join")
+		void fills_unmatched_rows_with_null_on_left_join() {
+			Table result = Query.from(customers).leftJoin(orders).on(ID, CUSTOMER).select(NAME, ORDER);
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().get(NAME)).containsExactly("Anya", "Anya", "Luc", "Luc", "Julie", "Marc");
+			softly.assertThat(result.columns().get(ORDER)).containsExactly(11, 15, 10, 12, null, null);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("keeps matching left rows once on semi join")
+		void keeps_matching_left_rows_once_on_semi_join() {
+			Table result = Query.from(customers).semiJoin(orders).on(ID, CUSTOMER).select();
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().headers()).containsExactly("id", "name");
+			softly.assertThat(result.columns().get(NAME)).containsExactly("Anya", "Luc");
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("keeps unmatched left rows on anti join")
+		void keeps_unmatched_left_rows_on_anti_join() {
+			Table result = Query.from(orders).antiJoin(customers).on(CUSTOMER, ID).select(ORDER);
+			assertThat(result.columns().get(ORDER)).containsExactly(13, 14);
+		}
+
+		@Test @DisplayName("drops the right key when it has the same header as the left one")
+		void drops_the_right_key_with_same_header() {
+			Table owners = new DataTable();
+			owners.columns()
+				.create(ID, 3, 1)
+				.create(id("pet", String.class), "Cat", "Dog");
+
+			Table result = Query.from(customers).join(owners).on(ID, ID).select();
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().headers()).containsExactly("id", "name", "pet");
+			softly.assertThat(result.rows().get(0)).containsExactly(1, "Anya", "Dog");
+			softly.assertThat(result.rows().get(1)).containsExactly(3, "Julie", "Cat");
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("can be filtered")
+		void can_be_filtered() {
+			Table result = Query
+					.from(customers)
+					.join(orders).on(ID, CUSTOMER)
+					.where(AMOUNT).match(amount -> amount > 10)
+					.select(ORDER);
+
+			assertThat(result.columns().get(ORDER)).containsExactly(11, 10);
+		}
+
+		@Test @DisplayName("can be viewed without copy")
+		void can_be_viewed_without_copy() {
+			Table view = Query.from(customers).join(orders).on(ID, CUSTOMER).view(NAME, AMOUNT);
+			orders.rows().get(1).set(AMOUNT, 31.0);
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(view.columns().headers()).containsExactly("name", "amount");
+			softly.assertThat(view.columns().get(AMOUNT)).containsExactly(31.0, 3.0, 12.5, 7.5);
+			softly.assertThatThrownBy(() -> view.rows().first().set(AMOUNT, 0.0)).isInstanceOf(UnsupportedOperationException.class);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("throws when joining on an unknown column")
+		void throws_when_joining_on_an_unknown_column() {
+			assertThatExceptionOfType(ColumnIdNotFoundException.class).isThrownBy(() ->
+				Query.from(customers).join(orders).on(ID, id("unknown", Integer.class))
+			);
+		}
+	}
+}
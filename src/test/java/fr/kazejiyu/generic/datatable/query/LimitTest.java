@@ -0,0 +1,202 @@
+package fr.kazejiyu.generic.datatable.query;
+
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
+import static fr.kazejiyu.generic.datatable.query.aggregate.Aggregates.count;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+
+/**
+ * Tests the behavior of the {@link Select#limit}, {@link Select#offset} and {@link Select#topK} clauses.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@DisplayName("A Query's Limit clause")
+class LimitTest {
+
+	private static final ColumnId<String> NAME = id("name", String.class);
+	private static final ColumnId<Integer> AGE = id("age", Integer.class);
+	private static final ColumnId<Double> SALARY = id("salary", Double.class);
+
+	@Nested
+	@DisplayName("on an empty table")
+	class Empty {
+		private Table empty;
+
+		@BeforeEach
+		void initializeEmptyTable() {
+			empty = new DataTable();
+			empty.columns()
+				.create(NAME)
+				.create(AGE);
+		}
+
+		@Test @DisplayName("returns an empty table")
+		void returns_an_empty_table() {
+			Table result = Query.from(empty).topK(3, AGE.asc()).offset(2).select();
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.rows()).isEmpty();
+			softly.assertThat(result.columns().headers()).containsExactly("name", "age");
+			softly.assertAll();
+		}
+	}
+
+	@Nested
+	@DisplayName("on a not empty table")
+	class NonEmpty {
+		private Table people;
+
+		@BeforeEach
+		void initializePeopleTable() {
+			people = new DataTable();
+			people.columns()
+					.create(NAME, "Luc", "Baptiste", "Anya", "Mathilde", "Julie", "Marc")
+					.create(AGE, 23, 32, 7, 23, null, 40)
+					.create(SALARY, 1500.0, -0.5, null, 1800.0, 1200.0, 1500.0);
+		}
+
+		@Test @DisplayName("keeps the first matching rows")
+		void keeps_the_first_matching_rows() {
+			Table result = Query.from(people).where(AGE).isNonNull().limit(3).select();
+
+			assertThat(result.columns().get(NAME)).containsExactly("Luc", "Baptiste", "Anya");
+		}
+
+		@Test @DisplayName("skips the first matching rows")
+		void skips_the_first_matching_rows() {
+			Table result = Query.from(people).where(AGE).isNonNull().offset(2).limit(2).select(NAME);
+
+			assertThat(result.columns().get(NAME)).containsExactly("Anya", "Mathilde");
+		}
+
+		@Test @DisplayName("returns an empty table when the offset exceeds the number of rows")
+		void returns_an_empty_table_when_the_offset_is_too_large() {
+			Table result = Query.from(people).offset(10).select();
+
+			assertThat(result.rows()).isEmpty();
+		}
+
+		@Test @DisplayName("returns an empty table when the limit is 0")
+		void returns_an_empty_table_when_the_limit_is_0() {
+			Table result = Query.from(people).topK(0, AGE.asc()).select();
+
+			assertThat(result.rows()).isEmpty();
+		}
+
+		@Test @DisplayName("stops filtering once enough rows match")
+		void stops_filtering_once_enough_rows_match() {
+			AtomicInteger tested = new AtomicInteger();
+			Table result = Query.from(people)
+					.where(NAME).match(name -> tested.incrementAndGet() > 0)
+					.limit(2)
+					.select();
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.rows()).size().isEqualTo(2);
+			softly.assertThat(tested.get()).isEqualTo(2);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("keeps the first rows according to the keys")
+		void keeps_the_first_rows_according_to_the_keys() {
+			Table result = Query.from(people).topK(3, AGE.desc()).select(NAME, AGE);
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().get(NAME)).containsExactly("Marc", "Baptiste", "Luc");
+			softly.assertThat(result.columns().get(AGE)).containsExactly(40, 32, 23);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("keeps equal rows in their original order")
+		void keeps_equal_rows_in_their_original_order() {
+			Table result = Query.from(people).topK(2, AGE.asc()).offset(2).view(NAME);
+
+			assertThat(result.columns().get(NAME)).containsExactly("Luc", "Mathilde");
+		}
+
+		@Test @DisplayName("puts null first in ascending order")
+		void puts_null_first_in_ascending_order() {
+			Table result = Query.from(people).topK(2, SALARY.asc(), NAME.desc()).select(NAME);
+
+			assertThat(result.columns().get(NAME)).containsExactly("Anya", "Baptiste");
+		}
+
+		@Test @DisplayName("breaks ties with the next keys")
+		void breaks_ties_with_the_next_keys() {
+			Table result = Query.from(people).topK(3, SALARY.desc(), NAME.asc()).select(NAME);
+
+			assertThat(result.columns().get(NAME)).containsExactly("Mathilde", "Luc", "Marc");
+		}
+
+		@Test @DisplayName("only aggregates the kept rows")
+		void only_aggregates_the_kept_rows() {
+			Table result = Query.from(people).limit(4).groupBy(AGE).aggregate(count());
+
+			assertThat(result.columns().get(AGE)).containsExactly(23, 32, 7);
+		}
+
+		@Test @DisplayName("throws when the limit is negative")
+		void throws_when_the_limit_is_negative() {
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+				Query.from(people).limit(-1)
+			);
+		}
+
+		@Test @DisplayName("throws when the offset is negative")
+		void throws_when_the_offset_is_negative() {
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+				Query.from(people).offset(-1)
+			);
+		}
+
+		@Test @DisplayName("selects the same rows as a full sort")
+		void selects_the_same_rows_as_a_full_sort() {
+			Random random = new Random(7);
+			Table numbers = new DataTable();
+			List<Integer> ages = new ArrayList<>();
+			List<Double> salaries = new ArrayList<>();
+			
+			for( int i = 0 ; i < 5000 ; ++i ) {
+				ages.add(random.nextInt(20) == 0 ? null : random.nextInt(100));
+				salaries.add(random.nextDouble() * 2000 - 1000);
+			}
+			numbers.columns()
+				.create(AGE.header(), Integer.class, ages)
+				.create(SALARY.header(), Double.class, salaries);
+
+			List<Integer> expected = new ArrayList<>();
+			
+			for( int i = 0 ; i < 5000 ; ++i )
+				expected.add(i);
+			
+			expected.sort(Comparator
+					.comparing((Integer i) -> ages.get(i), Comparator.nullsLast(Comparator.<Integer>reverseOrder()))
+					.thenComparing(i -> salaries.get(i)));
+			
+			Table result = Query.from(numbers).topK(50, AGE.desc(), SALARY.asc()).offset(100).select(SALARY);
+			
+			List<Double> expectedSalaries = new ArrayList<>();
+			
+			for( int i = 100 ; i < 150 ; ++i )
+				expectedSalaries.add(salaries.get(expected.get(i)));
+			
+			assertThat(result.columns().get(SALARY)).containsExactlyElementsOf(expectedSalaries);
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package fr.kazejiyu.generic.datatable.query;
+
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
+import static fr.kazejiyu.generic.datatable.query.aggregate.Aggregates.count;
+import static fr.kazejiyu.generic.datatable.query.aggregate.Aggregates.sum;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.io.MappedTable;
+
+/**
+ * Tests the behavior of queries limited by a memory budget.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@DisplayName("A Query limited by a memory budget")
+class MemoryBudgetTest {
+
+	private static final ColumnId<Integer> ID = id("id", Integer.class);
+	private static final ColumnId<String> NAME = id("name", String.class);
+	private static final ColumnId<Integer> CUSTOMER = id("customer", Integer.class);
+	private static final ColumnId<String> CITY = id("city", String.class);
+	private static final ColumnId<Double> AMOUNT = id("amount", Double.class);
+
+	/** Small enough for every operator to spill. */
+	private static final long BUDGET = 1024;
+
+	private Table customers;
+	private Table orders;
+
+	@BeforeEach
+	void initializeTables() {
+		Random random = new Random(42);
+		String[] cities = { "Paris", "Lyon", "Nice", null };
+
+		customers = new DataTable();
+		customers.columns()
+			.create(ID)
+			.create(NAME);
+
+		for( int i = 0 ; i < 300 ; ++i )
+			customers.rows().create(random.nextInt(400), "customer" + random.nextInt(200));
+
+		orders = new DataTable();
+		orders.columns()
+			.create(CUSTOMER)
+			.create(CITY)
+			.create(AMOUNT);
+
+		for( int i = 0 ; i < 2000 ; ++i ) {
+			Integer customer = random.nextInt(10) == 0 ? null : random.nextInt(450);
+			Double amount = random.nextInt(10) == 0 ? null : (double) random.nextInt(100);
+			orders.rows().create(customer, cities[random.nextInt(cities.length)], amount);
+		}
+	}
+
+	private static void assertSameContent(Table actual, Table expected) {
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(actual.columns().headers()).containsExactlyElementsOf(expected.columns().headers());
+
+		softly.assertThat(actual.rows()).hasSameSizeAs(expected.rows());
+
+		for( int i = 0 ; i < Math.min(actual.rows().size(), expected.rows().size()) ; ++i )
+			softly.assertThat(actual.rows().get(i)).containsExactlyElementsOf(expected.rows().get(i));
+
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("sorts the rows by merging sorted runs")
+	void sorts_the_rows_by_merging_sorted_runs() {
+		Table expected = Query.from(orders).where(AMOUNT).isNonNull().orderBy(CITY.desc(), AMOUNT.asc()).view();
+		Table actual = Query.from(orders).withMemoryBudget(BUDGET).where(AMOUNT).isNonNull().orderBy(CITY.desc(), AMOUNT.asc()).view();
+
+		assertSameContent(actual, expected);
+	}
+
+	@Test @DisplayName("groups the rows one partition at a time, in order of appearance")
+	void groups_the_rows_one_partition_at_a_time() {
+		Table expected = Query.from(orders).groupBy(CITY, CUSTOMER).aggregate(count(), sum(AMOUNT));
+		Table actual = Query.from(orders).withMemoryBudget(BUDGET).groupBy(CITY, CUSTOMER).aggregate(count(), sum(AMOUNT));
+
+		assertSameContent(actual, expected);
+	}
+
+	@Test @DisplayName("groups the sorted rows one partition at a time, in order of appearance")
+	void groups_the_sorted_rows_one_partition_at_a_time() {
+		Table expected = Query.from(orders).orderBy(AMOUNT.desc()).groupBy(CUSTOMER).aggregate(count(), sum(AMOUNT));
+		Table actual = Query.from(orders).withMemoryBudget(BUDGET).orderBy(AMOUNT.desc()).groupBy(CUSTOMER).aggregate(count(), sum(AMOUNT));
+
+		assertSameContent(actual, expected);
+	}
+
+	@Test @DisplayName("joins the tables one partition at a time, in the order of the left table")
+	void joins_the_tables_one_partition_at_a_time() {
+		assertSameContent(Query.from(orders).withMemoryBudget(BUDGET).join(customers).on(CUSTOMER, ID).view(),
+						  Query.from(orders).join(customers).on(CUSTOMER, ID).view());
+		assertSameContent(Query.from(customers).withMemoryBudget(BUDGET).leftJoin(orders).on(ID, CUSTOMER).view(),
+						  Query.from(customers).leftJoin(orders).on(ID, CUSTOMER).view());
+		assertSameContent(Query.from(orders).withMemoryBudget(BUDGET).semiJoin(customers).on(CUSTOMER, ID).view(),
+						  Query.from(orders).semiJoin(customers).on(CUSTOMER, ID).view());
+		assertSameContent(Query.from(customers).withMemoryBudget(BUDGET).antiJoin(orders).on(ID, CUSTOMER).view(),
+						  Query.from(customers).antiJoin(orders).on(ID, CUSTOMER).view());
+	}
+
+	@Test @DisplayName("spills the selected rows to a temporary file")
+	void spills_the_selected_rows_to_a_temporary_file() throws IOException {
+		Table expected = Query.from(orders).where(CITY).eq("Paris").select(CUSTOMER, AMOUNT);
+		Table actual = Query.from(orders).withMemoryBudget(BUDGET).where(CITY).eq("Paris").select(CUSTOMER, AMOUNT);
+
+		try {
+			assertThat(actual).isInstanceOf(MappedTable.class);
+			assertSameContent(actual, expected);
+		}
+		finally {
+			((MappedTable) actual).close();
+		}
+	}
+
+	@Test @DisplayName("keeps the selected rows in memory when they fit in the budget")
+	void keeps_the_selected_rows_in_memory_when_they_fit() {
+		Table result = Query.from(orders).withMemoryBudget(Long.MAX_VALUE / 2).where(CITY).eq("Paris").select(CUSTOMER, AMOUNT);
+
+		assertThat(result).isInstanceOf(DataTable.class);
+	}
+
+	@Test @DisplayName("throws when the budget is not positive")
+	void throws_when_the_budget_is_not_positive() {
+		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> Query.from(orders).withMemoryBudget(0));
+	}
+}
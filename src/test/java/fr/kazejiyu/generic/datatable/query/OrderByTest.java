@@ -0,0 +1,217 @@
+package fr.kazejiyu.generic.datatable.query;
+
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
+import static fr.kazejiyu.generic.datatable.query.aggregate.Aggregates.count;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+
+/**
+ * Tests the behavior of the {@link Select#orderBy} clause.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@DisplayName("A Query's OrderBy clause")
+class OrderByTest {
+
+	private static final ColumnId<String> NAME = id("name", String.class);
+	private static final ColumnId<Integer> AGE = id("age", Integer.class);
+	private static final ColumnId<Long> SAVINGS = id("savings", Long.class);
+	private static final ColumnId<Double> SALARY = id("salary", Double.class);
+	private static final ColumnId<LocalDate> BIRTH = id("birth", LocalDate.class);
+	private static final ColumnId<Boolean> ADULT = id("adult", Boolean.class);
+	private static final ColumnId<Object> ANYTHING = id("anything", Object.class);
+
+	@Nested
+	@DisplayName("on an empty table")
+	class Empty {
+		private Table empty;
+
+		@BeforeEach
+		void initializeEmptyTable() {
+			empty = new DataTable();
+			empty.columns()
+				.create(NAME)
+				.create(AGE);
+		}
+
+		@Test @DisplayName("returns an empty table")
+		void returns_an_empty_table() {
+			Table result = Query.from(empty).orderBy(AGE.desc()).select();
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.rows()).isEmpty();
+			softly.assertThat(result.columns().headers()).containsExactly("name", "age");
+			softly.assertAll();
+		}
+	}
+
+	@Nested
+	@DisplayName("on a not empty table")
+	class NonEmpty {
+		private Table people;
+
+		@BeforeEach
+		void initializePeopleTable() {
+			people = new DataTable();
+			people.columns()
+					.create(NAME, "Luc", "Baptiste", "Anya", "Mathilde", "Julie", "Marc")
+					.create(AGE, 23, 32, 7, 23, null, -40)
+					.create(SAVINGS, 100L, -5L, 0L, Long.MAX_VALUE, Long.MIN_VALUE, null)
+					.create(SALARY, 1500.0, -0.5, null, 1800.0, 1200.0, 1500.0)
+					.create(BIRTH, LocalDate.of(1995, 3, 2), LocalDate.of(1986, 1, 1), LocalDate.of(2011, 6, 6), null, LocalDate.of(1990, 8, 9), LocalDate.of(1978, 12, 24))
+					.create(ADULT, true, true, false, true, null, true)
+					.create(ANYTHING, "a", 1, 2.0, 'c', null, 0L);
+		}
+
+		@Test @DisplayName("sorts integers in ascending order, null first")
+		void sorts_integers_in_ascending_order() {
+			Table result = Query.from(people).orderBy(AGE.asc()).select(NAME);
+			assertThat(result.columns().get(NAME)).containsExactly("Julie", "Marc", "Anya", "Luc", "Mathilde", "Baptiste");
+		}
+
+		@Test @DisplayName("sorts integers in descending order, null last")
+		void sorts_integers_in_descending_order() {
+			Table result = Query.from(people).orderBy(AGE.desc()).select(NAME);
+			assertThat(result.columns().get(NAME)).containsExactly("Baptiste", "Luc", "Mathilde", "Anya", "Marc", "Julie");
+		}
+
+		@Test @DisplayName("sorts strings")
+		void sorts_strings() {
+			Table result = Query.from(people).orderBy(NAME.asc()).select(NAME);
+			assertThat(result.columns().get(NAME)).containsExactly("Anya", "Baptiste", "Julie", "Luc", "Marc", "Mathilde");
+		}
+
+		@Test @DisplayName("sorts longs, including extreme values")
+		void sorts_longs() {
+			Table result = Query.from(people).orderBy(SAVINGS.desc()).select(SAVINGS);
+			assertThat(result.columns().get(SAVINGS)).containsExactly(Long.MAX_VALUE, 100L, 0L, -5L, Long.MIN_VALUE, null);
+		}
+
+		@Test @DisplayName("sorts doubles")
+		void sorts_doubles() {
+			Table result = Query.from(people).orderBy(SALARY.asc()).select(SALARY);
+			assertThat(result.columns().get(SALARY)).containsExactly(null, -0.5, 1200.0, 1500.0, 1500.0, 1800.0);
+		}
+
+		@Test @DisplayName("sorts booleans")
+		void sorts_booleans() {
+			Table result = Query.from(people).orderBy(ADULT.asc()).select(NAME);
+			assertThat(result.columns().get(NAME)).containsExactly("Julie", "Anya", "Luc", "Baptiste", "Mathilde", "Marc");
+		}
+
+		@Test @DisplayName("sorts any comparable")
+		void sorts_any_comparable() {
+			Table result = Query.from(people).orderBy(BIRTH.desc()).select(NAME);
+			assertThat(result.columns().get(NAME)).containsExactly("Anya", "Luc", "Julie", "Baptiste", "Marc", "Mathilde");
+		}
+
+		@Test @DisplayName("sorts by several keys")
+		void sorts_by_several_keys() {
+			Table result = Query.from(people).orderBy(SALARY.desc(), NAME.desc()).select(NAME);
+			assertThat(result.columns().get(NAME)).containsExactly("Mathilde", "Marc", "Luc", "Julie", "Baptiste", "Anya");
+		}
+
+		@Test @DisplayName("keeps the original order of equal rows")
+		void keeps_the_original_order_of_equal_rows() {
+			Table result = Query.from(people).orderBy(ADULT.desc()).select(NAME);
+			assertThat(result.columns().get(NAME)).containsExactly("Luc", "Baptiste", "Mathilde", "Marc", "Anya", "Julie");
+		}
+
+		@Test @DisplayName("only sorts the rows matching the query")
+		void only_sorts_the_matching_rows() {
+			Table result = Query
+					.from(people)
+					.where(AGE).isNonNull()
+					.and(SALARY).isNonNull()
+					.orderBy(SALARY.asc(), NAME.asc())
+					.select(NAME);
+
+			assertThat(result.columns().get(NAME)).containsExactly("Baptiste", "Luc", "Marc", "Mathilde");
+		}
+
+		@Test @DisplayName("does not modify the queried table")
+		void does_not_modify_the_queried_table() {
+			Query.from(people).orderBy(NAME.asc()).select();
+			assertThat(people.columns().get(NAME)).containsExactly("Luc", "Baptiste", "Anya", "Mathilde", "Julie", "Marc");
+		}
+
+		@Test @DisplayName("can be viewed without copy")
+		void can_be_viewed_without_copy() {
+			Table view = Query.from(people).orderBy(AGE.asc(), NAME.asc()).view(NAME);
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(view.columns().get(NAME)).containsExactly("Julie", "Marc", "Anya", "Luc", "Mathilde", "Baptiste");
+			softly.assertThat(view.sortOrder()).isEmpty();
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("remembers an ascending order")
+		void remembers_an_ascending_order() {
+			Table result = Query.from(people).orderBy(AGE.asc(), NAME.asc()).select();
+			assertThat(result.sortOrder()).containsExactly(AGE, NAME);
+		}
+
+		@Test @DisplayName("orders the groups by their first appearance in the sorted rows")
+		void orders_the_groups_of_sorted_rows() {
+			Table result = Query.from(people).orderBy(AGE.asc()).groupBy(ADULT).aggregate(count());
+			assertThat(result.columns().get(ADULT)).containsExactly(null, true, false);
+		}
+
+		@Test @DisplayName("throws when sorting a column which elements are not comparable")
+		void throws_when_sorting_a_column_of_non_comparable_elements() {
+			assertThatExceptionOfType(ClassCastException.class).isThrownBy(() ->
+				Query.from(people).orderBy(ANYTHING.asc()).select()
+			);
+		}
+
+		@Test @DisplayName("sorts large tables as a comparator would")
+		void sorts_large_tables_as_a_comparator_would() {
+			Random random = new Random(42);
+			List<Long> savings = new ArrayList<>();
+			List<Double> salaries = new ArrayList<>();
+
+			for( int i = 0 ; i < 5000 ; ++i ) {
+				savings.add(random.nextInt(10) == 0 ? null : random.nextLong() % 1000);
+				salaries.add(random.nextDouble() * 2000 - 1000);
+			}
+
+			Table table = new DataTable();
+			table.columns()
+				.create(SAVINGS.header(), Long.class, savings)
+				.create(SALARY.header(), Double.class, salaries);
+
+			Table result = Query.from(table).orderBy(SAVINGS.desc(), SALARY.asc()).select();
+
+			List<Integer> expected = new ArrayList<>();
+			for( int i = 0 ; i < savings.size() ; ++i )
+				expected.add(i);
+
+			expected.sort(Comparator
+					.comparing((Integer i) -> savings.get(i), Comparator.nullsLast(Comparator.<Long>reverseOrder()))
+					.thenComparing(i -> salaries.get(i)));
+
+			SoftAssertions softly = new SoftAssertions();
+			for( int i = 0 ; i < expected.size() ; ++i ) {
+				softly.assertThat(result.rows().get(i).get(SAVINGS)).isEqualTo(savings.get(expected.get(i)));
+				softly.assertThat(result.rows().get(i).get(SALARY)).isEqualTo(salaries.get(expected.get(i)));
+			}
+			softly.assertAll();
+		}
+	}
+}
@@ -0,0 +1,184 @@
+package fr.kazejiyu.generic.datatable.query;
+
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
+import static fr.kazejiyu.generic.datatable.query.expression.Expressions.col;
+import static fr.kazejiyu.generic.datatable.query.expression.Expressions.lit;
+import static fr.kazejiyu.generic.datatable.query.expression.Expressions.param;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException;
+
+/**
+ * Tests the behavior of {@link PreparedQuery} instances.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@DisplayName("A PreparedQuery")
+class PreparedQueryTest {
+
+	private static final ColumnId<String> NAME = id("name", String.class);
+	private static final ColumnId<Integer> AGE = id("age", Integer.class);
+	private static final ColumnId<String> CITY = id("city", String.class);
+
+	private PreparedQuery adults;
+
+	@BeforeEach
+	void prepareQuery() {
+		adults = Query.prepare()
+				.where(col(AGE).ge(param("minAge", Integer.class)))
+				.orderBy(NAME.asc())
+				.select(NAME, AGE);
+	}
+
+	@Nested
+	@DisplayName("on an empty table")
+	class Empty {
+		private Table empty;
+
+		@BeforeEach
+		void initializeEmptyTable() {
+			empty = new DataTable();
+			empty.columns()
+				.create(NAME)
+				.create(AGE);
+		}
+
+		@Test @DisplayName("returns an empty table")
+		void returns_an_empty_table() {
+			Table result = adults.with("minAge", 18).execute(empty);
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.rows()).isEmpty();
+			softly.assertThat(result.columns().headers()).containsExactly("name", "age");
+			softly.assertAll();
+		}
+	}
+
+	@Nested
+	@DisplayName("on a not empty table")
+	class NonEmpty {
+		private Table people;
+
+		@BeforeEach
+		void initializePeopleTable() {
+			people = new DataTable();
+			people.columns()
+					.create(NAME, "Luc", "Baptiste", "Anya", "Mathilde", "Julie", "Marc")
+					.create(AGE, 23, 32, 7, 19, null, 40)
+					.create(CITY, "Paris", "Lyon", "Paris", "Paris", "Lyon", "Paris");
+		}
+
+		@Test @DisplayName("lists the parameters it uses")
+		void lists_its_parameters() {
+			assertThat(adults.parameters()).containsExactly("minAge");
+		}
+
+		@Test @DisplayName("can be executed with different parameters")
+		void can_be_executed_with_different_parameters() {
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(adults.with("minAge", 18).execute(people).columns().get(NAME)).containsExactly("Baptiste", "Luc", "Marc", "Mathilde");
+			softly.assertThat(adults.with("minAge", 30).execute(people).columns().get(NAME)).containsExactly("Baptiste", "Marc");
+			softly.assertThat(adults.with("minAge", 18).with("minAge", 99).execute(people).rows()).isEmpty();
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("can be executed on different tables with the same schema")
+		void can_be_executed_on_different_tables() {
+			Table others = new DataTable();
+			others.columns()
+					.create(NAME, "Zoe", "Paul")
+					.create(AGE, 50, 12)
+					.create(CITY, "Nice", "Nice");
+
+			PreparedQuery query = adults.with("minAge", 20);
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(query.execute(people).columns().get(NAME)).containsExactly("Baptiste", "Luc", "Marc");
+			softly.assertThat(query.execute(others).columns().get(NAME)).containsExactly("Zoe");
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("can be executed on tables with different schemas")
+		void can_be_executed_on_tables_with_different_schemas() {
+			Table reordered = new DataTable();
+			reordered.columns()
+					.create(AGE, 50, 12)
+					.create(NAME, "Zoe", "Paul");
+
+			PreparedQuery query = adults.with("minAge", 20);
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(query.execute(people).columns().get(NAME)).containsExactly("Baptiste", "Luc", "Marc");
+			softly.assertThat(query.execute(reordered).columns().get(NAME)).containsExactly("Zoe");
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("reads several parameters from the values it is bound to")
+		void reads_several_parameters() {
+			PreparedQuery query = Query.prepare()
+					.where(col(AGE).ge(param("minAge", Integer.class)).and(col(AGE).le(param("maxAge", Integer.class))))
+					.and(col(CITY).eq(param("city", String.class)))
+					.select(NAME);
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(query.parameters()).containsExactly("city", "maxAge", "minAge");
+			softly.assertThat(query.with("minAge", 18).with("maxAge", 30).with("city", "Paris").execute(people).columns().get(NAME))
+				  .containsExactly("Luc", "Mathilde");
+			softly.assertThat(query.with("city", "Lyon").with("maxAge", 40).with("minAge", 0).execute(people).columns().get(NAME))
+				  .containsExactly("Baptiste");
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("can combine conditions with and without parameters")
+		void can_combine_conditions() {
+			PreparedQuery query = Query.prepare()
+					.where(col(CITY).eq(lit("Paris")))
+					.and(col(AGE).lt(param("maxAge", Integer.class)))
+					.limit(2)
+					.select(col(NAME), col(AGE).plus(param("years", Integer.class)).as("later"));
+
+			Table result = query.with("maxAge", 30).with("years", 10).execute(people);
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().headers()).containsExactly("name", "later");
+			softly.assertThat(result.rows().get(0)).containsExactly("Luc", 33L);
+			softly.assertThat(result.rows().get(1)).containsExactly("Anya", 17L);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("does not change when a copy is bound")
+		void does_not_change_when_a_copy_is_bound() {
+			adults.with("minAge", 18);
+
+			assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> adults.execute(people));
+		}
+
+		@Test @DisplayName("throws when binding an unknown parameter")
+		void throws_when_binding_an_unknown_parameter() {
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> adults.with("maxAge", 18));
+		}
+
+		@Test @DisplayName("throws when a parameter has an unexpected type")
+		void throws_when_a_parameter_has_an_unexpected_type() {
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> adults.with("minAge", "18").execute(people));
+		}
+
+		@Test @DisplayName("throws when a column does not belong to the table")
+		void throws_when_a_column_is_unknown() {
+			Table cities = new DataTable();
+			cities.columns().create(CITY, "Paris");
+
+			assertThatExceptionOfType(ColumnIdNotFoundException.class).isThrownBy(() -> adults.with("minAge", 18).execute(cities));
+		}
+	}
+}
@@ -0,0 +1,180 @@
+package fr.kazejiyu.generic.datatable.query;
+
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.n;
+import static fr.kazejiyu.generic.datatable.query.expression.Expressions.col;
+import static fr.kazejiyu.generic.datatable.query.expression.Expressions.lit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.query.impl.ResultCache;
+
+/**
+ * Tests the behavior of {@link ResultCache} instances.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@DisplayName("A ResultCache")
+class ResultCacheTest {
+
+	private static final ColumnId<String> NAME = id("name", String.class);
+	private static final ColumnId<Integer> AGE = id("age", Integer.class);
+	private static final ColumnId<String> CITY = id("city", String.class);
+
+	private Table people;
+
+	private ResultCache cache;
+
+	@BeforeEach
+	void initializePeopleTable() {
+		people = new DataTable();
+		people.columns()
+				.create(NAME, "Luc", "Baptiste", "Anya", "Mathilde", "Julie", "Marc")
+				.create(AGE, 23, 32, 7, 19, null, 40)
+				.create(CITY, "Paris", "Lyon", "Paris", "Paris", "Lyon", "Paris");
+
+		cache = new ResultCache(1024 * 1024);
+	}
+
+	private Table parisians() {
+		return Query.from(people).cachedIn(cache).where(CITY).eq("Paris").and(n(AGE)).ge(18).select(NAME);
+	}
+
+	@Test @DisplayName("returns the same result to identical queries")
+	void returns_the_same_result_to_identical_queries() {
+		Table first = parisians();
+		Table second = parisians();
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(second).isSameAs(first);
+		softly.assertThat(second.columns().get(NAME)).containsExactly("Luc", "Mathilde", "Marc");
+		softly.assertThat(cache.hitCount()).isEqualTo(1);
+		softly.assertThat(cache.missCount()).isEqualTo(1);
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("distinguishes queries with different filters or columns")
+	void distinguishes_different_queries() {
+		Table parisians = parisians();
+		Table lyonnais = Query.from(people).cachedIn(cache).where(CITY).eq("Lyon").and(n(AGE)).ge(18).select(NAME);
+		Table ages = Query.from(people).cachedIn(cache).where(CITY).eq("Paris").and(n(AGE)).ge(18).select(AGE);
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(parisians.columns().get(NAME)).containsExactly("Luc", "Mathilde", "Marc");
+		softly.assertThat(lyonnais.columns().get(NAME)).containsExactly("Baptiste");
+		softly.assertThat(ages.columns().get(AGE)).containsExactly(23, 19, 40);
+		softly.assertThat(cache.size()).isEqualTo(3);
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("recognizes identical expressions")
+	void recognizes_identical_expressions() {
+		Table first = Query.from(people).cachedIn(cache).where(col(AGE).gt(lit(20))).select(col(NAME));
+		Table second = Query.from(people).cachedIn(cache).where(col(AGE).gt(lit(20))).select(col(NAME));
+		Table other = Query.from(people).cachedIn(cache).where(col(AGE).gt(lit(30))).select(col(NAME));
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(second).isSameAs(first);
+		softly.assertThat(other.columns().get(NAME)).containsExactly("Baptiste", "Marc");
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("is invalidated when the table is modified")
+	void is_invalidated_when_the_table_is_modified() {
+		Table before = parisians();
+		people.rows().get(1).set(CITY, "Paris");
+		Table afterSet = parisians();
+		people.rows().create("Zoe", 50, "Paris");
+		Table afterCreate = parisians();
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(before.columns().get(NAME)).containsExactly("Luc", "Mathilde", "Marc");
+		softly.assertThat(afterSet.columns().get(NAME)).containsExactly("Luc", "Baptiste", "Mathilde", "Marc");
+		softly.assertThat(afterCreate.columns().get(NAME)).containsExactly("Luc", "Baptiste", "Mathilde", "Marc", "Zoe");
+		softly.assertThat(cache.size()).isEqualTo(1);
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("only drops the stale results of the modified table")
+	void only_drops_the_stale_results_of_the_modified_table() {
+		Table others = new DataTable();
+		others.columns().create(NAME, "Paul", "Lise").create(AGE, 31, 12).create(CITY, "Paris", "Paris");
+		
+		Table adults = Query.from(others).cachedIn(cache).where(n(AGE)).ge(18).select(NAME);
+		parisians();
+		people.rows().create("Zoe", 50, "Paris");
+		parisians();
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(Query.from(others).cachedIn(cache).where(n(AGE)).ge(18).select(NAME)).isSameAs(adults);
+		softly.assertThat(cache.size()).isEqualTo(2);
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("does not keep the queried tables alive")
+	void does_not_keep_the_queried_tables_alive() throws InterruptedException {
+		WeakReference<Table> table = new WeakReference<>(queryTemporaryTable());
+
+		for( int i = 0 ; i < 50 && table.get() != null ; ++i ) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(table.get()).isNull();
+		softly.assertThat(cache.size()).isZero();
+		softly.assertAll();
+	}
+
+	private Table queryTemporaryTable() {
+		Table temporary = new DataTable();
+		temporary.columns().create(NAME, "Paul", "Lise").create(AGE, 31, 12);
+		Query.from(temporary).cachedIn(cache).where(n(AGE)).ge(18).select(NAME);
+		return temporary;
+	}
+
+	@Test @DisplayName("is bypassed by arbitrary predicates")
+	void is_bypassed_by_arbitrary_predicates() {
+		Table first = Query.from(people).cachedIn(cache).where(NAME).match(name -> name.startsWith("M")).select(NAME);
+		Table second = Query.from(people).cachedIn(cache).where(NAME).match(name -> name.startsWith("M")).select(NAME);
+
+		SoftAssertions softly = new SoftAssertions();
+		softly.assertThat(second).isNotSameAs(first);
+		softly.assertThat(second.columns().get(NAME)).containsExactly("Mathilde", "Marc");
+		softly.assertThat(cache.size()).isZero();
+		softly.assertAll();
+	}
+
+	@Test @DisplayName("evicts the least recently used results once its budget is exceeded")
+	void evicts_results_once_its_budget_is_exceeded() {
+		cache = new ResultCache(400);
+
+		Table first = Query.from(people).cachedIn(cache).where(CITY).in(Arrays.asList("Paris")).select(NAME, AGE);
+		Query.from(people).cachedIn(cache).where(CITY).in(Arrays.asList("Lyon")).select(NAME, AGE);
+		Query.from(people).cachedIn(cache).where(CITY).in(Arrays.asList("Nice", "Lyon", "Paris")).select(NAME, AGE);
+
+		assertThat(Query.from(people).cachedIn(cache).where(CITY).in(Arrays.asList("Paris")).select(NAME, AGE)).isNotSameAs(first);
+	}
+
+	@Test @DisplayName("returns read-only results")
+	void returns_read_only_results() {
+		Table result = parisians();
+
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> result.rows().get(0).set(NAME, "Paul"));
+	}
+
+	@Test @DisplayName("throws when its budget is not positive")
+	void throws_when_its_budget_is_not_positive() {
+		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new ResultCache(0));
+	}
+}
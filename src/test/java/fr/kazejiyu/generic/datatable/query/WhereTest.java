@@ -2,6 +2,7 @@ package fr.kazejiyu.generic.datatable.query;
 
 import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import fr.kazejiyu.generic.datatable.core.Table;
 import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
 import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.exceptions.HeaderNotFoundException;
 
 /**
  * Tests the behavior of {@link DataTable} instances.
@@ -273,5 +275,58 @@ class WhereTest {
 			softly.assertThat(result.columns().get(SEX)).containsExactly("Male");
 			softly.assertAll();
 		}
+		
+		@Test @DisplayName("resolves headers regardless of their case")
+		void resolves_headers_regardless_of_their_case() {
+			Table result = Query
+					.from(people)
+					.where("age").asNumber().isPositive()
+					.and("SEX").asStr().eq("Female")
+					.select();
+			
+			assertThat(result.columns().get(NAME)).containsExactly("Mathilde");
+		}
+		
+		@Test @DisplayName("resolves the position of the filtered columns in each table")
+		void resolves_the_position_of_the_columns_in_each_table() {
+			Table reordered = new DataTable();
+			reordered.columns()
+					.create(SEX_HEADER, String.class, "Male", "Female")
+					.create(NAME_HEADER, String.class, "Marc", "Julie")
+					.create(AGE_HEADER, Integer.class, 40, 20);
+			
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(Query.from(people).where(AGE).match(age -> age > 22).select().columns().get(NAME)).containsExactly("Luc", null);
+			softly.assertThat(Query.from(reordered).where(AGE).match(age -> age > 22).select().columns().get(NAME)).containsExactly("Marc");
+			softly.assertAll();
+		}
+		
+		@Test @DisplayName("applies chains of filters of any length")
+		void applies_chains_of_filters_of_any_length() {
+			And shortChain = Query.from(people).where(AGE).match(age -> age > 0);
+			And longChain = Query.from(people).where(AGE).match(age -> age > 0);
+			
+			for( int i = 0 ; i < 300 ; ++i )
+				longChain = longChain.and(SEX).eq("Female");
+			
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(shortChain.and(SEX).eq("Female").select().columns().get(NAME)).containsExactly("Mathilde");
+			softly.assertThat(longChain.select().columns().get(NAME)).containsExactly("Mathilde");
+			softly.assertAll();
+		}
+		
+		@Test @DisplayName("throws when a filter does not fit the type of the column")
+		void throws_when_a_filter_does_not_fit_the_type_of_the_column() {
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+				Query.from(people).where(NAME_HEADER).asNumber().isPositive().select()
+			);
+		}
+		
+		@Test @DisplayName("throws when filtering an unknown column")
+		void throws_when_filtering_an_unknown_column() {
+			assertThatExceptionOfType(HeaderNotFoundException.class).isThrownBy(() ->
+				Query.from(people).where("unknown").isNonNull().select()
+			);
+		}
 	}
 }
@@ -0,0 +1,171 @@
+package fr.kazejiyu.generic.datatable.query;
+
+import static fr.kazejiyu.generic.datatable.core.impl.ColumnId.id;
+import static fr.kazejiyu.generic.datatable.query.window.Window.partitionBy;
+import static fr.kazejiyu.generic.datatable.query.window.WindowFunctions.lag;
+import static fr.kazejiyu.generic.datatable.query.window.WindowFunctions.lead;
+import static fr.kazejiyu.generic.datatable.query.window.WindowFunctions.movingAvg;
+import static fr.kazejiyu.generic.datatable.query.window.WindowFunctions.rank;
+import static fr.kazejiyu.generic.datatable.query.window.WindowFunctions.rowNumber;
+import static fr.kazejiyu.generic.datatable.query.window.WindowFunctions.runningSum;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import fr.kazejiyu.generic.datatable.core.Table;
+import fr.kazejiyu.generic.datatable.core.impl.ColumnId;
+import fr.kazejiyu.generic.datatable.core.impl.DataTable;
+import fr.kazejiyu.generic.datatable.exceptions.ColumnIdNotFoundException;
+import fr.kazejiyu.generic.datatable.exceptions.UndistinctHeadersException;
+import fr.kazejiyu.generic.datatable.query.window.Window;
+
+/**
+ * Tests the behavior of the {@link Select#window} clause.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@DisplayName("A Query's Window clause")
+class WindowTest {
+
+	private static final ColumnId<String> USER = id("user", String.class);
+	private static final ColumnId<Integer> TS = id("ts", Integer.class);
+	private static final ColumnId<Integer> AMOUNT = id("amount", Integer.class);
+	private static final ColumnId<Long> ROW_NUMBER = id("rowNumber", Long.class);
+
+	@Nested
+	@DisplayName("on an empty table")
+	class Empty {
+		private Table empty;
+
+		@BeforeEach
+		void initializeEmptyTable() {
+			empty = new DataTable();
+			empty.columns()
+				.create(USER)
+				.create(TS);
+		}
+
+		@Test @DisplayName("returns an empty view with a column per function")
+		void returns_an_empty_view() {
+			Table result = Query.from(empty).window(rowNumber().over(partitionBy(USER).orderBy(TS)));
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.rows()).isEmpty();
+			softly.assertThat(result.columns().headers()).containsExactly("user", "ts", "rowNumber");
+			softly.assertAll();
+		}
+	}
+
+	@Nested
+	@DisplayName("on a not empty table")
+	class NonEmpty {
+		private Table events;
+		private Window byUser;
+
+		@BeforeEach
+		void initializeEventsTable() {
+			events = new DataTable();
+			events.columns()
+					.create(USER, "bob", "alice", "bob", "alice", "bob", "carl")
+					.create(TS, 3, 2, 1, 1, 2, 5)
+					.create(AMOUNT, 10, 20, 30, null, 50, 60);
+			byUser = partitionBy(USER).orderBy(TS);
+		}
+
+		@Test @DisplayName("keeps the rows and the columns of the query")
+		void keeps_the_rows_and_the_columns_of_the_query() {
+			Table result = Query.from(events).window(rowNumber().over(byUser));
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().headers()).containsExactly("user", "ts", "amount", "rowNumber");
+			softly.assertThat(result.columns().get(USER)).containsExactly("bob", "alice", "bob", "alice", "bob", "carl");
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("numbers the rows of each partition")
+		void numbers_the_rows_of_each_partition() {
+			Table result = Query.from(events).window(rowNumber().over(byUser));
+
+			assertThat(result.columns().get(ROW_NUMBER)).containsExactly(3L, 2L, 1L, 1L, 2L, 1L);
+		}
+
+		@Test @DisplayName("numbers all the rows when there is no window")
+		void numbers_all_the_rows_when_there_is_no_window() {
+			Table result = Query.from(events).where(AMOUNT).isNonNull().window(rowNumber().as("n"));
+
+			assertThat(result.columns().get(id("n", Long.class))).containsExactly(1L, 2L, 3L, 4L, 5L);
+		}
+
+		@Test @DisplayName("ranks equal rows equally")
+		void ranks_equal_rows_equally() {
+			Table result = Query.from(events).window(rank().over(Window.all().orderBy(TS.desc())));
+
+			assertThat(result.columns().get(id("rank", Long.class))).containsExactly(2L, 3L, 5L, 5L, 3L, 1L);
+		}
+
+		@Test @DisplayName("retrieves the elements of the previous and the next rows")
+		void retrieves_the_previous_and_the_next_elements() {
+			Table result = Query.from(events).window(lag(AMOUNT, 1).over(byUser), lead(TS, 2).over(byUser));
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().get(id("lag(amount, 1)", Integer.class))).containsExactly(50, null, null, null, 30, null);
+			softly.assertThat(result.columns().get(id("lead(ts, 2)", Integer.class))).containsExactly(null, null, 3, null, null, null);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("computes running sums")
+		void computes_running_sums() {
+			Table result = Query.from(events).window(runningSum(AMOUNT).over(byUser).as("spent"));
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().get("spent").type()).isEqualTo(Long.class);
+			softly.assertThat(result.columns().get(id("spent", Long.class))).containsExactly(90L, 20L, 30L, null, 80L, 60L);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("computes moving averages")
+		void computes_moving_averages() {
+			Table result = Query.from(events).window(movingAvg(AMOUNT, 2).over(byUser));
+
+			assertThat(result.columns().get(id("movingAvg(amount, 2)", Double.class))).containsExactly(30.0, 20.0, 30.0, null, 40.0, 60.0);
+		}
+
+		@Test @DisplayName("is computed over the rows of the query")
+		void is_computed_over_the_rows_of_the_query() {
+			Table result = Query.from(events)
+					.where(USER).eq("bob")
+					.orderBy(TS.asc())
+					.window(lag(AMOUNT, 1).over(byUser));
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(result.columns().get(TS)).containsExactly(1, 2, 3);
+			softly.assertThat(result.columns().get(id("lag(amount, 1)", Integer.class))).containsExactly(null, 30, 50);
+			softly.assertThat(result.sortOrder()).containsExactly(TS);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("throws when a function uses an unknown column")
+		void throws_when_a_function_uses_an_unknown_column() {
+			assertThatExceptionOfType(ColumnIdNotFoundException.class).isThrownBy(() ->
+				Query.from(events).window(lag(id("unknown", String.class), 1))
+			);
+		}
+
+		@Test @DisplayName("throws when a function uses the header of an existing column")
+		void throws_when_a_function_uses_an_existing_header() {
+			assertThatExceptionOfType(UndistinctHeadersException.class).isThrownBy(() ->
+				Query.from(events).window(rowNumber().as("ts"))
+			);
+		}
+
+		@Test @DisplayName("throws when the offset is negative")
+		void throws_when_the_offset_is_negative() {
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> lag(AMOUNT, -1));
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package fr.kazejiyu.generic.datatable.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Random;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the behavior of the {@link HyperLogLog} and {@link KllSketch} sketches.
+ * 
+ * @author Emmanuel CHEBBI
+ */
+@DisplayName("A sketch")
+class SketchesTest {
+
+	@Nested
+	@DisplayName("of type HyperLogLog")
+	class OfTypeHyperLogLog {
+
+		@Test @DisplayName("estimates 0 when empty")
+		void estimates_0_when_empty() {
+			assertThat(new HyperLogLog(12).estimate()).isEqualTo(0L);
+		}
+
+		@Test @DisplayName("estimates small cardinalities accurately")
+		void estimates_small_cardinalities_accurately() {
+			HyperLogLog sketch = new HyperLogLog(12);
+
+			for( int i = 0 ; i < 1000 ; ++i )
+				sketch.add("value" + (i % 100));
+
+			assertThat(sketch.estimate()).isCloseTo(100L, within(2L));
+		}
+
+		@Test @DisplayName("estimates large cardinalities within a few percents")
+		void estimates_large_cardinalities() {
+			HyperLogLog sketch = new HyperLogLog(12);
+
+			for( long i = 0 ; i < 1_000_000 ; ++i )
+				sketch.add(i);
+
+			assertThat(sketch.estimate()).isCloseTo(1_000_000L, within(50_000L));
+		}
+
+		@Test @DisplayName("can be merged with another sketch")
+		void can_be_merged() {
+			HyperLogLog first = new HyperLogLog(12);
+			HyperLogLog second = new HyperLogLog(12);
+			HyperLogLog both = new HyperLogLog(12);
+
+			for( long i = 0 ; i < 100_000 ; ++i ) {
+				(i % 3 == 0 ? first : second).add(i);
+				both.add(i);
+			}
+			first.merge(second);
+
+			assertThat(first.estimate()).isEqualTo(both.estimate());
+		}
+
+		@Test @DisplayName("cannot be merged with a sketch of another precision")
+		void cannot_be_merged_with_another_precision() {
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() ->
+				new HyperLogLog(12).merge(new HyperLogLog(10))
+			);
+		}
+	}
+
+	@Nested
+	@DisplayName("of type KLL")
+	class OfTypeKll {
+
+		@Test @DisplayName("returns NaN when empty")
+		void returns_nan_when_empty() {
+			assertThat(new KllSketch(200).quantile(0.5)).isNaN();
+		}
+
+		@Test @DisplayName("is exact for small streams")
+		void is_exact_for_small_streams() {
+			KllSketch sketch = new KllSketch(200);
+
+			for( int i = 100 ; i > 0 ; --i )
+				sketch.add(i);
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(sketch.quantile(0)).isEqualTo(1.0);
+			softly.assertThat(sketch.quantile(0.5)).isEqualTo(50.0);
+			softly.assertThat(sketch.quantile(0.99)).isEqualTo(99.0);
+			softly.assertThat(sketch.quantile(1)).isEqualTo(100.0);
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("estimates the quantiles of large streams")
+		void estimates_the_quantiles_of_large_streams() {
+			KllSketch sketch = new KllSketch(200);
+			Random random = new Random(42);
+
+			for( int i = 0 ; i < 1_000_000 ; ++i )
+				sketch.add(random.nextDouble());
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(sketch.count()).isEqualTo(1_000_000L);
+			softly.assertThat(sketch.quantile(0.1)).isCloseTo(0.1, within(0.02));
+			softly.assertThat(sketch.quantile(0.5)).isCloseTo(0.5, within(0.02));
+			softly.assertThat(sketch.quantile(0.9)).isCloseTo(0.9, within(0.02));
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("can be merged with another sketch")
+		void can_be_merged() {
+			KllSketch low = new KllSketch(200);
+			KllSketch high = new KllSketch(200);
+
+			for( int i = 0 ; i < 100_000 ; ++i ) {
+				low.add(i);
+				high.add(100_000 + i);
+			}
+			low.merge(high);
+
+			SoftAssertions softly = new SoftAssertions();
+			softly.assertThat(low.count()).isEqualTo(200_000L);
+			softly.assertThat(low.quantile(0.25)).isCloseTo(50_000.0, within(4_000.0));
+			softly.assertThat(low.quantile(0.75)).isCloseTo(150_000.0, within(4_000.0));
+			softly.assertAll();
+		}
+
+		@Test @DisplayName("rejects NaN")
+		void rejects_nan() {
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> new KllSketch(200).add(Double.NaN));
+		}
+	}
+}